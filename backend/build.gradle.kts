@@ -3,8 +3,12 @@ import org.gradle.kotlin.dsl.implementation
 
 plugins {
     java
+    // 알라딘 stub 서버 등 테스트/벤치마크 공용 코드 (src/testFixtures)
+    `java-test-fixtures`
     id("org.springframework.boot") version "3.5.3"
     id("io.spring.dependency-management") version "1.1.7"
+    // 마이크로 벤치마크 (src/jmh/java, ./gradlew jmh)
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "com"
@@ -39,6 +43,9 @@ dependencies {
     // 배포를 위한 헬스체크
     implementation("org.springframework.boot:spring-boot-starter-actuator")
 
+    // 알라딘 API 호출용 커넥션 풀
+    implementation("org.apache.httpcomponents.client5:httpclient5")
+
     compileOnly("org.projectlombok:lombok")
     developmentOnly("org.springframework.boot:spring-boot-devtools")
     runtimeOnly("com.h2database:h2")
@@ -55,6 +62,10 @@ dependencies {
     annotationProcessor("com.querydsl:querydsl-apt:5.1.0:jakarta")
     annotationProcessor("jakarta.annotation:jakarta.annotation-api")
     annotationProcessor("jakarta.persistence:jakarta.persistence-api")
+
+    // 알라딘 stub 서버
+    testFixturesImplementation("com.fasterxml.jackson.core:jackson-databind")
+    jmhImplementation(testFixtures(project))
 }
 //Q-Class를 생성할 디렉토리 경로 설정
 val querydslDir = "$buildDir/generated/querydsl"
@@ -65,9 +76,19 @@ sourceSets {
             srcDir(querydslDir)
         }
     }
+    // 부하 테스트 도구 (src/loadtest/java) - 대량 데이터 생성기, 부하 드라이버
+    create("loadtest") {
+        compileClasspath += sourceSets.main.get().output
+        runtimeClasspath += sourceSets.main.get().output
+    }
+}
+configurations["loadtestImplementation"].extendsFrom(configurations.implementation.get())
+configurations["loadtestRuntimeOnly"].extendsFrom(configurations.runtimeOnly.get())
+dependencies {
+    "loadtestImplementation"(testFixtures(project))
 }
-//JavaCompile Task 수행할 때, 출력디렉토리 설정
-tasks.withType<JavaCompile> {
+//JavaCompile Task 수행할 때, 출력디렉토리 설정 (main 만 - jmh 등 다른 소스셋의 생성 코드가 섞이지 않도록)
+tasks.named<JavaCompile>("compileJava") {
     options.generatedSourceOutputDirectory.set(file(querydslDir))
 }
 //Q-Class 제거
@@ -77,3 +98,36 @@ tasks.named<Delete>("clean") {
 tasks.withType<Test> {
     useJUnitPlatform()
 }
+// 알라딘 API 대신 stub 서버 실행 (예: ./gradlew aladinStub -PstubArgs="--port=8089 --synthesize")
+tasks.register<JavaExec>("aladinStub") {
+    group = "application"
+    description = "기록된 응답으로 알라딘 API 를 흉내 내는 stub 서버를 실행합니다."
+    classpath = sourceSets["testFixtures"].runtimeClasspath
+    mainClass.set("com.back.domain.book.client.aladin.stub.AladinStubServer")
+    args = (findProperty("stubArgs") as String?)?.split(" ")?.filter { it.isNotBlank() } ?: listOf()
+}
+// 부하 테스트 데이터 생성 (애플리케이션을 내린 상태에서, 예: ./gradlew loadtestGenerate -PloadArgs="--preset=production")
+tasks.register<JavaExec>("loadtestGenerate") {
+    group = "loadtest"
+    description = "부하 테스트용 대량 데이터를 DB 에 생성합니다."
+    classpath = sourceSets["loadtest"].runtimeClasspath
+    mainClass.set("com.back.loadtest.DataGenerator")
+    args = (findProperty("loadArgs") as String?)?.split(" ")?.filter { it.isNotBlank() } ?: listOf()
+}
+// 실행 중인 애플리케이션에 부하 (예: ./gradlew loadtestRun -PloadArgs="--duration=2m --concurrency=64")
+tasks.register<JavaExec>("loadtestRun") {
+    group = "loadtest"
+    description = "시나리오 비율대로 API 를 호출하고 엔드포인트별 p50/p95/p99, 처리량을 보고합니다."
+    classpath = sourceSets["loadtest"].runtimeClasspath
+    mainClass.set("com.back.loadtest.LoadDriver")
+    args = (findProperty("loadArgs") as String?)?.split(" ")?.filter { it.isNotBlank() } ?: listOf()
+}
+// 벤치마크 실행: ./gradlew jmh (일부만: -PjmhIncludes=BookServiceBenchmark)
+// 결과는 커밋 간 비교할 수 있도록 JSON 으로 build/results/jmh/results.json 에 저장
+jmh {
+    // 처리량/평균 시간과 함께 연산당 할당량(gc.alloc.rate.norm)도 측정
+    profilers.add("gc")
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+    (findProperty("jmhIncludes") as String?)?.let { includes.add(it) }
+}
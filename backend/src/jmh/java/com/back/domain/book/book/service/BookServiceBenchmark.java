@@ -0,0 +1,98 @@
+package com.back.domain.book.book.service;
+
+import com.back.domain.book.author.entity.Author;
+import com.back.domain.book.book.dto.BookSearchDto;
+import com.back.domain.book.book.entity.Book;
+import com.back.domain.book.category.entity.Category;
+import com.back.domain.book.wrote.entity.Wrote;
+import com.back.domain.bookmarks.constant.ReadState;
+import com.back.domain.bookmarks.dto.ReadStateMap;
+import com.back.global.jpa.entity.BaseEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검색 결과 한 페이지를 BookSearchDto 로 변환 (읽기 상태 포함), 카테고리 경로 추출
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookServiceBenchmark {
+
+    private static final String[] CATEGORY_PATHS = {
+            "국내도서>소설/시/희곡>한국소설>2000년대 이후 한국소설",
+            "국내도서>컴퓨터/모바일>프로그래밍 언어>자바",
+            "외국도서>컴퓨터>프로그래밍>Java",
+            "국내도서",
+            ""
+    };
+
+    @Param({"10", "100"})
+    private int pageSize;
+
+    private List<Book> books;
+    private ReadStateMap readStates;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        Field id = BaseEntity.class.getDeclaredField("id");
+        id.setAccessible(true);
+
+        Category category = new Category("소설");
+        books = new ArrayList<>(pageSize);
+        ReadStateMap.Builder readStateBuilder = ReadStateMap.builder(pageSize);
+        for (int i = 1; i <= pageSize; i++) {
+            Book book = new Book("벤치마크 도서 " + i, "출판사", category);
+            id.setInt(book, i);
+            book.setIsbn13("979110" + String.format("%07d", i));
+            book.setImageUrl("https://image.aladin.co.kr/product/" + i + ".jpg");
+            book.setTotalPage(200 + i);
+            book.setPublishedDate(LocalDateTime.of(2020, 1, 1, 0, 0).plusDays(i));
+            for (int a = 0; a < 1 + i % 3; a++) {
+                book.getAuthors().add(new Wrote(new Author("작가" + (i + a)), book));
+            }
+            books.add(book);
+
+            // 로그인 사용자가 일부 책만 북마크한 상황
+            if (i % 4 == 0) {
+                readStateBuilder.put(i, ReadState.values()[i % ReadState.values().length]);
+            }
+        }
+        readStates = readStateBuilder.build();
+    }
+
+    @Benchmark
+    public List<BookSearchDto> convertToDto() {
+        List<BookSearchDto> dtos = new ArrayList<>(books.size());
+        for (Book book : books) {
+            dtos.add(BookService.convertToDto(book, readStates.get(book.getId())));
+        }
+        return dtos;
+    }
+
+    @Benchmark
+    public void extractCategoryFromPath(Blackhole blackhole) {
+        for (String path : CATEGORY_PATHS) {
+            blackhole.consume(BookIngestService.extractCategoryFromPath(path, "BOOK"));
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.back.domain.book.client.aladin;
+
+import com.back.domain.book.client.aladin.dto.AladinBookDto;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 알라딘 100건 검색 응답 파싱 - JsonNode 트리(기존 방식) vs 스트리밍 파서
+ * 처리량과 함께 gc 프로파일러의 gc.alloc.rate.norm(연산당 할당 바이트)을 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AladinParserBenchmark {
+
+    private static final int ITEM_COUNT = 100;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AladinResponseParser streamingParser = new AladinResponseParser(JsonFactory.builder().build());
+
+    private String response;
+
+    @Setup
+    public void setUp() {
+        response = searchResponse(ITEM_COUNT);
+    }
+
+    @Benchmark
+    public List<AladinBookDto> tree() throws Exception {
+        return parseTree(objectMapper.readTree(response));
+    }
+
+    @Benchmark
+    public List<AladinBookDto> streaming() {
+        return streamingParser.parse(response);
+    }
+
+    /**
+     * 기존 AladinApiClient 의 트리 기반 파싱 (비교 기준)
+     */
+    private List<AladinBookDto> parseTree(JsonNode root) {
+        List<AladinBookDto> books = new ArrayList<>();
+        JsonNode items = root.get("item");
+        if (items == null || !items.isArray()) {
+            return books;
+        }
+        for (JsonNode item : items) {
+            String mallType = text(item, "mallType");
+            if (mallType != null && !"BOOK".equals(mallType) && !"FOREIGN".equals(mallType)) {
+                continue;
+            }
+
+            AladinBookDto.AladinBookDtoBuilder builder = AladinBookDto.builder()
+                    .title(text(item, "title"))
+                    .imageUrl(text(item, "cover"))
+                    .publisher(text(item, "publisher"))
+                    .categoryName(text(item, "categoryName"))
+                    .mallType(mallType);
+
+            String isbn13 = text(item, "isbn13");
+            if (isbn13 != null && !isbn13.isEmpty()) {
+                builder.isbn13(isbn13);
+            } else {
+                String isbn = text(item, "isbn");
+                if (isbn != null && isbn.length() == 13) {
+                    builder.isbn13(isbn);
+                }
+            }
+
+            JsonNode subInfo = item.get("subInfo");
+            JsonNode page = item.get("itemPage");
+            if (page != null && !page.isNull()) {
+                builder.totalPage(page.asInt());
+            } else if (subInfo != null && subInfo.get("itemPage") != null && !subInfo.get("itemPage").isNull()) {
+                builder.totalPage(subInfo.get("itemPage").asInt());
+            }
+
+            String pubDate = text(item, "pubDate");
+            if (pubDate != null && !pubDate.isEmpty()) {
+                builder.publishedDate(parsePubDate(pubDate));
+            }
+
+            List<String> authors = new ArrayList<>();
+            String author = text(item, "author");
+            if (author != null && !author.isEmpty()) {
+                for (String name : author.split("[,;]")) {
+                    if (!name.trim().isEmpty()) {
+                        authors.add(name.trim());
+                    }
+                }
+            }
+            if (subInfo != null && subInfo.get("authors") != null && subInfo.get("authors").isArray()) {
+                for (JsonNode authorNode : subInfo.get("authors")) {
+                    String name = text(authorNode, "authorName");
+                    if (name != null && !name.isEmpty()) {
+                        authors.add(name.trim());
+                    }
+                }
+            }
+            builder.authors(authors.stream().distinct().toList());
+
+            books.add(builder.build());
+        }
+        return books;
+    }
+
+    private String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return (value != null && !value.isNull()) ? value.asText() : null;
+    }
+
+    private LocalDateTime parsePubDate(String pubDate) {
+        if (pubDate.matches("\\d{4}-\\d{2}-\\d{2}")) {
+            return LocalDateTime.parse(pubDate + "T00:00:00");
+        }
+        if (pubDate.matches("\\d{4}-\\d{2}")) {
+            return LocalDateTime.parse(pubDate + "-01T00:00:00");
+        }
+        if (pubDate.matches("\\d{4}")) {
+            return LocalDateTime.parse(pubDate + "-01-01T00:00:00");
+        }
+        return LocalDateTime.now();
+    }
+
+    /**
+     * ItemSearch(OptResult=authors) 응답과 같은 구조 - 사용하지 않는 필드(설명, 가격, 링크, 시리즈 등) 포함
+     */
+    static String searchResponse(int itemCount) {
+        StringBuilder json = new StringBuilder()
+                .append("{\"version\":\"20131101\",\"logo\":\"http://image.aladin.co.kr/img/header/2011/aladin_logo_new.gif\",")
+                .append("\"title\":\"알라딘 검색결과 - 자바\",\"link\":\"http://www.aladin.co.kr/search/wsearchresult.aspx\",")
+                .append("\"pubDate\":\"Mon, 01 Jan 2024 00:00:00 GMT\",\"totalResults\":").append(itemCount * 10)
+                .append(",\"startIndex\":1,\"itemsPerPage\":").append(itemCount)
+                .append(",\"query\":\"자바\",\"searchCategoryId\":0,\"searchCategoryName\":\"\",\"item\":[");
+        for (int i = 0; i < itemCount; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            String isbn13 = "979110" + String.format("%07d", i);
+            json.append("{\"title\":\"자바 프로그래밍 입문 ").append(i).append(" - 기초부터 실무까지\",")
+                    .append("\"link\":\"http://www.aladin.co.kr/shop/wproduct.aspx?ItemId=").append(300000000 + i)
+                    .append("&amp;partner=openAPI&amp;start=api\",")
+                    .append("\"author\":\"김저자").append(i % 7).append(" (지은이), 이옮김").append(i % 5).append(" (옮긴이)\",")
+                    .append("\"pubDate\":\"20").append(10 + i % 14).append("-0").append(1 + i % 9).append("-1").append(i % 10).append("\",")
+                    .append("\"description\":\"자바 언어의 기본 문법부터 객체지향, 컬렉션, 스트림, 동시성까지 예제와 함께 설명하는 입문서. ")
+                    .append("각 장 끝의 연습문제로 배운 내용을 확인할 수 있다.\",")
+                    .append("\"isbn\":\"K").append(String.format("%09d", i)).append("\",")
+                    .append("\"isbn13\":\"").append(isbn13).append("\",")
+                    .append("\"itemId\":").append(300000000 + i).append(',')
+                    .append("\"priceSales\":").append(27000 + i * 10).append(",\"priceStandard\":").append(30000 + i * 10).append(',')
+                    .append("\"mallType\":\"").append(i % 10 == 9 ? "FOREIGN" : "BOOK").append("\",")
+                    .append("\"stockStatus\":\"\",\"mileage\":1500,")
+                    .append("\"cover\":\"https://image.aladin.co.kr/product/").append(i).append("/cover200/").append(isbn13).append("_1.jpg\",")
+                    .append("\"categoryId\":6734,\"categoryName\":\"국내도서>컴퓨터/모바일>프로그래밍 언어>자바\",")
+                    .append("\"publisher\":\"한빛미디어\",\"salesPoint\":").append(1000 + i).append(',')
+                    .append("\"adult\":false,\"fixedPrice\":true,\"customerReviewRank\":").append(i % 11).append(',')
+                    .append("\"seriesInfo\":{\"seriesId\":").append(i).append(",\"seriesLink\":\"http://www.aladin.co.kr/shop/common/wseriesitem.aspx?SRID=")
+                    .append(i).append("\",\"seriesName\":\"프로그래밍 시리즈\"},")
+                    .append("\"subInfo\":{\"subTitle\":\"기초부터 실무까지\",\"originalTitle\":\"\",\"itemPage\":").append(300 + i)
+                    .append(",\"authors\":[")
+                    .append("{\"authorId\":").append(i % 7).append(",\"authorName\":\"김저자").append(i % 7)
+                    .append("\",\"authorType\":\"author\",\"authorTypeDesc\":\"지은이\",\"authorInfoLink\":\"http://www.aladin.co.kr/author/").append(i % 7).append("\"},")
+                    .append("{\"authorId\":").append(100 + i % 5).append(",\"authorName\":\"이옮김").append(i % 5)
+                    .append("\",\"authorType\":\"translator\",\"authorTypeDesc\":\"옮긴이\",\"authorInfoLink\":\"http://www.aladin.co.kr/author/").append(100 + i % 5).append("\"}")
+                    .append("]}}");
+        }
+        return json.append("]}").toString();
+    }
+}
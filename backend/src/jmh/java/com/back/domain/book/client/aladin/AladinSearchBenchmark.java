@@ -0,0 +1,94 @@
+package com.back.domain.book.client.aladin;
+
+import com.back.domain.book.client.aladin.cache.AladinResponseCache;
+import com.back.domain.book.client.aladin.dto.AladinBookDto;
+import com.back.domain.book.client.aladin.stub.AladinStubServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.client.RestTemplate;
+
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로컬 알라딘 stub 서버 상대로 검색 한 번의 응답 시간 - 검색 대상 동시 호출 vs 순차 호출(기존 방식)
+ * stub 응답 지연이 latencyMs 일 때 concurrent 는 약 1배, sequential 은 약 2배가 나와야 한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AladinSearchBenchmark {
+
+    private static final String QUERY = "자바";
+    private static final int LIMIT = 20;
+
+    @Param({"50", "200"})
+    private int latencyMs;
+
+    private AladinStubServer stub;
+    private RestTemplate restTemplate;
+    private AladinApiClient client;
+
+    @Setup
+    public void setUp() throws Exception {
+        stub = AladinStubServer.start()
+                .latency(Duration.ofMillis(latencyMs), Duration.ofMillis(latencyMs))
+                .synthesizeMissing(true);
+
+        restTemplate = new RestTemplate();
+        // 설정값을 주입하지 않은 캐시는 비활성 상태 - 매번 stub 을 호출
+        client = new AladinApiClient(restTemplate, new AladinResponseCache(new SimpleMeterRegistry()));
+        set("aladinApiKey", "benchmark");
+        set("aladinBaseUrl", stub.baseUrl());
+        set("searchTimeoutMs", 10_000L);
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.shutdown();
+        stub.close();
+    }
+
+    @Benchmark
+    public List<AladinBookDto> concurrent() {
+        return client.searchBooks(QUERY, LIMIT);
+    }
+
+    /**
+     * 검색 대상을 하나씩 차례로 호출 (비교 기준)
+     */
+    @Benchmark
+    public List<String> sequential() {
+        List<String> responses = new ArrayList<>();
+        for (AladinApiClient.SearchTarget target : AladinApiClient.SearchTarget.values()) {
+            responses.add(restTemplate.getForObject(
+                    "%s/%s?ttbkey=benchmark&Query=%s&QueryType=Title&MaxResults=%d&start=1&SearchTarget=%s&output=js&Version=20131101&OptResult=authors"
+                            .formatted(stub.baseUrl(), AladinStubServer.SEARCH_PATH, QUERY, LIMIT, target.getTarget()),
+                    String.class));
+        }
+        return responses;
+    }
+
+    private void set(String name, Object value) throws ReflectiveOperationException {
+        Field field = AladinApiClient.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(client, value);
+    }
+}
@@ -0,0 +1,60 @@
+package com.back.domain.bookmarks.entity;
+
+import com.back.domain.book.book.entity.Book;
+import com.back.domain.book.category.entity.Category;
+import com.back.domain.bookmarks.constant.ReadState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 북마크 목록 응답에서 북마크마다 계산하는 독서율
+ * 상태(WISH/READING/READ)와 읽은 페이지(0, 중간, 전체 초과)가 섞인 100개 기준
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookmarkBenchmark {
+
+    private static final int BOOKMARK_COUNT = 100;
+
+    private List<Bookmark> bookmarks;
+
+    @Setup
+    public void setUp() {
+        Category category = new Category("소설");
+        bookmarks = new ArrayList<>(BOOKMARK_COUNT);
+        for (int i = 0; i < BOOKMARK_COUNT; i++) {
+            Book book = new Book("벤치마크 도서 " + i, "출판사", category);
+            book.setTotalPage(i % 10 == 0 ? 0 : 300);
+
+            Bookmark bookmark = new Bookmark(book, null);
+            bookmark.updateReadState(ReadState.values()[i % ReadState.values().length]);
+            bookmark.updateReadPage(i % 5 == 0 ? 0 : i * 4);
+            bookmarks.add(bookmark);
+        }
+    }
+
+    @Benchmark
+    public int calculateReadingRate() {
+        int sum = 0;
+        for (Bookmark bookmark : bookmarks) {
+            sum += bookmark.calculateReadingRate();
+        }
+        return sum;
+    }
+}
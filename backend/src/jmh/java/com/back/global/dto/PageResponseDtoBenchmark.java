@@ -0,0 +1,79 @@
+package com.back.global.dto;
+
+import com.back.domain.book.book.dto.BookSearchDto;
+import com.back.domain.bookmarks.constant.ReadState;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 책 목록 응답(PageResponseDto<BookSearchDto>) JSON 직렬화 - 페이지 방식과 커서 방식
+ * ObjectMapper 는 Spring Boot 기본 설정과 같은 Jackson2ObjectMapperBuilder 로 생성 (JavaTimeModule 포함)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PageResponseDtoBenchmark {
+
+    @Param({"10", "100"})
+    private int pageSize;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private PageResponseDto<BookSearchDto> page;
+    private PageResponseDto<BookSearchDto> cursorPage;
+
+    @Setup
+    public void setUp() {
+        List<BookSearchDto> books = new ArrayList<>(pageSize);
+        for (int i = 1; i <= pageSize; i++) {
+            books.add(BookSearchDto.builder()
+                    .id(i)
+                    .title("벤치마크 도서 " + i)
+                    .imageUrl("https://image.aladin.co.kr/product/" + i + ".jpg")
+                    .publisher("출판사")
+                    .isbn13("979110" + String.format("%07d", i))
+                    .totalPage(200 + i)
+                    .publishedDate(LocalDateTime.of(2020, 1, 1, 0, 0).plusDays(i))
+                    .avgRate(i % 5 + 0.5f)
+                    .categoryName("소설")
+                    .authors(List.of("작가" + i, "옮긴이" + i))
+                    .readState(i % 4 == 0 ? ReadState.READING : null)
+                    .build());
+        }
+        PageRequest pageable = PageRequest.of(0, pageSize);
+        page = new PageResponseDto<>(new PageImpl<>(books, pageable, pageSize * 20L));
+        cursorPage = new PageResponseDto<>(new SliceImpl<>(books, pageable, true), "eyJpZCI6MTAwfQ");
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] serializeCursorPage() throws Exception {
+        return objectMapper.writeValueAsBytes(cursorPage);
+    }
+}
@@ -0,0 +1,63 @@
+package com.back.global.security;
+
+import com.back.global.standard.util.Ut;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 필터의 요청당 토큰 처리 비교
+ * before: Ut.jwt.isValid + Ut.jwt.payload (키/파서를 매번 만들고 서명을 두 번 검증)
+ * after: JwtVerifier (미리 만든 파서로 한 번 검증, 캐시 적중 시 검증 생략)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtVerifierBenchmark {
+
+    private static final String SECRET =
+            "abcdefghijklmnopqrstuvwxyz0123456789abcdefghijklmnopqrstuvwxyz0123456789abcdefghijklmnopqrstuvwxyz0123456789";
+
+    private String token;
+    private JwtVerifier uncached;
+    private JwtVerifier cached;
+
+    @Setup
+    public void setUp() {
+        token = Ut.jwt.toString(SECRET, 1200, Map.of("id", 1, "email", "bench@test.com"));
+        uncached = new JwtVerifier(SECRET, 0);
+        cached = new JwtVerifier(SECRET, 10_000);
+        cached.verify(token);
+    }
+
+    @Benchmark
+    public Map<String, Object> before() {
+        if (!Ut.jwt.isValid(SECRET, token)) {
+            return null;
+        }
+        return Ut.jwt.payload(SECRET, token);
+    }
+
+    @Benchmark
+    public Map<String, Object> afterUncached() {
+        return uncached.verify(token);
+    }
+
+    @Benchmark
+    public Map<String, Object> afterCached() {
+        return cached.verify(token);
+    }
+}
@@ -0,0 +1,59 @@
+package com.back.global.standard.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 실행되는 JWT 검증/payload 추출 (application.yml 과 같은 키, AuthTokenService 와 같은 claim)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UtJwtBenchmark {
+
+    private static final String SECRET =
+            "abcdefghijklmnopqrstuvwxyz0123456789abcdefghijklmnopqrstuvwxyz0123456789abcdefghijklmnopqrstuvwxyz0123456789";
+
+    private String token;
+    private String tamperedToken;
+
+    @Setup
+    public void setUp() {
+        token = Ut.jwt.toString(SECRET, 1200, Map.of("id", 1, "email", "bench@test.com"));
+        tamperedToken = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+    }
+
+    @Benchmark
+    public boolean isValid() {
+        return Ut.jwt.isValid(SECRET, token);
+    }
+
+    @Benchmark
+    public boolean isValidTampered() {
+        return Ut.jwt.isValid(SECRET, tamperedToken);
+    }
+
+    @Benchmark
+    public Map<String, Object> payload() {
+        return Ut.jwt.payload(SECRET, token);
+    }
+
+    @Benchmark
+    public String issue() {
+        return Ut.jwt.toString(SECRET, 1200, Map.of("id", 1, "email", "bench@test.com"));
+    }
+}
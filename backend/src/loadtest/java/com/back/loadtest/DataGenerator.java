@@ -0,0 +1,378 @@
+package com.back.loadtest;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.Properties;
+
+/**
+ * 부하 테스트용 대량 데이터 생성기 - JDBC 배치 insert 로 책/회원/북마크/리뷰/리뷰 추천을 직접 넣는다.
+ * 스키마는 애플리케이션(ddl-auto)이 만든 것을 그대로 사용하므로 애플리케이션을 한 번 실행한 뒤 (H2 파일 DB 는 종료한 상태에서) 실행한다.
+ *
+ * 같은 seed 면 항상 같은 데이터가 만들어지고, 기존 데이터 뒤에 id 를 이어서 추가한다.
+ * - 회원: loadtest{회원 id}@test.com / --password (기본 loadtest1234)
+ * - 회원별 북마크/리뷰/추천 대상은 인기 있는 책/리뷰 쪽으로 치우치게 고르고, 회원 안에서는 겹치지 않음
+ * - 리뷰 좋아요/싫어요 수는 생성한 추천 기준으로 다시 계산, 책 평점 집계는 애플리케이션 시작 시 재계산(BookRatingService)에 맡김
+ * 생성한 id 범위는 --dataset 파일에 기록하고 부하 드라이버(LoadDriver)가 읽는다.
+ *
+ * 예) ./gradlew loadtestGenerate -PloadArgs="--preset=production"
+ *     ./gradlew loadtestGenerate -PloadArgs="--url=jdbc:mysql://localhost:3306/bookers?rewriteBatchedStatements=true --user=root --password-db=root --books=200000"
+ */
+public class DataGenerator {
+    private static final String[] READ_STATES = {"WISH", "READING", "READ"};
+
+    private final Connection connection;
+    private final boolean h2;
+    private final int batchSize;
+    private final long seed;
+    private final LocalDateTime now = LocalDateTime.now();
+
+    private int authorOffset;
+    private int authorCount;
+    private int bookOffset;
+    private int bookCount;
+    private int memberOffset;
+    private int memberCount;
+    private int reviewOffset;
+    private int reviewCount;
+
+    @FunctionalInterface
+    private interface RowBinder {
+        void bind(PreparedStatement ps, int index, int id) throws SQLException;
+    }
+
+    DataGenerator(Connection connection, int batchSize, long seed) throws SQLException {
+        this.connection = connection;
+        this.h2 = connection.getMetaData().getDatabaseProductName().toLowerCase().contains("h2");
+        this.batchSize = batchSize;
+        this.seed = seed;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        boolean production = "production".equals(options.get("preset", ""));
+
+        int books = options.getInt("books", production ? 1_000_000 : 20_000);
+        int members = options.getInt("members", production ? 200_000 : 5_000);
+        int bookmarks = options.getInt("bookmarks", production ? 5_000_000 : 100_000);
+        int reviews = options.getInt("reviews", production ? 2_000_000 : 40_000);
+        int recommends = options.getInt("recommends", production ? 10_000_000 : 200_000);
+
+        if ((long) bookmarks / members >= books || (long) reviews / members >= books || (long) recommends / members >= reviews) {
+            throw new IllegalArgumentException("회원당 북마크/리뷰 수는 책 수보다, 회원당 추천 수는 리뷰 수보다 작아야 합니다.");
+        }
+
+        String url = options.get("url", "jdbc:h2:./db_dev;MODE=MySQL");
+        try (Connection connection = DriverManager.getConnection(url, options.get("user", "sa"), options.get("password-db", ""))) {
+            connection.setAutoCommit(false);
+            DataGenerator generator = new DataGenerator(connection, options.getInt("batch-size", 5_000), options.getInt("seed", 42));
+
+            long start = System.currentTimeMillis();
+            generator.generateBooks(books);
+            generator.generateMembers(members, options.get("password", "loadtest1234"));
+            generator.generateBookmarks(bookmarks);
+            generator.generateReviews(reviews);
+            generator.generateRecommends(recommends);
+            generator.recalculateReviewCounters();
+            generator.writeDataset(Path.of(options.get("dataset", "build/loadtest/dataset.properties")),
+                    options.get("password", "loadtest1234"));
+
+            System.out.printf("데이터 생성 완료: %ds (책 평점 집계는 애플리케이션 시작 시 재계산됨)%n",
+                    (System.currentTimeMillis() - start) / 1000);
+        }
+    }
+
+    void generateBooks(int books) throws SQLException {
+        int[] categoryIds = resolveCategories();
+
+        authorCount = Math.max(1, books / 3);
+        authorOffset = insert("author", "INSERT INTO author (id, name, create_date, modify_date) VALUES (?, ?, ?, ?)",
+                authorCount, (ps, i, id) -> {
+                    ps.setInt(1, id);
+                    ps.setString(2, "부하작가" + id);
+                    ps.setObject(3, now);
+                    ps.setObject(4, now);
+                });
+
+        bookCount = books;
+        bookOffset = insert("book", """
+                        INSERT INTO book (id, title, image_url, publisher, isbn13, total_page, published_date, category_id,
+                                          avg_rate, rating_sum, rating_count,
+                                          rate1_count, rate2_count, rate3_count, rate4_count, rate5_count,
+                                          create_date, modify_date)
+                        VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0, 0, 0, 0, 0, 0, 0, 0, ?, ?)
+                        """,
+                books, (ps, i, id) -> {
+                    ps.setInt(1, id);
+                    ps.setString(2, title(i));
+                    ps.setString(3, "https://image.aladin.co.kr/product/loadtest/" + id + ".jpg");
+                    ps.setString(4, Vocabulary.PUBLISHERS[(int) (mix(i, 4) % Vocabulary.PUBLISHERS.length)]);
+                    // 실제 ISBN 과 겹치지 않는 9799 대역
+                    ps.setString(5, "9799" + String.format("%09d", id));
+                    // 2% 는 페이지 수 없음 (목록/검색에서 제외되는 책)
+                    ps.setInt(6, unit(i, 5) < 0.02 ? 0 : 80 + (int) (mix(i, 6) % 900));
+                    ps.setObject(7, LocalDateTime.of(1990, 1, 1, 0, 0).plusDays(mix(i, 7) % 12_000));
+                    ps.setInt(8, categoryIds[(int) skewed(i, 8, categoryIds.length)]);
+                    ps.setObject(9, now);
+                    ps.setObject(10, now);
+                });
+
+        // 모든 책에 작가 1명, 4권 중 1권은 작가 2명
+        int wroteCount = books + books / 4;
+        insert("wrote", "INSERT INTO wrote (id, author_id, book_id, create_date, modify_date) VALUES (?, ?, ?, ?, ?)",
+                wroteCount, (ps, i, id) -> {
+                    int book = i < books ? i : (i - books) * 4;
+                    int author = i < books ? (int) (mix(book, 9) % authorCount) : (int) ((mix(book, 9) + 1) % authorCount);
+                    ps.setInt(1, id);
+                    ps.setInt(2, authorOffset + 1 + author);
+                    ps.setInt(3, bookOffset + 1 + book);
+                    ps.setObject(4, now);
+                    ps.setObject(5, now);
+                });
+    }
+
+    void generateMembers(int members, String password) throws SQLException {
+        // 모든 회원이 같은 비밀번호 (BCrypt 는 한 번만 계산)
+        String encoded = new BCryptPasswordEncoder().encode(password);
+        memberCount = members;
+        memberOffset = insert("member", "INSERT INTO member (id, name, email, password, create_date, modify_date) VALUES (?, ?, ?, ?, ?, ?)",
+                members, (ps, i, id) -> {
+                    ps.setInt(1, id);
+                    ps.setString(2, "부하테스트" + id);
+                    ps.setString(3, email(id));
+                    ps.setString(4, encoded);
+                    ps.setObject(5, now);
+                    ps.setObject(6, now);
+                });
+    }
+
+    void generateBookmarks(int bookmarks) throws SQLException {
+        insert("bookmark", """
+                        INSERT INTO bookmark (id, read_state, read_page, start_read_date, end_read_date, book_id, member_id,
+                                              create_date, modify_date)
+                        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+                        """,
+                bookmarks, (ps, i, id) -> {
+                    int member = i % memberCount;
+                    int nth = i / memberCount;
+                    int book = (int) ((skewed(member, 10, bookCount) + nth) % bookCount);
+                    String readState = READ_STATES[(int) (mix(i, 11) % READ_STATES.length)];
+                    LocalDateTime started = now.minusDays(1 + mix(i, 12) % 700);
+
+                    ps.setInt(1, id);
+                    ps.setString(2, readState);
+                    ps.setInt(3, switch (readState) {
+                        case "READING" -> 1 + (int) (mix(i, 13) % 300);
+                        case "READ" -> 300;
+                        default -> 0;
+                    });
+                    ps.setObject(4, "WISH".equals(readState) ? null : started);
+                    ps.setObject(5, "READ".equals(readState) ? started.plusDays(1 + mix(i, 14) % 60) : null);
+                    ps.setInt(6, bookOffset + 1 + book);
+                    ps.setInt(7, memberOffset + 1 + member);
+                    ps.setObject(8, now);
+                    ps.setObject(9, now);
+                });
+    }
+
+    void generateReviews(int reviews) throws SQLException {
+        reviewCount = reviews;
+        reviewOffset = insert("review", """
+                        INSERT INTO review (id, member_id, book_id, content, rate, like_count, dislike_count, create_date, modify_date)
+                        VALUES (?, ?, ?, ?, ?, 0, 0, ?, ?)
+                        """,
+                reviews, (ps, i, id) -> {
+                    int member = i % memberCount;
+                    int nth = i / memberCount;
+                    int book = (int) ((skewed(member, 15, bookCount) + nth) % bookCount);
+                    // 4~5점이 많은 분포
+                    double r = unit(i, 16);
+                    int rate = r < 0.05 ? 1 : r < 0.12 ? 2 : r < 0.30 ? 3 : r < 0.65 ? 4 : 5;
+
+                    ps.setInt(1, id);
+                    ps.setInt(2, memberOffset + 1 + member);
+                    ps.setInt(3, bookOffset + 1 + book);
+                    ps.setString(4, "부하 테스트 리뷰 " + id + " - " + title(book) + "을(를) 읽고");
+                    ps.setInt(5, rate);
+                    ps.setObject(6, now.minusMinutes(mix(i, 17) % 500_000));
+                    ps.setObject(7, now);
+                });
+    }
+
+    void generateRecommends(int recommends) throws SQLException {
+        insert("review_recommend", """
+                        INSERT INTO review_recommend (id, is_recommended, member_id, review_id, create_date, modify_date)
+                        VALUES (?, ?, ?, ?, ?, ?)
+                        """,
+                recommends, (ps, i, id) -> {
+                    int member = i % memberCount;
+                    int nth = i / memberCount;
+                    int review = (int) ((skewed(member, 18, reviewCount) + nth) % reviewCount);
+
+                    ps.setInt(1, id);
+                    ps.setBoolean(2, unit(i, 19) < 0.8);
+                    ps.setInt(3, memberOffset + 1 + member);
+                    ps.setInt(4, reviewOffset + 1 + review);
+                    ps.setObject(5, now);
+                    ps.setObject(6, now);
+                });
+    }
+
+    /**
+     * 생성한 리뷰의 좋아요/싫어요 수를 추천 테이블 기준으로 계산 (id 구간별 트랜잭션)
+     */
+    void recalculateReviewCounters() throws SQLException {
+        String sql = """
+                UPDATE review SET
+                    like_count = (SELECT COUNT(*) FROM review_recommend rr WHERE rr.review_id = review.id AND rr.is_recommended = TRUE),
+                    dislike_count = (SELECT COUNT(*) FROM review_recommend rr WHERE rr.review_id = review.id AND rr.is_recommended = FALSE)
+                WHERE id BETWEEN ? AND ?
+                """;
+        long start = System.currentTimeMillis();
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            for (int from = reviewOffset + 1; from <= reviewOffset + reviewCount; from += batchSize) {
+                ps.setInt(1, from);
+                ps.setInt(2, Math.min(from + batchSize - 1, reviewOffset + reviewCount));
+                ps.executeUpdate();
+                connection.commit();
+            }
+        }
+        System.out.printf("review 좋아요/싫어요 수 계산: %dms%n", System.currentTimeMillis() - start);
+    }
+
+    void writeDataset(Path file, String password) throws IOException {
+        Properties dataset = new Properties();
+        dataset.setProperty("book.first-id", String.valueOf(bookOffset + 1));
+        dataset.setProperty("book.count", String.valueOf(bookCount));
+        dataset.setProperty("review.first-id", String.valueOf(reviewOffset + 1));
+        dataset.setProperty("review.count", String.valueOf(reviewCount));
+        dataset.setProperty("member.first-id", String.valueOf(memberOffset + 1));
+        dataset.setProperty("member.count", String.valueOf(memberCount));
+        dataset.setProperty("member.password", password);
+
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        try (Writer writer = Files.newBufferedWriter(file)) {
+            dataset.store(writer, "DataGenerator 결과 (LoadDriver --dataset)");
+        }
+        System.out.println("데이터셋 정보 저장: " + file.toAbsolutePath());
+    }
+
+    /**
+     * 카테고리는 이름으로 조회하므로 이미 있는 이름은 그대로 쓰고 없는 것만 추가
+     */
+    private int[] resolveCategories() throws SQLException {
+        String[] names = Vocabulary.CATEGORIES;
+        int[] ids = new int[names.length];
+        try (PreparedStatement select = connection.prepareStatement("SELECT MIN(id) FROM category WHERE name = ?");
+             PreparedStatement insert = connection.prepareStatement(
+                     "INSERT INTO category (name, create_date, modify_date) VALUES (?, ?, ?)", Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < names.length; i++) {
+                select.setString(1, names[i]);
+                try (ResultSet rs = select.executeQuery()) {
+                    rs.next();
+                    ids[i] = rs.getInt(1);
+                }
+                if (ids[i] == 0) {
+                    insert.setString(1, names[i]);
+                    insert.setObject(2, now);
+                    insert.setObject(3, now);
+                    insert.executeUpdate();
+                    try (ResultSet keys = insert.getGeneratedKeys()) {
+                        keys.next();
+                        ids[i] = keys.getInt(1);
+                    }
+                }
+            }
+        }
+        connection.commit();
+        return ids;
+    }
+
+    /**
+     * 현재 최대 id 다음부터 id 를 직접 지정해서 배치 insert 하고 시작 id - 1 을 반환
+     * (id 를 알고 있어야 다른 테이블에서 참조할 수 있으므로 IDENTITY 에 맡기지 않음)
+     */
+    private int insert(String table, String sql, int count, RowBinder binder) throws SQLException {
+        int offset = maxId(table);
+        long start = System.currentTimeMillis();
+
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            for (int i = 0; i < count; i++) {
+                binder.bind(ps, i, offset + 1 + i);
+                ps.addBatch();
+                if ((i + 1) % batchSize == 0) {
+                    ps.executeBatch();
+                    connection.commit();
+                    if ((i + 1) % (batchSize * 100) == 0) {
+                        System.out.printf("  %s: %,d / %,d%n", table, i + 1, count);
+                    }
+                }
+            }
+            ps.executeBatch();
+            connection.commit();
+        }
+
+        // H2 는 id 를 직접 넣어도 IDENTITY 값이 따라오지 않으므로 다음 값을 맞춤 (MySQL AUTO_INCREMENT 는 자동)
+        if (h2) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + (offset + count + 1));
+            }
+            connection.commit();
+        }
+
+        System.out.printf("%s: %,d건 (%dms)%n", table, count, System.currentTimeMillis() - start);
+        return offset;
+    }
+
+    private int maxId(String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + table)) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+
+    private String title(int book) {
+        String[] words = Vocabulary.TITLE_WORDS;
+        String first = words[(int) (skewed(book, 1, words.length))];
+        String second = words[(int) (mix(book, 2) % words.length)];
+        String suffix = Vocabulary.TITLE_SUFFIXES[(int) (mix(book, 3) % Vocabulary.TITLE_SUFFIXES.length)];
+        return first + " " + second + suffix;
+    }
+
+    // 여러 번 실행해도 겹치지 않도록 id 기준
+    static String email(int memberId) {
+        return "loadtest" + memberId + "@test.com";
+    }
+
+    /**
+     * 0 쪽으로 치우친 [0, bound) - 앞쪽 id 가 인기 있는 책/리뷰가 됨
+     */
+    private long skewed(long key, int salt, int bound) {
+        return (long) (bound * Math.pow(unit(key, salt), 3));
+    }
+
+    private double unit(long key, int salt) {
+        return (mix(key, salt) >>> 11) * 0x1.0p-53;
+    }
+
+    // seed/salt 별로 다른 결정적 난수 (SplitMix64)
+    private long mix(long key, int salt) {
+        long z = seed * 0x9E3779B97F4A7C15L + key * 0xBF58476D1CE4E5B9L + salt * 0x94D049BB133111EBL;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return (z ^ (z >>> 31)) & Long.MAX_VALUE;
+    }
+}
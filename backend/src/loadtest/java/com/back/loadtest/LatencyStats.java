@@ -0,0 +1,78 @@
+package com.back.loadtest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 엔드포인트별 응답 시간 기록 - 측정 구간이 끝난 뒤 정렬해서 백분위 계산
+ */
+class LatencyStats {
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    record Summary(String endpoint, long count, long errors, double throughput,
+                   double p50Ms, double p95Ms, double p99Ms, double maxMs) {
+    }
+
+    private static class Endpoint {
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+
+        synchronized void record(long nanos, boolean error) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+            if (error) {
+                errors++;
+            }
+        }
+
+        synchronized Summary summarize(String name, double seconds) {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            return new Summary(name, count, errors, count / seconds,
+                    percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99),
+                    count == 0 ? 0 : sorted[count - 1] / 1_000_000.0);
+        }
+    }
+
+    void record(String endpoint, long nanos, boolean error) {
+        endpoints.computeIfAbsent(endpoint, key -> new Endpoint()).record(nanos, error);
+    }
+
+    /**
+     * 요청 수가 많은 엔드포인트부터
+     */
+    List<Summary> summarize(double seconds) {
+        List<Summary> summaries = new ArrayList<>();
+        endpoints.forEach((name, endpoint) -> summaries.add(endpoint.summarize(name, seconds)));
+        summaries.sort((a, b) -> Long.compare(b.count(), a.count()));
+        return summaries;
+    }
+
+    static Map<String, Object> toReport(List<Summary> summaries, double seconds) {
+        long total = summaries.stream().mapToLong(Summary::count).sum();
+        long errors = summaries.stream().mapToLong(Summary::errors).sum();
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("durationSeconds", seconds);
+        report.put("requests", total);
+        report.put("errors", errors);
+        report.put("throughput", total / seconds);
+        report.put("endpoints", summaries);
+        return report;
+    }
+
+    // nearest-rank
+    static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile * sorted.length);
+        return sorted[Math.max(0, rank - 1)] / 1_000_000.0;
+    }
+}
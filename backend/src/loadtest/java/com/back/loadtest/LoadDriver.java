@@ -0,0 +1,344 @@
+package com.back.loadtest;
+
+import com.back.domain.book.client.aladin.stub.AladinStubServer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 시나리오 기반 부하 드라이버 - 정해진 비율로 주요 API 를 호출하고 엔드포인트별 p50/p95/p99 와 처리량을 보고한다.
+ * 동시 사용자 수만큼 스레드가 응답을 받으면 바로 다음 요청을 보내는 closed-loop 방식이며, warmup 구간은 집계하지 않는다.
+ * 대상 데이터(id 범위, 회원 계정)는 DataGenerator 가 만든 --dataset 파일에서 읽는다.
+ *
+ * 예) ./gradlew loadtestRun -PloadArgs="--duration=2m --concurrency=64 --mix=books=30,search=20,detail=20,bookmarks=10,reviews=15,recommend=5"
+ * 검색 결과가 DB 에 없으면 알라딘을 호출하므로, --aladin-stub-port=8089 로 stub 서버를 띄우고
+ * 애플리케이션을 --aladin.api.base-url=http://127.0.0.1:8089 로 실행하면 외부 호출 없이 측정할 수 있다.
+ */
+public class LoadDriver {
+    private static final Pattern ACCESS_TOKEN = Pattern.compile("\"accessToken\"\\s*:\\s*\"([^\"]+)\"");
+
+    enum Operation {
+        BOOKS("books", 25),
+        SEARCH("search", 20),
+        DETAIL("detail", 20),
+        BOOKMARKS("bookmarks", 10),
+        REVIEWS("reviews", 20),
+        RECOMMEND("recommend", 5);
+
+        private final String key;
+        private final int defaultWeight;
+
+        Operation(String key, int defaultWeight) {
+            this.key = key;
+            this.defaultWeight = defaultWeight;
+        }
+    }
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final LatencyStats stats = new LatencyStats();
+
+    private final String baseUrl;
+    private final Properties dataset;
+    private final Map<Operation, Integer> weights;
+    private final int totalWeight;
+    private final double searchMissRate;
+    private final Duration thinkTime;
+
+    private volatile boolean measuring;
+
+    /**
+     * 로그인한 회원 한 명 - 스레드 여러 개가 같은 회원을 쓸 수 있음
+     */
+    private class User {
+        private final String email;
+        private volatile String accessToken;
+
+        User(String email) {
+            this.email = email;
+        }
+
+        synchronized void login() throws IOException, InterruptedException {
+            String body = "{\"email\":\"%s\",\"password\":\"%s\"}".formatted(email, dataset.getProperty("member.password"));
+            HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(URI.create(baseUrl + "/user/login"))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build(), HttpResponse.BodyHandlers.ofString());
+            Matcher matcher = ACCESS_TOKEN.matcher(response.body());
+            if (response.statusCode() != 200 || !matcher.find()) {
+                throw new IllegalStateException("로그인 실패: " + email + " (" + response.statusCode() + ")");
+            }
+            accessToken = matcher.group(1);
+        }
+    }
+
+    LoadDriver(String baseUrl, Properties dataset, Map<Operation, Integer> weights, double searchMissRate, Duration thinkTime) {
+        this.baseUrl = baseUrl;
+        this.dataset = dataset;
+        this.weights = weights;
+        this.totalWeight = weights.values().stream().mapToInt(Integer::intValue).sum();
+        this.searchMissRate = searchMissRate;
+        this.thinkTime = thinkTime;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        Properties dataset = new Properties();
+        try (Reader reader = Files.newBufferedReader(Path.of(options.get("dataset", "build/loadtest/dataset.properties")))) {
+            dataset.load(reader);
+        }
+
+        AladinStubServer aladinStub = null;
+        if (options.has("aladin-stub-port")) {
+            aladinStub = AladinStubServer.start(options.getInt("aladin-stub-port", 8089), null)
+                    .synthesizeMissing(true)
+                    .latency(Duration.ofMillis(50), Duration.ofMillis(200))
+                    .pageGapRate(options.getDouble("aladin-page-gap-rate", 0.2));
+            System.out.println("알라딘 stub 서버: " + aladinStub.baseUrl() + " (애플리케이션 aladin.api.base-url 로 지정)");
+        }
+
+        try {
+            LoadDriver driver = new LoadDriver(
+                    options.get("base-url", "http://localhost:8080"),
+                    dataset,
+                    parseMix(options.get("mix", "")),
+                    options.getDouble("search-miss-rate", 0.02),
+                    options.getDuration("think-time", Duration.ZERO));
+
+            List<LatencyStats.Summary> summaries = driver.run(
+                    options.getInt("concurrency", 32),
+                    options.getInt("users", 50),
+                    options.getDuration("warmup", Duration.ofSeconds(10)),
+                    options.getDuration("duration", Duration.ofSeconds(60)));
+
+            double seconds = options.getDuration("duration", Duration.ofSeconds(60)).toMillis() / 1000.0;
+            print(summaries, seconds);
+
+            Path report = Path.of(options.get("report", "build/loadtest/report-"
+                    + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json"));
+            if (report.getParent() != null) {
+                Files.createDirectories(report.getParent());
+            }
+            new ObjectMapper().writerWithDefaultPrettyPrinter()
+                    .writeValue(report.toFile(), LatencyStats.toReport(summaries, seconds));
+            System.out.println("결과 저장: " + report.toAbsolutePath());
+        } finally {
+            if (aladinStub != null) {
+                aladinStub.close();
+            }
+        }
+    }
+
+    List<LatencyStats.Summary> run(int concurrency, int userCount, Duration warmup, Duration duration) throws Exception {
+        List<User> users = login(userCount);
+
+        long start = System.nanoTime();
+        long measureStart = start + warmup.toNanos();
+        long end = measureStart + duration.toNanos();
+
+        CountDownLatch done = new CountDownLatch(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            User user = users.get(i % users.size());
+            SplittableRandom random = new SplittableRandom(i * 7919L);
+            Thread.ofPlatform().name("load-" + i).daemon(true).start(() -> {
+                try {
+                    while (System.nanoTime() < end) {
+                        measuring = System.nanoTime() >= measureStart;
+                        execute(pick(random), user, random);
+                        if (!thinkTime.isZero()) {
+                            Thread.sleep(thinkTime);
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        System.out.printf("부하 시작: 동시 %d, 회원 %d명, warmup %ds, 측정 %ds%n",
+                concurrency, users.size(), warmup.toSeconds(), duration.toSeconds());
+        done.await();
+        return stats.summarize(duration.toMillis() / 1000.0);
+    }
+
+    private List<User> login(int userCount) throws IOException, InterruptedException {
+        int firstId = Integer.parseInt(dataset.getProperty("member.first-id"));
+        int memberCount = Integer.parseInt(dataset.getProperty("member.count"));
+        int count = Math.min(userCount, memberCount);
+
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            User user = new User(DataGenerator.email(firstId + (int) ((long) i * memberCount / count)));
+            user.login();
+            users.add(user);
+        }
+        return users;
+    }
+
+    private Operation pick(SplittableRandom random) {
+        int value = random.nextInt(totalWeight);
+        for (Map.Entry<Operation, Integer> entry : weights.entrySet()) {
+            value -= entry.getValue();
+            if (value < 0) {
+                return entry.getKey();
+            }
+        }
+        return Operation.BOOKS;
+    }
+
+    private void execute(Operation operation, User user, SplittableRandom random) throws InterruptedException {
+        switch (operation) {
+            case BOOKS -> send("GET /books", get("/books?page=" + skewed(random, 50) + "&size=9"), user);
+            case SEARCH -> send("GET /books/search",
+                    get("/books/search?query=" + encode(searchQuery(random)) + "&page=0&size=10"), user);
+            case DETAIL -> send("GET /books/{id}", get("/books/" + bookId(random)), user);
+            case BOOKMARKS -> send("GET /bookmarks", get("/bookmarks?page=" + random.nextInt(3) + "&size=10"), user);
+            case REVIEWS -> send("GET /reviews/{id}/list", get("/reviews/" + bookId(random) + "/list?page=0&size=10"), user);
+            case RECOMMEND -> {
+                int reviewId = reviewId(random);
+                // 이미 추천한 리뷰면 실패하므로 취소해서 다음 요청이 다시 추천할 수 있게 함
+                int status = send("POST /reviewRecommend/{id}/{isRecommend}",
+                        request("/reviewRecommend/" + reviewId + "/" + (random.nextInt(5) > 0)).POST(HttpRequest.BodyPublishers.noBody()), user);
+                if (status >= 400) {
+                    send("DELETE /reviewRecommend/{id}", request("/reviewRecommend/" + reviewId).DELETE(), user);
+                }
+            }
+        }
+    }
+
+    /**
+     * 요청 후 상태 코드 반환 (연결 실패는 0) - 토큰이 만료됐으면 다시 로그인
+     */
+    private int send(String endpoint, HttpRequest.Builder builder, User user) throws InterruptedException {
+        boolean record = measuring;
+        long start = System.nanoTime();
+        int status;
+        try {
+            HttpResponse<Void> response = httpClient.send(
+                    builder.header("Cookie", "accessToken=" + user.accessToken).build(),
+                    HttpResponse.BodyHandlers.discarding());
+            status = response.statusCode();
+        } catch (IOException e) {
+            status = 0;
+        }
+        long elapsed = System.nanoTime() - start;
+
+        if (record) {
+            // 추천 실패(이미 추천함)는 시나리오상 정상 흐름이라 오류로 세지 않음
+            boolean error = status == 0 || status >= 500 || (status >= 400 && !endpoint.startsWith("POST /reviewRecommend"));
+            stats.record(endpoint, elapsed, error);
+        }
+        if (status == 401) {
+            try {
+                user.login();
+            } catch (IOException | IllegalStateException e) {
+                System.err.println(e.getMessage());
+            }
+        }
+        return status;
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return request(path).GET();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(30));
+    }
+
+    private String searchQuery(SplittableRandom random) {
+        if (random.nextDouble() < searchMissRate) {
+            // DB 에 없는 검색어 - 알라딘 호출 경로
+            return "부하미스" + random.nextInt(1_000_000);
+        }
+        String[] words = Vocabulary.TITLE_WORDS;
+        String first = words[skewed(random, words.length)];
+        return random.nextInt(4) == 0 ? first + " " + words[random.nextInt(words.length)] : first;
+    }
+
+    private int bookId(SplittableRandom random) {
+        return Integer.parseInt(dataset.getProperty("book.first-id"))
+                + skewed(random, Integer.parseInt(dataset.getProperty("book.count")));
+    }
+
+    private int reviewId(SplittableRandom random) {
+        return Integer.parseInt(dataset.getProperty("review.first-id"))
+                + skewed(random, Integer.parseInt(dataset.getProperty("review.count")));
+    }
+
+    // 데이터 생성기와 같은 방식으로 앞쪽(인기 있는 책/리뷰)에 몰리게
+    private static int skewed(SplittableRandom random, int bound) {
+        return (int) (bound * Math.pow(random.nextDouble(), 3));
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * books=30,search=20,... (지정하지 않은 항목은 기본 비율, 0 이면 제외)
+     */
+    static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            weights.put(operation, operation.defaultWeight);
+        }
+        for (String part : mix.split(",")) {
+            if (part.isBlank()) {
+                continue;
+            }
+            String[] keyValue = part.split("=");
+            Operation operation = null;
+            for (Operation candidate : Operation.values()) {
+                if (candidate.key.equals(keyValue[0].trim())) {
+                    operation = candidate;
+                }
+            }
+            if (operation == null) {
+                throw new IllegalArgumentException("알 수 없는 시나리오: " + keyValue[0]);
+            }
+            weights.put(operation, Integer.parseInt(keyValue[1].trim()));
+        }
+        weights.values().removeIf(weight -> weight <= 0);
+        return weights;
+    }
+
+    private static void print(List<LatencyStats.Summary> summaries, double seconds) {
+        System.out.printf("%n%-42s %9s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+        long total = 0;
+        for (LatencyStats.Summary summary : summaries) {
+            System.out.printf("%-42s %9d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    summary.endpoint(), summary.count(), summary.errors(), summary.throughput(),
+                    summary.p50Ms(), summary.p95Ms(), summary.p99Ms(), summary.maxMs());
+            total += summary.count();
+        }
+        System.out.printf("전체 %d건, %.1f req/s%n", total, total / seconds);
+    }
+}
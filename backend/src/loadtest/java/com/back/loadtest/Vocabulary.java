@@ -0,0 +1,32 @@
+package com.back.loadtest;
+
+/**
+ * 생성 데이터와 부하 드라이버가 함께 쓰는 단어 목록
+ * 책 제목은 이 단어들의 조합이라서 드라이버가 같은 단어로 검색하면 DB 에서 결과가 나온다 (알라딘 호출 없음).
+ */
+final class Vocabulary {
+    static final String[] TITLE_WORDS = {
+            "자바", "스프링", "데이터", "알고리즘", "파이썬", "클린", "코드", "설계", "객체", "함수",
+            "역사", "세계", "한국", "경제", "철학", "심리", "과학", "우주", "생명", "인간",
+            "사랑", "여름", "겨울", "바다", "도시", "여행", "고양이", "마음", "시간", "기억",
+            "소년", "소녀", "밤", "별", "숲", "정원", "편지", "비밀", "모험", "전쟁",
+            "요리", "건강", "습관", "투자", "부동산", "마케팅", "리더십", "글쓰기", "영어", "수학"
+    };
+
+    static final String[] TITLE_SUFFIXES = {
+            "입문", "의 정석", " 이야기", " 수업", " 완벽 가이드", "의 기술", " 안내서", "", "", ""
+    };
+
+    static final String[] CATEGORIES = {
+            "소설/시/희곡", "컴퓨터/모바일", "경제경영", "자기계발", "인문학", "역사", "과학", "에세이",
+            "사회과학", "예술/대중문화", "어린이", "청소년", "만화", "여행", "요리/살림", "건강/취미",
+            "외국어", "수험서/자격증", "종교/역학", "외국도서"
+    };
+
+    static final String[] PUBLISHERS = {
+            "한빛미디어", "민음사", "문학동네", "창비", "위키북스", "길벗", "인사이트", "김영사", "RHK", "다산북스"
+    };
+
+    private Vocabulary() {
+    }
+}
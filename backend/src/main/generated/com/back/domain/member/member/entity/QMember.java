@@ -41,8 +41,6 @@ public class QMember extends EntityPathBase<Member> {
 
     public final StringPath password = createString("password");
 
-    public final StringPath refreshToken = createString("refreshToken");
-
     public final ListPath<com.back.domain.review.review.entity.Review, com.back.domain.review.review.entity.QReview> reviews = this.<com.back.domain.review.review.entity.Review, com.back.domain.review.review.entity.QReview>createList("reviews", com.back.domain.review.review.entity.Review.class, com.back.domain.review.review.entity.QReview.class, PathInits.DIRECT2);
 
     public QMember(String variable) {
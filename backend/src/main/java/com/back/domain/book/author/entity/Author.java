@@ -3,6 +3,7 @@ package com.back.domain.book.author.entity;
 import com.back.domain.book.wrote.entity.Wrote;
 import com.back.global.jpa.entity.BaseEntity;
 import jakarta.persistence.CascadeType;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.OneToMany;
 import lombok.Getter;
@@ -15,6 +16,7 @@ import java.util.List;
 @Getter
 @NoArgsConstructor
 public class Author extends BaseEntity {
+    @Column(unique = true)
     private String name;
 
     @OneToMany(mappedBy = "author", cascade = CascadeType.ALL, orphanRemoval = true)
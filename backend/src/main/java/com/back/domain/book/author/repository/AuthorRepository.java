@@ -3,8 +3,12 @@ package com.back.domain.book.author.repository;
 import com.back.domain.book.author.entity.Author;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface AuthorRepository extends JpaRepository<Author, Integer> {
     Optional<Author> findByName(String name);
+
+    List<Author> findByNameIn(Collection<String> names);
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.back.domain.book.book.controller;
 import com.back.domain.book.book.dto.BookDetailDto;
 import com.back.domain.book.book.dto.BookSearchDto;
 import com.back.domain.book.book.service.BookService;
+import com.back.domain.book.search.dto.BookAutocompleteDto;
 import com.back.domain.member.member.entity.Member;
 import com.back.global.dto.PageResponseDto;
 import com.back.global.exception.ServiceException;
@@ -19,6 +20,8 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/books")
 @RequiredArgsConstructor
@@ -50,11 +53,16 @@ public class BookController {
         return cleanIsbn;
     }
 
+    /**
+     * cursor 파라미터가 있으면 커서(keyset) 방식으로 조회 (첫 페이지는 빈 값으로 요청)
+     * 응답의 nextCursor 를 다음 요청의 cursor 로 전달하며, 이 방식에서는 전체 개수를 세지 않음
+     */
     @GetMapping
     @Operation(summary = "전체 책 조회")
     public RsData<PageResponseDto<BookSearchDto>> getAllBooks(
             @PageableDefault(size = 9, sort = "id", direction = Sort.Direction.DESC)
             Pageable pageable,
+            @RequestParam(required = false) String cursor,
             HttpServletRequest request) {
 
         Member member = rq.getActor();
@@ -65,6 +73,11 @@ public class BookController {
             log.debug("비로그인 사용자로 책 조회");
         }
 
+        if (cursor != null) {
+            PageResponseDto<BookSearchDto> cursorResponse = bookService.getAllBooksByCursor(cursor, pageable, member);
+            return new RsData<>("200-1", "전체 책 조회 성공", cursorResponse);
+        }
+
         Page<BookSearchDto> books = bookService.getAllBooks(pageable, member);
         PageResponseDto<BookSearchDto> pageResponse = new PageResponseDto<>(books);
 
@@ -77,11 +90,20 @@ public class BookController {
             @RequestParam String query,
             @PageableDefault(size = 9, sort = "id", direction = Sort.Direction.DESC)
             Pageable pageable,
+            @RequestParam(required = false) String cursor,
             HttpServletRequest request) {
 
         String validQuery = validateAndTrimQuery(query, "400-6", "검색어를 입력해주세요.");
         Member member = rq.getActor();
 
+        if (cursor != null) {
+            PageResponseDto<BookSearchDto> cursorResponse = bookService.searchBooksByCursor(validQuery, cursor, pageable, member);
+            if (cursorResponse.data().isEmpty()) {
+                return new RsData<>("200-2", "검색 결과가 없습니다.", cursorResponse);
+            }
+            return new RsData<>("200-1", cursorResponse.data().size() + "개의 책을 찾았습니다.", cursorResponse);
+        }
+
         Page<BookSearchDto> books = bookService.searchBooks(validQuery, pageable, member);
         PageResponseDto<BookSearchDto> pageResponse = new PageResponseDto<>(books);
 
@@ -92,6 +114,21 @@ public class BookController {
         return new RsData<>("200-1", books.getTotalElements() + "개의 책을 찾았습니다.", pageResponse);
     }
 
+    /**
+     * 자동완성 - 초성(ㅈㅂㅇㅈㅅ)이나 입력 중인 글자(잡 → 자바)도 접두어로 처리, 인기도(북마크 수) 순
+     */
+    @GetMapping("/autocomplete")
+    @Operation(summary = "책 제목/작가명 자동완성")
+    public RsData<List<BookAutocompleteDto>> autocomplete(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int size) {
+
+        String validPrefix = validateAndTrimQuery(prefix, "400-6", "검색어를 입력해주세요.");
+        List<BookAutocompleteDto> suggestions = bookService.autocomplete(validPrefix, size);
+
+        return new RsData<>("200-9", suggestions.size() + "개의 자동완성 결과", suggestions);
+    }
+
     @GetMapping("/isbn/{isbn}")
     @Operation(summary = "ISBN으로 책 검색")
     public RsData<BookSearchDto> getBookByIsbn(@PathVariable String isbn, HttpServletRequest request) {
@@ -0,0 +1,140 @@
+package com.back.domain.book.book.dto;
+
+import com.back.global.exception.ServiceException;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 커서(keyset) 페이징용 커서
+ * 정렬 키, 정렬 방향, 마지막으로 내려준 책의 정렬 값과 id 를 담고 클라이언트에는 불투명한 문자열로 전달한다.
+ * lastId 가 null 이면 첫 페이지.
+ */
+public record BookCursor(
+        SortKey sortKey,
+        Sort.Direction direction,
+        Integer lastId,
+        String lastValue
+) {
+    private static final String DELIMITER = "|";
+    private static final String NULL_VALUE = "N";
+    private static final String VALUE_PREFIX = "V";
+
+    // 커서 방식에서 지원하는 정렬 키
+    public enum SortKey {
+        ID("id"),
+        TITLE("title"),
+        AVG_RATE("avgRate"),
+        PUBLISHED_DATE("publishedDate"),
+        TOTAL_PAGE("totalPage");
+
+        private final String property;
+
+        SortKey(String property) {
+            this.property = property;
+        }
+
+        public String getProperty() {
+            return property;
+        }
+
+        public static SortKey from(String property) {
+            for (SortKey key : values()) {
+                if (key.property.equalsIgnoreCase(property)) {
+                    return key;
+                }
+            }
+            throw new ServiceException("400-11", "커서 방식에서 지원하지 않는 정렬 기준입니다: " + property);
+        }
+    }
+
+    /**
+     * 요청 커서 해석 - 비어 있으면 Pageable 정렬의 첫 번째 조건으로 첫 페이지 커서 생성
+     */
+    public static BookCursor resolve(String cursor, Sort sort) {
+        if (cursor != null && !cursor.isBlank()) {
+            return decode(cursor);
+        }
+
+        Sort.Order order = sort.stream().findFirst().orElse(Sort.Order.desc("id"));
+        return new BookCursor(SortKey.from(order.getProperty()), order.getDirection(), null, null);
+    }
+
+    public boolean isFirstPage() {
+        return lastId == null;
+    }
+
+    /**
+     * 마지막으로 내려준 책 기준의 다음 커서
+     */
+    public BookCursor next(BookSearchDto last) {
+        String value = switch (sortKey) {
+            case ID -> String.valueOf(last.getId());
+            case TITLE -> last.getTitle();
+            case AVG_RATE -> Float.toString(last.getAvgRate());
+            case PUBLISHED_DATE -> last.getPublishedDate() != null ? last.getPublishedDate().toString() : null;
+            case TOTAL_PAGE -> String.valueOf(last.getTotalPage());
+        };
+        return new BookCursor(sortKey, direction, last.getId(), value);
+    }
+
+    public String encode() {
+        String raw = sortKey.name() + DELIMITER
+                + direction.name() + DELIMITER
+                + lastId + DELIMITER
+                + (lastValue == null ? NULL_VALUE : VALUE_PREFIX + lastValue);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static BookCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            // 값(제목 등)에 구분자가 포함될 수 있으므로 값은 마지막에 두고 최대 4개로 분리
+            String[] parts = raw.split("\\" + DELIMITER, 4);
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("잘못된 커서 형식");
+            }
+
+            SortKey sortKey = SortKey.valueOf(parts[0]);
+            Sort.Direction direction = Sort.Direction.valueOf(parts[1]);
+            int lastId = Integer.parseInt(parts[2]);
+            String lastValue = parts[3].startsWith(VALUE_PREFIX) ? parts[3].substring(1) : null;
+
+            BookCursor bookCursor = new BookCursor(sortKey, direction, lastId, lastValue);
+            bookCursor.validateValue();
+            return bookCursor;
+        } catch (ServiceException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ServiceException("400-10", "유효하지 않은 커서입니다.");
+        }
+    }
+
+    public float avgRateValue() {
+        return Float.parseFloat(lastValue);
+    }
+
+    public int totalPageValue() {
+        return Integer.parseInt(lastValue);
+    }
+
+    public LocalDateTime publishedDateValue() {
+        return lastValue != null ? LocalDateTime.parse(lastValue) : null;
+    }
+
+    // 정렬 키별 값 형식 검증 (잘못된 값이면 예외)
+    private void validateValue() {
+        switch (sortKey) {
+            case TITLE -> {
+                if (lastValue == null) throw new IllegalArgumentException("제목 값 누락");
+            }
+            case AVG_RATE -> avgRateValue();
+            case TOTAL_PAGE -> totalPageValue();
+            case PUBLISHED_DATE -> publishedDateValue();
+            case ID -> {
+            }
+        }
+    }
+}
@@ -1,11 +1,13 @@
 package com.back.domain.book.book.entity;
 
 import com.back.domain.book.category.entity.Category;
+import com.back.domain.book.search.BookSearchIndexListener;
 import com.back.domain.book.wrote.entity.Wrote;
 import com.back.domain.bookmarks.entity.Bookmark;
 import com.back.domain.review.review.entity.Review;
 import com.back.global.jpa.entity.BaseEntity;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -18,6 +20,7 @@ import java.util.List;
 @Getter
 @Setter
 @NoArgsConstructor
+@EntityListeners(BookSearchIndexListener.class)
 public class Book extends BaseEntity {
     @Column(nullable = false)
     String title;
@@ -27,6 +30,29 @@ public class Book extends BaseEntity {
     LocalDateTime publishedDate;
     float avgRate = 0.0f;
 
+    // 평점 집계 - 리뷰 추가/수정/삭제 시 BookRatingService 의 증분 update 로만 변경 (엔티티 flush 로 덮어쓰지 않도록 updatable = false)
+    @Setter(AccessLevel.NONE)
+    @Column(nullable = false, updatable = false)
+    long ratingSum;
+    @Setter(AccessLevel.NONE)
+    @Column(nullable = false, updatable = false)
+    int ratingCount;
+    @Setter(AccessLevel.NONE)
+    @Column(nullable = false, updatable = false)
+    int rate1Count;
+    @Setter(AccessLevel.NONE)
+    @Column(nullable = false, updatable = false)
+    int rate2Count;
+    @Setter(AccessLevel.NONE)
+    @Column(nullable = false, updatable = false)
+    int rate3Count;
+    @Setter(AccessLevel.NONE)
+    @Column(nullable = false, updatable = false)
+    int rate4Count;
+    @Setter(AccessLevel.NONE)
+    @Column(nullable = false, updatable = false)
+    int rate5Count;
+
     @Column(unique = true)
     String isbn13;
 
@@ -1,12 +1,80 @@
 package com.back.domain.book.book.repository;
 
 import com.back.domain.book.book.entity.Book;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface BookRepository extends JpaRepository<Book, Integer>, BookRepositoryCustom {
 
     // 간단한 조회는 Spring Data JPA 기본 메서드 활용
     Optional<Book> findByIsbn13(String isbn13);
-}
\ No newline at end of file
+
+    @EntityGraph(attributePaths = "category")
+    List<Book> findByIsbn13In(Collection<String> isbn13s);
+
+    /**
+     * 평점 집계 증분 반영 - 현재 값을 읽지 않고 DB 에서 원자적으로 더함 (동시 리뷰 작성 시 갱신 유실 없음)
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update Book b set
+                b.ratingSum = b.ratingSum + :sumDelta,
+                b.ratingCount = b.ratingCount + :countDelta,
+                b.rate1Count = b.rate1Count + :rate1Delta,
+                b.rate2Count = b.rate2Count + :rate2Delta,
+                b.rate3Count = b.rate3Count + :rate3Delta,
+                b.rate4Count = b.rate4Count + :rate4Delta,
+                b.rate5Count = b.rate5Count + :rate5Delta
+            where b.id = :bookId
+            """)
+    int applyRatingDelta(@Param("bookId") int bookId,
+                         @Param("sumDelta") long sumDelta,
+                         @Param("countDelta") int countDelta,
+                         @Param("rate1Delta") int rate1Delta,
+                         @Param("rate2Delta") int rate2Delta,
+                         @Param("rate3Delta") int rate3Delta,
+                         @Param("rate4Delta") int rate4Delta,
+                         @Param("rate5Delta") int rate5Delta);
+
+    /**
+     * 집계 값으로 평균 평점 갱신
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            update Book b set
+                b.avgRate = case when b.ratingCount > 0 then cast(b.ratingSum as Float) / b.ratingCount else 0.0F end
+            where b.id between :fromId and :toId
+            """)
+    int updateAvgRateFromAggregates(@Param("fromId") int fromId, @Param("toId") int toId);
+
+    /**
+     * 리뷰 테이블 기준으로 집계 재계산 (드리프트 보정용, id 구간 단위)
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            update Book b set
+                b.ratingSum = coalesce((select sum(r.rate) from Review r where r.book = b), 0),
+                b.ratingCount = cast((select count(r) from Review r where r.book = b) as Integer),
+                b.rate1Count = cast((select count(r) from Review r where r.book = b and r.rate = 1) as Integer),
+                b.rate2Count = cast((select count(r) from Review r where r.book = b and r.rate = 2) as Integer),
+                b.rate3Count = cast((select count(r) from Review r where r.book = b and r.rate = 3) as Integer),
+                b.rate4Count = cast((select count(r) from Review r where r.book = b and r.rate = 4) as Integer),
+                b.rate5Count = cast((select count(r) from Review r where r.book = b and r.rate = 5) as Integer)
+            where b.id between :fromId and :toId
+            """)
+    int recalculateRatingAggregates(@Param("fromId") int fromId, @Param("toId") int toId);
+
+    @Query("select coalesce(max(b.id), 0) from Book b")
+    int findMaxId();
+}
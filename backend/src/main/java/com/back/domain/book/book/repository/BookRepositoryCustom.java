@@ -1,8 +1,10 @@
 package com.back.domain.book.book.repository;
 
+import com.back.domain.book.book.dto.BookCursor;
 import com.back.domain.book.book.entity.Book;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 import java.util.Optional;
@@ -22,4 +24,8 @@ public interface BookRepositoryCustom {
     Page<Book> findValidBooksByCategory(String categoryName, Pageable pageable);
 
     Page<Book> findValidBooksByQueryAndCategory(String query, String categoryName, Pageable pageable);
+
+    Slice<Book> findAllValidBooksByCursor(BookCursor cursor, int size);
+
+    Slice<Book> findValidBooksByTitleOrAuthorContainingByCursor(String query, BookCursor cursor, int size);
 }
\ No newline at end of file
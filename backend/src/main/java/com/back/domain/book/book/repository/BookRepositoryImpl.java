@@ -1,19 +1,31 @@
 package com.back.domain.book.book.repository;
 
+import com.back.domain.book.book.dto.BookCursor;
 import com.back.domain.book.book.entity.Book;
+import com.back.domain.book.search.BookSearchIndex;
+import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static com.back.domain.book.author.entity.QAuthor.author;
@@ -25,16 +37,17 @@ import static com.back.domain.book.wrote.entity.QWrote.wrote;
 @RequiredArgsConstructor
 public class BookRepositoryImpl implements BookRepositoryCustom {
 
+    // 색인 후보가 이보다 많으면 IN 목록 대신 DB like 검색 사용
+    private static final int MAX_INDEX_CANDIDATES = 1000;
+
     private final JPAQueryFactory queryFactory;
+    private final BookSearchIndex bookSearchIndex;
 
     @Override
     public List<Book> findByTitleOrAuthorContaining(String keyword) {
         return queryFactory
                 .selectFrom(book)
-                .distinct()
-                .leftJoin(book.authors, wrote)
-                .leftJoin(wrote.author, author)
-                .where(titleContains(keyword).or(authorNameContains(keyword)))
+                .where(titleOrAuthorContains(keyword))
                 .fetch();
     }
 
@@ -42,69 +55,24 @@ public class BookRepositoryImpl implements BookRepositoryCustom {
     public List<Book> findValidBooksByTitleOrAuthorContaining(String query) {
         return queryFactory
                 .selectFrom(book)
-                .distinct()
-                .leftJoin(book.authors, wrote)
-                .leftJoin(wrote.author, author)
                 .where(
                         isValidBook()
-                                .and(titleContains(query).or(authorNameContains(query)))
+                                .and(titleOrAuthorContains(query))
                 )
                 .fetch();
     }
 
     @Override
     public Page<Book> findValidBooksByTitleOrAuthorContainingWithPaging(String query, Pageable pageable) {
-        // 정렬을 포함한 쿼리
-        List<Book> content = queryFactory
-                .selectFrom(book)
-                .distinct()
-                .leftJoin(book.authors, wrote).fetchJoin()
-                .leftJoin(wrote.author, author).fetchJoin()
-                .leftJoin(book.category, category).fetchJoin()
-                .where(
-                        isValidBook()
-                                .and(titleContains(query).or(authorNameContains(query)))
-                )
-                .orderBy(getSortOrder(pageable.getSort()))
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
-
-        // 전체 개수 조회
-        Long total = queryFactory
-                .select(book.countDistinct())
-                .from(book)
-                .leftJoin(book.authors, wrote)
-                .leftJoin(wrote.author, author)
-                .where(
-                        isValidBook()
-                                .and(titleContains(query).or(authorNameContains(query)))
-                )
-                .fetchOne();
-
-        return new PageImpl<>(content, pageable, total != null ? total : 0L);
+        return findPage(
+                isValidBook().and(titleOrAuthorContains(query)),
+                pageable
+        );
     }
 
     @Override
     public Page<Book> findAllValidBooks(Pageable pageable) {
-        List<Book> content = queryFactory
-                .selectFrom(book)
-                .leftJoin(book.authors, wrote).fetchJoin()
-                .leftJoin(wrote.author, author).fetchJoin()
-                .leftJoin(book.category, category).fetchJoin()
-                .where(isValidBook())
-                .orderBy(getSortOrder(pageable.getSort()))
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
-
-        Long total = queryFactory
-                .select(book.count())
-                .from(book)
-                .where(isValidBook())
-                .fetchOne();
-
-        return new PageImpl<>(content, pageable, total != null ? total : 0L);
+        return findPage(isValidBook(), pageable);
     }
 
     @Override
@@ -125,63 +93,115 @@ public class BookRepositoryImpl implements BookRepositoryCustom {
 
     @Override
     public Page<Book> findValidBooksByCategory(String categoryName, Pageable pageable) {
-        List<Book> content = queryFactory
-                .selectFrom(book)
-                .leftJoin(book.authors, wrote).fetchJoin()
-                .leftJoin(wrote.author, author).fetchJoin()
-                .leftJoin(book.category, category).fetchJoin()
-                .where(
-                        book.category.name.eq(categoryName)
-                                .and(isValidBook())
-                )
+        return findPage(
+                book.category.name.eq(categoryName)
+                        .and(isValidBook()),
+                pageable
+        );
+    }
+
+    @Override
+    public Page<Book> findValidBooksByQueryAndCategory(String query, String categoryName, Pageable pageable) {
+        return findPage(
+                isValidBook()
+                        .and(book.category.name.eq(categoryName))
+                        .and(titleOrAuthorContains(query)),
+                pageable
+        );
+    }
+
+    @Override
+    public Slice<Book> findAllValidBooksByCursor(BookCursor cursor, int size) {
+        return findSlice(isValidBook(), cursor, size);
+    }
+
+    @Override
+    public Slice<Book> findValidBooksByTitleOrAuthorContainingByCursor(String query, BookCursor cursor, int size) {
+        return findSlice(
+                isValidBook().and(titleOrAuthorContains(query)),
+                cursor,
+                size
+        );
+    }
+
+    /**
+     * 2단계 페이징 조회
+     * 컬렉션(authors)을 fetch join 한 채로 offset/limit 을 걸면 Hibernate 가 전체 결과를 메모리에 올려서 페이징하므로,
+     * 1) 조인 없이 정렬/페이징이 적용된 id 목록만 SQL LIMIT 으로 조회하고
+     * 2) 해당 id 들에 대해서만 작가/카테고리를 fetch join 으로 채운다.
+     */
+    private Page<Book> findPage(BooleanExpression condition, Pageable pageable) {
+        List<Integer> ids = queryFactory
+                .select(book.id)
+                .from(book)
+                .where(condition)
                 .orderBy(getSortOrder(pageable.getSort()))
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
 
+        List<Book> content = findAllWithDetailsByIdsInOrder(ids);
+
         Long total = queryFactory
                 .select(book.count())
                 .from(book)
-                .where(
-                        book.category.name.eq(categoryName)
-                                .and(isValidBook())
-                )
+                .where(condition)
                 .fetchOne();
 
         return new PageImpl<>(content, pageable, total != null ? total : 0L);
     }
 
-    @Override
-    public Page<Book> findValidBooksByQueryAndCategory(String query, String categoryName, Pageable pageable) {
-        List<Book> content = queryFactory
+    /**
+     * 커서(keyset) 페이징 조회
+     * offset 대신 마지막 정렬 키 이후 조건으로 조회하고, count 쿼리 없이 size + 1 건으로 다음 페이지 여부만 판단
+     */
+    private Slice<Book> findSlice(BooleanExpression condition, BookCursor cursor, int size) {
+        List<Integer> ids = queryFactory
+                .select(book.id)
+                .from(book)
+                .where(condition, afterCursor(cursor))
+                .orderBy(getCursorSortOrder(cursor))
+                .limit(size + 1L)
+                .fetch();
+
+        boolean hasNext = ids.size() > size;
+        if (hasNext) {
+            ids = ids.subList(0, size);
+        }
+
+        return new SliceImpl<>(findAllWithDetailsByIdsInOrder(ids), PageRequest.ofSize(size), hasNext);
+    }
+
+    /**
+     * id 목록에 해당하는 책을 작가/카테고리와 함께 조회하고, 전달받은 id 순서(정렬 결과)를 유지해서 반환
+     */
+    private List<Book> findAllWithDetailsByIdsInOrder(List<Integer> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        List<Book> books = queryFactory
                 .selectFrom(book)
                 .distinct()
                 .leftJoin(book.authors, wrote).fetchJoin()
                 .leftJoin(wrote.author, author).fetchJoin()
                 .leftJoin(book.category, category).fetchJoin()
-                .where(
-                        isValidBook()
-                                .and(book.category.name.eq(categoryName))
-                                .and(titleContains(query).or(authorNameContains(query)))
-                )
-                .orderBy(getSortOrder(pageable.getSort()))
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .where(book.id.in(ids))
                 .fetch();
 
-        Long total = queryFactory
-                .select(book.countDistinct())
-                .from(book)
-                .leftJoin(book.authors, wrote)
-                .leftJoin(wrote.author, author)
-                .where(
-                        isValidBook()
-                                .and(book.category.name.eq(categoryName))
-                                .and(titleContains(query).or(authorNameContains(query)))
-                )
-                .fetchOne();
+        Map<Integer, Book> bookMap = new HashMap<>();
+        for (Book b : books) {
+            bookMap.put(b.getId(), b);
+        }
 
-        return new PageImpl<>(content, pageable, total != null ? total : 0L);
+        List<Book> ordered = new ArrayList<>(ids.size());
+        for (Integer id : ids) {
+            Book b = bookMap.get(id);
+            if (b != null) {
+                ordered.add(b);
+            }
+        }
+        return ordered;
     }
 
     /**
@@ -212,8 +232,8 @@ public class BookRepositoryImpl implements BookRepositoryCustom {
                         orders.add(new OrderSpecifier<>(direction, book.avgRate));
                         break;
                     case "author":
-                        // 작가명으로 정렬 (첫 번째 작가 기준)
-                        orders.add(new OrderSpecifier<>(direction, author.name));
+                        // 작가명으로 정렬 (첫 번째 작가 기준) - 조인 없이 정렬하도록 서브쿼리 사용
+                        orders.add(new OrderSpecifier<>(direction, firstAuthorName()));
                         break;
                     case "categoryname":
                         orders.add(new OrderSpecifier<>(direction, book.category.name));
@@ -237,6 +257,74 @@ public class BookRepositoryImpl implements BookRepositoryCustom {
         return orders.toArray(new OrderSpecifier[0]);
     }
 
+    /**
+     * 커서 정렬 - 정렬 키 + id (동일 값일 때 순서를 고정하기 위해 같은 방향으로 id 추가)
+     * 출간일은 null 이 있을 수 있어 null 을 가장 작은 값으로 취급 (ASC: 앞, DESC: 뒤)
+     */
+    private OrderSpecifier<?>[] getCursorSortOrder(BookCursor cursor) {
+        boolean asc = cursor.direction().isAscending();
+        Order direction = asc ? Order.ASC : Order.DESC;
+        OrderSpecifier<Integer> idOrder = new OrderSpecifier<>(direction, book.id);
+
+        return switch (cursor.sortKey()) {
+            case ID -> new OrderSpecifier[]{idOrder};
+            case TITLE -> new OrderSpecifier[]{new OrderSpecifier<>(direction, book.title), idOrder};
+            case AVG_RATE -> new OrderSpecifier[]{new OrderSpecifier<>(direction, book.avgRate), idOrder};
+            case TOTAL_PAGE -> new OrderSpecifier[]{new OrderSpecifier<>(direction, book.totalPage), idOrder};
+            case PUBLISHED_DATE -> new OrderSpecifier[]{
+                    new OrderSpecifier<>(direction, book.publishedDate,
+                            asc ? OrderSpecifier.NullHandling.NullsFirst : OrderSpecifier.NullHandling.NullsLast),
+                    idOrder
+            };
+        };
+    }
+
+    /**
+     * 커서 이후 조건 - (정렬 값, id) 튜플이 커서보다 뒤에 있는 행
+     */
+    private BooleanExpression afterCursor(BookCursor cursor) {
+        if (cursor.isFirstPage()) {
+            return null;
+        }
+
+        boolean asc = cursor.direction().isAscending();
+        int lastId = cursor.lastId();
+        BooleanExpression idAfter = asc ? book.id.gt(lastId) : book.id.lt(lastId);
+
+        switch (cursor.sortKey()) {
+            case ID:
+                return idAfter;
+            case TITLE: {
+                String value = cursor.lastValue();
+                return (asc ? book.title.gt(value) : book.title.lt(value))
+                        .or(book.title.eq(value).and(idAfter));
+            }
+            case AVG_RATE: {
+                float value = cursor.avgRateValue();
+                return (asc ? book.avgRate.gt(value) : book.avgRate.lt(value))
+                        .or(book.avgRate.eq(value).and(idAfter));
+            }
+            case TOTAL_PAGE: {
+                int value = cursor.totalPageValue();
+                return (asc ? book.totalPage.gt(value) : book.totalPage.lt(value))
+                        .or(book.totalPage.eq(value).and(idAfter));
+            }
+            case PUBLISHED_DATE: {
+                LocalDateTime value = cursor.publishedDateValue();
+                if (value == null) {
+                    // 마지막 값이 null: ASC 면 남은 null 뒤에 값이 있는 행 전부, DESC 면 남은 null 만
+                    BooleanExpression remainingNulls = book.publishedDate.isNull().and(idAfter);
+                    return asc ? remainingNulls.or(book.publishedDate.isNotNull()) : remainingNulls;
+                }
+                BooleanExpression after = (asc ? book.publishedDate.gt(value) : book.publishedDate.lt(value))
+                        .or(book.publishedDate.eq(value).and(idAfter));
+                return asc ? after : after.or(book.publishedDate.isNull());
+            }
+            default:
+                return idAfter;
+        }
+    }
+
     // 공통 조건 메서드들
     private BooleanExpression isValidBook() {
         return book.totalPage.gt(0);
@@ -249,4 +337,44 @@ public class BookRepositoryImpl implements BookRepositoryCustom {
     private BooleanExpression authorNameContains(String keyword) {
         return keyword != null ? author.name.toLowerCase().contains(keyword.toLowerCase()) : null;
     }
+
+    /**
+     * 제목 또는 작가명 검색 조건
+     * 메모리 n-gram 색인으로 후보 id 를 구할 수 있으면 id IN 조건으로 처리하고 (like 풀스캔 없음),
+     * 색인을 쓸 수 없으면 작가 조건을 서브쿼리로 처리해서 book 과 1:1 로 유지 (중복 row / distinct 없이 페이징 가능)
+     */
+    private BooleanExpression titleOrAuthorContains(String keyword) {
+        if (keyword == null) {
+            return null;
+        }
+
+        int[] ids = bookSearchIndex.search(keyword);
+        if (ids != null && ids.length <= MAX_INDEX_CANDIDATES) {
+            if (ids.length == 0) {
+                return Expressions.FALSE.isTrue();
+            }
+            return book.id.in(Arrays.stream(ids).boxed().toList());
+        }
+
+        return titleContains(keyword).or(
+                book.id.in(
+                        JPAExpressions
+                                .select(wrote.book.id)
+                                .from(wrote)
+                                .join(wrote.author, author)
+                                .where(authorNameContains(keyword))
+                )
+        );
+    }
+
+    /**
+     * 책의 첫 번째 작가명 (작가명 정렬용)
+     */
+    private Expression<String> firstAuthorName() {
+        return JPAExpressions
+                .select(author.name.min())
+                .from(wrote)
+                .join(wrote.author, author)
+                .where(wrote.book.id.eq(book.id));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,322 @@
+package com.back.domain.book.book.service;
+
+import com.back.domain.book.author.entity.Author;
+import com.back.domain.book.author.repository.AuthorRepository;
+import com.back.domain.book.book.entity.Book;
+import com.back.domain.book.book.repository.BookRepository;
+import com.back.domain.book.category.entity.Category;
+import com.back.domain.book.category.repository.CategoryRepository;
+import com.back.domain.book.client.aladin.dto.AladinBookDto;
+import com.back.domain.book.search.BookAutocompleteIndex;
+import com.back.domain.book.search.BookSearchIndex;
+import com.back.domain.book.search.NegativeSearchCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 알라딘 검색 결과 일괄 저장
+ * 책(ISBN)/카테고리/작가를 각각 IN 쿼리 한 번으로 먼저 조회하고, 없는 행만 JDBC 배치 insert 로 추가한다.
+ * (IDENTITY id 라서 JPA 로는 배치 insert 가 되지 않으므로 JdbcTemplate 으로 넣고 자연 키로 다시 조회)
+ * 책(ISBN)/카테고리(이름)/작가(이름)는 unique 키에 대해 INSERT IGNORE, 작가-책 관계는 없을 때만 insert 해서
+ * 같은 책을 동시에 저장해도 실패하거나 중복 행이 생기지 않는다.
+ * 이름 비교는 DB 정렬 규칙(collation)을 따르므로(MySQL 기본값은 대소문자/악센트/끝 공백 무시) 저장된 철자가 요청한 이름과 다를 수 있다.
+ * 그런 이름은 한 건씩 다시 조회해서 저장된 행에 연결하고, 그래도 찾지 못한 이름은 로그만 남기고 건너뛴다.
+ * JDBC 로 저장하면 BookSearchIndexListener 를 거치지 않으므로 검색/자동완성 색인과 결과 없음 캐시는 여기서 직접 갱신한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookIngestService {
+    private static final String INSERT_BOOK_SQL = """
+            INSERT IGNORE INTO book (title, image_url, publisher, isbn13, total_page, published_date, category_id,
+                                     avg_rate, rating_sum, rating_count,
+                                     rate1_count, rate2_count, rate3_count, rate4_count, rate5_count,
+                                     create_date, modify_date)
+            VALUES (?, ?, ?, ?, ?, ?, ?, 0, 0, 0, 0, 0, 0, 0, 0, ?, ?)
+            """;
+    private static final String INSERT_CATEGORY_SQL = """
+            INSERT IGNORE INTO category (name, create_date, modify_date)
+            VALUES (?, ?, ?)
+            """;
+    private static final String INSERT_AUTHOR_SQL = """
+            INSERT IGNORE INTO author (name, create_date, modify_date)
+            VALUES (?, ?, ?)
+            """;
+    private static final String INSERT_WROTE_SQL = """
+            INSERT INTO wrote (author_id, book_id, create_date, modify_date)
+            SELECT ?, ?, ?, ? FROM DUAL
+            WHERE NOT EXISTS (SELECT 1 FROM wrote WHERE author_id = ? AND book_id = ?)
+            """;
+
+    private final BookRepository bookRepository;
+    private final CategoryRepository categoryRepository;
+    private final AuthorRepository authorRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final BookSearchIndex bookSearchIndex;
+    private final BookAutocompleteIndex bookAutocompleteIndex;
+    private final NegativeSearchCache negativeSearchCache;
+
+    private record WroteRow(int authorId, int bookId, String authorName) {
+    }
+
+    /**
+     * 알라딘 결과를 저장하고 입력 순서대로 책 반환 (이미 있는 ISBN 은 기존 책을 그대로 사용)
+     * ISBN 이 없는 결과는 같은 책인지 판단할 수 없어 저장하지 않는다.
+     */
+    @Transactional
+    public List<Book> ingest(List<AladinBookDto> apiBooks) {
+        Map<String, AladinBookDto> apiBooksByIsbn = new LinkedHashMap<>();
+        for (AladinBookDto apiBook : apiBooks) {
+            if (apiBook.getIsbn13() != null && !apiBook.getIsbn13().isBlank()) {
+                apiBooksByIsbn.putIfAbsent(apiBook.getIsbn13(), apiBook);
+            }
+        }
+        if (apiBooksByIsbn.isEmpty()) {
+            return List.of();
+        }
+
+        // 1. 이미 저장된 책
+        Map<String, Book> books = new HashMap<>();
+        bookRepository.findByIsbn13In(apiBooksByIsbn.keySet())
+                .forEach(book -> books.put(book.getIsbn13(), book));
+
+        List<AladinBookDto> missing = apiBooksByIsbn.values().stream()
+                .filter(apiBook -> !books.containsKey(apiBook.getIsbn13()))
+                .toList();
+        if (!missing.isEmpty()) {
+            insertBooks(missing).forEach(book -> books.put(book.getIsbn13(), book));
+        }
+
+        return apiBooksByIsbn.keySet().stream()
+                .map(books::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private List<Book> insertBooks(List<AladinBookDto> apiBooks) {
+        LocalDateTime now = LocalDateTime.now();
+
+        // 2. 카테고리
+        Map<AladinBookDto, String> categoryNames = new HashMap<>();
+        for (AladinBookDto apiBook : apiBooks) {
+            categoryNames.put(apiBook, extractCategoryFromPath(apiBook.getCategoryName(), apiBook.getMallType()));
+        }
+        Map<String, Integer> categoryIds = resolveIds(new LinkedHashSet<>(categoryNames.values()),
+                names -> idsByName(categoryRepository.findByNameIn(names), Category::getName, Category::getId),
+                name -> categoryRepository.findByName(name).map(Category::getId),
+                INSERT_CATEGORY_SQL, now);
+
+        // 3. 책 (카테고리를 찾지 못한 책은 저장하지 않음)
+        List<AladinBookDto> insertable = apiBooks.stream()
+                .filter(apiBook -> categoryIds.containsKey(categoryNames.get(apiBook)))
+                .toList();
+        if (insertable.isEmpty()) {
+            return List.of();
+        }
+        jdbcTemplate.batchUpdate(INSERT_BOOK_SQL, insertable, insertable.size(), (ps, apiBook) -> {
+            ps.setString(1, apiBook.getTitle());
+            ps.setString(2, apiBook.getImageUrl());
+            ps.setString(3, apiBook.getPublisher());
+            ps.setString(4, apiBook.getIsbn13());
+            ps.setInt(5, apiBook.getTotalPage());
+            ps.setObject(6, apiBook.getPublishedDate());
+            ps.setInt(7, categoryIds.get(categoryNames.get(apiBook)));
+            ps.setObject(8, now);
+            ps.setObject(9, now);
+        });
+        List<Book> savedBooks = bookRepository.findByIsbn13In(
+                insertable.stream().map(AladinBookDto::getIsbn13).toList());
+        Map<String, Book> savedByIsbn = new HashMap<>();
+        savedBooks.forEach(book -> savedByIsbn.put(book.getIsbn13(), book));
+
+        // 4. 작가와 작가-책 관계
+        Set<String> authorNames = new LinkedHashSet<>();
+        for (AladinBookDto apiBook : insertable) {
+            authorNamesOf(apiBook).forEach(authorNames::add);
+        }
+        Map<String, Integer> authorIds = resolveIds(authorNames,
+                names -> idsByName(authorRepository.findByNameIn(names), Author::getName, Author::getId),
+                name -> authorRepository.findByName(name).map(Author::getId),
+                INSERT_AUTHOR_SQL, now);
+
+        List<WroteRow> wroteRows = new ArrayList<>();
+        for (AladinBookDto apiBook : insertable) {
+            Book book = savedByIsbn.get(apiBook.getIsbn13());
+            if (book == null) {
+                continue;
+            }
+            for (String authorName : authorNamesOf(apiBook)) {
+                Integer authorId = authorIds.get(authorName);
+                if (authorId != null) {
+                    wroteRows.add(new WroteRow(authorId, book.getId(), authorName));
+                }
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_WROTE_SQL, wroteRows, wroteRows.size(), (ps, row) -> {
+            ps.setInt(1, row.authorId());
+            ps.setInt(2, row.bookId());
+            ps.setObject(3, now);
+            ps.setObject(4, now);
+            ps.setInt(5, row.authorId());
+            ps.setInt(6, row.bookId());
+        });
+
+        // 5. 색인/캐시 반영 (엔티티 리스너를 거치지 않음, 결과 없음 캐시는 제목/작가명을 모아 한 번에)
+        Set<String> savedTexts = new LinkedHashSet<>();
+        for (Book book : savedBooks) {
+            bookSearchIndex.indexBook(book.getId(), book.getTitle());
+            bookAutocompleteIndex.indexBook(book.getId(), book.getTitle());
+            savedTexts.add(book.getTitle());
+        }
+        for (WroteRow row : wroteRows) {
+            bookSearchIndex.indexAuthor(row.bookId(), row.authorName());
+            bookAutocompleteIndex.indexAuthor(row.bookId(), row.authorName());
+            savedTexts.add(row.authorName());
+        }
+        negativeSearchCache.invalidateMatching(savedTexts);
+
+        log.info("알라딘 결과 일괄 저장: 책 {}권, 카테고리 {}개, 작가 {}명", savedBooks.size(), categoryIds.size(), authorIds.size());
+        return savedBooks;
+    }
+
+    /**
+     * 이름으로 id 조회, 없는 이름만 추가한 뒤 다시 조회
+     * 다시 조회해도 없는 이름(DB 에는 다른 철자로 저장됨)은 한 건씩 DB 비교로 찾고, 그래도 없으면 결과에서 빠진다.
+     */
+    private Map<String, Integer> resolveIds(Set<String> names, Function<Collection<String>, Map<String, Integer>> finder,
+                                            Function<String, Optional<Integer>> singleFinder,
+                                            String insertSql, LocalDateTime now) {
+        if (names.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, Integer> ids = new HashMap<>(finder.apply(names));
+        List<String> missing = names.stream()
+                .filter(name -> !ids.containsKey(name))
+                .toList();
+        if (!missing.isEmpty()) {
+            jdbcTemplate.batchUpdate(insertSql, missing, missing.size(), (ps, name) -> {
+                ps.setString(1, name);
+                ps.setObject(2, now);
+                ps.setObject(3, now);
+            });
+            ids.putAll(finder.apply(missing));
+            for (String name : missing) {
+                if (!ids.containsKey(name)) {
+                    resolveByCollation(name, singleFinder).ifPresent(id -> ids.put(name, id));
+                }
+            }
+        }
+        return ids;
+    }
+
+    // 요청한 이름과 철자가 다르게 저장된 행 - 같은 이름인지는 DB 정렬 규칙으로 판단
+    private <T> Optional<T> resolveByCollation(String name, Function<String, Optional<T>> singleFinder) {
+        Optional<T> found = singleFinder.apply(name);
+        if (found.isEmpty()) {
+            log.warn("저장 후에도 이름으로 조회되지 않아 건너뜀: {}", name);
+        }
+        return found;
+    }
+
+    // unique 키를 걸기 전에 생긴 같은 이름의 행이 남아 있으면 먼저 만들어진(id 가 작은) 행 사용
+    private <T> Map<String, Integer> idsByName(List<T> entities, Function<T, String> name, Function<T, Integer> id) {
+        Map<String, Integer> ids = new HashMap<>();
+        for (T entity : entities) {
+            ids.merge(name.apply(entity), id.apply(entity), Math::min);
+        }
+        return ids;
+    }
+
+    /**
+     * 이름으로 작가 조회, 없는 작가만 INSERT IGNORE 로 추가 (다른 요청이 같은 이름을 먼저 추가해도 그 행을 사용)
+     * 결과는 요청한 이름으로 찾을 수 있고, 찾지 못한 이름은 빠져 있다.
+     */
+    @Transactional
+    public Map<String, Author> findOrCreateAuthors(Collection<String> names) {
+        if (names.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, Author> authors = new HashMap<>();
+        authorRepository.findByNameIn(names).forEach(author -> authors.putIfAbsent(author.getName(), author));
+        List<String> missing = names.stream()
+                .distinct()
+                .filter(name -> !authors.containsKey(name))
+                .toList();
+        if (!missing.isEmpty()) {
+            LocalDateTime now = LocalDateTime.now();
+            jdbcTemplate.batchUpdate(INSERT_AUTHOR_SQL, missing, missing.size(), (ps, name) -> {
+                ps.setString(1, name);
+                ps.setObject(2, now);
+                ps.setObject(3, now);
+            });
+            authorRepository.findByNameIn(missing).forEach(author -> authors.putIfAbsent(author.getName(), author));
+            for (String name : missing) {
+                if (!authors.containsKey(name)) {
+                    resolveByCollation(name, authorRepository::findByName).ifPresent(author -> authors.put(name, author));
+                }
+            }
+        }
+        return authors;
+    }
+
+    private List<String> authorNamesOf(AladinBookDto apiBook) {
+        if (apiBook.getAuthors() == null) {
+            return List.of();
+        }
+        return apiBook.getAuthors().stream()
+                .filter(name -> name != null && !name.isBlank())
+                .distinct()
+                .toList();
+    }
+
+    /**
+     * 카테고리 경로에서 2번째 깊이 추출
+     */
+    static String extractCategoryFromPath(String categoryName, String mallType) {
+        if (categoryName != null && !categoryName.isEmpty()) {
+            String[] categoryParts = categoryName.split(">");
+
+            if (categoryParts.length > 1) {
+                return categoryParts[1].trim();
+            }
+
+            if (categoryParts.length > 0) {
+                return categoryParts[0].trim();
+            }
+        }
+
+        // 기본 카테고리
+        return getFallbackCategory(mallType);
+    }
+
+    private static String getFallbackCategory(String mallType) {
+        if (mallType == null) {
+            return "기타";
+        }
+
+        switch (mallType) {
+            case "BOOK":
+                return "국내도서";
+            case "FOREIGN":
+                return "외국도서";
+            default:
+                return "기타";
+        }
+    }
+}
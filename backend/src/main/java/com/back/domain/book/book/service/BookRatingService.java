@@ -0,0 +1,102 @@
+package com.back.domain.book.book.service;
+
+import com.back.domain.book.book.entity.Book;
+import com.back.domain.book.book.repository.BookRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 책 평점 집계 관리
+ * 리뷰 변경 시 ratingSum / ratingCount / 별점 분포를 증분으로 갱신하고 avgRate 를 집계 값에서 계산한다.
+ * (책의 리뷰 전체를 읽어서 평균을 다시 구하지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookRatingService {
+    private final BookRepository bookRepository;
+    private final EntityManager entityManager;
+
+    @Value("${book.rating.reconcile.chunk-size:1000}")
+    private int reconcileChunkSize;
+
+    @Value("${book.rating.reconcile.on-startup:true}")
+    private boolean reconcileOnStartup;
+
+    @Transactional
+    public void reviewAdded(Book book, int rate) {
+        applyDelta(book, rate, 1, rate, 0);
+    }
+
+    @Transactional
+    public void reviewRemoved(Book book, int rate) {
+        applyDelta(book, -rate, -1, 0, rate);
+    }
+
+    @Transactional
+    public void reviewModified(Book book, int oldRate, int newRate) {
+        if (oldRate == newRate) {
+            return;
+        }
+        applyDelta(book, newRate - oldRate, 0, newRate, oldRate);
+    }
+
+    /**
+     * 집계 컬럼이 추가되기 전의 리뷰까지 반영되도록 시작 시 한 번 재계산
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        if (reconcileOnStartup) {
+            reconcile();
+        }
+    }
+
+    /**
+     * 리뷰 테이블 기준으로 전체 책의 집계를 다시 계산 (증분 갱신 중 어긋난 값 보정)
+     * id 구간 단위로 나눠서 구간마다 별도 트랜잭션으로 처리
+     */
+    @Scheduled(cron = "${book.rating.reconcile.cron:0 30 4 * * *}")
+    public void reconcile() {
+        long start = System.currentTimeMillis();
+        int maxId = bookRepository.findMaxId();
+        int updated = 0;
+
+        for (int fromId = 1; fromId <= maxId; fromId += reconcileChunkSize) {
+            int toId = fromId + reconcileChunkSize - 1;
+            updated += bookRepository.recalculateRatingAggregates(fromId, toId);
+            bookRepository.updateAvgRateFromAggregates(fromId, toId);
+        }
+
+        log.info("평점 집계 재계산 완료: {}권, {}ms", updated, System.currentTimeMillis() - start);
+    }
+
+    private void applyDelta(Book book, int sumDelta, int countDelta, int addedRate, int removedRate) {
+        int bookId = book.getId();
+        bookRepository.applyRatingDelta(
+                bookId, sumDelta, countDelta,
+                histogramDelta(1, addedRate, removedRate),
+                histogramDelta(2, addedRate, removedRate),
+                histogramDelta(3, addedRate, removedRate),
+                histogramDelta(4, addedRate, removedRate),
+                histogramDelta(5, addedRate, removedRate)
+        );
+        bookRepository.updateAvgRateFromAggregates(bookId, bookId);
+
+        // 벌크 update 는 영속성 컨텍스트를 거치지 않으므로 관리 중인 엔티티는 DB 값으로 다시 읽음
+        if (entityManager.contains(book)) {
+            entityManager.refresh(book);
+        }
+        log.info("책 평균 평점 업데이트: {} -> {}", book.getTitle(), book.getAvgRate());
+    }
+
+    private int histogramDelta(int star, int addedRate, int removedRate) {
+        return (addedRate == star ? 1 : 0) - (removedRate == star ? 1 : 0);
+    }
+}
@@ -1,7 +1,7 @@
 package com.back.domain.book.book.service;
 
 import com.back.domain.book.author.entity.Author;
-import com.back.domain.book.author.repository.AuthorRepository;
+import com.back.domain.book.book.dto.BookCursor;
 import com.back.domain.book.book.dto.BookDetailDto;
 import com.back.domain.book.book.dto.BookSearchDto;
 import com.back.domain.book.book.entity.Book;
@@ -10,29 +10,42 @@ import com.back.domain.book.category.entity.Category;
 import com.back.domain.book.category.repository.CategoryRepository;
 import com.back.domain.book.client.aladin.AladinApiClient;
 import com.back.domain.book.client.aladin.dto.AladinBookDto;
+import com.back.domain.book.enrichment.service.BookEnrichmentService;
+import com.back.domain.book.search.BookAutocompleteIndex;
+import com.back.domain.book.search.HangulJamo;
+import com.back.domain.book.search.NGramTokenizer;
+import com.back.domain.book.search.NegativeSearchCache;
+import com.back.domain.book.search.dto.BookAutocompleteDto;
 import com.back.domain.book.wrote.entity.Wrote;
 import com.back.domain.book.wrote.repository.WroteRepository;
 import com.back.domain.bookmarks.constant.ReadState;
-import com.back.domain.bookmarks.entity.Bookmark;
-import com.back.domain.bookmarks.repository.BookmarkRepository;
+import com.back.domain.bookmarks.dto.ReadStateMap;
+import com.back.domain.bookmarks.service.ReadStateOverlayService;
 import com.back.domain.member.member.entity.Member;
 import com.back.domain.review.review.dto.ReviewResponseDto;
 import com.back.domain.review.review.entity.Review;
 import com.back.domain.review.review.repository.ReviewRepository;
-import com.back.domain.review.reviewRecommend.service.ReviewRecommendService;
+import com.back.domain.review.review.service.ReviewDtoService;
+import com.back.global.concurrent.SingleFlight;
 import com.back.global.dto.PageResponseDto;
 import com.back.global.exception.ServiceException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -42,86 +55,198 @@ public class BookService {
 
     private final BookRepository bookRepository;
     private final CategoryRepository categoryRepository;
-    private final AuthorRepository authorRepository;
     private final WroteRepository wroteRepository;
     private final AladinApiClient aladinApiClient;
-    private final BookmarkRepository bookmarkRepository;
+    private final ReadStateOverlayService readStateOverlayService;
     private final ReviewRepository reviewRepository;
-    private final ReviewRecommendService reviewRecommendService;
+    private final ReviewDtoService reviewDtoService;
+    private final BookAutocompleteIndex bookAutocompleteIndex;
+    private final NegativeSearchCache negativeSearchCache;
+    private final BookEnrichmentService bookEnrichmentService;
+    private final BookIngestService bookIngestService;
+    private final TransactionTemplate transactionTemplate;
+
+    // 같은 검색어/ISBN 의 알라딘 조회+저장은 동시에 한 번만 실행 (나머지는 저장된 책 id 를 받아 다시 조회)
+    // 기다리는 동안 DB 커넥션을 잡지 않도록, 이 흐름을 쓰는 메서드는 트랜잭션 없이 시작해 DB 조회만 짧은 트랜잭션으로 나눈다.
+    private static final Duration COALESCE_MAX_WAIT = Duration.ofSeconds(10);
+    private final SingleFlight<String, ApiFetchResult> searchFlight = new SingleFlight<>(COALESCE_MAX_WAIT);
+    private final SingleFlight<String, Integer> isbnFlight = new SingleFlight<>(COALESCE_MAX_WAIT);
+
+    /**
+     * 알라딘 검색 결과 저장 결과
+     * @param validIds   바로 보여줄 수 있는 책 id (페이지 수 있음)
+     * @param savedCount 저장한 전체 책 수 (상세 정보 보완을 기다리는 책 포함)
+     */
+    private record ApiFetchResult(List<Integer> validIds, int savedCount) {
+    }
+
+    /**
+     * ISBN 의 DB 조회 결과
+     * @param book         바로 보여줄 수 있는 책
+     * @param incompleteId 저장되어 있지만 페이지 수가 0인 책 id
+     */
+    private record IsbnLookup(BookSearchDto book, Integer incompleteId) {
+        private static final IsbnLookup MISSING = new IsbnLookup(null, null);
+    }
 
     /**
      * 페이징 지원 검색 메서드 - DB에서 직접 정렬 처리
      */
-    @Transactional
     public Page<BookSearchDto> searchBooks(String query, Pageable pageable, Member member) {
-        // 1. DB에서 페이징과 정렬이 적용된 검색 시도
-        Page<Book> dbResults = bookRepository.findValidBooksByTitleOrAuthorContainingWithPaging(query, pageable);
+        // 최근에 DB/API 모두에서 결과가 없었던 검색어는 바로 빈 결과
+        if (negativeSearchCache.isKnownMiss(query)) {
+            log.debug("결과 없음 캐시 적중: {}", query);
+            return Page.empty(pageable);
+        }
 
-        if (!dbResults.isEmpty()) {
+        // 1. DB에서 페이징과 정렬이 적용된 검색 시도
+        Page<BookSearchDto> dbResults = transactionTemplate.execute(status -> {
+            Page<Book> books = bookRepository.findValidBooksByTitleOrAuthorContainingWithPaging(query, pageable);
+            if (books.isEmpty()) {
+                return null;
+            }
             log.info("DB에서 찾은 유효한 책: {} 권 (전체: {})",
-                    dbResults.getNumberOfElements(), dbResults.getTotalElements());
-            return dbResults.map(book -> convertToDto(book, member));
+                    books.getNumberOfElements(), books.getTotalElements());
+            return convertToDto(books, member);
+        });
+        if (dbResults != null) {
+            return dbResults;
         }
 
-        log.info("DB에 유효한 책이 없어서 알라딘 API에서 검색: {}", query);
+        // 초성만 입력한 검색어는 알라딘에서도 찾을 수 없으므로 API 호출 생략
+        if (HangulJamo.isChoseongQuery(query)) {
+            log.info("초성 검색어라서 API 검색 생략: {}", query);
+            return Page.empty(pageable);
+        }
 
-        // 2. API에서 검색하여 DB에 저장 (충분한 양)
-        List<AladinBookDto> apiBooks = aladinApiClient.searchBooks(query, 100);
+        // 2~4. API에서 검색하여 DB에 저장 (트랜잭션 밖 - 같은 검색어의 요청은 리더의 커밋을 기다림)
+        ApiFetchResult fetched = fetchFromApiAndSave(query, 100);
 
-        // 3. API 결과를 엔티티로 변환하고 저장
-        List<Book> savedBooks = apiBooks.stream()
-                .map(this::convertAndSaveBook)
-                .filter(book -> book != null)
-                .collect(Collectors.toList());
+        // 5. 새 트랜잭션에서 다시 페이징과 정렬이 적용된 검색
+        log.info("API 검색 및 저장 완료. DB에서 다시 검색하여 페이징 처리");
+        return transactionTemplate.execute(status -> {
+            Page<Book> finalResults = bookRepository.findValidBooksByTitleOrAuthorContainingWithPaging(query, pageable);
+
+            if (finalResults.isEmpty()) {
+                log.warn("API 검색 후에도 유효한 책이 없음: {}", query);
+                // 상세 정보 보완을 기다리는 책이 있으면 곧 검색될 수 있으므로 결과 없음으로 기억하지 않음
+                if (fetched.savedCount() == 0) {
+                    negativeSearchCache.recordMiss(query);
+                }
+                return Page.empty(pageable);
+            }
 
-        // 4. 상세 정보 보완
-        enrichMissingDetails(savedBooks);
+            return convertToDto(finalResults, member);
+        });
+    }
 
-        // 5. DB에서 다시 페이징과 정렬이 적용된 검색
-        log.info("API 검색 및 저장 완료. DB에서 다시 검색하여 페이징 처리");
-        Page<Book> finalResults = bookRepository.findValidBooksByTitleOrAuthorContainingWithPaging(query, pageable);
+    /**
+     * 커서(keyset) 방식 검색 - count 쿼리 없이 마지막 정렬 키 이후만 조회
+     */
+    public PageResponseDto<BookSearchDto> searchBooksByCursor(String query, String cursor, Pageable pageable, Member member) {
+        BookCursor bookCursor = BookCursor.resolve(cursor, pageable.getSort());
+        if (bookCursor.isFirstPage() && negativeSearchCache.isKnownMiss(query)) {
+            log.debug("결과 없음 캐시 적중: {}", query);
+            return toCursorResponse(new SliceImpl<>(List.of()), bookCursor, member);
+        }
 
-        if (finalResults.isEmpty()) {
-            log.warn("API 검색 후에도 유효한 책이 없음: {}", query);
-            return Page.empty(pageable);
+        // 첫 페이지가 비어 있을 때만 알라딘 API 로 보충 (이후 페이지는 DB 결과만 사용)
+        PageResponseDto<BookSearchDto> dbResults = transactionTemplate.execute(status -> {
+            Slice<Book> books = bookRepository.findValidBooksByTitleOrAuthorContainingByCursor(
+                    query, bookCursor, pageable.getPageSize());
+            if (books.isEmpty() && bookCursor.isFirstPage() && !HangulJamo.isChoseongQuery(query)) {
+                return null;
+            }
+            return toCursorResponse(books, bookCursor, member);
+        });
+        if (dbResults != null) {
+            return dbResults;
         }
 
-        return finalResults.map(book -> convertToDto(book, member));
+        ApiFetchResult fetched = fetchFromApiAndSave(query, 100);
+
+        return transactionTemplate.execute(status -> {
+            Slice<Book> books = bookRepository.findValidBooksByTitleOrAuthorContainingByCursor(
+                    query, bookCursor, pageable.getPageSize());
+            if (books.isEmpty() && fetched.savedCount() == 0) {
+                negativeSearchCache.recordMiss(query);
+            }
+            return toCursorResponse(books, bookCursor, member);
+        });
+    }
+
+    /**
+     * 자동완성 - 메모리 색인에서만 조회 (초성/입력 중인 자모 접두어 지원)
+     */
+    public List<BookAutocompleteDto> autocomplete(String prefix, int size) {
+        return bookAutocompleteIndex.suggest(prefix, size);
+    }
+
+    /**
+     * DB에 없는 검색어를 알라딘 API에서 검색해서 저장
+     * 같은 검색어가 동시에 들어오면 한 요청만 API 를 호출하고, 나머지는 저장이 커밋될 때까지 기다린 뒤 DB 에서 다시 검색
+     * 트랜잭션 밖에서 호출해야 기다리는 요청이 DB 커넥션을 잡지 않는다.
+     */
+    private ApiFetchResult fetchFromApiAndSave(String query, int maxResults) {
+        return searchFlight.execute("search:" + maxResults + ":" + NGramTokenizer.normalize(query), () -> {
+            log.info("DB에 유효한 책이 없어서 알라딘 API에서 검색: {}", query);
+
+            // API에서 검색 (트랜잭션 밖)
+            List<AladinBookDto> apiBooks = aladinApiClient.searchBooks(query, maxResults);
+
+            // API 결과를 한 번에 저장하고 (이미 있는 ISBN 은 기존 책 사용)
+            // 페이지 수가 있는 책만 사용 (상세 정보는 백그라운드에서 보완)
+            return transactionTemplate.execute(status -> {
+                List<Book> savedBooks = bookIngestService.ingest(apiBooks);
+                List<Integer> validIds = queueMissingDetails(savedBooks).stream()
+                        .map(Book::getId)
+                        .toList();
+                return new ApiFetchResult(validIds, savedBooks.size());
+            });
+        });
     }
 
     /**
      * 기존 limit 방식 검색 메서드 (하위 호환성 유지)
      */
-    @Transactional
     public List<BookSearchDto> searchBooks(String query, int limit, Member member) {
+        if (negativeSearchCache.isKnownMiss(query)) {
+            return List.of();
+        }
+
         // 1. DB에서 유효한 책들만 먼저 확인
-        List<Book> validBooksFromDb = bookRepository.findValidBooksByTitleOrAuthorContaining(query);
-        if (!validBooksFromDb.isEmpty()) {
+        List<BookSearchDto> dbResults = transactionTemplate.execute(status -> {
+            List<Book> validBooksFromDb = bookRepository.findValidBooksByTitleOrAuthorContaining(query);
+            if (validBooksFromDb.isEmpty()) {
+                return null;
+            }
             log.info("DB에서 찾은 유효한 책: {} 권", validBooksFromDb.size());
             return convertToDto(validBooksFromDb.stream().limit(limit).toList(), member);
+        });
+        if (dbResults != null) {
+            return dbResults;
         }
 
-        log.info("DB에 유효한 책이 없어서 알라딘 API에서 검색: {}", query);
-
-        // 2. API에서 검색
-        List<AladinBookDto> apiBooks = aladinApiClient.searchBooks(query, limit);
-
-        // 3. API 결과를 엔티티로 변환하고 저장
-        List<Book> savedBooks = apiBooks.stream()
-                .map(this::convertAndSaveBook)
-                .filter(book -> book != null)
-                .collect(Collectors.toList());
+        if (HangulJamo.isChoseongQuery(query)) {
+            return List.of();
+        }
 
-        // 4. 상세 정보 보완
-        savedBooks = enrichMissingDetails(savedBooks);
+        // 2~4. API에서 검색, 저장, 상세 정보 보완 등록 (같은 검색어의 동시 요청은 한 번만 실행)
+        ApiFetchResult fetched = fetchFromApiAndSave(query, limit);
 
-        return convertToDto(savedBooks, member);
+        // 5. 저장된 책 id 로 새 트랜잭션에서 다시 조회
+        return transactionTemplate.execute(status -> {
+            List<Book> savedBooks = findAllInOrder(fetched.validIds());
+            if (savedBooks.isEmpty() && fetched.savedCount() == 0) {
+                negativeSearchCache.recordMiss(query);
+            }
+            return convertToDto(savedBooks, member);
+        });
     }
 
     /**
      * 기존 limit 방식 검색 메서드 (Member 없는 버전) - 하위 호환성 유지
      */
-    @Transactional
     public List<BookSearchDto> searchBooks(String query, int limit) {
         return searchBooks(query, limit, null);
     }
@@ -129,64 +254,88 @@ public class BookService {
 
     /**
      * ISBN으로 책 조회 - DB에 없으면 API에서 가져와서 저장 (Member 정보 포함)
+     * 알라딘 호출과 동시 요청 대기는 트랜잭션 밖에서, DB 조회/저장만 짧은 트랜잭션으로 처리
      */
-    @Transactional
     public BookSearchDto getBookByIsbn(String isbn, Member member) {
-        // 먼저 유효한 책(페이지 수 > 0)이 있는지 확인
-        Optional<Book> validBookFromDb = bookRepository.findValidBookByIsbn13(isbn);
+        // 먼저 유효한 책(페이지 수 > 0)이 있는지, 없다면 기존 책(페이지 수 0 포함)이 있는지 확인
+        IsbnLookup found = transactionTemplate.execute(status -> {
+            Optional<Book> validBookFromDb = bookRepository.findValidBookByIsbn13(isbn);
+            if (validBookFromDb.isPresent()) {
+                log.info("DB에서 유효한 책 발견: {}", validBookFromDb.get().getTitle());
+                return new IsbnLookup(convertToDto(validBookFromDb.get(), member), null);
+            }
+            return bookRepository.findByIsbn13(isbn)
+                    .map(book -> new IsbnLookup(null, book.getId()))
+                    .orElse(IsbnLookup.MISSING);
+        });
 
-        if (validBookFromDb.isPresent()) {
-            log.info("DB에서 유효한 책 발견: {}", validBookFromDb.get().getTitle());
-            return convertToDto(validBookFromDb.get(), member);
+        if (found.book() != null) {
+            return found.book();
         }
 
-        // 유효한 책이 없다면 기존 책(페이지 수 0 포함)이 있는지 확인
-        Optional<Book> existingBookFromDb = bookRepository.findByIsbn13(isbn);
-
-        if (existingBookFromDb.isPresent()) {
-            Book existingBook = existingBookFromDb.get();
-            log.info("DB에 페이지 수 0인 책이 있어서 상세 정보 보완 시도: {}", existingBook.getTitle());
-
-            // 상세 정보 보완 시도
-            enrichBookWithDetailInfo(existingBook);
+        if (found.incompleteId() != null) {
+            log.info("DB에 페이지 수 0인 책이 있어서 상세 정보 보완 시도: {}", isbn);
+
+            // 상세 정보 보완 시도 (보완 후에도 페이지 수가 0이면 null 반환 - 대기열에서 다시 시도)
+            AladinBookDto detailBook = aladinApiClient.getBookDetails(isbn);
+            return transactionTemplate.execute(status -> bookRepository.findById(found.incompleteId())
+                    .map(book -> {
+                        applyDetailInfo(book, detailBook);
+                        return toValidDto(book, member);
+                    })
+                    .orElse(null));
+        }
 
-            // 보완 후에도 페이지 수가 0이면 null 반환
-            if (existingBook.getTotalPage() == 0) {
-                log.warn("상세 정보 보완 후에도 페이지 수가 0인 책: {}", existingBook.getTitle());
+        // API에서 검색해서 저장 (같은 ISBN 의 동시 요청은 한 번만 실행하고 저장된 id 를 공유)
+        Integer savedId = isbnFlight.execute(isbn, () -> {
+            log.info("DB에 없어서 API에서 검색: {}", isbn);
+            AladinBookDto apiBook = aladinApiClient.getBookByIsbn(isbn);
+            if (apiBook == null) {
                 return null;
             }
 
-            return convertToDto(existingBook, member);
-        }
+            // 상세 정보 보완 (ISBN 조회 결과에 페이지 수/작가가 모두 있으면 생략)
+            boolean incomplete = apiBook.getTotalPage() == 0 || apiBook.getAuthors() == null || apiBook.getAuthors().isEmpty();
+            AladinBookDto detailBook = incomplete ? aladinApiClient.getBookDetails(isbn) : null;
 
-        // API에서 검색
-        log.info("DB에 없어서 API에서 검색: {}", isbn);
-        AladinBookDto apiBook = aladinApiClient.getBookByIsbn(isbn);
-        if (apiBook == null) {
-            return null;
-        }
+            return transactionTemplate.execute(status -> {
+                List<Book> savedBooks = bookIngestService.ingest(List.of(apiBook));
+                if (savedBooks.isEmpty()) {
+                    return null;
+                }
+                Book book = savedBooks.get(0);
+                if (detailBook != null && BookEnrichmentService.needsEnrichment(book)) {
+                    applyDetailInfo(book, detailBook);
+                }
+                return book.getId();
+            });
+        });
 
-        Book savedBook = convertAndSaveBook(apiBook);
-        if (savedBook == null) {
+        if (savedId == null) {
             return null;
         }
 
-        // 상세 정보 보완
-        enrichBookWithDetailInfo(savedBook);
+        // 새 트랜잭션에서 저장된 책 다시 조회
+        return transactionTemplate.execute(status -> bookRepository.findById(savedId)
+                .map(book -> toValidDto(book, member))
+                .orElse(null));
+    }
 
-        // 페이지 수가 0이면 null 반환
-        if (savedBook.getTotalPage() == 0) {
-            log.warn("새로 저장한 책의 페이지 수가 0: {}", savedBook.getTitle());
+    /**
+     * 페이지 수가 있으면 DTO 로 변환, 0이면 보완 대기열에 등록하고 null
+     */
+    private BookSearchDto toValidDto(Book book, Member member) {
+        if (book.getTotalPage() == 0) {
+            log.warn("상세 정보 보완 후에도 페이지 수가 0인 책: {}", book.getTitle());
+            bookEnrichmentService.enqueue(List.of(book));
             return null;
         }
-
-        return convertToDto(savedBook, member);
+        return convertToDto(book, member);
     }
 
     /**
      * 기존 getBookByIsbn 메서드 (Member 없는 버전) - 하위 호환성 유지
      */
-    @Transactional
     public BookSearchDto getBookByIsbn(String isbn) {
         return getBookByIsbn(isbn, null);
     }
@@ -203,17 +352,42 @@ public class BookService {
             // DB에서 페이징과 정렬이 적용된 조회 (페이지 수가 0보다 큰 유효한 책들만)
             Page<Book> validBookPage = bookRepository.findAllValidBooks(pageable);
 
-            return validBookPage.map(book -> {
-                BookSearchDto dto = convertToDto(book, member);
-                log.debug("Book {} converted with readState: {}", book.getId(), dto.getReadState());
-                return dto;
-            });
+            return convertToDto(validBookPage, member);
         } catch (Exception e) {
             log.error("전체 책 조회 중 오류 발생: {}", e.getMessage());
             throw new ServiceException("500-1", "전체 책 조회 중 오류가 발생했습니다.");
         }
     }
 
+    /**
+     * 전체 책 조회 (커서 방식, Member 정보 포함) - count 쿼리 없이 마지막 정렬 키 이후만 조회
+     */
+    public PageResponseDto<BookSearchDto> getAllBooksByCursor(String cursor, Pageable pageable, Member member) {
+        BookCursor bookCursor = BookCursor.resolve(cursor, pageable.getSort());
+        log.info("전체 유효한 책 커서 조회: size={}, sort={}, member={}",
+                pageable.getPageSize(), bookCursor.sortKey(),
+                member != null ? member.getId() : "null");
+
+        Slice<Book> validBookSlice = bookRepository.findAllValidBooksByCursor(bookCursor, pageable.getPageSize());
+        return toCursorResponse(validBookSlice, bookCursor, member);
+    }
+
+    /**
+     * 커서 조회 결과를 DTO 로 변환하고 다음 커서 생성
+     */
+    private PageResponseDto<BookSearchDto> toCursorResponse(Slice<Book> books, BookCursor bookCursor, Member member) {
+        ReadStateMap readStates = getReadStates(books.getContent(), member);
+        Slice<BookSearchDto> dtos = books.map(book -> convertToDto(book, readStates.get(book.getId())));
+
+        String nextCursor = null;
+        if (dtos.hasNext()) {
+            BookSearchDto last = dtos.getContent().get(dtos.getNumberOfElements() - 1);
+            nextCursor = bookCursor.next(last).encode();
+        }
+
+        return new PageResponseDto<>(dtos, nextCursor);
+    }
+
     /**
      * 기존 getAllBooks 메서드 (Member 없는 버전) - 하위 호환성 유지
      */
@@ -241,15 +415,10 @@ public class BookService {
 
             // 리뷰 페이징 조회
             Page<Review> reviewPage = reviewRepository.findByBookOrderByCreateDateDesc(book, pageable);
-            PageResponseDto<ReviewResponseDto> reviewPageResponse = new PageResponseDto<>(
-                    reviewPage.map((review -> convertReviewToDto(review, member)))
-            );
+            PageResponseDto<ReviewResponseDto> reviewPageResponse = reviewDtoService.reviewsToReviewResponseDtos(reviewPage, member);
 
             // ReadState 조회
-            ReadState readState = null;
-            if (member != null) {
-                readState = getReadStateByMemberAndBook(member, book);
-            }
+            ReadState readState = getReadStates(List.of(book), member).get(book.getId());
 
             return BookDetailDto.builder()
                     .id(book.getId())
@@ -275,40 +444,31 @@ public class BookService {
     }
 
     /**
-     * 책 평균 평점 업데이트
-     */
-    @Transactional
-    public void updateBookAvgRate(Book book) {
-        float avgRate = calculateAvgRateForBook(book);
-        book.setAvgRate(avgRate);
-        bookRepository.save(book);
-        log.info("책 평균 평점 업데이트: {} -> {}", book.getTitle(), avgRate);
-    }
-
-    /**
-     * Member와 Book으로 ReadState 조회
+     * id 목록 순서대로 책 조회
      */
-    private ReadState getReadStateByMemberAndBook(Member member, Book book) {
-        log.debug("ReadState 조회: memberId={}, bookId={}", member.getId(), book.getId());
-
-        Optional<Bookmark> bookmark = bookmarkRepository.findByMemberAndBook(member, book);
-        ReadState readState = bookmark.map(Bookmark::getReadState).orElse(null);
-
-        log.debug("ReadState 결과: {}", readState);
-        return readState;
+    private List<Book> findAllInOrder(List<Integer> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Integer, Book> booksById = bookRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Book::getId, Function.identity()));
+        return ids.stream()
+                .map(booksById::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
     /**
-     * 여러 책들의 ReadState를 한번에 조회 (성능 최적화)
+     * 책들의 ReadState를 한번에 조회 (로그인하지 않은 경우 빈 맵)
      */
-    private Map<Integer, ReadState> getReadStatesForBooks(Member member, List<Integer> bookIds) {
-        List<Bookmark> bookmarks = bookmarkRepository.findByMemberAndBookIds(member, bookIds);
-
-        return bookmarks.stream()
-                .collect(Collectors.toMap(
-                        bookmark -> bookmark.getBook().getId(),
-                        bookmark -> bookmark.getReadState()
-                ));
+    private ReadStateMap getReadStates(List<Book> books, Member member) {
+        if (member == null || books.isEmpty()) {
+            return ReadStateMap.EMPTY;
+        }
+        List<Integer> bookIds = books.stream()
+                .map(Book::getId)
+                .toList();
+        return readStateOverlayService.getReadStates(member, bookIds);
     }
 
     /**
@@ -332,11 +492,7 @@ public class BookService {
 
             log.info("검색 결과: {}개 책 발견 (전체 {}개)", validBookPage.getNumberOfElements(), validBookPage.getTotalElements());
 
-            return validBookPage.map(book -> {
-                BookSearchDto dto = convertToDto(book, member);
-                log.debug("Book {} converted with readState: {}", book.getId(), dto.getReadState());
-                return dto;
-            });
+            return convertToDto(validBookPage, member);
         } catch (Exception e) {
             log.error("검색어+카테고리 책 조회 중 오류 발생: query={}, category={}, error={}",
                     query, categoryName, e.getMessage());
@@ -344,54 +500,6 @@ public class BookService {
         }
     }
 
-    /**
-     * AladinBookDto를 Book 엔티티로 변환하고 저장
-     */
-    private Book convertAndSaveBook(AladinBookDto apiBook) {
-        try {
-            // 이미 존재하는 책인지 확인 (페이지 수와 관계없이)
-            if (apiBook.getIsbn13() != null) {
-                Optional<Book> existingBook = bookRepository.findByIsbn13(apiBook.getIsbn13());
-                if (existingBook.isPresent()) {
-                    log.info("이미 존재하는 ISBN: {}", apiBook.getIsbn13());
-                    return existingBook.get();
-                }
-            }
-
-            // Book 엔티티 생성
-            Book book = new Book();
-            book.setTitle(apiBook.getTitle());
-            book.setImageUrl(apiBook.getImageUrl());
-            book.setPublisher(apiBook.getPublisher());
-            book.setIsbn13(apiBook.getIsbn13());
-            book.setTotalPage(apiBook.getTotalPage());
-            book.setPublishedDate(apiBook.getPublishedDate());
-            book.setAvgRate(0.0f);
-
-            // 카테고리 설정
-            String categoryName = extractCategoryFromPath(apiBook.getCategoryName(), apiBook.getMallType());
-            Category category = categoryRepository.findByName(categoryName)
-                    .orElseGet(() -> {
-                        log.info("새 카테고리 생성: {}", categoryName);
-                        return categoryRepository.save(new Category(categoryName));
-                    });
-            book.setCategory(category);
-
-            // 책 저장
-            Book savedBook = bookRepository.save(book);
-            log.info("책 저장 완료: {} (페이지: {})", savedBook.getTitle(), savedBook.getTotalPage());
-
-            // 작가 정보 저장
-            saveAuthors(apiBook.getAuthors(), savedBook);
-
-            return savedBook;
-
-        } catch (Exception e) {
-            log.error("책 저장 중 오류: {}", e.getMessage());
-            return null;
-        }
-    }
-
     /**
      * 작가 정보 저장
      */
@@ -400,17 +508,22 @@ public class BookService {
             return;
         }
 
+        // 작가는 이름으로 한 번에 조회하고 없는 작가만 추가 (같은 이름을 동시에 추가해도 한 행만 남음)
+        Map<String, Author> authors = bookIngestService.findOrCreateAuthors(authorNames);
+
         for (String authorName : authorNames) {
             try {
-                // 작가가 이미 존재하는지 확인
-                Author author = authorRepository.findByName(authorName)
-                        .orElseGet(() -> authorRepository.save(new Author(authorName)));
+                Author author = authors.get(authorName);
+                if (author == null) {
+                    continue;
+                }
 
                 // 이미 이 책과 작가의 관계가 존재하는지 확인
                 boolean relationExists = wroteRepository.existsByAuthorAndBook(author, book);
                 if (!relationExists) {
                     Wrote wrote = new Wrote(author, book);
                     wroteRepository.save(wrote);
+                    book.getAuthors().add(wrote);
                     log.info("작가-책 관계 저장: {} - {}", authorName, book.getTitle());
                 }
             } catch (Exception e) {
@@ -420,55 +533,26 @@ public class BookService {
     }
 
     /**
-     * 부족한 상세 정보 보완 및 불완전한 데이터 필터링
+     * 페이지 수가 있는 책만 바로 반환하고, 상세 정보가 부족한 책은 보완 대기열에 등록
+     * (알라딘 상세 조회는 BookEnrichmentService 가 백그라운드에서 처리하므로 검색 응답을 기다리게 하지 않음)
      */
-    private List<Book> enrichMissingDetails(List<Book> books) {
-        List<Book> incompleteBooks = new ArrayList<>();
-
-        List<Book> enrichedBooks = books.stream()
-                .peek(book -> {
-                    if (needsDetailEnrichment(book)) {
-                        log.info("상세 정보 보완 시도: {} (ISBN: {})", book.getTitle(), book.getIsbn13());
-                        enrichBookWithDetailInfo(book);
-                    }
-                })
-                .filter(book -> {
-                    // 상세 정보 보완 후에도 페이지 수가 0인 책은 제외
-                    if (book.getTotalPage() == 0) {
-                        log.warn("페이지 수가 0인 책을 목록에서 제외: {} (ISBN: {})",
-                                book.getTitle(), book.getIsbn13());
-                        incompleteBooks.add(book);
-                        return false;
-                    }
-                    return true;
-                })
+    private List<Book> queueMissingDetails(List<Book> books) {
+        bookEnrichmentService.enqueue(books);
+
+        List<Book> validBooks = books.stream()
+                .filter(book -> book.getTotalPage() > 0)
                 .collect(Collectors.toList());
 
-        // 불완전한 책들의 정보를 로그로 남김 (나중에 배치 처리 가능)
-        if (!incompleteBooks.isEmpty()) {
-            log.info("불완전한 책 {}권이 발견되어 검색 결과에서 제외됨", incompleteBooks.size());
-            for (Book book : incompleteBooks) {
-                log.warn("정리 대상 책 ID: {} - {} (페이지: {})",
-                        book.getId(), book.getTitle(), book.getTotalPage());
-            }
+        if (validBooks.size() < books.size()) {
+            log.info("페이지 수가 0인 책 {}권은 상세 정보 보완 후 검색 결과에 포함됨", books.size() - validBooks.size());
         }
-
-        return enrichedBooks;
+        return validBooks;
     }
 
     /**
-     * 상세 정보 보완이 필요한지 판단
+     * 개별 ISBN 조회 결과로 상세 정보 보완
      */
-    private boolean needsDetailEnrichment(Book book) {
-        return book.getIsbn13() != null &&
-                (book.getTotalPage() == 0 || book.getAuthors().isEmpty());
-    }
-
-    /**
-     * 개별 ISBN 조회로 상세 정보 보완
-     */
-    private void enrichBookWithDetailInfo(Book book) {
-        AladinBookDto detailBook = aladinApiClient.getBookDetails(book.getIsbn13());
+    private void applyDetailInfo(Book book, AladinBookDto detailBook) {
         if (detailBook == null) {
             log.warn("상세 정보 조회 실패: {} (ISBN: {})", book.getTitle(), book.getIsbn13());
             return;
@@ -497,52 +581,6 @@ public class BookService {
         }
     }
 
-    /**
-     * 카테고리 경로에서 2번째 깊이 추출
-     */
-    private String extractCategoryFromPath(String categoryName, String mallType) {
-        if (categoryName != null && !categoryName.isEmpty()) {
-            log.debug("원본 카테고리 경로: {}", categoryName);
-
-            String[] categoryParts = categoryName.split(">");
-
-            if (categoryParts.length > 1) {
-                String secondLevelCategory = categoryParts[1].trim();
-                log.debug("추출된 카테고리: {}", secondLevelCategory);
-                return secondLevelCategory;
-            }
-
-            if (categoryParts.length > 0) {
-                String firstLevelCategory = categoryParts[0].trim();
-                log.debug("첫 번째 레벨 카테고리 사용: {}", firstLevelCategory);
-                return firstLevelCategory;
-            }
-        }
-
-        // 기본 카테고리
-        String fallbackCategory = getFallbackCategory(mallType);
-        log.debug("기본 카테고리 사용: {}", fallbackCategory);
-        return fallbackCategory;
-    }
-
-    /**
-     * mallType 기반 기본 카테고리 (eBook 제거)
-     */
-    private String getFallbackCategory(String mallType) {
-        if (mallType == null) {
-            return "기타";
-        }
-
-        switch (mallType) {
-            case "BOOK":
-                return "국내도서";
-            case "FOREIGN":
-                return "외국도서";
-            default:
-                return "기타";
-        }
-    }
-
     /**
      * 카테고리별 책 조회 (페이징, Member 정보 포함) - DB에서 직접 정렬 처리
      */
@@ -562,11 +600,7 @@ public class BookService {
             // DB에서 페이징과 정렬이 적용된 조회 (페이지 수가 0보다 큰 유효한 책들만)
             Page<Book> validBookPage = bookRepository.findValidBooksByCategory(categoryName, pageable);
 
-            return validBookPage.map(book -> {
-                BookSearchDto dto = convertToDto(book, member);
-                log.debug("Book {} converted with readState: {}", book.getId(), dto.getReadState());
-                return dto;
-            });
+            return convertToDto(validBookPage, member);
         } catch (Exception e) {
             log.error("카테고리별 책 조회 중 오류 발생: {}", e.getMessage());
             throw new ServiceException("500-3", "카테고리별 책 조회 중 오류가 발생했습니다.");
@@ -575,44 +609,20 @@ public class BookService {
 
 
     /**
-     * 책의 평균 평점 계산
+     * Book 페이지를 DTO로 변환 (ReadState는 페이지 단위로 한번에 조회)
      */
-    private float calculateAvgRateForBook(Book book) {
-        List<Review> reviews = book.getReviews();
-        if (reviews == null || reviews.isEmpty()) {
-            return 0.0f;
-        }
-
-        double average = reviews.stream()
-                .mapToInt(Review::getRate)
-                .average()
-                .orElse(0.0);
-
-        return (float) average;
+    private Page<BookSearchDto> convertToDto(Page<Book> books, Member member) {
+        ReadStateMap readStates = getReadStates(books.getContent(), member);
+        return books.map(book -> convertToDto(book, readStates.get(book.getId())));
     }
 
     /**
      * Book 엔티티 리스트를 DTO로 변환 (Member 정보 포함)
      */
     private List<BookSearchDto> convertToDto(List<Book> books, Member member) {
-        if (member == null) {
-            return books.stream()
-                    .map(book -> convertToDto(book, (ReadState) null))
-                    .toList();
-        }
-
-        // 성능 최적화: 한번에 모든 책의 ReadState 조회
-        List<Integer> bookIds = books.stream()
-                .map(Book::getId)
-                .collect(Collectors.toList());
-
-        Map<Integer, ReadState> readStatesMap = getReadStatesForBooks(member, bookIds);
-
+        ReadStateMap readStates = getReadStates(books, member);
         return books.stream()
-                .map(book -> {
-                    ReadState readState = readStatesMap.get(book.getId());
-                    return convertToDto(book, readState);
-                })
+                .map(book -> convertToDto(book, readStates.get(book.getId())))
                 .toList();
     }
 
@@ -620,17 +630,13 @@ public class BookService {
      * 단일 Book 엔티티를 DTO로 변환 (Member 정보 포함)
      */
     private BookSearchDto convertToDto(Book book, Member member) {
-        ReadState readState = null;
-        if (member != null) {
-            readState = getReadStateByMemberAndBook(member, book);
-        }
-        return convertToDto(book, readState);
+        return convertToDto(book, getReadStates(List.of(book), member).get(book.getId()));
     }
 
     /**
      * 단일 Book 엔티티를 DTO로 변환 (ReadState 직접 전달)
      */
-    private BookSearchDto convertToDto(Book book, ReadState readState) {
+    static BookSearchDto convertToDto(Book book, ReadState readState) {
         return BookSearchDto.builder()
                 .id(book.getId())
                 .title(book.getTitle())
@@ -647,22 +653,4 @@ public class BookService {
                 .readState(readState)
                 .build();
     }
-
-    /**
-     * Review 엔티티를 DTO로 변환
-     */
-    private ReviewResponseDto convertReviewToDto(Review review, Member member) {
-        return ReviewResponseDto.builder()
-                .id(review.getId())
-                .content(review.getContent())
-                .rate(review.getRate())
-                .memberName(review.getMember().getName())
-                .memberId(review.getMember().getId())
-                .likeCount(review.getLikeCount())
-                .dislikeCount(review.getDislikeCount())
-                .isRecommended(reviewRecommendService.isRecommended(review, member))
-                .createdDate(review.getCreateDate())
-                .modifiedDate(review.getModifyDate())
-                .build();
-    }
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.back.domain.book.category.entity;
 import com.back.domain.book.book.entity.Book;
 import com.back.global.jpa.entity.BaseEntity;
 import jakarta.persistence.CascadeType;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.OneToMany;
 import lombok.Getter;
@@ -15,6 +16,7 @@ import java.util.List;
 @Getter
 @NoArgsConstructor
 public class Category extends BaseEntity {
+    @Column(unique = true)
     String name;
 
     @OneToMany(mappedBy = "category")
@@ -3,8 +3,12 @@ package com.back.domain.book.category.repository;
 import com.back.domain.book.category.entity.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface CategoryRepository extends JpaRepository<Category, Integer> {
     Optional<Category> findByName(String name);
+
+    List<Category> findByNameIn(Collection<String> names);
 }
@@ -1,17 +1,28 @@
 package com.back.domain.book.client.aladin;
 
+import com.back.domain.book.client.aladin.cache.AladinResponseCache;
 import com.back.domain.book.client.aladin.dto.AladinBookDto;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonFactory;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
-import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @Component
 @RequiredArgsConstructor
@@ -19,7 +30,7 @@ import java.util.List;
 public class AladinApiClient {
 
     private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
+    private final AladinResponseCache aladinResponseCache;
 
     @Value("${aladin.api.key}")
     private String aladinApiKey;
@@ -27,6 +38,16 @@ public class AladinApiClient {
     @Value("${aladin.api.base-url}")
     private String aladinBaseUrl;
 
+    // 검색 대상별 호출을 기다리는 최대 시간 - 느린 대상 하나 때문에 요청 전체가 붙잡히지 않도록
+    @Value("${aladin.api.search-timeout-ms:3000}")
+    private long searchTimeoutMs;
+
+    // 응답에서 사용하는 필드만 읽는 스트리밍 파서 (JsonNode 트리를 만들지 않음)
+    private final AladinResponseParser responseParser = new AladinResponseParser(JsonFactory.builder().build());
+
+    // 검색 대상별 API 호출용 (대부분 네트워크 대기이므로 가상 스레드)
+    private final ExecutorService searchExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
     // API 엔드포인트 enum
     public enum ApiEndpoint {
         ITEM_SEARCH("ItemSearch.aspx"),
@@ -67,30 +88,61 @@ public class AladinApiClient {
 
     /**
      * 검색어로 책 검색
+     * 검색 대상(국내/외국도서)별 API 를 동시에 호출하고, 대상 순서대로 합친 뒤 ISBN 중복을 제거한다.
+     * 제한 시간 안에 응답하지 않은 대상은 결과에서 빠짐
      */
     public List<AladinBookDto> searchBooks(String query, int limit) {
-        List<AladinBookDto> allBooks = new ArrayList<>();
         int limitPerCategory = Math.max(1, limit / 2); // 2개 카테고리로 변경
 
-        try {
-            for (SearchTarget searchTarget : SearchTarget.values()) {
-                String url = buildSearchUrl(query, limitPerCategory, searchTarget);
-                List<AladinBookDto> books = callApiAndParseBooks(url, searchTarget.getDisplayName());
-                allBooks.addAll(books);
+        Map<SearchTarget, Future<List<AladinBookDto>>> futures = new EnumMap<>(SearchTarget.class);
+        for (SearchTarget searchTarget : SearchTarget.values()) {
+            String url = buildSearchUrl(query, limitPerCategory, searchTarget);
+            String cacheKey = searchTarget.getTarget() + "|" + limitPerCategory + "|" + normalizeQuery(query);
+            futures.put(searchTarget, searchExecutor.submit(() ->
+                    callApiAndParseBooks(ApiEndpoint.ITEM_SEARCH, cacheKey, url, searchTarget.getDisplayName())));
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(searchTimeoutMs);
+        List<AladinBookDto> allBooks = new ArrayList<>();
+        Set<String> isbns = new HashSet<>();
+
+        for (Map.Entry<SearchTarget, Future<List<AladinBookDto>>> entry : futures.entrySet()) {
+            for (AladinBookDto book : awaitSearch(entry.getKey(), entry.getValue(), deadline)) {
+                if (book.getIsbn13() == null || isbns.add(book.getIsbn13())) {
+                    allBooks.add(book);
+                }
             }
-        } catch (Exception e) {
-            log.error("알라딘 API 검색 중 오류: {}", e.getMessage());
         }
 
         return allBooks.stream().limit(limit).toList();
     }
 
+    private List<AladinBookDto> awaitSearch(SearchTarget searchTarget, Future<List<AladinBookDto>> future, long deadline) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("{} 검색이 {}ms 안에 응답하지 않아 제외", searchTarget.getDisplayName(), searchTimeoutMs);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.error("알라딘 API 검색 중 오류: {}", e.getCause().getMessage());
+        }
+        return List.of();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        searchExecutor.shutdownNow();
+    }
+
     /**
      * ISBN으로 책 조회
      */
     public AladinBookDto getBookByIsbn(String isbn) {
         String url = buildIsbnLookupUrl(isbn);
-        List<AladinBookDto> books = callApiAndParseBooks(url, "ISBN조회");
+        List<AladinBookDto> books = callApiAndParseBooks(ApiEndpoint.ITEM_LOOKUP, isbn, url, "ISBN조회");
         return books.isEmpty() ? null : books.get(0);
     }
 
@@ -100,13 +152,10 @@ public class AladinApiClient {
     public AladinBookDto getBookDetails(String isbn) {
         try {
             String url = buildIsbnLookupUrl(isbn);
-            String response = restTemplate.getForObject(url, String.class);
-            JsonNode rootNode = objectMapper.readTree(response);
-            JsonNode itemsNode = rootNode.get("item");
-
-            if (itemsNode != null && itemsNode.isArray() && itemsNode.size() > 0) {
-                JsonNode itemNode = itemsNode.get(0);
-                return parseBookFromJson(itemNode);
+            String response = fetch(ApiEndpoint.ITEM_LOOKUP, isbn, url);
+            List<AladinBookDto> books = parseApiResponse(response);
+            if (!books.isEmpty()) {
+                return books.get(0);
             }
         } catch (Exception e) {
             log.warn("상세 정보 조회 실패: ISBN {}, Error: {}", isbn, e.getMessage());
@@ -146,10 +195,10 @@ public class AladinApiClient {
     /**
      * API 호출 및 파싱 공통 메서드
      */
-    private List<AladinBookDto> callApiAndParseBooks(String url, String searchType) {
+    private List<AladinBookDto> callApiAndParseBooks(ApiEndpoint endpoint, String cacheKey, String url, String searchType) {
         try {
             log.debug("{} 검색 API 호출: {}", searchType, url);
-            String response = restTemplate.getForObject(url, String.class);
+            String response = fetch(endpoint, cacheKey, url);
             return parseApiResponse(response);
         } catch (Exception e) {
             log.error("{} API 호출 중 오류: {}", searchType, e.getMessage());
@@ -158,181 +207,31 @@ public class AladinApiClient {
     }
 
     /**
-     * API 응답 파싱
-     */
-    private List<AladinBookDto> parseApiResponse(String response) {
-        List<AladinBookDto> books = new ArrayList<>();
-
-        try {
-            JsonNode rootNode = objectMapper.readTree(response);
-            JsonNode itemsNode = rootNode.get("item");
-
-            if (itemsNode != null && itemsNode.isArray()) {
-                for (JsonNode itemNode : itemsNode) {
-                    AladinBookDto book = parseBookFromJson(itemNode);
-                    if (book != null) {
-                        books.add(book);
-                    }
-                }
-            }
-        } catch (Exception e) {
-            log.error("API 응답 파싱 중 오류: {}", e.getMessage());
-        }
-
-        return books;
-    }
-
-    /**
-     * JSON에서 AladinBookDto 생성
-     */
-    private AladinBookDto parseBookFromJson(JsonNode itemNode) {
-        try {
-            // mallType 체크 - 도서 관련 타입이 아니면 null 반환
-            String mallType = getJsonValue(itemNode, "mallType");
-            if (mallType != null && !isBookRelatedType(mallType)) {
-                log.debug("도서가 아닌 타입이므로 건너뜀: {}", mallType);
-                return null;
-            }
-
-            AladinBookDto.AladinBookDtoBuilder builder = AladinBookDto.builder()
-                    .title(getJsonValue(itemNode, "title"))
-                    .imageUrl(getJsonValue(itemNode, "cover"))
-                    .publisher(getJsonValue(itemNode, "publisher"))
-                    .categoryName(getJsonValue(itemNode, "categoryName"))
-                    .mallType(mallType);
-
-            // ISBN 설정
-            String isbn13 = getJsonValue(itemNode, "isbn13");
-            if (isbn13 != null && !isbn13.isEmpty()) {
-                builder.isbn13(isbn13);
-            } else {
-                String isbn = getJsonValue(itemNode, "isbn");
-                if (isbn != null && isbn.length() == 13) {
-                    builder.isbn13(isbn);
-                }
-            }
-
-            // 페이지 수 설정
-            builder.totalPage(extractPageInfo(itemNode));
-
-            // 출간일 설정
-            String pubDateStr = getJsonValue(itemNode, "pubDate");
-            if (pubDateStr != null && !pubDateStr.isEmpty()) {
-                try {
-                    LocalDateTime pubDate = parsePubDate(pubDateStr);
-                    builder.publishedDate(pubDate);
-                } catch (Exception e) {
-                    log.warn("출간일 파싱 실패: {}", pubDateStr);
-                }
-            }
-
-            // 저자 정보 설정
-            builder.authors(extractAuthors(itemNode));
-
-            return builder.build();
-
-        } catch (Exception e) {
-            log.error("AladinBookDto 생성 중 오류: {}", e.getMessage());
-            return null;
-        }
-    }
-
-    /**
-     * 페이지 정보 추출
-     */
-    private int extractPageInfo(JsonNode itemNode) {
-        // 기본 itemPage 먼저 확인
-        JsonNode totalPageNode = itemNode.get("itemPage");
-        if (totalPageNode != null && !totalPageNode.isNull()) {
-            return totalPageNode.asInt();
-        }
-
-        // subInfo의 itemPage 확인
-        JsonNode subInfoNode = itemNode.get("subInfo");
-        if (subInfoNode != null) {
-            JsonNode subPageNode = subInfoNode.get("itemPage");
-            if (subPageNode != null && !subPageNode.isNull()) {
-                return subPageNode.asInt();
-            }
-        }
-
-        return 0;
-    }
-
-    /**
-     * 저자 정보 추출
+     * 캐시를 먼저 확인하고 없으면 API 호출 (정상 응답만 캐시)
      */
-    private List<String> extractAuthors(JsonNode itemNode) {
-        List<String> authorNames = new ArrayList<>();
-
-        // 기본 author 필드에서 작가 정보 추출
-        String authorString = getJsonValue(itemNode, "author");
-        if (authorString != null && !authorString.isEmpty()) {
-            String[] authors = authorString.split("[,;]");
-            for (String authorName : authors) {
-                String trimmedName = authorName.trim();
-                if (!trimmedName.isEmpty()) {
-                    authorNames.add(trimmedName);
-                }
-            }
+    private String fetch(ApiEndpoint endpoint, String cacheKey, String url) {
+        String cached = aladinResponseCache.get(endpoint, cacheKey);
+        if (cached != null) {
+            return cached;
         }
 
-        // subInfo의 authors 배열에서 상세 작가 정보 추출
-        JsonNode subInfoNode = itemNode.get("subInfo");
-        if (subInfoNode != null) {
-            JsonNode authorsNode = subInfoNode.get("authors");
-            if (authorsNode != null && authorsNode.isArray()) {
-                for (JsonNode authorNode : authorsNode) {
-                    String authorName = getJsonValue(authorNode, "authorName");
-                    if (authorName != null && !authorName.isEmpty()) {
-                        authorNames.add(authorName.trim());
-                    }
-                }
-            }
+        String response = restTemplate.getForObject(url, String.class);
+        // 알라딘은 오류도 200 + errorCode 로 응답
+        if (response != null && !response.contains("\"errorCode\"")) {
+            aladinResponseCache.put(endpoint, cacheKey, response);
         }
-
-        // 중복 제거
-        return authorNames.stream().distinct().toList();
-    }
-
-    /**
-     * 도서 관련 타입인지 확인 (eBook 제거)
-     */
-    private boolean isBookRelatedType(String mallType) {
-        return "BOOK".equals(mallType) ||
-                "FOREIGN".equals(mallType);
+        return response;
     }
 
-    /**
-     * JSON에서 문자열 값 추출
-     */
-    private String getJsonValue(JsonNode node, String fieldName) {
-        JsonNode fieldNode = node.get(fieldName);
-        return (fieldNode != null && !fieldNode.isNull()) ? fieldNode.asText() : null;
+    // 대소문자/공백만 다른 검색어는 같은 캐시 키로
+    private String normalizeQuery(String query) {
+        return query.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
     }
 
     /**
-     * 출간일 파싱 (다양한 형식 지원)
+     * API 응답 파싱
      */
-    private LocalDateTime parsePubDate(String pubDateStr) {
-        try {
-            if (pubDateStr.matches("\\d{4}-\\d{2}-\\d{2}")) {
-                return LocalDateTime.parse(pubDateStr + "T00:00:00");
-            }
-
-            if (pubDateStr.matches("\\d{4}-\\d{2}")) {
-                return LocalDateTime.parse(pubDateStr + "-01T00:00:00");
-            }
-
-            if (pubDateStr.matches("\\d{4}")) {
-                return LocalDateTime.parse(pubDateStr + "-01-01T00:00:00");
-            }
-
-            return LocalDateTime.now();
-
-        } catch (Exception e) {
-            log.warn("날짜 파싱 실패, 현재 시간으로 설정: {}", pubDateStr);
-            return LocalDateTime.now();
-        }
+    private List<AladinBookDto> parseApiResponse(String response) {
+        return responseParser.parse(response);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,252 @@
+package com.back.domain.book.client.aladin;
+
+import com.back.domain.book.client.aladin.dto.AladinBookDto;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 알라딘 API 응답(JSON) 스트리밍 파서
+ * 전체 JsonNode 트리를 만들지 않고 JsonParser 로 토큰을 읽으면서 사용하는 필드만 AladinBookDto 로 옮기고,
+ * 나머지 필드(설명, 가격, 링크 등)는 값을 만들지 않고 건너뛴다.
+ */
+@Slf4j
+public class AladinResponseParser {
+    private final JsonFactory jsonFactory;
+
+    public AladinResponseParser(JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+    }
+
+    /**
+     * 응답 본문에서 도서(BOOK/FOREIGN) 항목만 추출 - 형식이 잘못된 응답이면 빈 목록
+     */
+    public List<AladinBookDto> parse(String response) {
+        if (response == null) {
+            return new ArrayList<>();
+        }
+        try (JsonParser parser = jsonFactory.createParser(response)) {
+            return parseItems(parser);
+        } catch (IOException e) {
+            log.error("API 응답 파싱 중 오류: {}", e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+    private List<AladinBookDto> parseItems(JsonParser parser) throws IOException {
+        List<AladinBookDto> books = new ArrayList<>();
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return books;
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("item".equals(field) && value == JsonToken.START_ARRAY) {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    AladinBookDto book = parseItem(parser);
+                    if (book != null) {
+                        books.add(book);
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return books;
+    }
+
+    /**
+     * item 배열의 한 항목 - 현재 토큰이 START_OBJECT 여야 함 (아니면 건너뜀)
+     */
+    private AladinBookDto parseItem(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+
+        String title = null, cover = null, publisher = null, categoryName = null, mallType = null;
+        String isbn13 = null, isbn = null, pubDate = null, author = null;
+        Integer itemPage = null, subInfoPage = null;
+        List<String> subInfoAuthors = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "title" -> title = text(parser, value);
+                case "cover" -> cover = text(parser, value);
+                case "publisher" -> publisher = text(parser, value);
+                case "categoryName" -> categoryName = text(parser, value);
+                case "mallType" -> mallType = text(parser, value);
+                case "isbn13" -> isbn13 = text(parser, value);
+                case "isbn" -> isbn = text(parser, value);
+                case "pubDate" -> pubDate = text(parser, value);
+                case "author" -> author = text(parser, value);
+                case "itemPage" -> itemPage = number(parser, value);
+                case "subInfo" -> {
+                    if (value == JsonToken.START_OBJECT) {
+                        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                            String subField = parser.currentName();
+                            JsonToken subValue = parser.nextToken();
+                            if ("itemPage".equals(subField)) {
+                                subInfoPage = number(parser, subValue);
+                            } else if ("authors".equals(subField) && subValue == JsonToken.START_ARRAY) {
+                                subInfoAuthors = parseSubInfoAuthors(parser);
+                            } else {
+                                parser.skipChildren();
+                            }
+                        }
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                default -> parser.skipChildren();
+            }
+        }
+
+        // 도서 관련 타입이 아니면 제외 (eBook 등)
+        if (mallType != null && !"BOOK".equals(mallType) && !"FOREIGN".equals(mallType)) {
+            return null;
+        }
+
+        AladinBookDto.AladinBookDtoBuilder builder = AladinBookDto.builder()
+                .title(title)
+                .imageUrl(cover)
+                .publisher(publisher)
+                .categoryName(categoryName)
+                .mallType(mallType);
+
+        if (isbn13 != null && !isbn13.isEmpty()) {
+            builder.isbn13(isbn13);
+        } else if (isbn != null && isbn.length() == 13) {
+            builder.isbn13(isbn);
+        }
+
+        builder.totalPage(itemPage != null ? itemPage : subInfoPage != null ? subInfoPage : 0);
+
+        if (pubDate != null && !pubDate.isEmpty()) {
+            builder.publishedDate(parsePubDate(pubDate));
+        }
+
+        builder.authors(authors(author, subInfoAuthors));
+        return builder.build();
+    }
+
+    private List<String> parseSubInfoAuthors(JsonParser parser) throws IOException {
+        List<String> names = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("authorName".equals(field)) {
+                    String name = text(parser, value);
+                    if (name != null && !name.isEmpty()) {
+                        names.add(name.trim());
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return names;
+    }
+
+    /**
+     * author 문자열(쉼표/세미콜론 구분) 다음에 subInfo.authors 의 이름, 중복 제거
+     */
+    private List<String> authors(String author, List<String> subInfoAuthors) {
+        Set<String> names = new LinkedHashSet<>();
+        if (author != null) {
+            int start = 0;
+            for (int i = 0; i <= author.length(); i++) {
+                if (i == author.length() || author.charAt(i) == ',' || author.charAt(i) == ';') {
+                    String name = author.substring(start, i).trim();
+                    if (!name.isEmpty()) {
+                        names.add(name);
+                    }
+                    start = i + 1;
+                }
+            }
+        }
+        if (subInfoAuthors != null) {
+            names.addAll(subInfoAuthors);
+        }
+        return List.copyOf(names);
+    }
+
+    // 문자열이 아닌 스칼라는 텍스트로, 객체/배열은 건너뛰고 null
+    private String text(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (value.isScalarValue()) {
+            return parser.getText();
+        }
+        parser.skipChildren();
+        return null;
+    }
+
+    // 숫자 또는 숫자 문자열, 그 외에는 0 (null 이면 값 없음)
+    private Integer number(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (value.isScalarValue()) {
+            return parser.getValueAsInt(0);
+        }
+        parser.skipChildren();
+        return 0;
+    }
+
+    /**
+     * 출간일 파싱 - yyyy-MM-dd / yyyy-MM / yyyy (그 외 형식은 현재 시간)
+     */
+    static LocalDateTime parsePubDate(String pubDate) {
+        int length = pubDate.length();
+        if ((length == 10 || length == 7 || length == 4) && isDate(pubDate, length)) {
+            int year = digits(pubDate, 0, 4);
+            int month = length >= 7 ? digits(pubDate, 5, 7) : 1;
+            int day = length == 10 ? digits(pubDate, 8, 10) : 1;
+            try {
+                return LocalDateTime.of(year, month, day, 0, 0);
+            } catch (RuntimeException e) {
+                // 존재하지 않는 날짜 (예: 2024-13-01)
+            }
+        }
+        log.warn("날짜 파싱 실패, 현재 시간으로 설정: {}", pubDate);
+        return LocalDateTime.now();
+    }
+
+    // \d{4}(-\d{2}(-\d{2})?)? 형식인지 확인
+    private static boolean isDate(String s, int length) {
+        for (int i = 0; i < length; i++) {
+            char c = s.charAt(i);
+            boolean separator = i == 4 || i == 7;
+            if (separator ? c != '-' : c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int digits(String s, int from, int to) {
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            value = value * 10 + (s.charAt(i) - '0');
+        }
+        return value;
+    }
+}
@@ -0,0 +1,210 @@
+package com.back.domain.book.client.aladin.cache;
+
+import com.back.domain.book.client.aladin.AladinApiClient.ApiEndpoint;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 알라딘 API 응답 캐시 (엔드포인트 + 정규화된 파라미터 키)
+ * L1: 힙 안의 엔드포인트별 LRU / L2: 메모리 매핑 파일 (재시작 후에도 유지)
+ * ISBN 조회 결과는 거의 바뀌지 않으므로 검색 결과보다 TTL 을 길게 두고, L2 공간이 부족하면 먼저 남긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AladinResponseCache {
+    private final MeterRegistry meterRegistry;
+
+    @Value("${aladin.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${aladin.cache.lookup.max-entries:20000}")
+    private int lookupMaxEntries;
+
+    @Value("${aladin.cache.lookup.ttl:7d}")
+    private Duration lookupTtl;
+
+    @Value("${aladin.cache.search.max-entries:2000}")
+    private int searchMaxEntries;
+
+    @Value("${aladin.cache.search.ttl:1h}")
+    private Duration searchTtl;
+
+    @Value("${aladin.cache.l2.enabled:true}")
+    private boolean l2Enabled;
+
+    @Value("${aladin.cache.l2.path:cache/aladin-responses.dat}")
+    private String l2Path;
+
+    @Value("${aladin.cache.l2.max-size-mb:256}")
+    private int l2MaxSizeMb;
+
+    private final Map<ApiEndpoint, LruCache> l1 = new EnumMap<>(ApiEndpoint.class);
+    private final Map<ApiEndpoint, Counter[]> requestCounters = new EnumMap<>(ApiEndpoint.class);
+    private MappedResponseStore l2;
+
+    private record CachedResponse(String body, long expiresAt) {
+    }
+
+    private static class LruCache extends LinkedHashMap<String, CachedResponse> {
+        private final int maxEntries;
+
+        LruCache(int maxEntries) {
+            super(16, 0.75f, true);
+            this.maxEntries = maxEntries;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+            return size() > maxEntries;
+        }
+    }
+
+    // requestCounters 배열 인덱스
+    private static final int L1_HIT = 0, L2_HIT = 1, MISS = 2;
+
+    @PostConstruct
+    public void init() {
+        l1.put(ApiEndpoint.ITEM_LOOKUP, new LruCache(lookupMaxEntries));
+        l1.put(ApiEndpoint.ITEM_SEARCH, new LruCache(searchMaxEntries));
+
+        for (ApiEndpoint endpoint : ApiEndpoint.values()) {
+            requestCounters.put(endpoint, new Counter[]{
+                    requestCounter(endpoint, "l1", "hit"),
+                    requestCounter(endpoint, "l2", "hit"),
+                    requestCounter(endpoint, "none", "miss")
+            });
+            LruCache cache = l1.get(endpoint);
+            Gauge.builder("aladin.cache.l1.size", cache, c -> {
+                        synchronized (c) {
+                            return c.size();
+                        }
+                    })
+                    .tag("endpoint", endpoint.name())
+                    .register(meterRegistry);
+        }
+
+        if (enabled && l2Enabled) {
+            // 매핑 하나의 크기는 int 범위(2GB 미만)까지만 가능
+            long l2Capacity = l2MaxSizeMb * 1024L * 1024L;
+            if (l2MaxSizeMb < 1 || l2Capacity > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException(
+                        "aladin.cache.l2.max-size-mb 는 1 이상 %d 이하여야 함: %d".formatted(Integer.MAX_VALUE / (1024 * 1024), l2MaxSizeMb));
+            }
+            try {
+                l2 = new MappedResponseStore(Path.of(l2Path), (int) l2Capacity,
+                        key -> key.startsWith(ApiEndpoint.ITEM_LOOKUP.name()) ? 0 : 1,
+                        System.currentTimeMillis());
+                Gauge.builder("aladin.cache.l2.used.bytes", l2, MappedResponseStore::usedBytes).register(meterRegistry);
+                log.info("알라딘 응답 L2 캐시 열기: {} ({}건)", l2Path, l2.size());
+            } catch (IOException e) {
+                log.warn("알라딘 응답 L2 캐시를 열 수 없어 L1 만 사용: {}", e.getMessage());
+                l2 = null;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        if (l2 != null) {
+            try {
+                l2.close();
+            } catch (IOException e) {
+                log.warn("알라딘 응답 L2 캐시 닫기 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * @return 캐시에 없거나 만료되었으면 null
+     */
+    public String get(ApiEndpoint endpoint, String key) {
+        if (!enabled) {
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        String storeKey = storeKey(endpoint, key);
+        Counter[] counters = requestCounters.get(endpoint);
+
+        LruCache cache = l1.get(endpoint);
+        synchronized (cache) {
+            CachedResponse cached = cache.get(storeKey);
+            if (cached != null && cached.expiresAt() > now) {
+                counters[L1_HIT].increment();
+                return cached.body();
+            }
+            if (cached != null) {
+                cache.remove(storeKey);
+            }
+        }
+
+        if (l2 != null) {
+            MappedResponseStore.Stored stored = l2.get(storeKey, now);
+            if (stored != null) {
+                String body = new String(stored.value(), StandardCharsets.UTF_8);
+                // L1 로 올림 (남은 TTL 유지)
+                synchronized (cache) {
+                    cache.put(storeKey, new CachedResponse(body, stored.expiresAt()));
+                }
+                counters[L2_HIT].increment();
+                return body;
+            }
+        }
+
+        counters[MISS].increment();
+        return null;
+    }
+
+    public void put(ApiEndpoint endpoint, String key, String body) {
+        if (!enabled || body == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long expiresAt = now + ttlOf(endpoint).toMillis();
+        String storeKey = storeKey(endpoint, key);
+
+        LruCache cache = l1.get(endpoint);
+        synchronized (cache) {
+            cache.put(storeKey, new CachedResponse(body, expiresAt));
+        }
+
+        if (l2 != null) {
+            try {
+                l2.put(storeKey, body.getBytes(StandardCharsets.UTF_8), expiresAt, now);
+            } catch (IOException e) {
+                log.warn("알라딘 응답 L2 캐시 저장 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    private Duration ttlOf(ApiEndpoint endpoint) {
+        return endpoint == ApiEndpoint.ITEM_LOOKUP ? lookupTtl : searchTtl;
+    }
+
+    private String storeKey(ApiEndpoint endpoint, String key) {
+        return endpoint.name() + "|" + key;
+    }
+
+    private Counter requestCounter(ApiEndpoint endpoint, String tier, String result) {
+        return Counter.builder("aladin.cache.requests")
+                .tag("endpoint", endpoint.name())
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,214 @@
+package com.back.domain.book.client.aladin.cache;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+/**
+ * 메모리 매핑 파일 기반 append-only 키/값 저장소 (알라딘 응답 L2 캐시)
+ * 레코드: [MAGIC int][만료 시각 long][키 길이 int][값 길이 int][키][값]
+ * 파일을 다시 열면 처음부터 레코드를 읽어 인덱스를 복구하므로 재시작/재배포 후에도 유지된다.
+ * 공간이 부족하면 남길 레코드만 골라 같은 파일 앞쪽으로 당기는 compaction 을 수행한다.
+ * (새 파일로 옮기면 이전 매핑이 GC 될 때까지 해제되지 않아 compaction 마다 capacity 만큼의 매핑이 남으므로, 매핑은 하나만 유지)
+ * 레코드를 쓸 때마다 바로 뒤 위치의 MAGIC 을 지워서, compaction 후 뒤쪽에 남은 이전 레코드가 복구되지 않게 한다.
+ */
+class MappedResponseStore implements Closeable {
+    private static final int MAGIC = 0x41_4C_44_31; // "ALD1"
+    private static final int HEADER_SIZE = 4 + 8 + 4 + 4;
+
+    // compaction 후 채워 두는 최대 비율 - 나머지는 이후 추가분을 위한 공간
+    private static final double COMPACTION_FILL_RATIO = 0.75;
+
+    private final Path path;
+    private final int capacity;
+    // 값이 작을수록 compaction 때 먼저 남김
+    private final ToIntFunction<String> retainPriority;
+
+    private final Map<String, Slot> index = new HashMap<>();
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int writePosition;
+
+    record Slot(int offset, long expiresAt, int keyLength, int valueLength) {
+        int size() {
+            return HEADER_SIZE + keyLength + valueLength;
+        }
+    }
+
+    record Stored(byte[] value, long expiresAt) {
+    }
+
+    MappedResponseStore(Path path, int capacity, ToIntFunction<String> retainPriority, long now) throws IOException {
+        this.path = path;
+        this.capacity = capacity;
+        this.retainPriority = retainPriority;
+
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        map(path);
+        recover(now);
+    }
+
+    synchronized Stored get(String key, long now) {
+        Slot slot = index.get(key);
+        if (slot == null) {
+            return null;
+        }
+        if (slot.expiresAt() <= now) {
+            index.remove(key);
+            return null;
+        }
+        byte[] value = new byte[slot.valueLength()];
+        buffer.get(slot.offset() + HEADER_SIZE + slot.keyLength(), value);
+        return new Stored(value, slot.expiresAt());
+    }
+
+    /**
+     * @return 저장하지 못한 경우 false (값이 너무 크거나 compaction 후에도 공간 부족)
+     */
+    synchronized boolean put(String key, byte[] value, long expiresAt, long now) throws IOException {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        int size = HEADER_SIZE + keyBytes.length + value.length;
+        if (size > capacity * (1 - COMPACTION_FILL_RATIO)) {
+            return false;
+        }
+        if (writePosition + size > capacity) {
+            compact(now);
+        }
+        if (writePosition + size > capacity) {
+            return false;
+        }
+
+        index.put(key, write(buffer, writePosition, keyBytes, value, expiresAt));
+        writePosition += size;
+        return true;
+    }
+
+    synchronized int usedBytes() {
+        return writePosition;
+    }
+
+    synchronized int size() {
+        return index.size();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (channel != null) {
+            buffer.force();
+            channel.close();
+            channel = null;
+        }
+    }
+
+    /**
+     * 만료되지 않은 레코드를 우선순위(낮은 값 먼저) → 최신 순으로 골라, 원래 순서대로 파일 앞쪽부터 다시 씀
+     * 앞으로만 옮기므로 아직 옮기지 않은 레코드를 덮어쓰지 않는다.
+     */
+    private void compact(long now) throws IOException {
+        List<Map.Entry<String, Slot>> live = new ArrayList<>();
+        for (Map.Entry<String, Slot> entry : index.entrySet()) {
+            if (entry.getValue().expiresAt() > now) {
+                live.add(entry);
+            }
+        }
+        live.sort(Comparator.<Map.Entry<String, Slot>>comparingInt(entry -> retainPriority.applyAsInt(entry.getKey()))
+                .thenComparing(entry -> -entry.getValue().offset()));
+
+        List<Map.Entry<String, Slot>> kept = new ArrayList<>();
+        int keptBytes = 0;
+        int limit = (int) (capacity * COMPACTION_FILL_RATIO);
+        for (Map.Entry<String, Slot> entry : live) {
+            if (keptBytes + entry.getValue().size() <= limit) {
+                kept.add(entry);
+                keptBytes += entry.getValue().size();
+            }
+        }
+        kept.sort(Comparator.comparingInt(entry -> entry.getValue().offset()));
+
+        Map<String, Slot> compacted = new HashMap<>();
+        int position = 0;
+        for (Map.Entry<String, Slot> entry : kept) {
+            Slot slot = entry.getValue();
+            if (slot.offset() == position) {
+                compacted.put(entry.getKey(), slot);
+            } else {
+                byte[] keyBytes = new byte[slot.keyLength()];
+                byte[] value = new byte[slot.valueLength()];
+                buffer.get(slot.offset() + HEADER_SIZE, keyBytes);
+                buffer.get(slot.offset() + HEADER_SIZE + slot.keyLength(), value);
+                compacted.put(entry.getKey(), write(buffer, position, keyBytes, value, slot.expiresAt()));
+            }
+            position += slot.size();
+        }
+        if (position + 4 <= capacity) {
+            buffer.putInt(position, 0);
+        }
+        buffer.force();
+
+        index.clear();
+        index.putAll(compacted);
+        writePosition = position;
+    }
+
+    private void map(Path file) throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+    }
+
+    /**
+     * 파일 처음부터 레코드를 읽어 인덱스 복구 - MAGIC 이 없는 위치(빈 공간 또는 쓰다 만 레코드)에서 멈춤
+     */
+    private void recover(long now) {
+        int position = 0;
+        while (position + HEADER_SIZE <= capacity && buffer.getInt(position) == MAGIC) {
+            long expiresAt = buffer.getLong(position + 4);
+            int keyLength = buffer.getInt(position + 12);
+            int valueLength = buffer.getInt(position + 16);
+            int size = HEADER_SIZE + keyLength + valueLength;
+            if (keyLength < 0 || valueLength < 0 || position + size > capacity) {
+                break;
+            }
+
+            if (expiresAt > now) {
+                byte[] keyBytes = new byte[keyLength];
+                buffer.get(position + HEADER_SIZE, keyBytes);
+                // 같은 키는 뒤에 쓴 레코드가 최신
+                index.put(new String(keyBytes, StandardCharsets.UTF_8), new Slot(position, expiresAt, keyLength, valueLength));
+            }
+            position += size;
+        }
+        writePosition = position;
+    }
+
+    /**
+     * 이 위치의 MAGIC 을 지우고 본문을 쓴 뒤 MAGIC 을 마지막에 기록 - 쓰는 도중 종료되면 복구 시 이 레코드부터 무시됨
+     * 바로 뒤 위치의 MAGIC 도 지워서, 그 자리에 남아 있던 이전 레코드가 복구 때 이어서 읽히지 않게 한다.
+     */
+    private static Slot write(MappedByteBuffer target, int offset, byte[] keyBytes, byte[] value, long expiresAt) {
+        int end = offset + HEADER_SIZE + keyBytes.length + value.length;
+        target.putInt(offset, 0);
+        if (end + 4 <= target.capacity()) {
+            target.putInt(end, 0);
+        }
+        target.putLong(offset + 4, expiresAt);
+        target.putInt(offset + 12, keyBytes.length);
+        target.putInt(offset + 16, value.length);
+        target.put(offset + HEADER_SIZE, keyBytes);
+        target.put(offset + HEADER_SIZE + keyBytes.length, value);
+        target.putInt(offset, MAGIC);
+        return new Slot(offset, expiresAt, keyBytes.length, value.length);
+    }
+}
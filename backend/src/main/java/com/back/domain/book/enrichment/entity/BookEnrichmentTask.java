@@ -0,0 +1,48 @@
+package com.back.domain.book.enrichment.entity;
+
+import com.back.global.jpa.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상세 정보(페이지 수/작가) 보완 대기열 항목 - ISBN 당 하나
+ * nextAttemptAt 이 지난 항목을 백그라운드 작업이 처리하고, 보완되면 삭제한다.
+ * 재시도 횟수를 다 쓰면 nextAttemptAt 을 비워서 다시 처리하거나 다시 등록되지 않게 남겨 둔다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(indexes = @Index(columnList = "next_attempt_at"))
+public class BookEnrichmentTask extends BaseEntity {
+    @Column(nullable = false, unique = true)
+    private String isbn13;
+
+    @Column(nullable = false)
+    private int bookId;
+
+    private int attempts;
+
+    private LocalDateTime nextAttemptAt;
+
+    public BookEnrichmentTask(String isbn13, int bookId, LocalDateTime nextAttemptAt) {
+        this.isbn13 = isbn13;
+        this.bookId = bookId;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public void retryAt(LocalDateTime nextAttemptAt) {
+        this.attempts++;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public void giveUp() {
+        this.attempts++;
+        this.nextAttemptAt = null;
+    }
+}
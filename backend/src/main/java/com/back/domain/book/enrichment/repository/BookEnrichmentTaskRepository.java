@@ -0,0 +1,40 @@
+package com.back.domain.book.enrichment.repository;
+
+import com.back.domain.book.enrichment.entity.BookEnrichmentTask;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface BookEnrichmentTaskRepository extends JpaRepository<BookEnrichmentTask, Integer> {
+
+    List<BookEnrichmentTask> findByNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(LocalDateTime now, Pageable pageable);
+
+    /**
+     * 읽은 뒤 다른 인스턴스가 먼저 가져가지 않았을 때만 처리 중으로 표시 (next_attempt_at 이 읽은 값 그대로인 경우)
+     * 처리가 끝나지 않고 죽어도 leasedUntil 이 지나면 다시 처리됨
+     * @return 1 이면 이 요청이 가져감, 0 이면 다른 쪽이 먼저 가져감
+     */
+    @Modifying
+    @Query("update BookEnrichmentTask t set t.nextAttemptAt = :leasedUntil where t.id = :id and t.nextAttemptAt = :seen")
+    int lease(@Param("id") int id, @Param("seen") LocalDateTime seen, @Param("leasedUntil") LocalDateTime leasedUntil);
+
+    /**
+     * 페이지 수가 0이거나 작가가 없는 책 중 아직 대기열에 없는 책을 등록 (이미 있는 ISBN 은 무시)
+     */
+    @Transactional
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            insert ignore into book_enrichment_task (isbn13, book_id, attempts, next_attempt_at, create_date, modify_date)
+            select b.isbn13, b.id, 0, :now, :now, :now
+            from book b
+            where b.isbn13 is not null
+              and (b.total_page = 0 or not exists (select 1 from wrote w where w.book_id = b.id))
+            """)
+    int enqueueIncompleteBooks(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,370 @@
+package com.back.domain.book.enrichment.service;
+
+import com.back.domain.book.author.entity.Author;
+import com.back.domain.book.book.entity.Book;
+import com.back.domain.book.book.repository.BookRepository;
+import com.back.domain.book.book.service.BookIngestService;
+import com.back.domain.book.client.aladin.AladinApiClient;
+import com.back.domain.book.client.aladin.dto.AladinBookDto;
+import com.back.domain.book.enrichment.entity.BookEnrichmentTask;
+import com.back.domain.book.enrichment.repository.BookEnrichmentTaskRepository;
+import com.back.domain.book.wrote.entity.Wrote;
+import com.back.domain.book.wrote.repository.WroteRepository;
+import com.back.global.concurrent.TokenBucket;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 책 상세 정보(페이지 수/작가) 비동기 보완
+ * 검색 요청에서는 보완이 필요한 책을 대기열 테이블에 등록만 하고, 백그라운드 작업이 주기적으로
+ * 처리할 차례가 된 항목을 가져와 제한된 스레드 풀에서 초당 호출 수를 지키며 알라딘 상세 조회를 한 뒤
+ * 결과를 한 트랜잭션으로 모아서 반영한다. 실패하면 재시도 간격을 두 배씩 늘리고, 횟수를 다 쓰면 포기한다.
+ * 조회 결과를 기다리는 일은 전용 스레드가 맡아서, 공유 스케줄러 스레드는 항목을 가져온 뒤 바로 돌아간다.
+ * 묶음 반영이 실패하면 항목마다 따로 반영하고, 그래도 실패한 항목은 실패로 기록해서 한 항목 때문에 묶음 전체가 멈추지 않게 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookEnrichmentService {
+    private static final String ENQUEUE_SQL = """
+            INSERT IGNORE INTO book_enrichment_task (isbn13, book_id, attempts, next_attempt_at, create_date, modify_date)
+            VALUES (?, ?, 0, ?, ?, ?)
+            """;
+
+    private final BookEnrichmentTaskRepository taskRepository;
+    private final BookRepository bookRepository;
+    private final WroteRepository wroteRepository;
+    private final AladinApiClient aladinApiClient;
+    private final BookIngestService bookIngestService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${book.enrichment.enabled:true}")
+    private boolean enabled;
+
+    @Value("${book.enrichment.workers:4}")
+    private int workers;
+
+    @Value("${book.enrichment.rate-per-second:5}")
+    private double ratePerSecond;
+
+    @Value("${book.enrichment.batch-size:20}")
+    private int batchSize;
+
+    @Value("${book.enrichment.lease:5m}")
+    private Duration lease;
+
+    @Value("${book.enrichment.base-backoff:1m}")
+    private Duration baseBackoff;
+
+    @Value("${book.enrichment.max-backoff:6h}")
+    private Duration maxBackoff;
+
+    @Value("${book.enrichment.max-attempts:6}")
+    private int maxAttempts;
+
+    @Value("${book.enrichment.sweep-on-startup:true}")
+    private boolean sweepOnStartup;
+
+    private ExecutorService executor;
+    private ExecutorService batchExecutor;
+    private TokenBucket rateLimiter;
+
+    // 한 번에 한 묶음만 처리 (처리 중에는 다음 주기에 새로 가져오지 않음)
+    private final AtomicBoolean batchRunning = new AtomicBoolean();
+
+    @PostConstruct
+    public void init() {
+        executor = Executors.newFixedThreadPool(workers,
+                Thread.ofPlatform().name("book-enrichment-", 0).daemon(true).factory());
+        batchExecutor = Executors.newSingleThreadExecutor(
+                Thread.ofPlatform().name("book-enrichment-batch").daemon(true).factory());
+        rateLimiter = new TokenBucket(ratePerSecond, Math.max(1, (int) ratePerSecond));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        batchExecutor.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    /**
+     * 상세 정보 보완이 필요한지 판단
+     */
+    public static boolean needsEnrichment(Book book) {
+        return book.getIsbn13() != null &&
+                (book.getTotalPage() == 0 || book.getAuthors().isEmpty());
+    }
+
+    /**
+     * 보완이 필요한 책을 대기열에 등록 (이미 등록된 ISBN 은 무시)
+     * 호출한 트랜잭션과 함께 커밋되며, 등록에 실패해도 검색은 계속된다 (주기적인 전체 점검에서 다시 등록됨).
+     */
+    public void enqueue(Collection<Book> books) {
+        List<Book> targets = books.stream()
+                .filter(BookEnrichmentService::needsEnrichment)
+                .toList();
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            jdbcTemplate.batchUpdate(ENQUEUE_SQL, targets, targets.size(), (ps, book) -> {
+                ps.setString(1, book.getIsbn13());
+                ps.setInt(2, book.getId());
+                ps.setObject(3, now);
+                ps.setObject(4, now);
+                ps.setObject(5, now);
+            });
+            log.info("상세 정보 보완 대기열 등록: {}권", targets.size());
+        } catch (DataAccessException e) {
+            log.warn("상세 정보 보완 대기열 등록 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 시작 시 기존 데이터 중 보완이 필요한 책을 대기열에 등록
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void sweepOnStartup() {
+        if (sweepOnStartup) {
+            sweep();
+        }
+    }
+
+    /**
+     * 페이지 수가 0이거나 작가가 없는 책(정리 대상)을 대기열에 등록
+     */
+    @Scheduled(cron = "${book.enrichment.sweep-cron:0 15 * * * *}")
+    public void sweep() {
+        if (!enabled) {
+            return;
+        }
+        int enqueued = taskRepository.enqueueIncompleteBooks(LocalDateTime.now());
+        if (enqueued > 0) {
+            log.info("정리 대상 책 {}권을 상세 정보 보완 대기열에 등록", enqueued);
+        }
+    }
+
+    /**
+     * 처리할 차례가 된 항목을 가져와 상세 조회와 반영은 전용 스레드에 넘김
+     */
+    @Scheduled(
+            initialDelayString = "${book.enrichment.poll-interval-ms:5000}",
+            fixedDelayString = "${book.enrichment.poll-interval-ms:5000}"
+    )
+    public void processDueTasks() {
+        processDueTasks(batchExecutor);
+    }
+
+    /**
+     * @param batchExecutor 가져온 묶음을 처리할 스레드 (테스트에서는 호출한 스레드)
+     */
+    void processDueTasks(Executor batchExecutor) {
+        if (!enabled || !batchRunning.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            List<BookEnrichmentTask> tasks = transactionTemplate.execute(status -> claim(now));
+            if (tasks == null || tasks.isEmpty()) {
+                batchRunning.set(false);
+                return;
+            }
+            batchExecutor.execute(() -> {
+                try {
+                    processBatch(tasks);
+                } finally {
+                    batchRunning.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            batchRunning.set(false);
+            throw e;
+        }
+    }
+
+    /**
+     * 상세 조회 후 한 번에 반영 (lease 안에 끝나지 않은 조회는 취소하고 다음 주기에 다시 시도)
+     */
+    private void processBatch(List<BookEnrichmentTask> tasks) {
+        Map<Integer, Future<AladinBookDto>> lookups = new LinkedHashMap<>();
+        for (BookEnrichmentTask task : tasks) {
+            lookups.put(task.getId(), executor.submit(() -> lookUp(task.getIsbn13())));
+        }
+
+        Map<Integer, AladinBookDto> details = new HashMap<>();
+        long deadline = System.nanoTime() + lease.toNanos();
+        for (Map.Entry<Integer, Future<AladinBookDto>> lookup : lookups.entrySet()) {
+            try {
+                AladinBookDto detail = lookup.getValue().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                if (detail != null) {
+                    details.put(lookup.getKey(), detail);
+                }
+            } catch (TimeoutException e) {
+                lookup.getValue().cancel(true);
+            } catch (InterruptedException e) {
+                lookups.values().forEach(future -> future.cancel(true));
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                log.warn("상세 정보 조회 중 오류: {}", e.getCause().getMessage());
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            transactionTemplate.executeWithoutResult(status -> applyDetails(tasks, details, now));
+        } catch (RuntimeException e) {
+            log.warn("상세 정보 보완 일괄 반영 실패 - 항목별로 다시 반영: {}", e.getMessage());
+            for (BookEnrichmentTask task : tasks) {
+                applyOne(task, details, now);
+            }
+        }
+    }
+
+    /**
+     * 항목 하나를 자기 트랜잭션으로 반영, 실패하면 새 트랜잭션에서 재시도 간격을 늘리거나 포기
+     */
+    private void applyOne(BookEnrichmentTask task, Map<Integer, AladinBookDto> details, LocalDateTime now) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> applyDetails(List.of(task), details, now));
+        } catch (RuntimeException e) {
+            log.warn("상세 정보 보완 반영 실패: ISBN {} - {}", task.getIsbn13(), e.getMessage());
+            transactionTemplate.executeWithoutResult(status -> taskRepository.findById(task.getId())
+                    .ifPresent(failed -> {
+                        if (retryOrGiveUp(failed, now)) {
+                            log.warn("ISBN {} 상세 정보 보완 포기 (반영 실패)", failed.getIsbn13());
+                        }
+                    }));
+        }
+    }
+
+    /**
+     * 처리할 차례가 된 항목 중 조건부 UPDATE 로 가져가는 데 성공한 항목만 반환
+     * (여러 인스턴스가 같은 항목을 읽어도 next_attempt_at 을 먼저 바꾼 쪽만 처리)
+     */
+    private List<BookEnrichmentTask> claim(LocalDateTime now) {
+        List<BookEnrichmentTask> candidates = taskRepository.findByNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+                now, PageRequest.of(0, batchSize));
+        LocalDateTime leasedUntil = now.plus(lease);
+        return candidates.stream()
+                .filter(task -> taskRepository.lease(task.getId(), task.getNextAttemptAt(), leasedUntil) == 1)
+                .toList();
+    }
+
+    private AladinBookDto lookUp(String isbn) throws InterruptedException {
+        rateLimiter.acquire();
+        return aladinApiClient.getBookDetails(isbn);
+    }
+
+    private void applyDetails(List<BookEnrichmentTask> claimed, Map<Integer, AladinBookDto> details, LocalDateTime now) {
+        List<BookEnrichmentTask> tasks = taskRepository.findAllById(
+                claimed.stream().map(BookEnrichmentTask::getId).toList());
+        Map<Integer, Book> books = bookRepository.findAllById(
+                        tasks.stream().map(BookEnrichmentTask::getBookId).toList()).stream()
+                .collect(Collectors.toMap(Book::getId, Function.identity()));
+
+        // 작가는 이름으로 한 번에 조회하고 없는 작가만 한 번에 생성
+        Set<String> authorNames = new LinkedHashSet<>();
+        for (BookEnrichmentTask task : tasks) {
+            Book book = books.get(task.getBookId());
+            AladinBookDto detail = details.get(task.getId());
+            if (book != null && detail != null && detail.getAuthors() != null && book.getAuthors().isEmpty()) {
+                authorNames.addAll(detail.getAuthors());
+            }
+        }
+        Map<String, Author> authors = bookIngestService.findOrCreateAuthors(authorNames);
+
+        List<Wrote> wrotes = new ArrayList<>();
+        List<BookEnrichmentTask> completed = new ArrayList<>();
+        for (BookEnrichmentTask task : tasks) {
+            Book book = books.get(task.getBookId());
+            if (book == null) {
+                completed.add(task);
+                continue;
+            }
+
+            AladinBookDto detail = details.get(task.getId());
+            if (detail != null) {
+                if (book.getTotalPage() == 0 && detail.getTotalPage() > 0) {
+                    book.setTotalPage(detail.getTotalPage());
+                }
+                if (book.getAuthors().isEmpty() && detail.getAuthors() != null) {
+                    // 찾지 못한 작가는 건너뛰고, 저장된 철자가 같은 작가는 한 번만 연결
+                    Set<Integer> linked = new HashSet<>();
+                    for (String authorName : new LinkedHashSet<>(detail.getAuthors())) {
+                        Author author = authors.get(authorName);
+                        if (author == null || !linked.add(author.getId())) {
+                            continue;
+                        }
+                        Wrote wrote = new Wrote(author, book);
+                        book.getAuthors().add(wrote);
+                        wrotes.add(wrote);
+                    }
+                }
+            }
+
+            if (!needsEnrichment(book)) {
+                completed.add(task);
+            } else if (retryOrGiveUp(task, now)) {
+                log.warn("정리 대상 책 ID: {} - {} 상세 정보 보완 포기 (페이지: {}, 작가: {})",
+                        book.getId(), book.getTitle(), book.getTotalPage(), book.getAuthors().size());
+            }
+        }
+
+        wroteRepository.saveAll(wrotes);
+        taskRepository.deleteAllInBatch(completed);
+        log.info("상세 정보 보완 처리: {}건 중 {}건 완료", tasks.size(), completed.size());
+    }
+
+    // 실패 횟수를 올리고 다음 시도 시각을 정함, 횟수를 다 썼으면 포기하고 true
+    private boolean retryOrGiveUp(BookEnrichmentTask task, LocalDateTime now) {
+        if (task.getAttempts() + 1 >= maxAttempts) {
+            task.giveUp();
+            return true;
+        }
+        task.retryAt(now.plus(backoff(task.getAttempts() + 1)));
+        return false;
+    }
+
+    Duration backoff(int attempts) {
+        Duration backoff = baseBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+}
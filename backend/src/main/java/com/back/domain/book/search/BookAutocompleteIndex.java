@@ -0,0 +1,527 @@
+package com.back.domain.book.search;
+
+import com.back.domain.book.search.dto.BookAutocompleteDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 자동완성용 메모리 트라이
+ * 제목/작가명의 자모 분해형과 초성형(단어 시작 위치별 접미어 포함)을 키로 넣고,
+ * 노드마다 인기도(북마크 수) 상위 TOP_K 개의 book id 를 미리 계산해 두어 조회는 접두어 길이만큼만 내려가면 된다.
+ *
+ * 메모리 상한 - 노드 하나가 Node/char[]/Node[]/int[] 를 각각 가지므로 책 수에 비례해 커진다.
+ * 두 번째 단어부터의 접미어 키는 짧게 자르고, 전체 노드 수가 maxNodes 에 닿으면 새 키는 이미 있는 노드까지만 색인한다.
+ * (그 책은 짧은 접두어로만 찾을 수 있음) 책마다 키를 보관하지 않으므로, 잘려서 색인된 위치는 키 경로에서 그 책이 종단 목록에 있는 노드로 찾는다.
+ */
+@Component
+public class BookAutocompleteIndex {
+    public static final int TOP_K = 10;
+
+    // 키 길이 제한 (자모 기준) - 긴 제목 때문에 트라이가 깊어지는 것을 방지
+    private static final int MAX_KEY_LENGTH = 40;
+    // 단어 시작 위치 접미어 최대 개수 ("자바의 정석" -> "정석" 으로도 검색)
+    private static final int MAX_WORD_STARTS = 4;
+    // 두 번째 단어부터의 접미어 키 길이 (자모 기준, 한글 4글자 정도) - 단어를 찾는 데는 이 정도면 충분
+    private static final int MAX_SUFFIX_KEY_LENGTH = 12;
+    public static final int DEFAULT_MAX_NODES = 2_000_000;
+
+    @Value("${book.autocomplete.max-nodes:" + DEFAULT_MAX_NODES + "}")
+    private int maxNodes = DEFAULT_MAX_NODES;
+
+    private int nodeCount;
+
+    private final Node root = new Node();
+    private final Map<Integer, Entry> entries = new HashMap<>();
+    private final Map<Integer, Integer> popularity = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 색인 키는 보관하지 않고 제목/작가명에서 다시 계산 (책마다 키 문자열 집합을 들고 있으면 책 수만큼 커짐)
+    private static final class Entry {
+        private String title = "";
+        private final List<String> authors = new ArrayList<>(2);
+    }
+
+    private static final class Node {
+        private static final char[] NO_LABELS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+        private static final int[] NO_IDS = new int[0];
+
+        private char[] labels = NO_LABELS;
+        private Node[] children = NO_CHILDREN;
+        private int childCount;
+        // 이 노드에서 끝나는 키를 가진 책
+        private IntPostingList terminal;
+        // 하위 트리 전체에서 인기도 상위 책 (정렬됨)
+        private int[] top = NO_IDS;
+
+        private Node child(char label) {
+            int pos = Arrays.binarySearch(labels, 0, childCount, label);
+            return pos >= 0 ? children[pos] : null;
+        }
+
+        private Node getOrCreateChild(char label) {
+            int pos = Arrays.binarySearch(labels, 0, childCount, label);
+            if (pos >= 0) {
+                return children[pos];
+            }
+            int insertAt = -pos - 1;
+            if (childCount == labels.length) {
+                int capacity = Math.max(2, childCount * 2);
+                labels = Arrays.copyOf(labels, capacity);
+                children = Arrays.copyOf(children, capacity);
+            }
+            System.arraycopy(labels, insertAt, labels, insertAt + 1, childCount - insertAt);
+            System.arraycopy(children, insertAt, children, insertAt + 1, childCount - insertAt);
+            Node node = new Node();
+            labels[insertAt] = label;
+            children[insertAt] = node;
+            childCount++;
+            return node;
+        }
+
+        private void removeChild(char label) {
+            int pos = Arrays.binarySearch(labels, 0, childCount, label);
+            if (pos < 0) {
+                return;
+            }
+            System.arraycopy(labels, pos + 1, labels, pos, childCount - pos - 1);
+            System.arraycopy(children, pos + 1, children, pos, childCount - pos - 1);
+            childCount--;
+            children[childCount] = null;
+        }
+
+        private boolean isEmpty() {
+            return childCount == 0 && (terminal == null || terminal.isEmpty());
+        }
+    }
+
+    /**
+     * 접두어로 자동완성 후보 조회 (인기도 내림차순, 같으면 최신 책 우선)
+     * 낱자 자음만 입력한 경우 초성 키로, 그 외에는 자모 분해 키로 찾는다.
+     */
+    public List<BookAutocompleteDto> suggest(String prefix, int size) {
+        boolean choseongQuery = HangulJamo.isChoseongQuery(prefix);
+        String key = choseongQuery
+                ? HangulJamo.choseong(prefix)
+                : HangulJamo.decompose(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        key = truncate(key);
+        int limit = Math.max(1, Math.min(size, TOP_K));
+
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            int depth = 0;
+            while (depth < key.length()) {
+                Node next = node.child(key.charAt(depth));
+                if (next == null) {
+                    break;
+                }
+                node = next;
+                depth++;
+            }
+            // 접미어 키는 짧게 잘려 있으므로, 그보다 긴 입력은 잘린 지점의 후보를 원문으로 다시 확인
+            boolean verify = depth < key.length();
+            if (verify && depth < MAX_SUFFIX_KEY_LENGTH) {
+                return List.of();
+            }
+
+            List<BookAutocompleteDto> result = new ArrayList<>(Math.min(limit, node.top.length));
+            for (int i = 0; i < node.top.length && result.size() < limit; i++) {
+                int bookId = node.top[i];
+                Entry entry = entries.get(bookId);
+                if (entry != null && (!verify || contains(entry, key, choseongQuery))) {
+                    result.add(new BookAutocompleteDto(bookId, entry.title, List.copyOf(entry.authors)));
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static boolean contains(Entry entry, String key, boolean choseongQuery) {
+        if (form(entry.title, choseongQuery).contains(key)) {
+            return true;
+        }
+        for (String author : entry.authors) {
+            if (form(author, choseongQuery).contains(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String form(String text, boolean choseong) {
+        return choseong ? HangulJamo.choseong(text) : HangulJamo.decompose(text);
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int nodeCount() {
+        lock.readLock().lock();
+        try {
+            return nodeCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 책 제목 색인 (제목이 바뀌었으면 기존 키를 지우고 다시 색인)
+     */
+    public void indexBook(int bookId, String title) {
+        if (title == null) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            Entry entry = entries.computeIfAbsent(bookId, id -> new Entry());
+            if (entry.title.equals(title)) {
+                return;
+            }
+            Set<String> previous = keysOf(entry);
+            entry.title = title;
+            reindex(bookId, entry, previous);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void indexAuthor(int bookId, String authorName) {
+        if (authorName == null || authorName.isBlank()) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            Entry entry = entries.computeIfAbsent(bookId, id -> new Entry());
+            if (entry.authors.contains(authorName)) {
+                return;
+            }
+            entry.authors.add(authorName);
+            for (String key : keysOf(authorName)) {
+                add(entry, key, bookId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeAuthor(int bookId, String authorName) {
+        lock.writeLock().lock();
+        try {
+            Entry entry = entries.get(bookId);
+            if (entry == null || !entry.authors.contains(authorName)) {
+                return;
+            }
+            Set<String> previous = keysOf(entry);
+            entry.authors.remove(authorName);
+            reindex(bookId, entry, previous);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeBook(int bookId) {
+        lock.writeLock().lock();
+        try {
+            Entry entry = entries.remove(bookId);
+            popularity.remove(bookId);
+            if (entry == null) {
+                return;
+            }
+            for (String key : keysOf(entry)) {
+                remove(key, bookId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 인기도 설정 (초기 구축용 - 책 색인 전에 호출하면 재계산 없이 반영됨)
+     */
+    public void setPopularity(int bookId, int value) {
+        adjustPopularity(bookId, value - popularityOf(bookId));
+    }
+
+    /**
+     * 인기도 증감 (북마크 추가/삭제)
+     */
+    public void adjustPopularity(int bookId, int delta) {
+        if (delta == 0) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            popularity.merge(bookId, delta, Integer::sum);
+            Entry entry = entries.get(bookId);
+            if (entry == null) {
+                return;
+            }
+            for (String key : keysOf(entry)) {
+                if (delta > 0) {
+                    offerAlong(key, bookId);
+                } else {
+                    refreshPath(key);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private int popularityOf(int bookId) {
+        lock.readLock().lock();
+        try {
+            return popularity.getOrDefault(bookId, 0);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 이전 키를 모두 지우고 현재 제목/작가명의 키를 다시 넣음
+    private void reindex(int bookId, Entry entry, Set<String> previous) {
+        for (String key : previous) {
+            remove(key, bookId);
+        }
+
+        for (String key : keysOf(entry.title)) {
+            add(entry, key, bookId);
+        }
+        for (String author : entry.authors) {
+            for (String key : keysOf(author)) {
+                add(entry, key, bookId);
+            }
+        }
+    }
+
+    // 같은 키를 다시 넣어도 결과는 같음 (상위 목록/종단 목록 모두 중복 무시)
+    private void add(Entry entry, String key, int bookId) {
+        String indexed = withinNodeBudget(key);
+        if (!indexed.isEmpty()) {
+            insert(indexed, bookId);
+        }
+    }
+
+    private static Set<String> keysOf(Entry entry) {
+        Set<String> keys = keysOf(entry.title);
+        for (String author : entry.authors) {
+            keys.addAll(keysOf(author));
+        }
+        return keys;
+    }
+
+    /**
+     * 노드 상한 안에서 색인할 수 있는 만큼의 키 - 이미 있는 경로는 그대로 쓰고, 새로 만들 노드가 모자라면 그만큼 자름
+     */
+    private String withinNodeBudget(String key) {
+        Node node = root;
+        int depth = 0;
+        while (depth < key.length()) {
+            Node next = node.child(key.charAt(depth));
+            if (next == null) {
+                break;
+            }
+            node = next;
+            depth++;
+        }
+        int available = Math.max(0, maxNodes - nodeCount);
+        return key.length() - depth <= available ? key : key.substring(0, depth + available);
+    }
+
+    /**
+     * 텍스트의 색인 키 - 단어 시작 위치마다 자모 분해형 / 초성형
+     */
+    static Set<String> keysOf(String text) {
+        Set<String> keys = new LinkedHashSet<>();
+        String[] words = text.trim().split("\\s+");
+        for (int start = 0; start < words.length && start < MAX_WORD_STARTS; start++) {
+            String suffix = String.join(" ", Arrays.copyOfRange(words, start, words.length));
+            int maxLength = start == 0 ? MAX_KEY_LENGTH : MAX_SUFFIX_KEY_LENGTH;
+            String decomposed = HangulJamo.decompose(suffix);
+            String choseong = HangulJamo.choseong(suffix);
+            if (!decomposed.isEmpty()) {
+                keys.add(truncate(decomposed, maxLength));
+            }
+            if (!choseong.isEmpty()) {
+                keys.add(truncate(choseong, maxLength));
+            }
+        }
+        return keys;
+    }
+
+    private static String truncate(String key) {
+        return truncate(key, MAX_KEY_LENGTH);
+    }
+
+    private static String truncate(String key, int maxLength) {
+        return key.length() > maxLength ? key.substring(0, maxLength) : key;
+    }
+
+    private void insert(String key, int bookId) {
+        Node node = root;
+        offer(node, bookId);
+        for (int i = 0; i < key.length(); i++) {
+            Node next = node.child(key.charAt(i));
+            if (next == null) {
+                next = node.getOrCreateChild(key.charAt(i));
+                nodeCount++;
+            }
+            node = next;
+            offer(node, bookId);
+        }
+        if (node.terminal == null) {
+            node.terminal = new IntPostingList();
+        }
+        node.terminal.add(bookId);
+    }
+
+    // 키가 잘려서 색인됐을 수 있으므로 경로상의 모든 종단 목록에서 제거 (호출하는 쪽은 책의 키를 모두 지우고 다시 넣음)
+    private void remove(String key, int bookId) {
+        Node node = root;
+        boolean removed = false;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.child(key.charAt(i));
+            if (node != null && node.terminal != null && node.terminal.contains(bookId)) {
+                node.terminal.remove(bookId);
+                removed = true;
+            }
+        }
+        if (removed) {
+            refreshPath(key);
+        }
+    }
+
+    // 인기도가 오른 경우 - 책이 색인된 깊이까지 경로상의 상위 목록에 다시 넣기만 하면 됨
+    private void offerAlong(String key, int bookId) {
+        Node[] path = new Node[key.length() + 1];
+        path[0] = root;
+        int indexedDepth = -1;
+        int depth = 0;
+        while (depth < key.length()) {
+            Node next = path[depth].child(key.charAt(depth));
+            if (next == null) {
+                break;
+            }
+            path[++depth] = next;
+            if (next.terminal != null && next.terminal.contains(bookId)) {
+                indexedDepth = depth;
+            }
+        }
+        for (int i = 0; i <= indexedDepth; i++) {
+            offer(path[i], bookId);
+        }
+    }
+
+    /**
+     * 책 제거/인기도 감소 시 - 키 경로의 노드를 아래에서부터 자식 상위 목록과 자기 책으로 다시 계산
+     * 비어버린 노드는 부모에서 떼어냄
+     */
+    private void refreshPath(String key) {
+        Node[] path = new Node[key.length() + 1];
+        path[0] = root;
+        int depth = 0;
+        while (depth < key.length()) {
+            Node next = path[depth].child(key.charAt(depth));
+            if (next == null) {
+                break;
+            }
+            path[++depth] = next;
+        }
+
+        for (int i = depth; i >= 0; i--) {
+            Node node = path[i];
+            if (i > 0 && node.isEmpty()) {
+                path[i - 1].removeChild(key.charAt(i - 1));
+                nodeCount--;
+                continue;
+            }
+            recompute(node);
+        }
+    }
+
+    private void recompute(Node node) {
+        node.top = Node.NO_IDS;
+        if (node.terminal != null) {
+            for (int bookId : node.terminal.toArray()) {
+                offer(node, bookId);
+            }
+        }
+        for (int i = 0; i < node.childCount; i++) {
+            for (int bookId : node.children[i].top) {
+                offer(node, bookId);
+            }
+        }
+    }
+
+    /**
+     * 노드 상위 목록에 책 반영 (이미 있으면 현재 인기도 기준으로 자리 이동)
+     */
+    private void offer(Node node, int bookId) {
+        int[] top = node.top;
+        int size = top.length;
+
+        int existing = -1;
+        for (int i = 0; i < size; i++) {
+            if (top[i] == bookId) {
+                existing = i;
+                break;
+            }
+        }
+        if (existing >= 0) {
+            int[] removed = new int[size - 1];
+            System.arraycopy(top, 0, removed, 0, existing);
+            System.arraycopy(top, existing + 1, removed, existing, size - existing - 1);
+            top = removed;
+            size--;
+        }
+
+        int insertAt = size;
+        while (insertAt > 0 && ranksBefore(bookId, top[insertAt - 1])) {
+            insertAt--;
+        }
+        if (insertAt >= TOP_K) {
+            node.top = top;
+            return;
+        }
+
+        int newSize = Math.min(size + 1, TOP_K);
+        int[] updated = new int[newSize];
+        System.arraycopy(top, 0, updated, 0, insertAt);
+        updated[insertAt] = bookId;
+        System.arraycopy(top, insertAt, updated, insertAt + 1, newSize - insertAt - 1);
+        node.top = updated;
+    }
+
+    private boolean ranksBefore(int a, int b) {
+        int pa = popularity.getOrDefault(a, 0);
+        int pb = popularity.getOrDefault(b, 0);
+        if (pa != pb) {
+            return pa > pb;
+        }
+        return a > b;
+    }
+}
@@ -0,0 +1,234 @@
+package com.back.domain.book.search;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 책 제목/작가명 검색용 메모리 n-gram 역색인
+ * n-gram 키 -> book id 포스팅 리스트로 후보를 좁힌 뒤, 보관 중인 정규화 원문으로 부분 일치를 검증해서
+ * DB 의 lower(...) like '%q%' 와 같은 결과를 돌려준다.
+ * 색인이 아직 준비되지 않았거나 검색어가 너무 짧으면 null 을 반환하고, 호출 측은 DB 검색으로 대체한다.
+ */
+@Component
+public class BookSearchIndex {
+
+    private final Map<Long, IntPostingList> postings = new HashMap<>();
+    private final Map<Integer, Entry> entries = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile boolean ready;
+
+    // 책별 정규화된 제목/작가명 (검증 및 재색인 시 기존 n-gram 제거용)
+    private static final class Entry {
+        private String title = "";
+        private final List<String> authorNames = new ArrayList<>(2);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    void markReady() {
+        ready = true;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 책 제목 색인 (이미 색인된 책이면 이전 제목의 n-gram 을 지우고 다시 색인)
+     */
+    public void indexBook(int bookId, String title) {
+        String normalized = NGramTokenizer.normalize(title);
+
+        lock.writeLock().lock();
+        try {
+            Entry entry = entries.computeIfAbsent(bookId, id -> new Entry());
+            if (entry.title.equals(normalized)) {
+                return;
+            }
+            String previous = entry.title;
+            entry.title = normalized;
+            unlink(bookId, previous, entry);
+            link(bookId, normalized);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 책의 작가명 색인
+     */
+    public void indexAuthor(int bookId, String authorName) {
+        String normalized = NGramTokenizer.normalize(authorName);
+        if (normalized.isEmpty()) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            Entry entry = entries.computeIfAbsent(bookId, id -> new Entry());
+            if (entry.authorNames.contains(normalized)) {
+                return;
+            }
+            entry.authorNames.add(normalized);
+            link(bookId, normalized);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeAuthor(int bookId, String authorName) {
+        String normalized = NGramTokenizer.normalize(authorName);
+
+        lock.writeLock().lock();
+        try {
+            Entry entry = entries.get(bookId);
+            if (entry == null || !entry.authorNames.remove(normalized)) {
+                return;
+            }
+            unlink(bookId, normalized, entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeBook(int bookId) {
+        lock.writeLock().lock();
+        try {
+            Entry entry = entries.remove(bookId);
+            if (entry == null) {
+                return;
+            }
+            unlinkAll(bookId, entry.title);
+            for (String name : entry.authorNames) {
+                unlinkAll(bookId, name);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 제목 또는 작가명에 검색어가 포함된 book id 목록 (오름차순)
+     *
+     * @return 색인으로 처리할 수 없으면 null (색인 준비 전, 검색어 2글자 미만)
+     */
+    public int[] search(String query) {
+        if (!ready || query == null) {
+            return null;
+        }
+
+        String normalized = NGramTokenizer.normalize(query);
+        long[] keys = NGramTokenizer.queryKeys(normalized);
+        if (keys.length == 0) {
+            return null;
+        }
+
+        lock.readLock().lock();
+        try {
+            IntPostingList[] lists = new IntPostingList[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                IntPostingList list = postings.get(keys[i]);
+                if (list == null) {
+                    return new int[0];
+                }
+                lists[i] = list;
+            }
+
+            // 가장 짧은 포스팅 리스트부터 교집합
+            Arrays.sort(lists, (a, b) -> Integer.compare(a.size(), b.size()));
+            int[] candidates = lists[0].toArray();
+            for (int i = 1; i < lists.length && candidates.length > 0; i++) {
+                candidates = lists[i].intersect(candidates);
+            }
+
+            // n-gram 이 모두 있어도 순서/위치가 다를 수 있으므로 원문으로 검증
+            int n = 0;
+            for (int id : candidates) {
+                if (matches(entries.get(id), normalized)) {
+                    candidates[n++] = id;
+                }
+            }
+            return Arrays.copyOf(candidates, n);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean matches(Entry entry, String normalizedQuery) {
+        if (entry == null) {
+            return false;
+        }
+        if (entry.title.contains(normalizedQuery)) {
+            return true;
+        }
+        for (String name : entry.authorNames) {
+            if (name.contains(normalizedQuery)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void link(int bookId, String normalized) {
+        for (long key : NGramTokenizer.indexKeys(normalized)) {
+            postings.computeIfAbsent(key, k -> new IntPostingList()).add(bookId);
+        }
+    }
+
+    // 같은 책의 다른 필드(제목/작가명)에도 있는 n-gram 은 남겨둠
+    private void unlink(int bookId, String normalized, Entry entry) {
+        if (normalized.isEmpty()) {
+            return;
+        }
+        long[] remaining = remainingKeys(entry);
+        for (long key : NGramTokenizer.indexKeys(normalized)) {
+            if (Arrays.binarySearch(remaining, key) < 0) {
+                removePosting(key, bookId);
+            }
+        }
+    }
+
+    private void unlinkAll(int bookId, String normalized) {
+        for (long key : NGramTokenizer.indexKeys(normalized)) {
+            removePosting(key, bookId);
+        }
+    }
+
+    private long[] remainingKeys(Entry entry) {
+        long[] keys = NGramTokenizer.indexKeys(entry.title);
+        for (String name : entry.authorNames) {
+            long[] nameKeys = NGramTokenizer.indexKeys(name);
+            long[] merged = Arrays.copyOf(keys, keys.length + nameKeys.length);
+            System.arraycopy(nameKeys, 0, merged, keys.length, nameKeys.length);
+            keys = merged;
+        }
+        Arrays.sort(keys);
+        return keys;
+    }
+
+    private void removePosting(long key, int bookId) {
+        IntPostingList list = postings.get(key);
+        if (list == null) {
+            return;
+        }
+        list.remove(bookId);
+        if (list.isEmpty()) {
+            postings.remove(key);
+        }
+    }
+}
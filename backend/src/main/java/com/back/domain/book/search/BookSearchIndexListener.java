@@ -0,0 +1,46 @@
+package com.back.domain.book.search;
+
+import com.back.domain.book.book.entity.Book;
+import com.back.domain.book.wrote.entity.Wrote;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Book / Wrote 엔티티 변경을 검색 색인과 자동완성 색인에 반영하는 JPA 엔티티 리스너
+ * (새 제목/작가명으로 찾을 수 있게 된 검색어는 결과 없음 캐시에서도 제거)
+ * (BookService 의 책/작가 저장뿐 아니라 다른 경로의 저장도 함께 반영됨)
+ * 롤백된 변경이 색인에 남더라도 검색 결과는 DB 에서 id 로 다시 조회하므로 없는 책이 노출되지는 않는다.
+ */
+@RequiredArgsConstructor
+public class BookSearchIndexListener {
+    private final BookSearchIndex bookSearchIndex;
+    private final BookAutocompleteIndex bookAutocompleteIndex;
+    private final NegativeSearchCache negativeSearchCache;
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Object entity) {
+        if (entity instanceof Book book) {
+            bookSearchIndex.indexBook(book.getId(), book.getTitle());
+            bookAutocompleteIndex.indexBook(book.getId(), book.getTitle());
+            negativeSearchCache.invalidateMatching(book.getTitle());
+        } else if (entity instanceof Wrote wrote) {
+            bookSearchIndex.indexAuthor(wrote.getBook().getId(), wrote.getAuthor().getName());
+            bookAutocompleteIndex.indexAuthor(wrote.getBook().getId(), wrote.getAuthor().getName());
+            negativeSearchCache.invalidateMatching(wrote.getAuthor().getName());
+        }
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        if (entity instanceof Book book) {
+            bookSearchIndex.removeBook(book.getId());
+            bookAutocompleteIndex.removeBook(book.getId());
+        } else if (entity instanceof Wrote wrote) {
+            bookSearchIndex.removeAuthor(wrote.getBook().getId(), wrote.getAuthor().getName());
+            bookAutocompleteIndex.removeAuthor(wrote.getBook().getId(), wrote.getAuthor().getName());
+        }
+    }
+}
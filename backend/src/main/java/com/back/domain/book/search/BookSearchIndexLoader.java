@@ -0,0 +1,90 @@
+package com.back.domain.book.search;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static com.back.domain.book.author.entity.QAuthor.author;
+import static com.back.domain.book.book.entity.QBook.book;
+import static com.back.domain.book.wrote.entity.QWrote.wrote;
+import static com.back.domain.bookmarks.entity.QBookmark.bookmark;
+
+/**
+ * 애플리케이션 시작 시 DB 의 책 제목/작가명으로 검색 색인과 자동완성 색인 구축
+ * 이후 변경분은 BookSearchIndexListener 가 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookSearchIndexLoader {
+    private static final int CHUNK_SIZE = 10_000;
+
+    private final JPAQueryFactory queryFactory;
+    private final BookSearchIndex bookSearchIndex;
+    private final BookAutocompleteIndex bookAutocompleteIndex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        long start = System.currentTimeMillis();
+
+        // 인기도를 먼저 넣어두면 책 색인 시 상위 목록을 다시 계산할 필요가 없음
+        List<Tuple> bookmarkCounts = queryFactory
+                .select(bookmark.book.id, bookmark.count())
+                .from(bookmark)
+                .groupBy(bookmark.book.id)
+                .fetch();
+        for (Tuple row : bookmarkCounts) {
+            bookAutocompleteIndex.setPopularity(row.get(bookmark.book.id), row.get(bookmark.count()).intValue());
+        }
+
+        int lastBookId = 0;
+        while (true) {
+            List<Tuple> rows = queryFactory
+                    .select(book.id, book.title)
+                    .from(book)
+                    .where(book.id.gt(lastBookId))
+                    .orderBy(book.id.asc())
+                    .limit(CHUNK_SIZE)
+                    .fetch();
+            for (Tuple row : rows) {
+                bookSearchIndex.indexBook(row.get(book.id), row.get(book.title));
+                bookAutocompleteIndex.indexBook(row.get(book.id), row.get(book.title));
+            }
+            if (rows.size() < CHUNK_SIZE) {
+                break;
+            }
+            lastBookId = rows.get(rows.size() - 1).get(book.id);
+        }
+
+        int lastWroteId = 0;
+        while (true) {
+            List<Tuple> rows = queryFactory
+                    .select(wrote.id, wrote.book.id, author.name)
+                    .from(wrote)
+                    .join(wrote.author, author)
+                    .where(wrote.id.gt(lastWroteId))
+                    .orderBy(wrote.id.asc())
+                    .limit(CHUNK_SIZE)
+                    .fetch();
+            for (Tuple row : rows) {
+                bookSearchIndex.indexAuthor(row.get(wrote.book.id), row.get(author.name));
+                bookAutocompleteIndex.indexAuthor(row.get(wrote.book.id), row.get(author.name));
+            }
+            if (rows.size() < CHUNK_SIZE) {
+                break;
+            }
+            lastWroteId = rows.get(rows.size() - 1).get(wrote.id);
+        }
+
+        bookSearchIndex.markReady();
+        log.info("검색 색인 구축 완료: 책 {}권, {}ms", bookSearchIndex.size(), System.currentTimeMillis() - start);
+    }
+}
@@ -0,0 +1,136 @@
+package com.back.domain.book.search;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * 한글 자모 분해 / 초성 추출
+ * 완성형 음절은 호환용 자모(ㄱ, ㅏ ...)로 분해하고, 겹모음(ㅘ)과 겹받침(ㄳ)은 입력 순서대로 두 글자로 나눈다.
+ * 그래서 입력 중인 "잡" 도 "자바" 의 분해형 ㅈㅏㅂㅏ 의 접두어가 된다.
+ */
+public final class HangulJamo {
+    private static final char SYLLABLE_BASE = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+
+    private static final char CONSONANT_FIRST = 'ㄱ';
+    private static final char CONSONANT_LAST = 'ㅎ';
+
+    private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String[] JUNGSEONG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ",
+            "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    private static final String[] JONGSEONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+            "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    // 낱자로 입력된 겹자음/겹모음 분해
+    private static final String COMPOUND = "ㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄㅘㅙㅚㅝㅞㅟㅢ";
+    private static final String[] COMPOUND_SPLIT = {
+            "ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅂㅅ",
+            "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ"
+    };
+
+    private HangulJamo() {
+    }
+
+    /**
+     * 자모 분해형 - 소문자 변환, 연속 공백은 하나로
+     */
+    public static String decompose(String text) {
+        String normalized = normalize(text);
+        StringBuilder sb = new StringBuilder(normalized.length() * 3);
+        boolean space = false;
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isWhitespace(c)) {
+                space = sb.length() > 0;
+                continue;
+            }
+            if (space) {
+                sb.append(' ');
+                space = false;
+            }
+            if (isSyllable(c)) {
+                int offset = c - SYLLABLE_BASE;
+                sb.append(CHOSEONG.charAt(offset / (JUNGSEONG_COUNT * JONGSEONG_COUNT)));
+                sb.append(JUNGSEONG[offset % (JUNGSEONG_COUNT * JONGSEONG_COUNT) / JONGSEONG_COUNT]);
+                sb.append(JONGSEONG[offset % JONGSEONG_COUNT]);
+            } else {
+                appendJamo(sb, c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 초성형 - 음절은 초성만, 영문/숫자는 그대로 두고 공백과 기호는 제거
+     */
+    public static String choseong(String text) {
+        String normalized = normalize(text);
+        StringBuilder sb = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (isSyllable(c)) {
+                sb.append(CHOSEONG.charAt((c - SYLLABLE_BASE) / (JUNGSEONG_COUNT * JONGSEONG_COUNT)));
+            } else if (isConsonant(c)) {
+                appendJamo(sb, c);
+            } else if (Character.isLetterOrDigit(c) && !isJamo(c)) {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 공백을 제외하고 모두 낱자 자음인 입력 (예: ㅈㅂㅇㅈㅅ)
+     */
+    public static boolean isChoseongQuery(String text) {
+        if (text == null) {
+            return false;
+        }
+        boolean hasConsonant = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (!isConsonant(c)) {
+                return false;
+            }
+            hasConsonant = true;
+        }
+        return hasConsonant;
+    }
+
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+
+    private static void appendJamo(StringBuilder sb, char c) {
+        int compound = COMPOUND.indexOf(c);
+        if (compound >= 0) {
+            sb.append(COMPOUND_SPLIT[compound]);
+        } else {
+            sb.append(c);
+        }
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BASE && c <= SYLLABLE_LAST;
+    }
+
+    private static boolean isConsonant(char c) {
+        return c >= CONSONANT_FIRST && c <= CONSONANT_LAST;
+    }
+
+    private static boolean isJamo(char c) {
+        return c >= CONSONANT_FIRST && c <= 'ㅣ';
+    }
+}
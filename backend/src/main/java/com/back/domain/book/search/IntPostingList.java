@@ -0,0 +1,89 @@
+package com.back.domain.book.search;
+
+import java.util.Arrays;
+
+/**
+ * 정렬된 int 배열 기반 포스팅 리스트 (book id 목록)
+ * 박싱 없이 id 를 보관하며, 대부분 id 가 증가하는 순서로 들어오므로 append 가 일반적인 경로
+ */
+final class IntPostingList {
+    private static final int[] EMPTY = new int[0];
+
+    private int[] ids = EMPTY;
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * id 추가 (이미 있으면 무시)
+     */
+    void add(int id) {
+        if (size == 0 || ids[size - 1] < id) {
+            ensureCapacity(size + 1);
+            ids[size++] = id;
+            return;
+        }
+
+        int pos = Arrays.binarySearch(ids, 0, size, id);
+        if (pos >= 0) {
+            return;
+        }
+
+        int insertAt = -pos - 1;
+        ensureCapacity(size + 1);
+        System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+        ids[insertAt] = id;
+        size++;
+    }
+
+    void remove(int id) {
+        int pos = Arrays.binarySearch(ids, 0, size, id);
+        if (pos < 0) {
+            return;
+        }
+        System.arraycopy(ids, pos + 1, ids, pos, size - pos - 1);
+        size--;
+    }
+
+    boolean contains(int id) {
+        return Arrays.binarySearch(ids, 0, size, id) >= 0;
+    }
+
+    int[] toArray() {
+        return Arrays.copyOf(ids, size);
+    }
+
+    /**
+     * 정렬된 id 배열과의 교집합
+     */
+    int[] intersect(int[] sorted) {
+        int[] result = new int[Math.min(sorted.length, size)];
+        int i = 0, j = 0, n = 0;
+        while (i < sorted.length && j < size) {
+            int a = sorted[i];
+            int b = ids[j];
+            if (a == b) {
+                result[n++] = a;
+                i++;
+                j++;
+            } else if (a < b) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, n);
+    }
+
+    private void ensureCapacity(int required) {
+        if (required > ids.length) {
+            ids = Arrays.copyOf(ids, Math.max(4, Math.max(required, ids.length + (ids.length >> 1))));
+        }
+    }
+}
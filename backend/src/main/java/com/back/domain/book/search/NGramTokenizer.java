@@ -0,0 +1,88 @@
+package com.back.domain.book.search;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * 검색 색인용 문자 n-gram 분리기
+ * 한글 음절은 코드 포인트 단위로 한 글자로 취급하고, NFC 정규화로 조합형(자모 분리) 입력도 완성형 음절로 맞춘다.
+ * n-gram 은 (n, 코드 포인트 최대 3개)를 long 하나에 담아 키로 사용한다.
+ */
+public final class NGramTokenizer {
+    public static final int MIN_GRAM = 2;
+    public static final int MAX_GRAM = 3;
+
+    // BMP 밖의 문자는 하나의 값으로 뭉쳐서 키에 담음 (오탐은 원문 검증 단계에서 걸러짐)
+    private static final int OUT_OF_BMP = 0xFFFF;
+
+    private NGramTokenizer() {
+    }
+
+    /**
+     * 검색/색인 공통 정규화 - DB 의 lower(...) like 와 같은 대소문자 무시 비교가 되도록 소문자 변환
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 색인용 - 2-gram, 3-gram 키 전체 (중복 제거, 정렬됨)
+     */
+    static long[] indexKeys(String normalized) {
+        int[] codePoints = normalized.codePoints().toArray();
+        long[] keys = new long[Math.max(0, codePoints.length - 1) + Math.max(0, codePoints.length - 2)];
+        int n = 0;
+        for (int gram = MIN_GRAM; gram <= MAX_GRAM; gram++) {
+            for (int i = 0; i + gram <= codePoints.length; i++) {
+                keys[n++] = key(codePoints, i, gram);
+            }
+        }
+        return distinct(keys, n);
+    }
+
+    /**
+     * 검색용 - 검색어 길이가 3 이상이면 더 선택적인 3-gram, 2 이면 2-gram 키
+     * 길이가 2 미만이면 빈 배열 (n-gram 으로 찾을 수 없음)
+     */
+    static long[] queryKeys(String normalized) {
+        int[] codePoints = normalized.codePoints().toArray();
+        if (codePoints.length < MIN_GRAM) {
+            return new long[0];
+        }
+
+        int gram = Math.min(MAX_GRAM, codePoints.length);
+        long[] keys = new long[codePoints.length - gram + 1];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = key(codePoints, i, gram);
+        }
+        return distinct(keys, keys.length);
+    }
+
+    private static long key(int[] codePoints, int from, int gram) {
+        long key = gram;
+        for (int i = 0; i < MAX_GRAM; i++) {
+            int c = i < gram ? codePoints[from + i] : 0;
+            key = (key << 16) | (c > OUT_OF_BMP ? OUT_OF_BMP : c);
+        }
+        return key;
+    }
+
+    private static long[] distinct(long[] keys, int length) {
+        if (length == 0) {
+            return new long[0];
+        }
+        long[] sorted = Arrays.copyOf(keys, length);
+        Arrays.sort(sorted);
+        int n = 1;
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] != sorted[n - 1]) {
+                sorted[n++] = sorted[i];
+            }
+        }
+        return Arrays.copyOf(sorted, n);
+    }
+}
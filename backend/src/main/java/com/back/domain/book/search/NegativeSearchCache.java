@@ -0,0 +1,269 @@
+package com.back.domain.book.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * DB 와 알라딘 모두에서 결과가 없었던 검색어 캐시
+ * 같은 검색어가 다시 들어오면 DB 검색/알라딘 호출 없이 바로 빈 결과를 반환한다.
+ * - 카운팅 블룸 필터: 대부분의 (처음 보는) 검색어는 잠금 없이 바로 통과
+ * - LRU: 검색어별 만료 시각과 연속 실패 횟수. 실패가 반복될수록 TTL 을 두 배씩 늘림 (최대 maxTtl)
+ * 새 책/작가가 저장되면 제목이나 작가명에 포함되는 검색어는 제거한다.
+ * 검색어는 n-gram 하나로도 색인해 두어서, 제목/작가명마다 그 n-gram 을 가진 검색어만 포함 여부를 확인한다.
+ * (제목/작가명에 포함된 검색어라면 그 검색어의 n-gram 도 제목/작가명에 있음)
+ */
+@Slf4j
+@Component
+public class NegativeSearchCache {
+    // 카운터 수 (2의 거듭제곱) / 해시 함수 수
+    private static final int BLOOM_SIZE = 1 << 17;
+    private static final int BLOOM_HASHES = 3;
+
+    // 무효화할 때 잠금을 한 번 잡고 확인하는 제목/작가명 수 (사이사이 검색 요청이 캐시를 볼 수 있도록)
+    private static final int INVALIDATE_CHUNK = 32;
+
+    @Value("${book.search.negative-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${book.search.negative-cache.max-entries:10000}")
+    private int maxEntries;
+
+    @Value("${book.search.negative-cache.base-ttl:1m}")
+    private Duration baseTtl;
+
+    @Value("${book.search.negative-cache.max-ttl:1h}")
+    private Duration maxTtl;
+
+    private final byte[] bloom = new byte[BLOOM_SIZE];
+
+    private static final class Miss {
+        private int count;
+        private long expiresAt;
+    }
+
+    // 만료된 항목도 실패 횟수를 기억하도록 남겨 두고, 용량을 넘으면 오래된 것부터 제거
+    private final LinkedHashMap<String, Miss> misses = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Miss> eldest) {
+            if (size() > maxEntries) {
+                bloomRemove(eldest.getKey());
+                unindex(eldest.getKey());
+                return true;
+            }
+            return false;
+        }
+    };
+
+    // 검색어의 n-gram 하나 -> 검색어 (misses 잠금 안에서만 사용), n-gram 을 만들 수 없는 한 글자 검색어는 따로 보관
+    private final Map<Long, Set<String>> keysByGram = new HashMap<>();
+    private final Set<String> shortKeys = new HashSet<>();
+
+    private record Text(String normalized, long[] grams) {
+    }
+
+    /**
+     * 최근에 결과가 없었던 검색어인지 확인
+     */
+    public boolean isKnownMiss(String query) {
+        if (!enabled || query == null) {
+            return false;
+        }
+        String key = NGramTokenizer.normalize(query);
+        if (!bloomMightContain(key)) {
+            return false;
+        }
+        synchronized (misses) {
+            Miss miss = misses.get(key);
+            return miss != null && miss.expiresAt > System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * 결과 없음 기록 - 연속으로 실패할 때마다 TTL 두 배
+     */
+    public void recordMiss(String query) {
+        if (!enabled || query == null) {
+            return;
+        }
+        String key = NGramTokenizer.normalize(query);
+        synchronized (misses) {
+            Miss miss = misses.get(key);
+            if (miss == null) {
+                miss = new Miss();
+                misses.put(key, miss);
+                bloomAdd(key);
+                index(key);
+            }
+            miss.count++;
+            miss.expiresAt = System.currentTimeMillis() + ttlFor(miss.count);
+            log.debug("검색 결과 없음 기록: {} ({}회, {}ms)", key, miss.count, miss.expiresAt - System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * 새로 저장된 제목/작가명에 포함되는 검색어 제거 (이제는 DB 에서 찾을 수 있음)
+     */
+    public void invalidateMatching(String text) {
+        if (text != null) {
+            invalidateMatching(List.of(text));
+        }
+    }
+
+    /**
+     * 여러 제목/작가명을 한 번에 무효화 - 일괄 저장 후 한 번 호출
+     */
+    public void invalidateMatching(Collection<String> texts) {
+        if (!enabled || texts.isEmpty()) {
+            return;
+        }
+        synchronized (misses) {
+            if (misses.isEmpty()) {
+                return;
+            }
+        }
+
+        // 정규화와 n-gram 계산은 잠금 밖에서
+        Set<String> normalizedTexts = new LinkedHashSet<>();
+        for (String text : texts) {
+            if (text != null && !text.isBlank()) {
+                normalizedTexts.add(NGramTokenizer.normalize(text));
+            }
+        }
+        List<Text> prepared = new ArrayList<>(normalizedTexts.size());
+        for (String normalized : normalizedTexts) {
+            prepared.add(new Text(normalized, NGramTokenizer.indexKeys(normalized)));
+        }
+
+        for (int from = 0; from < prepared.size(); from += INVALIDATE_CHUNK) {
+            List<Text> chunk = prepared.subList(from, Math.min(from + INVALIDATE_CHUNK, prepared.size()));
+            synchronized (misses) {
+                for (Text text : chunk) {
+                    invalidate(text);
+                }
+            }
+        }
+    }
+
+    // misses 잠금 안에서 호출 - 텍스트의 n-gram 으로 색인된 검색어와 한 글자 검색어만 확인
+    private void invalidate(Text text) {
+        List<String> matched = new ArrayList<>();
+        for (long gram : text.grams()) {
+            Set<String> keys = keysByGram.get(gram);
+            if (keys != null) {
+                for (String key : keys) {
+                    if (text.normalized().contains(key)) {
+                        matched.add(key);
+                    }
+                }
+            }
+        }
+        for (String key : shortKeys) {
+            if (text.normalized().contains(key)) {
+                matched.add(key);
+            }
+        }
+        for (String key : matched) {
+            if (misses.remove(key) != null) {
+                bloomRemove(key);
+                unindex(key);
+            }
+        }
+    }
+
+    // 검색어의 n-gram 중 하나로 색인 (검색어가 포함된 텍스트에는 그 n-gram 이 반드시 있음)
+    private void index(String key) {
+        long[] grams = NGramTokenizer.queryKeys(key);
+        if (grams.length == 0) {
+            shortKeys.add(key);
+        } else {
+            keysByGram.computeIfAbsent(grams[0], gram -> new HashSet<>()).add(key);
+        }
+    }
+
+    private void unindex(String key) {
+        long[] grams = NGramTokenizer.queryKeys(key);
+        if (grams.length == 0) {
+            shortKeys.remove(key);
+            return;
+        }
+        Set<String> keys = keysByGram.get(grams[0]);
+        if (keys != null && keys.remove(key) && keys.isEmpty()) {
+            keysByGram.remove(grams[0]);
+        }
+    }
+
+    int size() {
+        synchronized (misses) {
+            return misses.size();
+        }
+    }
+
+    long ttlFor(int missCount) {
+        int shift = Math.min(missCount - 1, 30);
+        long ttl = baseTtl.toMillis() << shift;
+        return ttl <= 0 ? maxTtl.toMillis() : Math.min(ttl, maxTtl.toMillis());
+    }
+
+    private boolean bloomMightContain(String key) {
+        long hash = hash(key);
+        for (int i = 0; i < BLOOM_HASHES; i++) {
+            if (bloom[slot(hash, i)] == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void bloomAdd(String key) {
+        long hash = hash(key);
+        for (int i = 0; i < BLOOM_HASHES; i++) {
+            int slot = slot(hash, i);
+            // 포화된 카운터는 더 이상 증감하지 않음 (삭제 시 잘못 0이 되지 않도록)
+            if (bloom[slot] != -1) {
+                bloom[slot]++;
+            }
+        }
+    }
+
+    private void bloomRemove(String key) {
+        long hash = hash(key);
+        for (int i = 0; i < BLOOM_HASHES; i++) {
+            int slot = slot(hash, i);
+            if (bloom[slot] != 0 && bloom[slot] != -1) {
+                bloom[slot]--;
+            }
+        }
+    }
+
+    // 하나의 64비트 해시에서 두 값을 나눠 i 번째 위치 계산 (double hashing)
+    private int slot(long hash, int i) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        return (h1 + i * h2) & (BLOOM_SIZE - 1);
+    }
+
+    private long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        // 하위 비트가 고르게 섞이도록 마무리
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,10 @@
+package com.back.domain.book.search.dto;
+
+import java.util.List;
+
+public record BookAutocompleteDto(
+        int id,
+        String title,
+        List<String> authors
+) {
+}
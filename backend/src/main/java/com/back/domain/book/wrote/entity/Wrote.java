@@ -2,8 +2,10 @@ package com.back.domain.book.wrote.entity;
 
 import com.back.domain.book.author.entity.Author;
 import com.back.domain.book.book.entity.Book;
+import com.back.domain.book.search.BookSearchIndexListener;
 import com.back.global.jpa.entity.BaseEntity;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -13,6 +15,7 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor
+@EntityListeners(BookSearchIndexListener.class)
 public class Wrote extends BaseEntity {
     @ManyToOne (fetch = FetchType.LAZY)
     @JoinColumn(name = "author_id", nullable = false)
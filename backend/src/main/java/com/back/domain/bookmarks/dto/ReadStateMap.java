@@ -0,0 +1,88 @@
+package com.back.domain.bookmarks.dto;
+
+import com.back.domain.bookmarks.constant.ReadState;
+
+import java.util.Arrays;
+
+/**
+ * 책 id -> 읽기 상태 조회용 맵 (읽기 전용)
+ * 정렬된 int[] 책 id 와 byte[] 상태(ReadState ordinal)로 보관하고 이진 탐색으로 조회한다.
+ * Map&lt;Integer, ReadState&gt; 처럼 항목마다 박싱/엔트리 객체를 만들지 않음
+ */
+public final class ReadStateMap {
+    public static final ReadStateMap EMPTY = new ReadStateMap(new int[0], new byte[0]);
+
+    private static final ReadState[] STATES = ReadState.values();
+
+    private final int[] bookIds;
+    private final byte[] states;
+
+    private ReadStateMap(int[] bookIds, byte[] states) {
+        this.bookIds = bookIds;
+        this.states = states;
+    }
+
+    /**
+     * @return 북마크하지 않은 책이면 null
+     */
+    public ReadState get(int bookId) {
+        int index = Arrays.binarySearch(bookIds, bookId);
+        return index < 0 ? null : STATES[states[index]];
+    }
+
+    public int size() {
+        return bookIds.length;
+    }
+
+    public boolean isEmpty() {
+        return bookIds.length == 0;
+    }
+
+    public static Builder builder(int expectedSize) {
+        return new Builder(expectedSize);
+    }
+
+    public static class Builder {
+        // 상위 32비트: 책 id, 하위 8비트: 상태 - 한 번의 정렬로 id 순서를 맞춤
+        private long[] entries;
+        private int size;
+
+        private Builder(int expectedSize) {
+            this.entries = new long[Math.max(expectedSize, 4)];
+        }
+
+        public Builder put(int bookId, ReadState readState) {
+            if (readState == null) {
+                return this;
+            }
+            if (size == entries.length) {
+                entries = Arrays.copyOf(entries, size * 2);
+            }
+            entries[size++] = ((long) bookId << 32) | readState.ordinal();
+            return this;
+        }
+
+        public ReadStateMap build() {
+            if (size == 0) {
+                return EMPTY;
+            }
+            long[] sorted = Arrays.copyOf(entries, size);
+            Arrays.sort(sorted);
+
+            int[] bookIds = new int[size];
+            byte[] states = new byte[size];
+            int count = 0;
+            for (long entry : sorted) {
+                int bookId = (int) (entry >> 32);
+                // 같은 책이 중복으로 들어오면 하나만 유지
+                if (count > 0 && bookIds[count - 1] == bookId) {
+                    count--;
+                }
+                bookIds[count] = bookId;
+                states[count] = (byte) entry;
+                count++;
+            }
+            return new ReadStateMap(Arrays.copyOf(bookIds, count), Arrays.copyOf(states, count));
+        }
+    }
+}
@@ -1,12 +1,16 @@
 package com.back.domain.bookmarks.repository;
 
 import com.back.domain.bookmarks.dto.ReadStateCount;
+import com.back.domain.bookmarks.dto.ReadStateMap;
 import com.back.domain.bookmarks.entity.Bookmark;
 import com.back.domain.member.member.entity.Member;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
+
 public interface BookmarkRepositoryCustom {
     Page<Bookmark> search(Member member, String category, String state, String keyword, Pageable pageable);
     ReadStateCount countReadState(Member member, String category, String state, String keyword);
+    ReadStateMap findReadStates(Member member, Collection<Integer> bookIds);
 }
@@ -2,6 +2,7 @@ package com.back.domain.bookmarks.repository;
 
 import com.back.domain.bookmarks.constant.ReadState;
 import com.back.domain.bookmarks.dto.ReadStateCount;
+import com.back.domain.bookmarks.dto.ReadStateMap;
 import com.back.domain.bookmarks.entity.Bookmark;
 import com.back.domain.member.member.entity.Member;
 import com.querydsl.core.BooleanBuilder;
@@ -16,6 +17,7 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -96,6 +98,31 @@ public class BookmarkRepositoryCustomImpl implements BookmarkRepositoryCustom {
         return readStateCount;
     }
 
+    /**
+     * 회원의 책별 읽기 상태 조회 (책 id, 상태 컬럼만 조회)
+     * @param bookIds null 이면 회원의 전체 북마크
+     */
+    @Override
+    public ReadStateMap findReadStates(Member member, Collection<Integer> bookIds) {
+        BooleanBuilder builder = new BooleanBuilder();
+        builder.and(bookmark.member.eq(member));
+        if(bookIds != null){
+            builder.and(bookmark.book.id.in(bookIds));
+        }
+
+        List<Tuple> rows = queryFactory
+                .select(bookmark.book.id, bookmark.readState)
+                .from(bookmark)
+                .where(builder)
+                .fetch();
+
+        ReadStateMap.Builder readStates = ReadStateMap.builder(rows.size());
+        for (Tuple row : rows) {
+            readStates.put(row.get(bookmark.book.id), row.get(bookmark.readState));
+        }
+        return readStates.build();
+    }
+
     private BooleanBuilder conditions(Member member, String category, String readState, String keyword) {
         BooleanBuilder builder = new BooleanBuilder();
         builder.and(bookmark.member.eq(member));
@@ -1,6 +1,7 @@
 package com.back.domain.bookmarks.service;
 
 import com.back.domain.book.book.repository.BookRepository;
+import com.back.domain.book.search.BookAutocompleteIndex;
 import com.back.domain.bookmarks.constant.ReadState;
 import com.back.domain.bookmarks.dto.*;
 import com.back.domain.bookmarks.entity.Bookmark;
@@ -27,6 +28,8 @@ public class BookmarkService {
     private final BookRepository bookRepository;
     private final ReviewService reviewService;
     private final ReviewRepository reviewRepository;
+    private final BookAutocompleteIndex bookAutocompleteIndex;
+    private final ReadStateOverlayService readStateOverlayService;
 
     /**
      *  책을 북마크에 추가
@@ -41,8 +44,11 @@ public class BookmarkService {
         if(bookmarkRepository.existsByMemberAndBook(member, book)) {
             throw new IllegalStateException("이미 추가된 책입니다.");
         }
-        Bookmark bookmark = new Bookmark(book, member);
-        return bookmarkRepository.save(bookmark);
+        Bookmark bookmark = bookmarkRepository.save(new Bookmark(book, member));
+        // 자동완성 인기도 반영
+        bookAutocompleteIndex.adjustPopularity(bookId, 1);
+        readStateOverlayService.invalidate(member);
+        return bookmark;
     }
 
     /**
@@ -117,6 +123,7 @@ public class BookmarkService {
         if(state != null){
             ReadState readState = ReadState.valueOf(state.toUpperCase());
             bookmark.updateReadState(readState);
+            readStateOverlayService.invalidate(member);
         }
         bookmarkRepository.flush();
         return new BookmarkModifyResponseDto(bookmark);
@@ -130,6 +137,8 @@ public class BookmarkService {
     public void deleteBookmark(Member member, int bookmarkId) {
         Bookmark bookmark = findByIdAndMember(bookmarkId, member);
         bookmarkRepository.delete(bookmark);
+        bookAutocompleteIndex.adjustPopularity(bookmark.getBook().getId(), -1);
+        readStateOverlayService.invalidate(member);
         //리뷰가 있는 경우, 리뷰 삭제
         if(getReview(bookmark) != null) {
             reviewService.deleteReview(bookmark.getBook(), member);
@@ -183,17 +192,6 @@ public class BookmarkService {
         return getReadStateByMemberAndBook(member, book);
     }
 
-    public Map<Integer, ReadState> getReadStatesForBooks(Member member, List<Integer> bookIds) {
-        List<Bookmark> bookmarks = bookmarkRepository.findByMember(member);
-
-        return bookmarks.stream()
-                .filter(bookmark -> bookIds.contains(bookmark.getBook().getId()))
-                .collect(Collectors.toMap(
-                        bookmark -> bookmark.getBook().getId(),
-                        Bookmark::getReadState
-                ));
-    }
-
     /**
      * 북마크 리뷰 조회
      * @param bookmarks
@@ -0,0 +1,101 @@
+package com.back.domain.bookmarks.service;
+
+import com.back.domain.bookmarks.dto.ReadStateMap;
+import com.back.domain.bookmarks.repository.BookmarkRepository;
+import com.back.domain.member.member.entity.Member;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 책 목록에 회원의 읽기 상태를 덧씌우기 위한 조회 서비스
+ * 한 페이지의 책 id 를 IN 쿼리 한 번으로 조회하고,
+ * 캐시를 켜면 회원별 전체 읽기 상태를 LRU 로 보관한다. (북마크 변경 시 BookmarkService 가 무효화)
+ */
+@Service
+@RequiredArgsConstructor
+public class ReadStateOverlayService {
+    private final BookmarkRepository bookmarkRepository;
+
+    @Value("${bookmark.read-state-cache.enabled:true}")
+    private boolean cacheEnabled;
+
+    @Value("${bookmark.read-state-cache.max-members:10000}")
+    private int cacheMaxMembers;
+
+    // 접근 순서 LinkedHashMap - 가장 오래 조회되지 않은 회원부터 제거
+    private final Map<Integer, ReadStateMap> cache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, ReadStateMap> eldest) {
+            return size() > cacheMaxMembers;
+        }
+    };
+
+    // 무효화 횟수 - 조회 도중 무효화가 있었으면 조회 결과를 캐시에 넣지 않음
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /**
+     * 회원의 책별 읽기 상태 조회
+     * 캐시를 쓰는 경우 회원의 전체 북마크가 담긴 맵을 반환하므로 bookIds 외의 책도 포함될 수 있음
+     */
+    public ReadStateMap getReadStates(Member member, Collection<Integer> bookIds) {
+        if (member == null || bookIds.isEmpty()) {
+            return ReadStateMap.EMPTY;
+        }
+        if (!cacheEnabled) {
+            return bookmarkRepository.findReadStates(member, bookIds);
+        }
+
+        ReadStateMap cached;
+        synchronized (cache) {
+            cached = cache.get(member.getId());
+        }
+        if (cached != null) {
+            return cached;
+        }
+
+        long version = invalidations.get();
+        ReadStateMap loaded = bookmarkRepository.findReadStates(member, null);
+        synchronized (cache) {
+            if (version == invalidations.get()) {
+                cache.put(member.getId(), loaded);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 북마크 추가/수정/삭제 시 호출
+     * 커밋 전에 다른 요청이 이전 상태를 다시 캐시할 수 있으므로 트랜잭션이 끝난 뒤 한 번 더 무효화
+     */
+    public void invalidate(Member member) {
+        if (!cacheEnabled || member == null) {
+            return;
+        }
+        int memberId = member.getId();
+        evict(memberId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(memberId);
+                }
+            });
+        }
+    }
+
+    private void evict(int memberId) {
+        synchronized (cache) {
+            invalidations.incrementAndGet();
+            cache.remove(memberId);
+        }
+    }
+}
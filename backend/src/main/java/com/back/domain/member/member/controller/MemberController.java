@@ -1,5 +1,6 @@
 package com.back.domain.member.member.controller;
 
+import com.back.domain.member.member.dto.AuthTokensDto;
 import com.back.domain.member.member.dto.MemberDto;
 import com.back.domain.member.member.dto.MemberJoinReqDto;
 import com.back.domain.member.member.dto.MemberLoginReqDto;
@@ -9,6 +10,7 @@ import com.back.domain.member.member.service.MemberService;
 import com.back.global.exception.ServiceException;
 import com.back.global.rq.Rq;
 import com.back.global.rsData.RsData;
+import com.back.global.security.LoginThrottle;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -20,7 +22,6 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.Map;
 
 @RestController
 @RequestMapping("/user")
@@ -30,12 +31,14 @@ public class MemberController {
     private final MemberService memberService;
     private final PasswordEncoder passwordEncoder;
     private final Rq rq;
+    private final LoginThrottle loginThrottle;
 
     @PostMapping("/signup")
     @Transactional
     public RsData<MemberDto> join(
             @Valid @RequestBody MemberJoinReqDto reqBody
     ){
+        loginThrottle.check(rq.getClientIp(), null);
         memberService.findByEmail(reqBody.email()).ifPresent(member -> {
             throw new ServiceException("409","이미 존재하는 이메일 입니다. 다시 입력해주세요.");
         });
@@ -56,6 +59,8 @@ public class MemberController {
     public RsData<MemberLoginResDto> login(
             @Valid @RequestBody MemberLoginReqDto reqBody
     ){
+        // 비밀번호 확인(BCrypt) 전에 IP/이메일별 시도 횟수 제한
+        loginThrottle.check(rq.getClientIp(), reqBody.email());
         Member member = memberService.findByEmail(reqBody.email())
                 .orElseThrow(()->new ServiceException("401-1", "존재하지 않는 아이디입니다."));
 
@@ -64,9 +69,6 @@ public class MemberController {
         String accessToken = memberService.geneAccessToken(member);
         String refreshToken = memberService.geneRefreshToken(member);
 
-        member.updateRefreshToken(refreshToken);
-        memberService.save(member);
-
         rq.setCookie("accessToken", accessToken);
         rq.setCookie("refreshToken", refreshToken);
 
@@ -81,13 +83,9 @@ public class MemberController {
     }
 
     @PostMapping("/logout")
-    public ResponseEntity<?> logout(){
-        Member actor = rq.getActor();
-
-        if(actor != null){
-            // 서버에서 refresh 토큰 삭제
-            memberService.clearRefreshToken(actor);
-        }
+    public ResponseEntity<?> logout(HttpServletRequest request){
+        // 서버에서 이 기기의 refresh 토큰 폐기
+        memberService.logout(rq.getActor(), getRefreshTokenCookie(request));
 
         // 쿠키에서 토큰 삭제
         rq.clearAuthCookies();
@@ -109,31 +107,19 @@ public class MemberController {
     @PostMapping("/reissue")
     @Transactional
     public RsData<?> reissue(HttpServletRequest request) {
-        String refreshToken = null;
-
-        if (request.getCookies() != null) {
-            for(Cookie cookie: request.getCookies()){
-                if(cookie.getName().equals("refreshToken")){
-                    refreshToken = cookie.getValue();
-                    break;
-                }
-            }
-        }
+        String refreshToken = getRefreshTokenCookie(request);
 
         if(refreshToken == null||!memberService.isValidRefreshToken(refreshToken)){
             return new RsData<>("400","유효하지 않은 RefreshToken 입니다.",null);
         }
 
-        Map<String,Object> payload = memberService.getRefreshTokenPayload(refreshToken);
-        String email = payload.get("email").toString();
-
-        Member member = memberService.findByEmail(email)
-                .orElseThrow(()->new ServiceException("401-1", "사용자를 찾을 수 없습니다."));
-        if(!refreshToken.equals(member.getRefreshToken())){
+        // 사용한 refresh 토큰은 폐기되고 새 토큰으로 교체됨 (rotation)
+        AuthTokensDto tokens = memberService.reissue(refreshToken).orElse(null);
+        if(tokens == null){
             return new RsData<>("401","서버에 저장된 토큰과 일치하지 않습니다.",null);
         }
-        String newAccessToken = memberService.geneAccessToken(member);
-        rq.setCookie("accessToken",newAccessToken);
+        rq.setCookie("accessToken",tokens.accessToken());
+        rq.setCookie("refreshToken",tokens.refreshToken());
 
         return new RsData<>("200","AccessToken이 재발급되었습니다.",null);
     }
@@ -153,4 +139,15 @@ public class MemberController {
 
         return new RsData<>("200-1", "회원탈퇴가 완료되었습니다.", null);
     }
+
+    private String getRefreshTokenCookie(HttpServletRequest request) {
+        if (request.getCookies() != null) {
+            for(Cookie cookie: request.getCookies()){
+                if(cookie.getName().equals("refreshToken")){
+                    return cookie.getValue();
+                }
+            }
+        }
+        return null;
+    }
 }
\ No newline at end of file
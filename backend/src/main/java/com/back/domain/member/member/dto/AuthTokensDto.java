@@ -0,0 +1,6 @@
+package com.back.domain.member.member.dto;
+
+public record AuthTokensDto(
+    String accessToken,
+    String refreshToken
+) {}
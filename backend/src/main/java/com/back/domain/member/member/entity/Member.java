@@ -22,9 +22,6 @@ public class Member extends BaseEntity {
     private String email;
     private String password;
 
-    @Column(length = 1000)
-    private String refreshToken;
-
     @OneToMany(mappedBy = "member", cascade = CascadeType.ALL, orphanRemoval = true)
     List<Review> reviews;
 
@@ -39,10 +36,13 @@ public class Member extends BaseEntity {
         this.email = email;
         this.password = password;
     }
-    public void updateRefreshToken(String refreshToken) {
-        this.refreshToken = refreshToken;
-    }
-    public void clearRefreshToken() {
-        this.refreshToken = null;
+
+    /**
+     * 인증 캐시에 보관한 값으로 만드는 준영속 회원 (리뷰/북마크 등 연관 컬렉션은 없음)
+     */
+    public static Member detached(int id, String name, String email, String password) {
+        Member member = new Member(name, email, password);
+        member.setId(id);
+        return member;
     }
 }
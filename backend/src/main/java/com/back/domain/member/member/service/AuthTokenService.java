@@ -7,6 +7,7 @@ import org.springframework.stereotype.Service;
 
 
 import java.util.Map;
+import java.util.UUID;
 
 @Service
 public class AuthTokenService {
@@ -20,9 +21,10 @@ public class AuthTokenService {
     private int refreshTokenExpSec;
 
     public String genAccessToken(Member member) {
-        int id = member.getId();
-        String email = member.getEmail();
+        return genAccessToken(member.getId(), member.getEmail());
+    }
 
+    public String genAccessToken(int id, String email) {
         return Ut.jwt.toString(
                 jwtSecretKey,
                 accessTokenExpSec,
@@ -34,14 +36,17 @@ public class AuthTokenService {
     }
 
     public String genRefreshToken(Member member) {
-        int id = member.getId();
-        String email = member.getEmail();
+        return genRefreshToken(member.getId(), member.getEmail());
+    }
 
+    // jti - 같은 초에 발급해도 토큰마다 해시가 달라지도록 (refresh 토큰 저장소의 키)
+    public String genRefreshToken(int id, String email) {
         return Ut.jwt.toString(
                 jwtSecretKey,
                 refreshTokenExpSec,
                 Map.of("id", id,
-                        "email",email));
+                        "email",email,
+                        "jti", UUID.randomUUID().toString()));
     }
 
     
@@ -1,9 +1,12 @@
 package com.back.domain.member.member.service;
 
 import com.back.domain.bookmarks.repository.BookmarkRepository;
+import com.back.domain.member.member.dto.AuthTokensDto;
 import com.back.domain.member.member.repository.MemberRepository;
 import com.back.domain.member.member.entity.Member;
+import com.back.domain.member.refreshToken.service.RefreshTokenService;
 import com.back.global.exception.ServiceException;
+import com.back.global.security.PrincipalCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -20,6 +23,8 @@ public class MemberService {
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
     private final AuthTokenService authTokenService;
+    private final PrincipalCache principalCache;
+    private final RefreshTokenService refreshTokenService;
 
     public Member save (Member member) { return memberRepository.save(member); }
     
@@ -39,12 +44,28 @@ public class MemberService {
     }
     public String geneAccessToken(Member member){ return authTokenService.genAccessToken(member);}
     public String geneRefreshToken(Member member){
-        String refreshToken = authTokenService.genRefreshToken(member);
-        member.updateRefreshToken(refreshToken);
+        String refreshToken = refreshTokenService.issue(member);
+        principalCache.invalidate(member.getId());
         return refreshToken;
     }
-    public void clearRefreshToken(Member member) {
-        member.clearRefreshToken();
+
+    // 로그아웃 - 이 기기의 refresh 토큰만 폐기 (다른 기기의 로그인은 유지)
+    public void logout(Member actor, String refreshToken) {
+        if (refreshToken != null) {
+            refreshTokenService.revoke(refreshToken);
+        }
+        if (actor != null) {
+            principalCache.invalidate(actor.getId());
+        }
+    }
+
+    // 재발급 - 회원 테이블은 조회하지 않고 refresh 토큰 저장소만 사용
+    public Optional<AuthTokensDto> reissue(String refreshToken) {
+        return refreshTokenService.rotate(refreshToken)
+                .map(rotated -> new AuthTokensDto(
+                        authTokenService.genAccessToken(rotated.memberId(), rotated.email()),
+                        rotated.refreshToken()
+                ));
     }
 
     public boolean isValidRefreshToken(String refreshToken) {
@@ -54,5 +75,9 @@ public class MemberService {
         return authTokenService.payload(refreshToken);
     }
 
-    public void deleteMember(Member member) { memberRepository.delete(member); }
+    public void deleteMember(Member member) {
+        memberRepository.findByEmail(member.getEmail()).ifPresent(memberRepository::delete);
+        refreshTokenService.deleteAll(member.getId());
+        principalCache.invalidate(member.getId());
+    }
 }
@@ -0,0 +1,43 @@
+package com.back.domain.member.refreshToken.entity;
+
+import com.back.global.jpa.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발급한 refresh 토큰 - 토큰 원문 대신 SHA-256 해시로 보관
+ * 로그인할 때마다 새 family(기기/세션)가 만들어지고, 재발급하면 같은 family 에서 이전 토큰은 폐기되고 새 토큰이 이어진다.
+ * 폐기된 토큰이 다시 쓰이면 탈취된 것으로 보고 family 전체를 폐기한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(indexes = {@Index(columnList = "member_id"), @Index(columnList = "family")})
+public class RefreshToken extends BaseEntity {
+    @Column(nullable = false, unique = true, length = 64)
+    private String tokenHash;
+
+    @Column(nullable = false)
+    private int memberId;
+
+    @Column(nullable = false, length = 36)
+    private String family;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    private boolean revoked;
+
+    public RefreshToken(String tokenHash, int memberId, String family, LocalDateTime expiresAt) {
+        this.tokenHash = tokenHash;
+        this.memberId = memberId;
+        this.family = family;
+        this.expiresAt = expiresAt;
+    }
+}
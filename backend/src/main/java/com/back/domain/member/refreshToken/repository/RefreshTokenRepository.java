@@ -0,0 +1,34 @@
+package com.back.domain.member.refreshToken.repository;
+
+import com.back.domain.member.refreshToken.entity.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Integer> {
+
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    /**
+     * 아직 폐기되지 않은 경우에만 폐기 - 같은 토큰으로 동시에 재발급하면 한 요청만 1을 받음
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update RefreshToken t set t.revoked = true where t.id = :id and t.revoked = false")
+    int revokeIfActive(@Param("id") int id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update RefreshToken t set t.revoked = true where t.family = :family and t.revoked = false")
+    int revokeFamily(@Param("family") String family);
+
+    @Modifying
+    @Query("delete from RefreshToken t where t.memberId = :memberId")
+    int deleteByMemberId(@Param("memberId") int memberId);
+
+    @Modifying
+    @Query("delete from RefreshToken t where t.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,201 @@
+package com.back.domain.member.refreshToken.service;
+
+import com.back.domain.member.member.entity.Member;
+import com.back.domain.member.member.service.AuthTokenService;
+import com.back.domain.member.refreshToken.entity.RefreshToken;
+import com.back.domain.member.refreshToken.repository.RefreshTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * refresh 토큰 발급/재발급(rotation)/폐기
+ * 회원 테이블 대신 토큰 해시로 색인된 refresh_token 테이블만 사용하며, 기기(로그인)마다 family 가 따로 있어 여러 기기에서 동시에 로그인할 수 있다.
+ * 최근 폐기한 토큰과 family 는 메모리에도 보관해서, 폐기된 토큰으로 다시 요청하면 토큰 조회 없이 바로 거절한다.
+ * 메모리에는 폐기가 커밋된 뒤에만 기록한다 (롤백된 폐기가 남아 멀쩡한 토큰을 재사용으로 오인하지 않도록).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final AuthTokenService authTokenService;
+
+    @Value("${custom.refreshToken.expirationSeconds}")
+    private int refreshTokenExpSec;
+
+    @Value("${member.refresh-token.revoked-cache.max-entries:100000}")
+    private int revokedCacheMaxEntries;
+
+    /**
+     * 재발급 결과 - 새 access 토큰 발급에 필요한 회원 정보와 새 refresh 토큰
+     */
+    public record Rotated(int memberId, String email, String refreshToken) {
+    }
+
+    // 폐기된 토큰 해시 -> family, 폐기된 family (가장 오래 쓰이지 않은 것부터 제거)
+    private final Map<String, String> revokedTokens = lruMap();
+    private final Map<String, Boolean> revokedFamilies = lruMap();
+
+    /**
+     * 로그인 - 새 family 로 refresh 토큰 발급
+     */
+    @Transactional
+    public String issue(Member member) {
+        return save(member.getId(), member.getEmail(), UUID.randomUUID().toString());
+    }
+
+    /**
+     * 재발급 - 사용한 토큰은 폐기하고 같은 family 로 새 토큰 발급
+     * 저장되지 않았거나 만료/폐기된 토큰이면 빈 값이고, 이미 폐기된 토큰을 다시 쓴 경우 family 전체를 폐기한다.
+     */
+    @Transactional
+    public Optional<Rotated> rotate(String refreshToken) {
+        String tokenHash = hash(refreshToken);
+
+        String revokedFamily;
+        synchronized (revokedTokens) {
+            revokedFamily = revokedTokens.get(tokenHash);
+        }
+        if (revokedFamily != null) {
+            revokeReusedFamily(revokedFamily);
+            return Optional.empty();
+        }
+
+        RefreshToken stored = refreshTokenRepository.findByTokenHash(tokenHash).orElse(null);
+        if (stored == null || stored.getExpiresAt().isBefore(LocalDateTime.now())) {
+            return Optional.empty();
+        }
+        if (stored.isRevoked()) {
+            revokeReusedFamily(stored.getFamily());
+            return Optional.empty();
+        }
+
+        Map<String, Object> payload = authTokenService.payload(refreshToken);
+        if (payload == null || (int) payload.get("id") != stored.getMemberId()) {
+            return Optional.empty();
+        }
+
+        // 같은 토큰으로 동시에 재발급한 경우 한 요청만 성공 - 조회 뒤에 다른 요청이 먼저 폐기했다면 재사용이 아니라 경합이므로 거절만 함
+        if (refreshTokenRepository.revokeIfActive(stored.getId()) == 0) {
+            return Optional.empty();
+        }
+        String family = stored.getFamily();
+        afterCommit(() -> remember(tokenHash, family));
+
+        String email = (String) payload.get("email");
+        String rotated = save(stored.getMemberId(), email, stored.getFamily());
+        return Optional.of(new Rotated(stored.getMemberId(), email, rotated));
+    }
+
+    /**
+     * 로그아웃 - 토큰이 속한 family 폐기 (다른 기기의 로그인은 유지)
+     */
+    @Transactional
+    public void revoke(String refreshToken) {
+        String tokenHash = hash(refreshToken);
+        refreshTokenRepository.findByTokenHash(tokenHash).ifPresent(stored -> {
+            String family = stored.getFamily();
+            refreshTokenRepository.revokeFamily(family);
+            afterCommit(() -> {
+                remember(tokenHash, family);
+                rememberFamily(family);
+            });
+        });
+    }
+
+    /**
+     * 회원 탈퇴 - 회원의 모든 토큰 삭제
+     */
+    @Transactional
+    public void deleteAll(int memberId) {
+        refreshTokenRepository.deleteByMemberId(memberId);
+    }
+
+    @Scheduled(cron = "${member.refresh-token.purge-cron:0 45 4 * * *}")
+    @Transactional
+    public void purgeExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("만료된 refresh 토큰 {}건 삭제", deleted);
+        }
+    }
+
+    private String save(int memberId, String email, String family) {
+        String refreshToken = authTokenService.genRefreshToken(memberId, email);
+        refreshTokenRepository.save(new RefreshToken(hash(refreshToken), memberId, family,
+                LocalDateTime.now().plusSeconds(refreshTokenExpSec)));
+        return refreshToken;
+    }
+
+    // 폐기된 토큰이 다시 쓰임 - 탈취됐을 수 있으므로 같은 family 의 토큰을 모두 폐기 (이미 폐기한 family 는 건너뜀)
+    private void revokeReusedFamily(String family) {
+        synchronized (revokedFamilies) {
+            if (revokedFamilies.containsKey(family)) {
+                return;
+            }
+        }
+        int revoked = refreshTokenRepository.revokeFamily(family);
+        log.warn("폐기된 refresh 토큰 재사용 - family {} 의 토큰 {}건 폐기", family, revoked);
+        afterCommit(() -> rememberFamily(family));
+    }
+
+    private void remember(String tokenHash, String family) {
+        synchronized (revokedTokens) {
+            revokedTokens.put(tokenHash, family);
+        }
+    }
+
+    private void rememberFamily(String family) {
+        synchronized (revokedFamilies) {
+            revokedFamilies.put(family, true);
+        }
+    }
+
+    // 트랜잭션 안이면 커밋된 뒤에 실행 (롤백되면 실행하지 않음), 아니면 바로 실행
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    static String hash(String refreshToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(refreshToken.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private <V> Map<String, V> lruMap() {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+                return size() > revokedCacheMaxEntries;
+            }
+        };
+    }
+}
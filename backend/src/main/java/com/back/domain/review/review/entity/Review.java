@@ -26,9 +26,10 @@ public class Review extends BaseEntity {
     private int rate;
     @OneToMany(mappedBy = "review", fetch = FetchType.LAZY, orphanRemoval = true, cascade = CascadeType.ALL)
     private List<ReviewRecommend> reviewRecommends = new ArrayList<>();
-    @Setter
+    // 좋아요/싫어요 수는 ReviewCounterService 의 증분 UPDATE 로만 변경 (엔티티 flush 로 덮어쓰지 않도록 updatable = false)
+    @Column(updatable = false)
     private int likeCount;
-    @Setter
+    @Column(updatable = false)
     private int dislikeCount;
 
 //    @Version
@@ -41,19 +42,4 @@ public class Review extends BaseEntity {
         this.book = book;
     }
 
-    public void incLike(){
-        this.likeCount++;
-    }
-
-    public void decLike(){
-        this.likeCount--;
-    }
-
-    public void incDislike(){
-        this.dislikeCount++;
-    }
-
-    public void decDislike(){
-        this.dislikeCount--;
-    }
 }
@@ -3,11 +3,10 @@ package com.back.domain.review.review.repository;
 import com.back.domain.book.book.entity.Book;
 import com.back.domain.member.member.entity.Member;
 import com.back.domain.review.review.entity.Review;
-import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -17,9 +16,6 @@ import java.util.Optional;
 public interface ReviewRepository extends JpaRepository<Review, Integer> {
     Optional<Review> findFirstByOrderByIdDesc();
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    Optional<Review> findById(int id);
-
     Optional<Review> findByBookAndMember(Book book, Member member);
 
     @Query("SELECT AVG(rate) FROM Review WHERE member= :member")
@@ -27,6 +23,8 @@ public interface ReviewRepository extends JpaRepository<Review, Integer> {
 
     List<Review> findAllByMember(Member member);
 
+    // 목록에 작성자 이름이 필요하므로 작성자를 함께 조회 (리뷰마다 회원 조회 쿼리가 나가지 않도록)
+    @EntityGraph(attributePaths = "member")
     Page<Review> findByBookOrderByCreateDateDesc(Book book, Pageable pageable);
 
     Page<Review> findByBook(Book book, Pageable pageable);
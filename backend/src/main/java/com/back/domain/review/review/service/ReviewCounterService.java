@@ -0,0 +1,169 @@
+package com.back.domain.review.review.service;
+
+import com.back.domain.review.review.entity.Review;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 리뷰 좋아요/싫어요 카운터 (write-behind)
+ * 추천 시 review 행을 잠그지 않고 메모리의 LongAdder 에 증감분을 모았다가,
+ * 주기적으로 리뷰별 UPDATE review SET like_count = like_count + ? ... 한 번으로 DB 에 반영한다.
+ * 조회 시에는 DB 값에 아직 반영되지 않은 증감분을 더해서 보여준다.
+ *
+ * 추천 경로는 리뷰별 Delta 를 computeIfAbsent 로 꺼내 LongAdder 에 더하기만 해서, 같은 리뷰에 추천이 몰려도 락을 잡지 않는다.
+ * 0 이 된 항목은 flush 에서만 제거하고, 제거와 겹쳐 버려진 Delta 에 더해진 양은 다시 옮겨 담는다.
+ * flush 커밋 직후부터 반영한 양을 메모리에서 빼기 전까지 잠깐은 그 양이 DB 값과 메모리에 모두 있어서 조회 값이 그만큼 크게 보일 수 있다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReviewCounterService {
+    private static final String FLUSH_SQL =
+            "UPDATE review SET like_count = like_count + ?, dislike_count = dislike_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<Integer, Delta> pending = new ConcurrentHashMap<>();
+
+    private static final class Delta {
+        private final LongAdder likes = new LongAdder();
+        private final LongAdder dislikes = new LongAdder();
+
+        private boolean isZero() {
+            return likes.sum() == 0 && dislikes.sum() == 0;
+        }
+    }
+
+    private record Snapshot(int reviewId, long likes, long dislikes) {
+    }
+
+    public void addLike(int reviewId, int amount) {
+        add(reviewId, amount, 0);
+    }
+
+    public void addDislike(int reviewId, int amount) {
+        add(reviewId, 0, amount);
+    }
+
+    public int likeCount(Review review) {
+        Delta delta = pending.get(review.getId());
+        return review.getLikeCount() + (delta != null ? (int) delta.likes.sum() : 0);
+    }
+
+    public int dislikeCount(Review review) {
+        Delta delta = pending.get(review.getId());
+        return review.getDislikeCount() + (delta != null ? (int) delta.dislikes.sum() : 0);
+    }
+
+    /**
+     * 증감분 반영 - 현재 트랜잭션이 롤백되면 되돌림
+     */
+    private void add(int reviewId, int likes, int dislikes) {
+        apply(reviewId, likes, dislikes);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        apply(reviewId, -likes, -dislikes);
+                    }
+                }
+            });
+        }
+    }
+
+    private void apply(int reviewId, long likes, long dislikes) {
+        Delta delta = pending.computeIfAbsent(reviewId, id -> new Delta());
+        delta.likes.add(likes);
+        delta.dislikes.add(dislikes);
+        // 더하는 사이에 flush 가 이 Delta 를 제거했으면 더한 양을 새 항목으로 옮김
+        if (pending.get(reviewId) != delta) {
+            moveLeftover(reviewId, delta);
+        }
+    }
+
+    // 0 인 항목만 제거, 확인과 제거 사이에 더해진 양은 새 항목으로 옮김
+    private void removeIfZero(int reviewId, Delta delta) {
+        if (delta.isZero() && pending.remove(reviewId, delta)) {
+            moveLeftover(reviewId, delta);
+        }
+    }
+
+    // 제거된 Delta 에 남은 양 옮기기 - sumThenReset 은 셀마다 원자적으로 비우므로 같은 양이 두 번 옮겨지지 않음
+    private void moveLeftover(int reviewId, Delta removed) {
+        long likes = removed.likes.sumThenReset();
+        long dislikes = removed.dislikes.sumThenReset();
+        if (likes != 0 || dislikes != 0) {
+            apply(reviewId, likes, dislikes);
+        }
+    }
+
+    /**
+     * 모인 증감분을 DB 에 반영
+     * 반영(커밋)이 끝난 양만큼만 메모리에서 빼므로, 실패하면 다음 주기에 다시 시도된다.
+     */
+    @Scheduled(
+            initialDelayString = "${review.counter.flush-interval-ms:1000}",
+            fixedDelayString = "${review.counter.flush-interval-ms:1000}"
+    )
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Snapshot> snapshots = new ArrayList<>(pending.size());
+        pending.forEach((reviewId, delta) -> {
+            long likes = delta.likes.sum();
+            long dislikes = delta.dislikes.sum();
+            if (likes != 0 || dislikes != 0) {
+                snapshots.add(new Snapshot(reviewId, likes, dislikes));
+            } else {
+                removeIfZero(reviewId, delta);
+            }
+        });
+        if (snapshots.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(FLUSH_SQL, snapshots, snapshots.size(), (ps, snapshot) -> {
+                        ps.setLong(1, snapshot.likes());
+                        ps.setLong(2, snapshot.dislikes());
+                        ps.setInt(3, snapshot.reviewId());
+                    }));
+        } catch (RuntimeException e) {
+            log.warn("리뷰 카운터 반영 실패, 다음 주기에 재시도: {}", e.getMessage());
+            return;
+        }
+
+        for (Snapshot snapshot : snapshots) {
+            apply(snapshot.reviewId(), -snapshot.likes(), -snapshot.dislikes());
+            Delta delta = pending.get(snapshot.reviewId());
+            if (delta != null) {
+                removeIfZero(snapshot.reviewId(), delta);
+            }
+        }
+        log.debug("리뷰 카운터 반영: {}건", snapshots.size());
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -11,21 +11,28 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
 
+import java.util.Map;
+
 @Service
 @RequiredArgsConstructor
 public class ReviewDtoService {
     private final ReviewRecommendService reviewRecommendService;
+    private final ReviewCounterService reviewCounterService;
 
     public ReviewResponseDto reviewToReviewResponseDto(Review review, Member member) {
+        return reviewToReviewResponseDto(review, reviewRecommendService.isRecommended(review, member));
+    }
+
+    private ReviewResponseDto reviewToReviewResponseDto(Review review, Boolean isRecommended) {
         return ReviewResponseDto.builder()
                 .id(review.getId())
                 .content(review.getContent())
                 .rate(review.getRate())
                 .memberName(review.getMember().getName())
                 .memberId(review.getMember().getId())
-                .likeCount(review.getLikeCount())
-                .dislikeCount(review.getDislikeCount())
-                .isRecommended(reviewRecommendService.isRecommended(review, member))
+                .likeCount(reviewCounterService.likeCount(review))
+                .dislikeCount(reviewCounterService.dislikeCount(review))
+                .isRecommended(isRecommended)
                 .createdDate(review.getCreateDate())
                 .modifiedDate(review.getModifyDate())
                 .build();
@@ -45,7 +52,11 @@ public class ReviewDtoService {
         review.setRate(reviewRequestDto.rate());
     }
 
+    /**
+     * 리뷰 페이지 변환 - 회원의 추천 여부는 페이지 단위로 한 번에 조회
+     */
     public PageResponseDto<ReviewResponseDto> reviewsToReviewResponseDtos(Page<Review> reviewPage, Member member) {
-        return new PageResponseDto<>(reviewPage.map((review)-> reviewToReviewResponseDto(review, member)));
+        Map<Integer, Boolean> recommendations = reviewRecommendService.getRecommendations(reviewPage.getContent(), member);
+        return new PageResponseDto<>(reviewPage.map((review)-> reviewToReviewResponseDto(review, recommendations.get(review.getId()))));
     }
 }
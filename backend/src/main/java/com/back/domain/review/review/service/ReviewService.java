@@ -1,7 +1,7 @@
 package com.back.domain.review.review.service;
 
 import com.back.domain.book.book.entity.Book;
-import com.back.domain.book.book.service.BookService;
+import com.back.domain.book.book.service.BookRatingService;
 import com.back.domain.member.member.entity.Member;
 import com.back.domain.review.review.dto.ReviewRequestDto;
 import com.back.domain.review.review.dto.ReviewResponseDto;
@@ -23,7 +23,7 @@ import java.util.Optional;
 public class ReviewService {
     private final ReviewRepository reviewRepository;
     private final ReviewDtoService reviewDtoService;
-    private final BookService bookService;
+    private final BookRatingService bookRatingService;
 
     public Optional<Review> findLatest(){
         return reviewRepository.findFirstByOrderByIdDesc();
@@ -36,7 +36,7 @@ public class ReviewService {
             throw new ServiceException("400-1", "Review already exists");
         }
         reviewRepository.saveAndFlush(review);
-        bookService.updateBookAvgRate(book);
+        bookRatingService.reviewAdded(book, review.getRate());
     }
 
     @Transactional
@@ -44,16 +44,17 @@ public class ReviewService {
         Review review = reviewRepository.findByBookAndMember(book, member)
                 .orElseThrow(() -> new NoSuchElementException("review not found"));
         reviewRepository.delete(review);
-        bookService.updateBookAvgRate(book);
+        bookRatingService.reviewRemoved(book, review.getRate());
     }
 
     @Transactional
     public void modifyReview(Book book, Member member, ReviewRequestDto reviewRequestDto) {
         Review review = reviewRepository.findByBookAndMember(book, member)
                 .orElseThrow(() -> new NoSuchElementException("review not found"));
+        int oldRate = review.getRate();
         reviewDtoService.updateReviewFromRequest(review, reviewRequestDto);
         reviewRepository.saveAndFlush(review);
-        bookService.updateBookAvgRate(book);
+        bookRatingService.reviewModified(book, oldRate, review.getRate());
     }
 
     public long count() {
@@ -4,6 +4,9 @@ import com.back.domain.member.member.entity.Member;
 import com.back.domain.review.review.entity.Review;
 import com.back.domain.review.reviewRecommend.entity.ReviewRecommend;
 import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ReviewRecommendRepository extends JpaRepository<ReviewRecommend, Integer> {
@@ -11,4 +14,7 @@ public interface ReviewRecommendRepository extends JpaRepository<ReviewRecommend
     Optional<ReviewRecommend> findByReviewAndMember(Review review, Member member);
     Integer countByReviewAndIsRecommendedTrue(Review review);
     Integer countByReviewAndIsRecommendedFalse(Review review);
+
+    // 리뷰 목록 한 페이지에 대한 회원의 추천 여부를 IN 쿼리 한 번으로 조회
+    List<ReviewRecommend> findByMemberAndReviewIdIn(Member member, Collection<Integer> reviewIds);
 }
@@ -3,16 +3,18 @@ package com.back.domain.review.reviewRecommend.service;
 import com.back.domain.member.member.entity.Member;
 import com.back.domain.review.review.entity.Review;
 import com.back.domain.review.review.repository.ReviewRepository;
-import com.back.domain.review.review.service.ReviewService;
+import com.back.domain.review.review.service.ReviewCounterService;
 import com.back.domain.review.reviewRecommend.entity.ReviewRecommend;
 import com.back.domain.review.reviewRecommend.repository.ReviewRecommendRepository;
 import com.back.global.exception.ServiceException;
-import jakarta.persistence.OptimisticLockException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 
 @Service
@@ -20,6 +22,7 @@ import java.util.NoSuchElementException;
 public class ReviewRecommendService {
     private final ReviewRepository reviewRepository;
     private final ReviewRecommendRepository reviewRecommendRepository;
+    private final ReviewCounterService reviewCounterService;
 
     @Transactional
     public void recommendReview(int reviewId, Member member, boolean isRecommend) {
@@ -28,13 +31,17 @@ public class ReviewRecommendService {
         if (reviewRecommendRepository.findByReviewAndMember(review, member).isPresent()) {
             throw new ServiceException("400-1", "Review recommendation already exists");
         }
-        reviewRecommendRepository.save(reviewRecommend);
+        try {
+            // 같은 회원의 동시 추천은 (review, member) 유니크 제약으로 막음
+            reviewRecommendRepository.saveAndFlush(reviewRecommend);
+        } catch (DataIntegrityViolationException e) {
+            throw new ServiceException("400-1", "Review recommendation already exists");
+        }
         if (isRecommend) {
-            review.incLike();
+            reviewCounterService.addLike(review.getId(), 1);
         } else {
-            review.incDislike();
+            reviewCounterService.addDislike(review.getId(), 1);
         }
-        reviewRepository.save(review);
     }
 
     @Transactional
@@ -48,11 +55,11 @@ public class ReviewRecommendService {
         reviewRecommend.setRecommended(isRecommend);
         reviewRecommendRepository.save(reviewRecommend);
         if (isRecommend) {
-            review.incLike();
-            review.decDislike();
+            reviewCounterService.addLike(review.getId(), 1);
+            reviewCounterService.addDislike(review.getId(), -1);
         }else{
-            review.decLike();
-            review.incDislike();
+            reviewCounterService.addLike(review.getId(), -1);
+            reviewCounterService.addDislike(review.getId(), 1);
         }
     }
 
@@ -63,9 +70,9 @@ public class ReviewRecommendService {
                 .orElseThrow(() -> new NoSuchElementException("Review recommendation not found"));
         reviewRecommendRepository.delete(reviewRecommend);
         if (reviewRecommend.isRecommended()) {
-            review.decLike();
+            reviewCounterService.addLike(review.getId(), -1);
         }else{
-            review.decDislike();
+            reviewCounterService.addDislike(review.getId(), -1);
         }
     }
 
@@ -74,4 +81,20 @@ public class ReviewRecommendService {
                 .map(ReviewRecommend::isRecommended)
                 .orElse(null);
     }
+
+    /**
+     * 여러 리뷰에 대한 회원의 추천 여부를 한 번에 조회
+     * 추천하지 않은 리뷰는 결과에 포함되지 않음 (리뷰 id -> 추천(true)/비추천(false))
+     */
+    public Map<Integer, Boolean> getRecommendations(List<Review> reviews, Member member) {
+        if (member == null || reviews.isEmpty()) {
+            return Map.of();
+        }
+        List<Integer> reviewIds = reviews.stream().map(Review::getId).toList();
+        Map<Integer, Boolean> recommendations = new HashMap<>();
+        for (ReviewRecommend reviewRecommend : reviewRecommendRepository.findByMemberAndReviewIdIn(member, reviewIds)) {
+            recommendations.put(reviewRecommend.getReview().getId(), reviewRecommend.isRecommended());
+        }
+        return recommendations;
+    }
 }
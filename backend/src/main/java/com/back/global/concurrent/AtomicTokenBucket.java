@@ -0,0 +1,59 @@
+package com.back.global.concurrent;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 락 없는 토큰 버킷 - 버킷이 다시 가득 차는 시각 하나만 AtomicLong 으로 보관하고 CAS 로 갱신 (GCRA)
+ * TokenBucket 과 같은 규칙(초당 permitsPerSecond 개, 최대 capacity 개)이지만, 키마다 버킷을 두는 처리율 제한처럼
+ * 버킷이 많고 여러 스레드가 같은 버킷을 동시에 쓰는 곳에 사용한다.
+ */
+public class AtomicTokenBucket {
+    private final long nanosPerPermit;
+    private final long burstNanos;
+    private final LongSupplier nanoClock;
+
+    // 이 시각이 지나면 버킷이 가득 찬 상태 (남은 토큰 = capacity - (fullAt - now) / nanosPerPermit)
+    private final AtomicLong fullAt;
+
+    public AtomicTokenBucket(double permitsPerSecond, int capacity) {
+        this(permitsPerSecond, capacity, System::nanoTime);
+    }
+
+    AtomicTokenBucket(double permitsPerSecond, int capacity, LongSupplier nanoClock) {
+        if (permitsPerSecond <= 0 || capacity <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond 와 capacity 는 0보다 커야 함");
+        }
+        this.nanosPerPermit = Math.max(1, Math.round(TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+        this.burstNanos = nanosPerPermit * capacity;
+        this.nanoClock = nanoClock;
+        this.fullAt = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    /**
+     * 토큰이 있으면 꺼내고 0, 모자라면 꺼내지 않고 permits 개가 채워질 때까지 남은 시간(ns)
+     */
+    public long tryAcquire(int permits) {
+        long now = nanoClock.getAsLong();
+        long cost = nanosPerPermit * permits;
+        while (true) {
+            long current = fullAt.get();
+            long next = (current - now > 0 ? current : now) + cost;
+            long overflow = next - now - burstNanos;
+            if (overflow > 0) {
+                return overflow;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 가득 찬 채로 idleNanos 이상 쓰이지 않았는지 - 지우고 다시 만들어도 같은 상태라 제거해도 됨
+     */
+    public boolean isIdle(long idleNanos) {
+        return nanoClock.getAsLong() - fullAt.get() >= idleNanos;
+    }
+}
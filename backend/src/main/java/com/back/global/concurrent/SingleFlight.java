@@ -0,0 +1,114 @@
+package com.back.global.concurrent;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키의 작업이 동시에 요청되면 한 번만 실행하고 나머지는 그 결과를 함께 기다림
+ * (이미 끝난 결과를 캐시하지는 않음 - 실행 중인 동안에만 합침)
+ * 먼저 온 요청(리더)이 트랜잭션 안에서 실행했다면 커밋된 뒤에 결과를 알려서,
+ * 기다리던 요청이 다시 조회할 때 리더가 저장한 데이터를 볼 수 있게 한다.
+ */
+@Slf4j
+public class SingleFlight<K, V> {
+    private final ConcurrentHashMap<K, Flight<V>> inFlight = new ConcurrentHashMap<>();
+    private final Duration maxWait;
+
+    private static final class Flight<V> {
+        private final CompletableFuture<V> future = new CompletableFuture<>();
+        private final Thread leader = Thread.currentThread();
+    }
+
+    // 리더의 트랜잭션이 롤백되어 결과를 쓸 수 없음 - 기다리던 요청은 직접 실행
+    private static final class AbandonedException extends RuntimeException {
+        private AbandonedException() {
+            super(null, null, false, false);
+        }
+    }
+
+    /**
+     * @param maxWait 리더를 기다리는 최대 시간. 넘으면 기다리던 요청이 직접 실행한다.
+     */
+    public SingleFlight(Duration maxWait) {
+        this.maxWait = maxWait;
+    }
+
+    /**
+     * @param work 키당 동시에 한 번만 실행됨. 실패하면 기다리던 요청에도 같은 예외가 전달된다.
+     */
+    public V execute(K key, Supplier<V> work) {
+        Flight<V> created = new Flight<>();
+        Flight<V> existing = inFlight.putIfAbsent(key, created);
+        if (existing == null) {
+            return lead(key, created, work);
+        }
+        // 같은 스레드(같은 트랜잭션)에서 다시 요청하면 자기 자신을 기다리지 않도록 바로 실행
+        if (existing.leader == Thread.currentThread()) {
+            return work.get();
+        }
+        return follow(key, existing, work);
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private V lead(K key, Flight<V> flight, Supplier<V> work) {
+        V value;
+        try {
+            value = work.get();
+        } catch (RuntimeException | Error e) {
+            flight.future.completeExceptionally(e);
+            inFlight.remove(key, flight);
+            throw e;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        flight.future.complete(value);
+                    } else {
+                        flight.future.completeExceptionally(new AbandonedException());
+                    }
+                    inFlight.remove(key, flight);
+                }
+            });
+        } else {
+            flight.future.complete(value);
+            inFlight.remove(key, flight);
+        }
+        return value;
+    }
+
+    private V follow(K key, Flight<V> flight, Supplier<V> work) {
+        try {
+            return flight.future.get(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("동시 요청 결과를 {}ms 안에 받지 못해 직접 실행: {}", maxWait.toMillis(), key);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("동시 요청 결과 대기 중 인터럽트: " + key, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException && !(cause instanceof AbandonedException)) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            log.debug("동시 요청의 트랜잭션이 롤백되어 직접 실행: {}", key);
+        }
+        return work.get();
+    }
+}
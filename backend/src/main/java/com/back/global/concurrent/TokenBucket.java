@@ -0,0 +1,71 @@
+package com.back.global.concurrent;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 토큰 버킷 처리율 제한기
+ * 초당 permitsPerSecond 개씩 토큰이 채워지고, 최대 capacity 개까지 모아 두었다가 한꺼번에 쓸 수 있다.
+ */
+public class TokenBucket {
+    private final double permitsPerNano;
+    private final double capacity;
+    private final LongSupplier nanoClock;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TokenBucket(double permitsPerSecond, int capacity) {
+        this(permitsPerSecond, capacity, System::nanoTime);
+    }
+
+    TokenBucket(double permitsPerSecond, int capacity, LongSupplier nanoClock) {
+        if (permitsPerSecond <= 0 || capacity <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond 와 capacity 는 0보다 커야 함");
+        }
+        this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.capacity = capacity;
+        this.nanoClock = nanoClock;
+        this.tokens = capacity;
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * 토큰이 있으면 꺼내고 true, 모자라면 꺼내지 않고 false
+     */
+    public synchronized boolean tryAcquire(int permits) {
+        refill();
+        if (tokens >= permits) {
+            tokens -= permits;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * permits 개를 꺼낼 수 있을 때까지 남은 시간 (지금 가능하면 0)
+     */
+    public synchronized long nanosUntilAvailable(int permits) {
+        refill();
+        double missing = permits - tokens;
+        return missing <= 0 ? 0 : (long) Math.ceil(missing / permitsPerNano);
+    }
+
+    /**
+     * 토큰을 꺼낼 수 있을 때까지 대기
+     */
+    public void acquire() throws InterruptedException {
+        while (!tryAcquire(1)) {
+            TimeUnit.NANOSECONDS.sleep(Math.max(nanosUntilAvailable(1), TimeUnit.MILLISECONDS.toNanos(1)));
+        }
+    }
+
+    private void refill() {
+        long now = nanoClock.getAsLong();
+        long elapsed = now - lastRefillNanos;
+        if (elapsed > 0) {
+            tokens = Math.min(capacity, tokens + elapsed * permitsPerNano);
+            lastRefillNanos = now;
+        }
+    }
+}
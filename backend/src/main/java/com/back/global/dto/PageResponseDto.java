@@ -1,6 +1,8 @@
 package com.back.global.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -10,7 +12,9 @@ public record PageResponseDto<T>(
         int pageSize,
         int totalPages,
         long totalElements,
-        boolean isLast
+        boolean isLast,
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        String nextCursor
 ) {
     public PageResponseDto(Page<T> page) {
         this(
@@ -19,7 +23,23 @@ public record PageResponseDto<T>(
                 page.getSize(),
                 page.getTotalPages(),
                 page.getTotalElements(),
-                page.isLast()
+                page.isLast(),
+                null
+        );
+    }
+
+    /**
+     * 커서 방식 응답 - count 쿼리를 하지 않으므로 totalPages / totalElements 는 -1
+     */
+    public PageResponseDto(Slice<T> slice, String nextCursor) {
+        this(
+                slice.getContent(),
+                slice.getNumber(),
+                slice.getSize(),
+                -1,
+                -1L,
+                slice.isLast(),
+                nextCursor
         );
     }
 }
@@ -0,0 +1,16 @@
+package com.back.global.exception;
+
+import lombok.Getter;
+
+/**
+ * 처리량 제한에 걸린 요청 - 429 응답과 함께 Retry-After(초) 헤더로 다시 시도할 시점을 알려줌
+ */
+@Getter
+public class TooManyRequestsException extends ServiceException {
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String msg, long retryAfterSeconds) {
+        super("429-1", msg);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
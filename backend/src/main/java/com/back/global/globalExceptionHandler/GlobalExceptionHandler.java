@@ -1,7 +1,9 @@
 package com.back.global.globalExceptionHandler;
 
 import com.back.global.exception.ServiceException;
+import com.back.global.exception.TooManyRequestsException;
 import com.back.global.rsData.RsData;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -17,6 +19,12 @@ public class GlobalExceptionHandler {
     public ResponseEntity<RsData<Void>> handleServiceException(ServiceException e){
         return ResponseEntity.badRequest().body(e.getRsData());
     }
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<RsData<Void>> handle(TooManyRequestsException ex) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(ex.getRsData());
+    }
     @ExceptionHandler(NoSuchElementException.class)
     public ResponseEntity<RsData<Void>> handle(NoSuchElementException ex) {
         // HTTP 404 Not Found 상태와 함께 에러 응답을 반환합니다.
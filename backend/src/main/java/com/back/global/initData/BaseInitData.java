@@ -165,9 +165,7 @@ public class BaseInitData {
         bookRepository.save(book);
 
         Member member1 = memberService.join("유저1", "email1@naver.com", passwordEncoder.encode("12341234"));
-        member1.updateRefreshToken("key1");
         Member member2 = memberService.join("유저2", "email2@naver.com", passwordEncoder.encode("12341234"));
-        member2.updateRefreshToken("key2");
         Member member3 = memberService.join("유저3", "email3@naver.com", passwordEncoder.encode("12341234"));
 
         Bookmark bookmark1 = bookmarkRepository.save(new Bookmark(book, member1));
@@ -0,0 +1,85 @@
+package com.back.global.jpa.query;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * 요청별 SQL 실행 수 측정
+ * 인증 필터의 회원 조회까지 포함하도록 가장 바깥에서 측정하고, 엔드포인트 패턴별로
+ * http.server.requests.queries (요청당 SQL 수 분포) 와 http.server.requests.repeated-queries (N+1 의심 요청 수) 를 기록한다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class QueryCountFilter extends OncePerRequestFilter {
+    private final MeterRegistry meterRegistry;
+
+    @Value("${query.inspection.enabled:true}")
+    private boolean enabled;
+
+    @Value("${query.inspection.repeat-threshold:3}")
+    private int repeatThreshold;
+
+    @Value("${query.inspection.warn-count:30}")
+    private int warnCount;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        QueryCounter counter = QueryCounter.start(request.getMethod() + " " + request.getRequestURI());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            String uri = endpointOf(request);
+            counter.rename(request.getMethod() + " " + uri);
+            counter.close();
+            report(counter, request.getMethod(), uri);
+        }
+    }
+
+    private void report(QueryCounter counter, String method, String uri) {
+        DistributionSummary.builder("http.server.requests.queries")
+                .description("요청 하나에서 실행한 SQL 수")
+                .tag("method", method)
+                .tag("uri", uri)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry)
+                .record(counter.count());
+
+        Map<String, Integer> repeated = counter.repeated(repeatThreshold);
+        if (!repeated.isEmpty()) {
+            meterRegistry.counter("http.server.requests.repeated-queries", "method", method, "uri", uri).increment();
+            repeated.forEach((shape, times) ->
+                    log.warn("N+1 의심: {} 에서 같은 SQL {}회 실행 - {}", counter.name(), times, shape));
+        }
+        if (counter.count() > warnCount) {
+            log.warn("{} 에서 SQL {}회 실행 (기준 {}회)", counter.name(), counter.count(), warnCount);
+        }
+    }
+
+    // 태그 수가 늘어나지 않도록 실제 경로 대신 매핑된 패턴 사용 (/books/{id})
+    private String endpointOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+}
@@ -0,0 +1,15 @@
+package com.back.global.jpa.query;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 실행하는 모든 SQL 을 현재 스레드의 QueryCounter 에 기록 (SQL 은 바꾸지 않음)
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        QueryCounter.record(sql);
+        return sql;
+    }
+}
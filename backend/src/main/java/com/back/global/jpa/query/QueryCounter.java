@@ -0,0 +1,109 @@
+package com.back.global.jpa.query;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 현재 스레드에서 실행된 SQL 을 모양(shape)별로 세는 측정 범위
+ * QueryCountInspector 가 Hibernate 가 실행하는 SQL 을 현재 범위에 기록한다.
+ * 범위는 중첩할 수 있고, 닫힌 하위 범위는 상위 범위의 completed() 에 남는다 (테스트에서 요청별 결과 확인용).
+ * 다른 스레드(비동기 작업)나 JdbcTemplate 으로 직접 실행한 SQL 은 세지 않는다.
+ */
+public final class QueryCounter implements AutoCloseable {
+    private static final ThreadLocal<QueryCounter> CURRENT = new ThreadLocal<>();
+
+    private static final Pattern COMMENT = Pattern.compile("/\\*.*?\\*/", Pattern.DOTALL);
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final QueryCounter parent;
+    private final Map<String, Integer> shapes = new HashMap<>();
+    private final List<QueryCounter> completed = new ArrayList<>();
+    private String name;
+    private int count;
+
+    private QueryCounter(String name, QueryCounter parent) {
+        this.name = name;
+        this.parent = parent;
+    }
+
+    /**
+     * 새 측정 범위 시작 - 반드시 close() 로 닫아야 함
+     */
+    public static QueryCounter start(String name) {
+        QueryCounter counter = new QueryCounter(name, CURRENT.get());
+        CURRENT.set(counter);
+        return counter;
+    }
+
+    static void record(String sql) {
+        QueryCounter counter = CURRENT.get();
+        if (counter != null) {
+            counter.count++;
+            counter.shapes.merge(shape(sql), 1, Integer::sum);
+        }
+    }
+
+    public String name() {
+        return name;
+    }
+
+    // 요청 처리 후에야 알 수 있는 엔드포인트 패턴으로 이름 변경
+    void rename(String name) {
+        this.name = name;
+    }
+
+    public int count() {
+        return count;
+    }
+
+    /**
+     * threshold 번 이상 실행된 SQL 모양 (실행 횟수 많은 순)
+     */
+    public Map<String, Integer> repeated(int threshold) {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        shapes.entrySet().stream()
+                .filter(entry -> entry.getValue() >= threshold)
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .forEach(entry -> repeated.put(entry.getKey(), entry.getValue()));
+        return repeated;
+    }
+
+    /**
+     * 이 범위 안에서 열렸다 닫힌 하위 범위들 (닫힌 순서)
+     */
+    public List<QueryCounter> completed() {
+        return List.copyOf(completed);
+    }
+
+    @Override
+    public void close() {
+        if (CURRENT.get() != this) {
+            return;
+        }
+        if (parent == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(parent);
+            parent.completed.add(this);
+        }
+    }
+
+    /**
+     * 주석과 공백 차이, IN 목록 길이를 무시한 SQL 모양 - 같은 모양이 반복되면 N+1 의심
+     */
+    static String shape(String sql) {
+        String shape = COMMENT.matcher(sql).replaceAll(" ");
+        shape = IN_LIST.matcher(shape).replaceAll("(?, ...)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+
+    @Override
+    public String toString() {
+        return name + " (SQL " + count + "회)";
+    }
+}
@@ -1,14 +1,82 @@
 package com.back.global.restTemplateConfig;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+/**
+ * 알라딘 API 호출용 RestTemplate
+ * keep-alive 커넥션 풀, 연결/응답 제한 시간, 재시도(지터 포함 backoff)를 aladin.api.* 설정으로 구성한다.
+ */
 @Configuration
 public class RestTemplateConfig {
 
+    @Value("${aladin.api.timeout.connection:5000}")
+    private long connectionTimeoutMs;
+
+    @Value("${aladin.api.timeout.read:15000}")
+    private long readTimeoutMs;
+
+    @Value("${aladin.api.retry.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${aladin.api.retry.delay:1000}")
+    private long retryDelayMs;
+
+    @Value("${aladin.api.pool.max-total:50}")
+    private int poolMaxTotal;
+
+    @Value("${aladin.api.pool.max-per-route:20}")
+    private int poolMaxPerRoute;
+
+    @Value("${aladin.api.pool.idle-timeout:30000}")
+    private long poolIdleTimeoutMs;
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager aladinConnectionManager(MeterRegistry meterRegistry) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(poolMaxTotal)
+                .setMaxConnPerRoute(poolMaxPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectionTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .build())
+                .build();
+
+        // 풀 사용량 (httpcomponents.httpclient.pool.*{httpclient=aladin})
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "aladin").bindTo(meterRegistry);
+        return connectionManager;
+    }
+
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(PoolingHttpClientConnectionManager aladinConnectionManager, MeterRegistry meterRegistry) {
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(aladinConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        // 풀에서 커넥션을 얻을 때까지 기다리는 시간
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectionTimeoutMs))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(poolIdleTimeoutMs))
+                // 재시도는 RetryInterceptor 에서 (횟수/간격을 설정으로 관리)
+                .disableAutomaticRetries()
+                .build();
+
+        RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+        restTemplate.getInterceptors().add(new RetryInterceptor("aladin.api", maxAttempts, retryDelayMs, meterRegistry));
+        return restTemplate;
     }
 }
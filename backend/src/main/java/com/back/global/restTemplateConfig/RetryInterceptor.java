@@ -0,0 +1,100 @@
+package com.back.global.restTemplateConfig;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 외부 API 호출 재시도 + 지연 시간 측정
+ * IO 오류, 429, 5xx 응답이면 최대 maxAttempts 번까지 다시 호출한다.
+ * 대기 시간은 delay * 2^(n-1) 의 절반~전체 사이 임의 값 (동시에 실패한 요청들이 같은 시각에 몰리지 않도록)
+ */
+@Slf4j
+public class RetryInterceptor implements ClientHttpRequestInterceptor {
+    private final String metricPrefix;
+    private final int maxAttempts;
+    private final long delayMs;
+    private final MeterRegistry meterRegistry;
+    private final Counter retries;
+
+    public RetryInterceptor(String metricPrefix, int maxAttempts, long delayMs, MeterRegistry meterRegistry) {
+        this.metricPrefix = metricPrefix;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.delayMs = Math.max(0, delayMs);
+        this.meterRegistry = meterRegistry;
+        this.retries = meterRegistry.counter(metricPrefix + ".retries");
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        long start = System.nanoTime();
+        String outcome = "IO_ERROR";
+
+        try {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    ClientHttpResponse response = execution.execute(request, body);
+                    int status = response.getStatusCode().value();
+                    if (!isRetryable(status) || attempt >= maxAttempts) {
+                        outcome = String.valueOf(status);
+                        return response;
+                    }
+                    response.close();
+                    log.warn("{} 응답 {} - 재시도 {}/{}", request.getURI().getPath(), status, attempt, maxAttempts - 1);
+                } catch (IOException e) {
+                    if (attempt >= maxAttempts) {
+                        throw e;
+                    }
+                    log.warn("{} 호출 실패 ({}) - 재시도 {}/{}", request.getURI().getPath(), e.getMessage(), attempt, maxAttempts - 1);
+                }
+
+                retries.increment();
+                sleep(backoff(attempt));
+            }
+        } finally {
+            Timer.builder(metricPrefix + ".requests")
+                    .tag("endpoint", endpointOf(request))
+                    .tag("outcome", outcome)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private boolean isRetryable(int status) {
+        return status == 429 || status >= 500;
+    }
+
+    long backoff(int attempt) {
+        long max = delayMs << Math.min(attempt - 1, 10);
+        return max / 2 + ThreadLocalRandom.current().nextLong(max / 2 + 1);
+    }
+
+    private void sleep(long millis) throws InterruptedIOException {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("재시도 대기 중 인터럽트");
+        }
+    }
+
+    // 태그 수가 늘어나지 않도록 쿼리 문자열을 뺀 마지막 경로만 사용 (ItemSearch.aspx 등)
+    private String endpointOf(HttpRequest request) {
+        String path = request.getURI().getPath();
+        if (path == null || path.isEmpty()) {
+            return "/";
+        }
+        return path.substring(path.lastIndexOf('/') + 1);
+    }
+}
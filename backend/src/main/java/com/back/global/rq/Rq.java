@@ -27,6 +27,13 @@ public class Rq {
                 .orElse(null);
     }
 
+    /**
+     * 요청한 클라이언트 IP (프록시 뒤에서는 server.forward-headers-strategy 설정으로 실제 IP 가 들어옴)
+     */
+    public String getClientIp() {
+        return req.getRemoteAddr();
+    }
+
     public void setCookie(String name, String value) {
         if (value == null) value = "";
 
@@ -0,0 +1,138 @@
+package com.back.global.security;
+
+import com.back.global.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 비밀번호 해시(BCrypt)를 전용 스레드에서 실행하는 PasswordEncoder
+ * 해시는 CPU 를 오래 쓰므로 동시에 실행하는 수(threads)와 대기열 길이(queueCapacity)를 제한해서, 로그인 폭주가 다른 API 의 CPU 를 밀어내지 않게 한다.
+ * 요청 스레드는 결과가 나올 때까지 최대 timeout 동안 기다린다. timeout 으로 취소해도 대기열에서 아직 시작하지 않은 작업만
+ * 빠지고, 이미 시작한 해시는 끝까지 실행된다.
+ * 그래서 대기열이 가득 찼거나, 앞에 기다리는 해시 수와 평균 해시 시간으로 보아 timeout 안에 끝날 수 없으면 줄을 서지 않고 바로 429 로 거절한다.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+    private static final String BUSY_MESSAGE = "로그인 요청이 많습니다. 잠시 후 다시 시도해주세요.";
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final int threads;
+    private final Duration timeout;
+
+    private final Timer hashing;
+    private final Timer waiting;
+    private final Counter rejectedQueueFull;
+    private final Counter rejectedQueueDepth;
+    private final Counter rejectedTimeout;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, Duration timeout, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.threads = threads;
+        this.timeout = timeout;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("password-hash-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.hashing = Timer.builder("security.password.hashing")
+                .description("비밀번호 해시 실행 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.waiting = Timer.builder("security.password.hashing.wait")
+                .description("비밀번호 해시 대기열에서 기다린 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.rejectedQueueFull = meterRegistry.counter("security.password.hashing.rejected", "reason", "queue-full");
+        this.rejectedQueueDepth = meterRegistry.counter("security.password.hashing.rejected", "reason", "queue-depth");
+        this.rejectedTimeout = meterRegistry.counter("security.password.hashing.rejected", "reason", "timeout");
+        meterRegistry.gauge("security.password.hashing.queue", executor, e -> e.getQueue().size());
+        meterRegistry.gauge("security.password.hashing.active", executor, ThreadPoolExecutor::getActiveCount);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T run(Callable<T> task) {
+        if (cannotFinishInTime()) {
+            rejectedQueueDepth.increment();
+            throw new TooManyRequestsException(BUSY_MESSAGE, 1);
+        }
+
+        long submitted = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long start = System.nanoTime();
+                waiting.record(start - submitted, TimeUnit.NANOSECONDS);
+                try {
+                    return task.call();
+                } finally {
+                    hashing.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedQueueFull.increment();
+            throw new TooManyRequestsException(BUSY_MESSAGE, 1);
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedTimeout.increment();
+            throw new TooManyRequestsException(BUSY_MESSAGE, 1);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 해시 대기 중 인터럽트", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * 앞에 있는 해시가 threads 개씩 몇 차례 더 돌아야 차례가 오는지로 예상 완료 시간 계산
+     * (비어 있는 스레드가 있으면 항상 받음, 평균 해시 시간을 아직 모르면 대기열 길이로만 제한)
+     */
+    private boolean cannotFinishInTime() {
+        double meanNanos = hashing.mean(TimeUnit.NANOSECONDS);
+        if (meanNanos <= 0) {
+            return false;
+        }
+        int ahead = executor.getQueue().size() + executor.getActiveCount();
+        int roundsToWait = ahead / threads;
+        return roundsToWait > 0 && (roundsToWait + 1) * meanNanos > timeout.toNanos();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+}
@@ -1,15 +1,12 @@
 package com.back.global.security;
 
-import com.back.domain.member.member.repository.MemberRepository;
 import com.back.domain.member.member.entity.Member;
-import com.back.global.standard.util.Ut;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -22,10 +19,8 @@ import java.util.Map;
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
-    private final MemberRepository memberRepository;
-
-    @Value("${custom.jwt.secretKey}")
-    private String secretKey;
+    private final PrincipalCache principalCache;
+    private final JwtVerifier jwtVerifier;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
@@ -33,8 +28,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String path = request.getRequestURI();
 
         try {
+            // 서명 검증과 claim 추출을 한 번에 (최근 검증한 토큰은 캐시)
+            Map<String,Object> payload = jwtVerifier.verify(token);
+
             //토큰이 없거나 유효하지 않으면 401
-            if(token == null||!Ut.jwt.isValid(secretKey,token)) {
+            if(payload == null) {
                 // 특정 API 경로는 토큰 없이 접근 허용
                 if (path.startsWith("/books")){
                     filterChain.doFilter(request, response);
@@ -48,10 +46,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             }
 
             // 토큰이 유효한 경우
-            Map<String,Object> payload = Ut.jwt.payload(secretKey,token);
+            int id = ((Number) payload.get("id")).intValue();
             String email = (String) payload.get("email");
 
-            Member member = memberRepository.findByEmail(email)
+            // 짧은 시간 동안은 캐시된 회원 정보 사용 (요청마다 회원 조회 SQL 생략)
+            Member member = principalCache.get(id, email)
                     .orElseThrow(() -> new RuntimeException("사용자 정보를 찾을 수 없습니다."));
 
             UserDetails userDetails = new SecurityUser(member);
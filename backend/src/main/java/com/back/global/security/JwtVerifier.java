@@ -0,0 +1,87 @@
+package com.back.global.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * JWT 서명 검증 + claim 추출을 한 번에 처리
+ * 키와 파서를 미리 만들어 두고 재사용하며, 검증에 성공한 토큰은 만료 시각(exp)까지 최근 사용 순으로 보관해서
+ * 같은 토큰으로 다시 요청하면 서명 검증과 파싱을 생략한다. (유효하지 않은 토큰은 보관하지 않음)
+ */
+@Component
+public class JwtVerifier {
+    private final JwtParser parser;
+    private final int cacheMaxEntries;
+
+    LongSupplier clock = System::currentTimeMillis;
+
+    private record Verified(Map<String, Object> claims, long expiresAtMillis) {
+    }
+
+    // 접근 순서 LinkedHashMap - 가장 오래 쓰이지 않은 토큰부터 제거
+    private final Map<String, Verified> cache;
+
+    public JwtVerifier(@Value("${custom.jwt.secretKey}") String secretKey,
+                       @Value("${custom.jwt.verified-cache.max-entries:10000}") int cacheMaxEntries) {
+        this.parser = Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(secretKey.getBytes()))
+                .build();
+        this.cacheMaxEntries = cacheMaxEntries;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Verified> eldest) {
+                return size() > JwtVerifier.this.cacheMaxEntries;
+            }
+        };
+    }
+
+    /**
+     * 유효한 토큰이면 claim, 서명이 틀리거나 만료/형식 오류면 null
+     */
+    public Map<String, Object> verify(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+
+        if (cacheMaxEntries > 0) {
+            Verified verified;
+            synchronized (cache) {
+                verified = cache.get(token);
+            }
+            if (verified != null) {
+                if (clock.getAsLong() < verified.expiresAtMillis()) {
+                    return verified.claims();
+                }
+                synchronized (cache) {
+                    cache.remove(token);
+                }
+                return null;
+            }
+        }
+
+        Claims claims;
+        try {
+            claims = parser.parseSignedClaims(token).getPayload();
+        } catch (Exception e) {
+            return null;
+        }
+
+        Map<String, Object> result = Map.copyOf(claims);
+        Date expiration = claims.getExpiration();
+        if (cacheMaxEntries > 0 && expiration != null) {
+            synchronized (cache) {
+                cache.put(token, new Verified(result, expiration.getTime()));
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,82 @@
+package com.back.global.security;
+
+import com.back.global.concurrent.TokenBucket;
+import com.back.global.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인/회원가입 시도 제한 - IP 별, 이메일 별 토큰 버킷
+ * 비밀번호 해시 전에 확인해서, 한 곳에서 몰아치는 시도(크리덴셜 스터핑)가 해시 스레드를 차지하지 못하게 한다.
+ * 버킷은 최근 사용 순으로 maxKeys 개까지만 보관 (밀려난 키는 새 버킷으로 다시 시작)
+ */
+@Component
+@RequiredArgsConstructor
+public class LoginThrottle {
+    private final MeterRegistry meterRegistry;
+
+    @Value("${security.login-throttle.enabled:true}")
+    private boolean enabled;
+
+    @Value("${security.login-throttle.ip.permits-per-second:1}")
+    private double ipPermitsPerSecond;
+
+    @Value("${security.login-throttle.ip.burst:20}")
+    private int ipBurst;
+
+    @Value("${security.login-throttle.email.permits-per-second:0.1}")
+    private double emailPermitsPerSecond;
+
+    @Value("${security.login-throttle.email.burst:5}")
+    private int emailBurst;
+
+    @Value("${security.login-throttle.max-keys:100000}")
+    private int maxKeys;
+
+    private final Map<String, TokenBucket> ipBuckets = lruMap();
+    private final Map<String, TokenBucket> emailBuckets = lruMap();
+
+    /**
+     * 시도 한 번 차감 - 한도를 넘으면 TooManyRequestsException (email 이 null 이면 IP 만 확인)
+     */
+    public void check(String ip, String email) {
+        if (!enabled) {
+            return;
+        }
+        if (ip != null) {
+            acquire(ipBuckets, ip, ipPermitsPerSecond, ipBurst, "ip");
+        }
+        if (email != null) {
+            acquire(emailBuckets, email.trim().toLowerCase(Locale.ROOT), emailPermitsPerSecond, emailBurst, "email");
+        }
+    }
+
+    private void acquire(Map<String, TokenBucket> buckets, String key, double permitsPerSecond, int burst, String type) {
+        TokenBucket bucket;
+        synchronized (buckets) {
+            bucket = buckets.computeIfAbsent(key, k -> new TokenBucket(permitsPerSecond, burst));
+        }
+        if (!bucket.tryAcquire(1)) {
+            meterRegistry.counter("security.login.throttled", "key", type).increment();
+            long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(bucket.nanosUntilAvailable(1) + 999_999_999L));
+            throw new TooManyRequestsException("로그인 시도가 너무 많습니다. %d초 후 다시 시도해주세요.".formatted(retryAfterSeconds), retryAfterSeconds);
+        }
+    }
+
+    // 접근 순서 LinkedHashMap - 가장 오래 쓰이지 않은 키부터 제거
+    private Map<String, TokenBucket> lruMap() {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, TokenBucket> eldest) {
+                return size() > maxKeys;
+            }
+        };
+    }
+}
@@ -0,0 +1,134 @@
+package com.back.global.security;
+
+import com.back.domain.member.member.entity.Member;
+import com.back.domain.member.member.repository.MemberRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 인증된 회원 캐시 - JWT 의 회원 id 로 짧은 시간(ttl) 동안 회원 정보를 보관해서 요청마다 회원을 조회하지 않음
+ * 요청마다 캐시 값으로 새 준영속 Member 를 만들어 반환하므로 요청 간에 엔티티 상태를 공유하지 않는다.
+ * 회원 정보가 바뀌는 경우(로그인/로그아웃/탈퇴) MemberService 가 무효화한다.
+ *
+ * security.principal.cache.requests{result=hit} 가 아낀 회원 조회 SQL 수
+ */
+@Component
+@RequiredArgsConstructor
+public class PrincipalCache {
+    private final MemberRepository memberRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${security.principal-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${security.principal-cache.ttl:30s}")
+    private Duration ttl;
+
+    @Value("${security.principal-cache.max-entries:10000}")
+    private int maxEntries;
+
+    LongSupplier nanoClock = System::nanoTime;
+
+    private record Entry(int id, String name, String email, String password, long loadedAtNanos) {
+        Member toMember() {
+            return Member.detached(id, name, email, password);
+        }
+    }
+
+    // 접근 순서 LinkedHashMap - 가장 오래 쓰이지 않은 회원부터 제거
+    private final Map<Integer, Entry> cache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, Entry> eldest) {
+            return size() > maxEntries;
+        }
+    };
+
+    // 무효화 횟수 - 조회 도중 무효화가 있었으면 조회 결과를 캐시에 넣지 않음
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private Counter hits;
+    private Counter misses;
+
+    @PostConstruct
+    void registerMetrics() {
+        hits = meterRegistry.counter("security.principal.cache.requests", "result", "hit");
+        misses = meterRegistry.counter("security.principal.cache.requests", "result", "miss");
+        meterRegistry.gauge("security.principal.cache.size", cache, map -> {
+            synchronized (map) {
+                return map.size();
+            }
+        });
+    }
+
+    /**
+     * 토큰의 id/email 에 해당하는 회원 - 캐시에 없거나 만료됐으면 DB 에서 조회
+     */
+    public Optional<Member> get(int id, String email) {
+        if (enabled) {
+            Entry entry;
+            synchronized (cache) {
+                entry = cache.get(id);
+            }
+            if (entry != null && entry.email().equals(email)
+                    && nanoClock.getAsLong() - entry.loadedAtNanos() < ttl.toNanos()) {
+                hits.increment();
+                return Optional.of(entry.toMember());
+            }
+        }
+        misses.increment();
+
+        long version = invalidations.get();
+        Optional<Member> member = memberRepository.findByEmail(email)
+                .filter(found -> found.getId() == id);
+        if (enabled && member.isPresent()) {
+            Member found = member.get();
+            Entry entry = new Entry(found.getId(), found.getName(), found.getEmail(), found.getPassword(), nanoClock.getAsLong());
+            synchronized (cache) {
+                if (version == invalidations.get()) {
+                    cache.put(id, entry);
+                }
+            }
+        }
+        return member;
+    }
+
+    /**
+     * 회원 정보 변경/삭제 시 호출
+     * 커밋 전에 다른 요청이 이전 상태를 다시 캐시할 수 있으므로 트랜잭션이 끝난 뒤 한 번 더 무효화
+     */
+    public void invalidate(int memberId) {
+        if (!enabled) {
+            return;
+        }
+        evict(memberId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(memberId);
+                }
+            });
+        }
+    }
+
+    private void evict(int memberId) {
+        synchronized (cache) {
+            invalidations.incrementAndGet();
+            cache.remove(memberId);
+        }
+    }
+}
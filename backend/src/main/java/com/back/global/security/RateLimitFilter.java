@@ -0,0 +1,171 @@
+package com.back.global.security;
+
+import com.back.global.concurrent.AtomicTokenBucket;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 처리율 제한 - 로그인한 회원은 회원 id, 아니면 IP 별 토큰 버킷
+ * 경로마다 비용(꺼내는 토큰 수)이 달라서, 알라딘을 여러 번 호출할 수 있는 검색/ISBN 조회는 DB 조회보다 빨리 한도에 걸린다.
+ * 인증 필터 다음에 실행되며, 한도를 넘으면 컨트롤러까지 가지 않고 429 와 Retry-After(초) 헤더로 응답한다.
+ *
+ * 버킷은 락 없는 ConcurrentHashMap 에 보관하고, 가득 찬 채로 idle-timeout 동안 쓰이지 않은 버킷은 주기적으로 제거한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+    private final MeterRegistry meterRegistry;
+
+    @Value("${security.rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${security.rate-limit.permits-per-second:10}")
+    private double permitsPerSecond;
+
+    @Value("${security.rate-limit.burst:50}")
+    private int burst;
+
+    // "METHOD /경로 패턴=비용" 목록 (METHOD 생략 시 모든 메서드, 먼저 맞는 항목 적용, 없으면 1)
+    @Value("${security.rate-limit.route-costs:}")
+    private List<String> routeCosts;
+
+    @Value("${security.rate-limit.idle-timeout:10m}")
+    private Duration idleTimeout;
+
+    @Value("${security.rate-limit.max-keys:100000}")
+    private int maxKeys;
+
+    private record Route(String method, PathPattern pattern, int cost) {
+        boolean matches(String requestMethod, PathContainer path) {
+            return (method == null || method.equalsIgnoreCase(requestMethod)) && pattern.matches(path);
+        }
+    }
+
+    private final List<Route> routes = new ArrayList<>();
+    private final ConcurrentHashMap<String, AtomicTokenBucket> buckets = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        routes.clear();
+        for (String routeCost : routeCosts) {
+            if (routeCost.isBlank()) {
+                continue;
+            }
+            int eq = routeCost.lastIndexOf('=');
+            if (eq < 0) {
+                throw new IllegalArgumentException("security.rate-limit.route-costs 형식 오류: " + routeCost);
+            }
+            String[] target = routeCost.substring(0, eq).trim().split("\\s+");
+            int cost = Integer.parseInt(routeCost.substring(eq + 1).trim());
+            if (cost < 1 || cost > burst) {
+                throw new IllegalArgumentException("비용은 1 이상 burst(%d) 이하여야 함: %s".formatted(burst, routeCost));
+            }
+            String method = target.length > 1 ? target[0] : null;
+            String pattern = target[target.length - 1];
+            routes.add(new Route(method, PathPatternParser.defaultInstance.parse(pattern), cost));
+        }
+        meterRegistry.gaugeMapSize("security.rate-limit.buckets", List.of(), buckets);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        Route route = findRoute(request);
+        int cost = route == null ? 1 : route.cost();
+
+        String key = resolveKey(request);
+        AtomicTokenBucket bucket = bucket(key);
+
+        long waitNanos = bucket.tryAcquire(cost);
+        if (waitNanos > 0) {
+            meterRegistry.counter("security.rate-limit.rejected",
+                    "key", key.substring(0, key.indexOf(':')),
+                    "route", route == null ? "default" : route.pattern().getPatternString()
+            ).increment();
+
+            long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            response.setContentType("application/json");
+            response.setCharacterEncoding("UTF-8");
+            response.getWriter().write("{\"resultCode\": \"429-1\", \"msg\": \"요청이 너무 많습니다. %d초 후 다시 시도해주세요.\"}"
+                    .formatted(retryAfterSeconds));
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * 가득 찬 채로 idle-timeout 이 지난 버킷 제거
+     */
+    @Scheduled(fixedDelayString = "${security.rate-limit.sweep-interval-ms:60000}")
+    public void evictIdle() {
+        long idleNanos = idleTimeout.toNanos();
+        buckets.values().removeIf(bucket -> bucket.isIdle(idleNanos));
+    }
+
+    private Route findRoute(HttpServletRequest request) {
+        if (routes.isEmpty()) {
+            return null;
+        }
+        PathContainer path = PathContainer.parsePath(request.getRequestURI());
+        for (Route route : routes) {
+            if (route.matches(request.getMethod(), path)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    // 인증 필터가 넣어 둔 회원이 있으면 회원 id, 없으면 IP
+    private String resolveKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof SecurityUser securityUser) {
+            return "member:" + securityUser.getMember().getId();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private AtomicTokenBucket bucket(String key) {
+        AtomicTokenBucket bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        // 키가 너무 많으면 쉬는 버킷부터 정리하고, 그래도 많으면 새 키들은 버킷 하나를 나눠 씀
+        if (buckets.size() >= maxKeys) {
+            evictIdle();
+            if (buckets.size() >= maxKeys) {
+                key = "overflow:";
+            }
+        }
+        return buckets.computeIfAbsent(key, k -> new AtomicTokenBucket(permitsPerSecond, burst));
+    }
+}
@@ -0,0 +1,214 @@
+package com.back.domain.book.book.repository;
+
+import com.back.domain.book.author.entity.Author;
+import com.back.domain.book.author.repository.AuthorRepository;
+import com.back.domain.book.book.dto.BookCursor;
+import com.back.domain.book.book.dto.BookSearchDto;
+import com.back.domain.book.book.entity.Book;
+import com.back.domain.book.category.entity.Category;
+import com.back.domain.book.category.repository.CategoryRepository;
+import com.back.domain.book.wrote.entity.Wrote;
+import com.back.domain.book.wrote.repository.WroteRepository;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.back.domain.book.book.entity.QBook.book;
+import static com.back.domain.book.wrote.entity.QWrote.wrote;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@Transactional
+class BookRepositoryImplTest {
+
+    private static final String CATEGORY_NAME = "페이징테스트";
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @Autowired
+    private WroteRepository wroteRepository;
+
+    @Autowired
+    private JPAQueryFactory queryFactory;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final List<Book> books = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Category category = categoryRepository.save(new Category(CATEGORY_NAME));
+        Author author1 = authorRepository.save(new Author("페이징작가"));
+        Author author2 = authorRepository.save(new Author("공동작가"));
+
+        // 유효한 책 10권 (모두 작가 2명) + 페이지 수 0인 책 1권
+        for (int i = 0; i < 10; i++) {
+            Book b = new Book("페이징 책 " + (char) ('A' + i), "출판사", category);
+            b.setIsbn13("97800000000" + String.format("%02d", i));
+            b.setTotalPage(100 + i);
+            b.setAvgRate(i % 5);
+            b = bookRepository.save(b);
+            wroteRepository.save(new Wrote(author1, b));
+            wroteRepository.save(new Wrote(author2, b));
+            books.add(b);
+        }
+
+        Book invalid = new Book("페이징 책 Z", "출판사", category);
+        invalid.setIsbn13("9780000000099");
+        invalid.setTotalPage(0);
+        bookRepository.save(invalid);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("카테고리 조회 - id 페이지 조회 후 작가/카테고리를 채워서 정렬 순서대로 반환")
+    void findValidBooksByCategory_pagesInDatabase() {
+        Page<Book> page = bookRepository.findValidBooksByCategory(
+                CATEGORY_NAME, PageRequest.of(1, 3, Sort.by(Sort.Direction.ASC, "title")));
+
+        assertThat(page.getTotalElements()).isEqualTo(10);
+        assertThat(page.getTotalPages()).isEqualTo(4);
+        assertThat(page.getContent())
+                .extracting(Book::getTitle)
+                .containsExactly("페이징 책 D", "페이징 책 E", "페이징 책 F");
+
+        for (Book b : page.getContent()) {
+            assertThat(Hibernate.isInitialized(b.getAuthors())).isTrue();
+            assertThat(b.getAuthors()).hasSize(2);
+            assertThat(Hibernate.isInitialized(b.getCategory())).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("작가명 검색 - 작가가 여러 명이어도 책이 중복되지 않고 개수도 정확함")
+    void findValidBooksByTitleOrAuthorContainingWithPaging_noDuplicates() {
+        Page<Book> page = bookRepository.findValidBooksByTitleOrAuthorContainingWithPaging(
+                "페이징작가", PageRequest.of(0, 4, Sort.by(Sort.Direction.DESC, "totalPage")));
+
+        assertThat(page.getTotalElements()).isEqualTo(10);
+        assertThat(page.getContent())
+                .extracting(Book::getId)
+                .containsExactly(
+                        books.get(9).getId(), books.get(8).getId(),
+                        books.get(7).getId(), books.get(6).getId());
+    }
+
+    @Test
+    @DisplayName("검색어 + 카테고리 - 여러 정렬 조건 유지")
+    void findValidBooksByQueryAndCategory_keepsSortOrder() {
+        Page<Book> page = bookRepository.findValidBooksByQueryAndCategory(
+                "페이징 책", CATEGORY_NAME,
+                PageRequest.of(0, 3, Sort.by(Sort.Order.desc("avgRate"), Sort.Order.asc("id"))));
+
+        assertThat(page.getTotalElements()).isEqualTo(10);
+        assertThat(page.getContent())
+                .extracting(Book::getId)
+                .containsExactly(books.get(4).getId(), books.get(9).getId(), books.get(3).getId());
+    }
+
+    @Test
+    @DisplayName("전체 조회 - 최신 id 순 첫 페이지")
+    void findAllValidBooks_firstPage() {
+        Page<Book> page = bookRepository.findAllValidBooks(
+                PageRequest.of(0, 3, Sort.by(Sort.Direction.DESC, "id")));
+
+        assertThat(page.getContent())
+                .extracting(Book::getId)
+                .containsExactly(books.get(9).getId(), books.get(8).getId(), books.get(7).getId());
+    }
+
+    @Test
+    @DisplayName("커서 조회 - 출간일(null 포함) 정렬로 끝까지 넘겨도 중복/누락 없음")
+    void findValidBooksByCursor_walksAllPages() {
+        // 일부 책은 출간일 null, 일부는 같은 출간일
+        List<Book> managed = bookRepository.findAllById(books.stream().map(Book::getId).toList());
+        for (int i = 0; i < managed.size(); i++) {
+            Book b = managed.get(i);
+            b.setPublishedDate(i % 3 == 0 ? null : LocalDateTime.of(2024, 1, 1 + (i % 2), 0, 0));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        for (Sort.Direction direction : Sort.Direction.values()) {
+            BookCursor cursor = BookCursor.resolve(null, Sort.by(direction, "publishedDate"));
+            List<Integer> visited = new ArrayList<>();
+
+            while (true) {
+                Slice<Book> slice = bookRepository.findValidBooksByTitleOrAuthorContainingByCursor("페이징작가", cursor, 3);
+                slice.forEach(b -> visited.add(b.getId()));
+                if (!slice.hasNext()) {
+                    break;
+                }
+                Book last = slice.getContent().get(slice.getNumberOfElements() - 1);
+                cursor = BookCursor.decode(cursor.next(toDto(last)).encode());
+            }
+
+            assertThat(visited)
+                    .doesNotHaveDuplicates()
+                    .containsExactlyInAnyOrderElementsOf(books.stream().map(Book::getId).toList());
+        }
+    }
+
+    @Test
+    @DisplayName("커서 조회 - 제목 커서 이후 페이지")
+    void findAllValidBooksByCursor_afterTitle() {
+        BookCursor cursor = new BookCursor(BookCursor.SortKey.TITLE, Sort.Direction.ASC, books.get(2).getId(), "페이징 책 C");
+
+        Slice<Book> slice = bookRepository.findValidBooksByTitleOrAuthorContainingByCursor("페이징 책", cursor, 2);
+
+        assertThat(slice.hasNext()).isTrue();
+        assertThat(slice.getContent())
+                .extracting(Book::getTitle)
+                .containsExactly("페이징 책 D", "페이징 책 E");
+    }
+
+    @Test
+    @DisplayName("컬렉션 fetch join + limit 은 메모리 페이징 대신 예외가 발생해야 함")
+    void collectionFetchJoinWithLimit_isRejected() {
+        // 이 설정이 빠지면 위의 페이징 테스트들도 메모리 페이징 회귀를 잡지 못함
+        assertThatThrownBy(() -> queryFactory
+                .selectFrom(book)
+                .leftJoin(book.authors, wrote).fetchJoin()
+                .offset(0)
+                .limit(3)
+                .fetch())
+                .hasStackTraceContaining("collection fetch");
+    }
+
+    private BookSearchDto toDto(Book b) {
+        return BookSearchDto.builder()
+                .id(b.getId())
+                .title(b.getTitle())
+                .totalPage(b.getTotalPage())
+                .publishedDate(b.getPublishedDate())
+                .avgRate(b.getAvgRate())
+                .build();
+    }
+}
@@ -0,0 +1,90 @@
+package com.back.domain.book.book.service;
+
+import com.back.domain.book.author.entity.Author;
+import com.back.domain.book.author.repository.AuthorRepository;
+import com.back.domain.book.book.entity.Book;
+import com.back.domain.book.book.repository.BookRepository;
+import com.back.domain.book.category.entity.Category;
+import com.back.domain.book.category.repository.CategoryRepository;
+import com.back.domain.book.client.aladin.dto.AladinBookDto;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대소문자를 구분하지 않는 DB(운영 MySQL 기본 collation 과 같은 비교) 에서 일괄 저장
+ * H2 는 기본적으로 대소문자를 구분하므로 IGNORECASE 로 만든 별도 DB 를 사용
+ */
+@ActiveProfiles("test")
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:db_test_ignorecase;MODE=MySQL;IGNORECASE=TRUE")
+@Transactional
+class BookIngestCollationTest {
+
+    @Autowired
+    private BookIngestService bookIngestService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("대소문자만 다른 카테고리/작가가 이미 있으면 저장된 행에 연결")
+    void ingest_reusesRowsStoredWithOtherCase() {
+        Category category = categoryRepository.save(new Category("Collation Fiction"));
+        Author author = authorRepository.save(new Author("JOSE COLLATION"));
+
+        List<Book> books = bookIngestService.ingest(List.of(
+                apiBook("9791100000100", "대소문자 책", "Foreign>collation fiction", "Jose Collation")));
+
+        assertThat(books).singleElement()
+                .satisfies(book -> assertThat(book.getCategory().getId()).isEqualTo(category.getId()));
+
+        entityManager.flush();
+        entityManager.clear();
+        assertThat(categoryRepository.findAll()).filteredOn(c -> c.getName().equalsIgnoreCase("collation fiction")).hasSize(1);
+        assertThat(authorRepository.findAll()).filteredOn(a -> a.getName().equalsIgnoreCase("jose collation")).hasSize(1);
+        assertThat(bookRepository.findByIsbn13("9791100000100").orElseThrow().getAuthors())
+                .extracting(wrote -> wrote.getAuthor().getId())
+                .containsExactly(author.getId());
+    }
+
+    @Test
+    @DisplayName("작가 조회 결과는 요청한 철자로 찾을 수 있음")
+    void findOrCreateAuthors_returnsStoredRowUnderRequestedName() {
+        Author author = authorRepository.save(new Author("MARIA COLLATION"));
+
+        Map<String, Author> authors = bookIngestService.findOrCreateAuthors(List.of("maria collation", "Maria Collation"));
+
+        assertThat(authors.get("maria collation").getId()).isEqualTo(author.getId());
+        assertThat(authors.get("Maria Collation").getId()).isEqualTo(author.getId());
+    }
+
+    private AladinBookDto apiBook(String isbn13, String title, String categoryName, String... authors) {
+        return AladinBookDto.builder()
+                .title(title)
+                .publisher("출판사")
+                .isbn13(isbn13)
+                .totalPage(300)
+                .categoryName(categoryName)
+                .mallType("FOREIGN")
+                .authors(List.of(authors))
+                .build();
+    }
+}
@@ -0,0 +1,161 @@
+package com.back.domain.book.book.service;
+
+import com.back.domain.book.author.entity.Author;
+import com.back.domain.book.author.repository.AuthorRepository;
+import com.back.domain.book.book.entity.Book;
+import com.back.domain.book.book.repository.BookRepository;
+import com.back.domain.book.category.entity.Category;
+import com.back.domain.book.category.repository.CategoryRepository;
+import com.back.domain.book.client.aladin.dto.AladinBookDto;
+import com.back.domain.book.search.BookAutocompleteIndex;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@Transactional
+class BookIngestServiceTest {
+
+    @Autowired
+    private BookIngestService bookIngestService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @Autowired
+    private BookAutocompleteIndex bookAutocompleteIndex;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("새 책/카테고리/작가를 한 번에 저장하고 입력 순서대로 반환 (중복 ISBN, ISBN 없는 결과 제외)")
+    void ingestNewBooks() {
+        List<Book> books = bookIngestService.ingest(List.of(
+                apiBook("9791100000001", "일괄저장 첫번째", "국내도서>일괄저장분야>세부분야", "BOOK", "일괄작가A", "일괄작가B"),
+                apiBook("9791100000002", "일괄저장 두번째", null, "FOREIGN", "일괄작가A"),
+                apiBook("9791100000001", "일괄저장 중복", "국내도서>일괄저장분야", "BOOK", "일괄작가C"),
+                apiBook(null, "ISBN 없음", "국내도서>일괄저장분야", "BOOK", "일괄작가D")
+        ));
+
+        assertThat(books).extracting(Book::getIsbn13).containsExactly("9791100000001", "9791100000002");
+        assertThat(books).allMatch(book -> book.getId() > 0);
+        assertThat(books.get(0).getCategory().getName()).isEqualTo("일괄저장분야");
+        assertThat(books.get(1).getCategory().getName()).isEqualTo("외국도서");
+
+        entityManager.flush();
+        entityManager.clear();
+
+        Book first = bookRepository.findByIsbn13("9791100000001").orElseThrow();
+        assertThat(first.getTitle()).isEqualTo("일괄저장 첫번째");
+        assertThat(first.getTotalPage()).isEqualTo(300);
+        assertThat(first.getRatingCount()).isZero();
+        assertThat(first.getAuthors()).extracting(wrote -> wrote.getAuthor().getName())
+                .containsExactlyInAnyOrder("일괄작가A", "일괄작가B");
+        assertThat(authorRepository.findByNameIn(List.of("일괄작가A"))).hasSize(1);
+        assertThat(authorRepository.findByNameIn(List.of("일괄작가C", "일괄작가D"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이미 있는 책/카테고리/작가는 새로 만들지 않음")
+    void reuseExistingRows() {
+        Category category = categoryRepository.save(new Category("일괄기존분야"));
+        authorRepository.save(new Author("일괄기존작가"));
+        Book existing = new Book("일괄 기존 책", "출판사", category);
+        existing.setIsbn13("9791100000010");
+        existing.setTotalPage(100);
+        existing = bookRepository.save(existing);
+
+        List<Book> books = bookIngestService.ingest(List.of(
+                apiBook("9791100000010", "바뀐 제목", "국내도서>일괄기존분야", "BOOK", "일괄기존작가"),
+                apiBook("9791100000011", "일괄 새 책", "국내도서>일괄기존분야", "BOOK", "일괄기존작가")
+        ));
+
+        assertThat(books.get(0).getId()).isEqualTo(existing.getId());
+        assertThat(books.get(0).getTitle()).isEqualTo("일괄 기존 책");
+        assertThat(books.get(1).getCategory().getId()).isEqualTo(category.getId());
+        assertThat(categoryRepository.findByNameIn(List.of("일괄기존분야"))).hasSize(1);
+        assertThat(authorRepository.findByNameIn(List.of("일괄기존작가"))).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("같은 결과를 다시 저장해도 책/작가 관계가 중복되지 않음")
+    void ingestTwice() {
+        List<AladinBookDto> apiBooks = List.of(
+                apiBook("9791100000020", "일괄 반복 책", "국내도서>일괄반복분야", "BOOK", "일괄반복작가"));
+
+        int firstId = bookIngestService.ingest(apiBooks).get(0).getId();
+        entityManager.clear();
+        int secondId = bookIngestService.ingest(apiBooks).get(0).getId();
+
+        assertThat(secondId).isEqualTo(firstId);
+        entityManager.clear();
+        assertThat(bookRepository.findById(firstId).orElseThrow().getAuthors()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("작가 이름은 unique - 있는 작가는 재사용하고 없는 작가만 한 번 추가")
+    void findOrCreateAuthors() {
+        Author existing = authorRepository.save(new Author("일괄조회기존작가"));
+
+        Map<String, Author> authors = bookIngestService.findOrCreateAuthors(
+                List.of("일괄조회기존작가", "일괄조회새작가", "일괄조회새작가"));
+        Map<String, Author> again = bookIngestService.findOrCreateAuthors(List.of("일괄조회새작가"));
+
+        assertThat(authors.get("일괄조회기존작가").getId()).isEqualTo(existing.getId());
+        assertThat(again.get("일괄조회새작가").getId()).isEqualTo(authors.get("일괄조회새작가").getId());
+        assertThat(authorRepository.findByName("일괄조회새작가")).isPresent();
+        assertThatThrownBy(() -> authorRepository.saveAndFlush(new Author("일괄조회기존작가")))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("JDBC 로 저장한 책도 자동완성 색인에 반영")
+    void indexesIngestedBooks() {
+        Book book = bookIngestService.ingest(List.of(
+                apiBook("9791100000030", "일괄색인 테스트 책", "국내도서>소설", "BOOK", "일괄색인작가"))).get(0);
+
+        assertThat(bookAutocompleteIndex.suggest("일괄색인", 10))
+                .anyMatch(suggestion -> suggestion.id() == book.getId());
+    }
+
+    @Test
+    @DisplayName("카테고리 경로에서 2번째 깊이 추출, 없으면 mallType 기본 카테고리")
+    void extractCategoryFromPath() {
+        assertThat(BookIngestService.extractCategoryFromPath("국내도서>소설>한국소설>현대소설", "BOOK")).isEqualTo("소설");
+        assertThat(BookIngestService.extractCategoryFromPath("국내도서", "BOOK")).isEqualTo("국내도서");
+        assertThat(BookIngestService.extractCategoryFromPath(null, "FOREIGN")).isEqualTo("외국도서");
+        assertThat(BookIngestService.extractCategoryFromPath("", "BOOK")).isEqualTo("국내도서");
+        assertThat(BookIngestService.extractCategoryFromPath(null, null)).isEqualTo("기타");
+    }
+
+    private AladinBookDto apiBook(String isbn13, String title, String categoryName, String mallType, String... authors) {
+        return AladinBookDto.builder()
+                .title(title)
+                .publisher("출판사")
+                .isbn13(isbn13)
+                .totalPage(300)
+                .categoryName(categoryName)
+                .mallType(mallType)
+                .authors(List.of(authors))
+                .build();
+    }
+}
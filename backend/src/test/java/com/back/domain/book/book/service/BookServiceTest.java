@@ -1,7 +1,6 @@
 package com.back.domain.book.book.service;
 
 import com.back.domain.book.author.entity.Author;
-import com.back.domain.book.author.repository.AuthorRepository;
 import com.back.domain.book.book.dto.BookSearchDto;
 import com.back.domain.book.book.entity.Book;
 import com.back.domain.book.book.repository.BookRepository;
@@ -9,6 +8,8 @@ import com.back.domain.book.category.entity.Category;
 import com.back.domain.book.category.repository.CategoryRepository;
 import com.back.domain.book.client.aladin.AladinApiClient;
 import com.back.domain.book.client.aladin.dto.AladinBookDto;
+import com.back.domain.book.enrichment.service.BookEnrichmentService;
+import com.back.domain.book.search.NegativeSearchCache;
 import com.back.domain.book.wrote.entity.Wrote;
 import com.back.domain.book.wrote.repository.WroteRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,7 +18,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -36,15 +40,25 @@ class BookServiceTest {
     @Mock
     private CategoryRepository categoryRepository;
 
-    @Mock
-    private AuthorRepository authorRepository;
-
     @Mock
     private WroteRepository wroteRepository;
 
     @Mock
     private AladinApiClient aladinApiClient;
 
+    @Mock
+    private NegativeSearchCache negativeSearchCache;
+
+    @Mock
+    private BookEnrichmentService bookEnrichmentService;
+
+    @Mock
+    private BookIngestService bookIngestService;
+
+    // 콜백을 그대로 실행 (트랜잭션 매니저는 mock)
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
     @InjectMocks
     private BookService bookService;
 
@@ -79,40 +93,31 @@ class BookServiceTest {
     }
 
     @Test
-    @DisplayName("DB에 책이 없는 경우 - 알라딘 API 호출")
+    @DisplayName("DB에 책이 없는 경우 - 알라딘 API 호출 후 일괄 저장")
     void searchBooks_WhenBooksNotFoundInDB_ShouldCallAladinAPI() {
         // Given
         String query = "새로운책";
         AladinBookDto apiBook = createTestAladinBookDto();
+        Book savedBook = createTestBookWithAuthor();
 
-        when(bookRepository.findByTitleOrAuthorContaining(query))
+        when(bookRepository.findValidBooksByTitleOrAuthorContaining(query))
                 .thenReturn(List.of());
         when(aladinApiClient.searchBooks(query, 10))
                 .thenReturn(List.of(apiBook));
-        when(categoryRepository.findByName("소설"))
-                .thenReturn(Optional.of(new Category("소설")));
-        when(authorRepository.findByName("J.K. 롤링"))
-                .thenReturn(Optional.empty());
-        when(authorRepository.save(any(Author.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
-        when(wroteRepository.existsByAuthorAndBook(any(Author.class), any(Book.class)))
-                .thenReturn(false);
-        when(wroteRepository.save(any(Wrote.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
-        when(bookRepository.findByIsbn13(anyString()))
-                .thenReturn(Optional.empty());
-        when(bookRepository.save(any(Book.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(bookIngestService.ingest(List.of(apiBook)))
+                .thenReturn(List.of(savedBook));
+        // 저장 후 새 트랜잭션에서 id 로 다시 조회
+        when(bookRepository.findAllById(List.of(savedBook.getId())))
+                .thenReturn(List.of(savedBook));
 
         // When
         List<BookSearchDto> result = bookService.searchBooks(query, 10);
 
         // Then
         verify(aladinApiClient).searchBooks(query, 10);
-        verify(bookRepository, atLeastOnce()).save(any(Book.class));
-        verify(authorRepository, atLeastOnce()).save(any(Author.class));
-        verify(wroteRepository, atLeastOnce()).save(any(Wrote.class));
+        verify(bookIngestService).ingest(List.of(apiBook));
         assertThat(result).hasSize(1);
+        assertThat(result.get(0).getAuthors()).contains("테스트 작가");
     }
 
     @Test
@@ -121,7 +126,7 @@ class BookServiceTest {
         // Given
         String isbn = "9788966261024";
         Book book = createTestBookWithAuthor();
-        when(bookRepository.findByIsbn13(isbn))
+        when(bookRepository.findValidBookByIsbn13(isbn))
                 .thenReturn(Optional.of(book));
 
         // When
@@ -142,38 +147,31 @@ class BookServiceTest {
         // Given
         String isbn = "9788966261024";
         AladinBookDto apiBook = createTestAladinBookDto();
+        Book savedBook = createTestBookWithAuthor();
 
         when(bookRepository.findByIsbn13(isbn))
                 .thenReturn(Optional.empty());
         when(aladinApiClient.getBookByIsbn(isbn))
                 .thenReturn(apiBook);
-        when(categoryRepository.findByName("소설"))
-                .thenReturn(Optional.of(new Category("소설")));
-        when(authorRepository.findByName("J.K. 롤링"))
-                .thenReturn(Optional.empty());
-        when(authorRepository.save(any(Author.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
-        when(wroteRepository.existsByAuthorAndBook(any(Author.class), any(Book.class)))
-                .thenReturn(false);
-        when(wroteRepository.save(any(Wrote.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
-        when(bookRepository.save(any(Book.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(bookIngestService.ingest(List.of(apiBook)))
+                .thenReturn(List.of(savedBook));
+        when(bookRepository.findById(savedBook.getId()))
+                .thenReturn(Optional.of(savedBook));
 
         // When
         BookSearchDto result = bookService.getBookByIsbn(isbn);
 
         // Then
         verify(aladinApiClient).getBookByIsbn(isbn);
-        verify(bookRepository).save(any(Book.class));
-        verify(authorRepository).save(any(Author.class));
-        verify(wroteRepository).save(any(Wrote.class));
+        verify(bookIngestService).ingest(List.of(apiBook));
+        // 페이지 수와 작가가 모두 있으면 상세 조회 생략
+        verify(aladinApiClient, never()).getBookDetails(anyString());
         assertThat(result).isNotNull();
     }
 
     @Test
-    @DisplayName("상세 정보 보완 - 페이지 수가 없는 경우")
-    void enrichMissingDetails_WhenPageMissing_ShouldEnrichFromAPI() {
+    @DisplayName("상세 정보 보완 - 페이지 수가 없는 경우 검색 중에 조회하지 않고 대기열에 등록")
+    void queueMissingDetails_WhenPageMissing_ShouldEnqueueWithoutLookup() {
         // Given
         String query = "페이지없는책";
         AladinBookDto apiBook = AladinBookDto.builder()
@@ -184,73 +182,23 @@ class BookServiceTest {
                 .categoryName("국내도서>소설")
                 .mallType("BOOK")
                 .build();
+        Book savedBook = createTestBookWithAuthor();
+        savedBook.setTotalPage(0);
 
-        AladinBookDto detailBook = AladinBookDto.builder()
-                .title("페이지 없는 책")
-                .isbn13("9788966261024")
-                .totalPage(300) // 상세 조회에서 페이지 수 있음
-                .authors(List.of("테스트 작가"))
-                .build();
-
-        when(bookRepository.findByTitleOrAuthorContaining(query))
+        when(bookRepository.findValidBooksByTitleOrAuthorContaining(query))
                 .thenReturn(List.of());
         when(aladinApiClient.searchBooks(query, 10))
                 .thenReturn(List.of(apiBook));
-        when(aladinApiClient.getBookDetails("9788966261024"))
-                .thenReturn(detailBook);
-        when(categoryRepository.findByName("소설"))
-                .thenReturn(Optional.of(new Category("소설")));
-        when(authorRepository.findByName("테스트 작가"))
-                .thenReturn(Optional.of(testAuthor));
-        when(wroteRepository.existsByAuthorAndBook(any(Author.class), any(Book.class)))
-                .thenReturn(false);
-        when(wroteRepository.save(any(Wrote.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
-        when(bookRepository.findByIsbn13("9788966261024"))
-                .thenReturn(Optional.empty());
-        when(bookRepository.save(any(Book.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(bookIngestService.ingest(List.of(apiBook)))
+                .thenReturn(List.of(savedBook));
 
         // When
         List<BookSearchDto> result = bookService.searchBooks(query, 10);
 
         // Then
-        verify(aladinApiClient).getBookDetails("9788966261024");
-        verify(bookRepository, atLeastOnce()).save(argThat(book ->
-                book.getTotalPage() == 300
-        ));
-    }
-
-    @Test
-    @DisplayName("중복된 작가 정보 처리 - 이미 존재하는 작가는 새로 생성하지 않음")
-    void saveAuthors_WhenAuthorAlreadyExists_ShouldNotCreateDuplicate() {
-        // Given
-        String query = "기존작가책";
-        AladinBookDto apiBook = createTestAladinBookDto();
-
-        when(bookRepository.findByTitleOrAuthorContaining(query))
-                .thenReturn(List.of());
-        when(aladinApiClient.searchBooks(query, 10))
-                .thenReturn(List.of(apiBook));
-        when(categoryRepository.findByName("소설"))
-                .thenReturn(Optional.of(new Category("소설")));
-        when(authorRepository.findByName("J.K. 롤링"))
-                .thenReturn(Optional.of(testAuthor)); // 이미 존재하는 작가
-        when(wroteRepository.existsByAuthorAndBook(any(Author.class), any(Book.class)))
-                .thenReturn(false);
-        when(wroteRepository.save(any(Wrote.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
-        when(bookRepository.findByIsbn13(anyString()))
-                .thenReturn(Optional.empty());
-        when(bookRepository.save(any(Book.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
-
-        // When
-        bookService.searchBooks(query, 10);
-
-        // Then
-        verify(authorRepository, never()).save(any(Author.class)); // 새로운 작가 생성 안 함
-        verify(wroteRepository, atLeastOnce()).save(any(Wrote.class)); // 관계는 생성
+        verify(aladinApiClient, never()).getBookDetails(anyString());
+        verify(bookEnrichmentService).enqueue(List.of(savedBook));
+        assertThat(result).isEmpty();
     }
 
     @Test
@@ -258,7 +206,7 @@ class BookServiceTest {
     void searchBooks_WhenAPICallFails_ShouldReturnEmptyList() {
         // Given
         String query = "실패테스트";
-        when(bookRepository.findByTitleOrAuthorContaining(query))
+        when(bookRepository.findValidBooksByTitleOrAuthorContaining(query))
                 .thenReturn(List.of());
         when(aladinApiClient.searchBooks(query, 10))
                 .thenReturn(List.of()); // API 클라이언트에서 빈 리스트 반환
@@ -268,127 +216,7 @@ class BookServiceTest {
 
         // Then
         assertThat(result).isEmpty();
-        verify(authorRepository, never()).save(any(Author.class));
-        verify(wroteRepository, never()).save(any(Wrote.class));
-    }
-
-    @Test
-    @DisplayName("카테고리 경로에서 2번째 깊이 추출 - 소설")
-    void categoryExtraction_ShouldExtractSecondLevel_Novel() {
-        // Given
-        String query = "소설책";
-        AladinBookDto apiBook = AladinBookDto.builder()
-                .title("Test Novel")
-                .isbn13("9788966261024")
-                .categoryName("국내도서>소설>한국소설>현대소설")
-                .mallType("BOOK")
-                .authors(List.of("테스트 작가"))
-                .build();
-
-        when(bookRepository.findByTitleOrAuthorContaining(query))
-                .thenReturn(List.of());
-        when(aladinApiClient.searchBooks(query, 10))
-                .thenReturn(List.of(apiBook));
-        when(categoryRepository.findByName("소설"))
-                .thenReturn(Optional.of(new Category("소설")));
-        when(authorRepository.findByName("테스트 작가"))
-                .thenReturn(Optional.of(testAuthor));
-        when(wroteRepository.existsByAuthorAndBook(any(Author.class), any(Book.class)))
-                .thenReturn(false);
-        when(wroteRepository.save(any(Wrote.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
-        when(bookRepository.findByIsbn13(anyString()))
-                .thenReturn(Optional.empty());
-        when(bookRepository.save(any(Book.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
-
-        // When
-        bookService.searchBooks(query, 10);
-
-        // Then
-        verify(categoryRepository, atLeastOnce()).findByName("소설");
-        verify(bookRepository, atLeastOnce()).save(any(Book.class));
-    }
-
-    @Test
-    @DisplayName("새로운 카테고리 자동 생성")
-    void categoryExtraction_ShouldCreateNewCategory() {
-        // Given
-        String query = "새분야책";
-        AladinBookDto apiBook = AladinBookDto.builder()
-                .title("Test Book")
-                .isbn13("9788966261024")
-                .categoryName("국내도서>새로운분야>세부분야")
-                .mallType("BOOK")
-                .authors(List.of("테스트 작가"))
-                .build();
-
-        when(bookRepository.findByTitleOrAuthorContaining(query))
-                .thenReturn(List.of());
-        when(aladinApiClient.searchBooks(query, 10))
-                .thenReturn(List.of(apiBook));
-        when(categoryRepository.findByName("새로운분야"))
-                .thenReturn(Optional.empty());
-        when(categoryRepository.save(any(Category.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
-        when(authorRepository.findByName("테스트 작가"))
-                .thenReturn(Optional.of(testAuthor));
-        when(wroteRepository.existsByAuthorAndBook(any(Author.class), any(Book.class)))
-                .thenReturn(false);
-        when(wroteRepository.save(any(Wrote.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
-        when(bookRepository.findByIsbn13(anyString()))
-                .thenReturn(Optional.empty());
-        when(bookRepository.save(any(Book.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
-
-        // When
-        bookService.searchBooks(query, 10);
-
-        // Then
-        verify(categoryRepository, atLeastOnce()).findByName("새로운분야");
-        verify(categoryRepository, atLeastOnce()).save(argThat(category ->
-                "새로운분야".equals(category.getName())
-        ));
-        verify(bookRepository, atLeastOnce()).save(any(Book.class));
-    }
-
-    @Test
-    @DisplayName("mallType 기반 기본 카테고리 - FOREIGN")
-    void categoryExtraction_ForeignBook_ShouldUseForeignCategory() {
-        // Given
-        String query = "외국책";
-        AladinBookDto apiBook = AladinBookDto.builder()
-                .title("Foreign Book")
-                .isbn13("9788966261024")
-                .categoryName(null) // 카테고리 정보 없음
-                .mallType("FOREIGN")
-                .authors(List.of("테스트 작가"))
-                .build();
-
-        when(bookRepository.findByTitleOrAuthorContaining(query))
-                .thenReturn(List.of());
-        when(aladinApiClient.searchBooks(query, 10))
-                .thenReturn(List.of(apiBook));
-        when(categoryRepository.findByName("외국도서"))
-                .thenReturn(Optional.of(new Category("외국도서")));
-        when(authorRepository.findByName("테스트 작가"))
-                .thenReturn(Optional.of(testAuthor));
-        when(wroteRepository.existsByAuthorAndBook(any(Author.class), any(Book.class)))
-                .thenReturn(false);
-        when(wroteRepository.save(any(Wrote.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
-        when(bookRepository.findByIsbn13(anyString()))
-                .thenReturn(Optional.empty());
-        when(bookRepository.save(any(Book.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
-
-        // When
-        bookService.searchBooks(query, 10);
-
-        // Then
-        verify(categoryRepository, atLeastOnce()).findByName("외국도서");
-        verify(bookRepository, atLeastOnce()).save(any(Book.class));
+        verify(bookIngestService).ingest(List.of());
     }
 
     // ===== Helper Methods =====
@@ -0,0 +1,166 @@
+package com.back.domain.book.client.aladin;
+
+import com.back.domain.book.client.aladin.cache.AladinResponseCache;
+import com.back.domain.book.client.aladin.dto.AladinBookDto;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 로컬 알라딘 stub 서버로 검색 대상 동시 호출 확인 (네트워크 불필요)
+ * 시간을 재지 않고 stub 응답 앞의 barrier/latch 로 호출 순서를 고정한다. 응답 시간 비교는 jmh 의 AladinSearchBenchmark 참고.
+ */
+class AladinApiClientTest {
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private AladinApiClient client;
+
+    // 검색 대상별로 응답 전에 기다릴 조건
+    private final Map<String, Gate> gates = new ConcurrentHashMap<>();
+
+    // 외국도서 응답을 보낸 뒤 열림
+    private final CountDownLatch foreignResponded = new CountDownLatch(1);
+
+    // 테스트가 끝날 때 열림 - 붙잡아 둔 stub 응답 해제
+    private final CountDownLatch released = new CountDownLatch(1);
+
+    @FunctionalInterface
+    private interface Gate {
+        void await() throws Exception;
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/ItemSearch.aspx", this::handleSearch);
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.start();
+
+        client = new AladinApiClient(new RestTemplate(), mock(AladinResponseCache.class));
+        ReflectionTestUtils.setField(client, "aladinApiKey", "test");
+        ReflectionTestUtils.setField(client, "aladinBaseUrl", "http://127.0.0.1:" + server.getAddress().getPort());
+        ReflectionTestUtils.setField(client, "searchTimeoutMs", 2000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        released.countDown();
+        client.shutdown();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("국내/외국도서 검색을 동시에 호출 - 두 요청이 함께 stub 에 도착")
+    void searchBooks_parallel() {
+        // 두 요청이 모두 도착해야 barrier 를 통과 (순차 호출이면 첫 요청이 여기서 막혀 시간 초과)
+        CyclicBarrier bothInFlight = new CyclicBarrier(2);
+        AtomicBoolean passed = new AtomicBoolean();
+        Gate gate = () -> {
+            bothInFlight.await(5, TimeUnit.SECONDS);
+            passed.set(true);
+        };
+        gates.put("Book", gate);
+        gates.put("Foreign", gate);
+        ReflectionTestUtils.setField(client, "searchTimeoutMs", 10_000L);
+
+        List<AladinBookDto> books = client.searchBooks("자바", 10);
+
+        assertThat(passed).isTrue();
+        assertThat(bothInFlight.isBroken()).isFalse();
+        assertThat(books).extracting(AladinBookDto::getIsbn13)
+                .containsExactly("9780000000001", "9780000000002", "9780000000003");
+    }
+
+    @Test
+    @DisplayName("결과는 검색 대상 순서대로 합치고 ISBN 중복은 제거")
+    void searchBooks_orderedAndDeduplicated() {
+        // 외국도서가 먼저 응답해도 국내도서 결과가 앞에 옴
+        gates.put("Book", () -> foreignResponded.await(5, TimeUnit.SECONDS));
+        ReflectionTestUtils.setField(client, "searchTimeoutMs", 10_000L);
+
+        List<AladinBookDto> books = client.searchBooks("자바", 10);
+
+        assertThat(foreignResponded.getCount()).isZero();
+        assertThat(books).extracting(AladinBookDto::getTitle)
+                .containsExactly("Book-1", "Book-2", "Foreign-3");
+    }
+
+    @Test
+    @DisplayName("제한 시간 안에 응답하지 않은 검색 대상은 제외하고 반환")
+    void searchBooks_deadline() {
+        // 외국도서는 테스트가 끝날 때까지 응답하지 않음
+        gates.put("Foreign", released::await);
+        ReflectionTestUtils.setField(client, "searchTimeoutMs", 1000L);
+
+        List<AladinBookDto> books = client.searchBooks("자바", 10);
+
+        assertThat(released.getCount()).isEqualTo(1);
+        assertThat(books).extracting(AladinBookDto::getTitle).containsExactly("Book-1", "Book-2");
+    }
+
+    /**
+     * 국내도서: 1, 2번 / 외국도서: 2, 3번 (2번은 양쪽에 중복)
+     */
+    private void handleSearch(HttpExchange exchange) throws IOException {
+        String target = exchange.getRequestURI().getQuery().contains("SearchTarget=Foreign") ? "Foreign" : "Book";
+        Gate gate = gates.get(target);
+        if (gate != null) {
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                exchange.sendResponseHeaders(500, -1);
+                exchange.close();
+                return;
+            }
+        }
+
+        String items = target.equals("Book")
+                ? item(target, 1) + "," + item(target, 2)
+                : item(target, 2) + "," + item(target, 3);
+        byte[] body = ("{\"item\":[" + items + "]}").getBytes(StandardCharsets.UTF_8);
+
+        exchange.getResponseHeaders().add("Content-Type", "application/json;charset=UTF-8");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        } catch (IOException ignored) {
+            // 제한 시간 초과로 클라이언트가 먼저 끊은 경우
+        }
+        if (target.equals("Foreign")) {
+            foreignResponded.countDown();
+        }
+    }
+
+    private String item(String target, int no) {
+        return """
+                {"title":"%s-%d","isbn13":"978000000000%d","mallType":"%s","itemPage":100,"author":"작가%d"}"""
+                .formatted(target, no, no, target.equals("Book") ? "BOOK" : "FOREIGN", no);
+    }
+}
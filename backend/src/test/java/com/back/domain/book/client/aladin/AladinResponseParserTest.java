@@ -0,0 +1,133 @@
+package com.back.domain.book.client.aladin;
+
+import com.back.domain.book.client.aladin.dto.AladinBookDto;
+import com.fasterxml.jackson.core.JsonFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AladinResponseParserTest {
+
+    private final AladinResponseParser parser = new AladinResponseParser(JsonFactory.builder().build());
+
+    // 실제 ItemSearch 응답 형태 (사용하지 않는 필드/중첩 객체 포함, item 앞뒤에 다른 최상위 필드)
+    private static final String RESPONSE = """
+            {
+              "version": "20131101",
+              "totalResults": 4,
+              "query": "자바",
+              "item": [
+                {
+                  "title": "자바의 정석",
+                  "link": "http://www.aladin.co.kr/shop/wproduct.aspx?ItemId=1",
+                  "author": "남궁성 (지은이), 남궁성;  홍길동 ",
+                  "pubDate": "2016-01-27",
+                  "description": "설명 \\"따옴표\\" 포함",
+                  "isbn": "8994492038",
+                  "isbn13": "9788994492032",
+                  "priceSales": 27000,
+                  "mallType": "BOOK",
+                  "cover": "https://image.aladin.co.kr/1.jpg",
+                  "categoryName": "국내도서>컴퓨터/모바일>프로그래밍 언어>자바",
+                  "publisher": "도우출판",
+                  "seriesInfo": {"seriesId": 1, "seriesName": "정석"},
+                  "subInfo": {
+                    "subTitle": "",
+                    "itemPage": 1022,
+                    "authors": [
+                      {"authorType": "author", "authorName": "홍길동", "authorId": 1},
+                      {"authorType": "author", "authorName": " 김자바 ", "authorId": 2}
+                    ]
+                  }
+                },
+                {
+                  "subInfo": {"itemPage": "320"},
+                  "title": "Effective Java",
+                  "isbn13": "",
+                  "isbn": "9780134685991",
+                  "pubDate": "2017-12",
+                  "mallType": "FOREIGN",
+                  "author": null
+                },
+                {
+                  "title": "전자책",
+                  "isbn13": "9790000000001",
+                  "mallType": "EBOOK"
+                },
+                {
+                  "title": "페이지 없음",
+                  "isbn13": "9790000000002",
+                  "pubDate": "2020",
+                  "mallType": "BOOK",
+                  "itemPage": 0,
+                  "subInfo": {"itemPage": 500}
+                }
+              ],
+              "searchCategoryId": 0
+            }
+            """;
+
+    @Test
+    @DisplayName("사용하는 필드만 읽고 도서가 아닌 항목은 제외")
+    void parseItems() {
+        List<AladinBookDto> books = parser.parse(RESPONSE);
+
+        assertThat(books).extracting(AladinBookDto::getTitle)
+                .containsExactly("자바의 정석", "Effective Java", "페이지 없음");
+
+        AladinBookDto first = books.get(0);
+        assertThat(first.getIsbn13()).isEqualTo("9788994492032");
+        assertThat(first.getImageUrl()).isEqualTo("https://image.aladin.co.kr/1.jpg");
+        assertThat(first.getPublisher()).isEqualTo("도우출판");
+        assertThat(first.getCategoryName()).isEqualTo("국내도서>컴퓨터/모바일>프로그래밍 언어>자바");
+        assertThat(first.getMallType()).isEqualTo("BOOK");
+        assertThat(first.getTotalPage()).isEqualTo(1022);
+        assertThat(first.getPublishedDate()).isEqualTo(LocalDateTime.of(2016, 1, 27, 0, 0));
+        // author 문자열 순서 다음에 subInfo 작가, 중복 제거
+        assertThat(first.getAuthors()).containsExactly("남궁성 (지은이)", "남궁성", "홍길동", "김자바");
+    }
+
+    @Test
+    @DisplayName("isbn13 이 비어 있으면 13자리 isbn, 페이지는 subInfo, 연월만 있는 출간일은 1일")
+    void fallbacks() {
+        AladinBookDto book = parser.parse(RESPONSE).get(1);
+
+        assertThat(book.getIsbn13()).isEqualTo("9780134685991");
+        assertThat(book.getTotalPage()).isEqualTo(320);
+        assertThat(book.getPublishedDate()).isEqualTo(LocalDateTime.of(2017, 12, 1, 0, 0));
+        assertThat(book.getAuthors()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("itemPage 가 있으면 0 이어도 subInfo 보다 우선")
+    void itemPageFirst() {
+        AladinBookDto book = parser.parse(RESPONSE).get(2);
+
+        assertThat(book.getTotalPage()).isZero();
+        assertThat(book.getPublishedDate()).isEqualTo(LocalDateTime.of(2020, 1, 1, 0, 0));
+    }
+
+    @Test
+    @DisplayName("오류 응답/형식이 잘못된 응답은 빈 목록")
+    void invalidResponse() {
+        assertThat(parser.parse("{\"errorCode\":10,\"errorMessage\":\"잘못된 키\"}")).isEmpty();
+        assertThat(parser.parse("{\"item\":[{\"title\":")).isEmpty();
+        assertThat(parser.parse("[]")).isEmpty();
+        assertThat(parser.parse(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("출간일 형식이 다르거나 존재하지 않는 날짜면 현재 시간")
+    void parsePubDate() {
+        assertThat(AladinResponseParser.parsePubDate("2024-02-29")).isEqualTo(LocalDateTime.of(2024, 2, 29, 0, 0));
+
+        LocalDateTime before = LocalDateTime.now();
+        assertThat(AladinResponseParser.parsePubDate("2024.01.01")).isAfterOrEqualTo(before);
+        assertThat(AladinResponseParser.parsePubDate("2023-02-30")).isAfterOrEqualTo(before);
+        assertThat(AladinResponseParser.parsePubDate("20-4-01-01")).isAfterOrEqualTo(before);
+    }
+}
@@ -0,0 +1,127 @@
+package com.back.domain.book.client.aladin.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MappedResponseStoreTest {
+
+    private static final long NOW = 1_000_000L;
+
+    @TempDir
+    Path dir;
+
+    private MappedResponseStore open(int capacity, long now) throws IOException {
+        return new MappedResponseStore(dir.resolve("aladin.dat"), capacity,
+                key -> key.startsWith("ITEM_LOOKUP") ? 0 : 1, now);
+    }
+
+    @Test
+    @DisplayName("저장한 값을 조회하고, 같은 키는 마지막 값")
+    void putAndGet() throws IOException {
+        try (MappedResponseStore store = open(64 * 1024, NOW)) {
+            store.put("ITEM_LOOKUP|1", bytes("첫 번째"), NOW + 1000, NOW);
+            store.put("ITEM_LOOKUP|1", bytes("두 번째"), NOW + 1000, NOW);
+
+            assertThat(text(store.get("ITEM_LOOKUP|1", NOW))).isEqualTo("두 번째");
+            assertThat(store.get("ITEM_LOOKUP|2", NOW)).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지나면 조회되지 않음")
+    void expired() throws IOException {
+        try (MappedResponseStore store = open(64 * 1024, NOW)) {
+            store.put("ITEM_SEARCH|a", bytes("결과"), NOW + 1000, NOW);
+
+            assertThat(store.get("ITEM_SEARCH|a", NOW + 999)).isNotNull();
+            assertThat(store.get("ITEM_SEARCH|a", NOW + 1000)).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("파일을 다시 열어도 만료되지 않은 값은 유지")
+    void survivesReopen() throws IOException {
+        try (MappedResponseStore store = open(64 * 1024, NOW)) {
+            store.put("ITEM_LOOKUP|1", bytes("오래 유지"), NOW + 10_000, NOW);
+            store.put("ITEM_SEARCH|a", bytes("곧 만료"), NOW + 100, NOW);
+        }
+
+        try (MappedResponseStore store = open(64 * 1024, NOW + 1000)) {
+            assertThat(store.size()).isEqualTo(1);
+            assertThat(text(store.get("ITEM_LOOKUP|1", NOW + 1000))).isEqualTo("오래 유지");
+
+            // 이어서 추가해도 기존 레코드를 덮어쓰지 않음
+            store.put("ITEM_LOOKUP|2", bytes("추가"), NOW + 10_000, NOW + 1000);
+            assertThat(text(store.get("ITEM_LOOKUP|1", NOW + 1000))).isEqualTo("오래 유지");
+            assertThat(text(store.get("ITEM_LOOKUP|2", NOW + 1000))).isEqualTo("추가");
+        }
+    }
+
+    @Test
+    @DisplayName("공간이 부족하면 compaction - ISBN 조회 결과를 검색 결과보다 먼저 남김")
+    void compactionKeepsLookupsFirst() throws IOException {
+        byte[] value = new byte[100];
+        try (MappedResponseStore store = open(4096, NOW)) {
+            for (int i = 0; i < 10; i++) {
+                store.put("ITEM_LOOKUP|" + i, value, NOW + 10_000, NOW);
+            }
+            for (int i = 0; store.usedBytes() + 200 < 4096; i++) {
+                store.put("ITEM_SEARCH|" + i, value, NOW + 10_000, NOW);
+            }
+            int usedBeforeCompaction = store.usedBytes();
+
+            store.put("ITEM_SEARCH|new", value, NOW + 10_000, NOW);
+            store.put("ITEM_SEARCH|new2", value, NOW + 10_000, NOW);
+
+            assertThat(store.usedBytes()).isLessThan(usedBeforeCompaction);
+            for (int i = 0; i < 10; i++) {
+                assertThat(store.get("ITEM_LOOKUP|" + i, NOW)).isNotNull();
+            }
+            assertThat(store.get("ITEM_SEARCH|new2", NOW)).isNotNull();
+        }
+
+        // compaction 후의 파일도 다시 열 수 있음
+        try (MappedResponseStore store = open(4096, NOW)) {
+            assertThat(store.get("ITEM_LOOKUP|9", NOW)).isNotNull();
+        }
+    }
+
+    @Test
+    @DisplayName("compaction 뒤쪽에 남은 이전 레코드는 다시 열어도 복구되지 않음")
+    void compactionInPlaceDropsStaleRecords() throws IOException {
+        byte[] value = new byte[100];
+        int sizeAfterCompaction;
+        try (MappedResponseStore store = open(4096, NOW)) {
+            for (int i = 0; store.usedBytes() + 200 < 4096; i++) {
+                store.put("ITEM_SEARCH|" + i, value, NOW + (i % 2 == 0 ? 100 : 10_000), NOW);
+            }
+            // 절반이 만료된 뒤 공간이 부족해져 compaction
+            store.put("ITEM_SEARCH|new", value, NOW + 10_000, NOW + 1000);
+            store.put("ITEM_SEARCH|new2", value, NOW + 10_000, NOW + 1000);
+            sizeAfterCompaction = store.size();
+            assertThat(store.get("ITEM_SEARCH|0", NOW)).isNull();
+        }
+
+        try (MappedResponseStore store = open(4096, NOW)) {
+            assertThat(store.size()).isEqualTo(sizeAfterCompaction);
+            assertThat(store.get("ITEM_SEARCH|0", NOW)).isNull();
+            assertThat(store.get("ITEM_SEARCH|1", NOW)).isNotNull();
+            assertThat(store.get("ITEM_SEARCH|new2", NOW)).isNotNull();
+        }
+    }
+
+    private byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private String text(MappedResponseStore.Stored stored) {
+        return new String(stored.value(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,135 @@
+package com.back.domain.book.client.aladin.stub;
+
+import com.back.domain.book.client.aladin.AladinApiClient;
+import com.back.domain.book.client.aladin.cache.AladinResponseCache;
+import com.back.domain.book.client.aladin.dto.AladinBookDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 알라딘 stub 서버에 AladinApiClient 를 연결해서 확인 (네트워크 불필요)
+ */
+class AladinStubServerTest {
+
+    private AladinStubServer stub;
+    private AladinApiClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stub = AladinStubServer.start();
+        client = clientFor(stub);
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.shutdown();
+        stub.close();
+    }
+
+    @Test
+    @DisplayName("기록된 fixture 로 검색 - 국내도서 다음에 외국도서")
+    void searchFromFixtures() {
+        List<AladinBookDto> books = client.searchBooks("자바", 10);
+
+        assertThat(books).extracting(AladinBookDto::getIsbn13).containsExactly(
+                "9788994492049", "9791169210027", "9791162242025", "9780134685991", "9780321349606");
+        assertThat(books.get(2).getAuthors()).contains("우정은");
+        assertThat(stub.requestCount(AladinStubServer.SEARCH_PATH)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("MaxResults 만큼만 반환")
+    void searchLimitedByMaxResults() {
+        // 대상별 limit / 2 = 1건
+        assertThat(client.searchBooks("자바", 2)).extracting(AladinBookDto::getIsbn13)
+                .containsExactly("9788994492049", "9780134685991");
+    }
+
+    @Test
+    @DisplayName("fixture 가 없으면 빈 결과, 생성 모드면 검색어로 정해지는 가짜 결과")
+    void missingFixture() {
+        assertThat(client.searchBooks("없는 검색어", 10)).isEmpty();
+
+        stub.synthesizeMissing(true);
+        List<AladinBookDto> first = client.searchBooks("없는 검색어", 10);
+        List<AladinBookDto> second = client.searchBooks("없는 검색어", 10);
+
+        assertThat(first).hasSize(10).allMatch(book -> book.getTitle().startsWith("없는 검색어"));
+        assertThat(second).extracting(AladinBookDto::getIsbn13)
+                .containsExactlyElementsOf(first.stream().map(AladinBookDto::getIsbn13).toList());
+        assertThat(client.getBookDetails("9791100000000").getTotalPage()).isPositive();
+    }
+
+    @Test
+    @DisplayName("페이지 수 누락 비율 1 이면 검색 결과의 페이지 수가 모두 0, ISBN 조회는 그대로")
+    void pageGaps() {
+        stub.pageGapRate(1.0);
+
+        assertThat(client.searchBooks("자바", 10)).allMatch(book -> book.getTotalPage() == 0);
+        assertThat(client.getBookDetails("9788994492049").getTotalPage()).isEqualTo(560);
+    }
+
+    @Test
+    @DisplayName("오류 비율 1 이면 알라딘 오류 응답 - 클라이언트는 빈 결과")
+    void errors() {
+        stub.errorRate(1.0);
+
+        assertThat(client.searchBooks("자바", 10)).isEmpty();
+        assertThat(client.getBookDetails("9788994492049")).isNull();
+    }
+
+    @Test
+    @DisplayName("응답 지연 적용")
+    void latency() {
+        stub.latency(Duration.ofMillis(200), Duration.ofMillis(200));
+
+        long start = System.nanoTime();
+        client.getBookDetails("9788994492049");
+
+        assertThat((System.nanoTime() - start) / 1_000_000).isGreaterThanOrEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("기록 모드 - fixture 가 없는 요청을 원본으로 보내고 저장, 다음부터는 저장한 fixture 사용")
+    void record(@TempDir Path fixtureDir) throws IOException {
+        stub.synthesizeMissing(true);
+        try (AladinStubServer recorder = AladinStubServer.start(0, fixtureDir).recordFrom(stub.baseUrl())) {
+            AladinApiClient recordingClient = clientFor(recorder);
+            try {
+                List<AladinBookDto> recorded = recordingClient.searchBooks("기록 검색어", 4);
+
+                assertThat(Files.exists(fixtureDir.resolve("search/Book/" + AladinStubServer.fileName("기록 검색어") + ".json"))).isTrue();
+                assertThat(Files.exists(fixtureDir.resolve("search/Foreign/" + AladinStubServer.fileName("기록 검색어") + ".json"))).isTrue();
+
+                stub.errorRate(1.0);
+                assertThat(recordingClient.searchBooks("기록 검색어", 4)).extracting(AladinBookDto::getIsbn13)
+                        .containsExactlyElementsOf(recorded.stream().map(AladinBookDto::getIsbn13).toList());
+                assertThat(stub.requestCount(AladinStubServer.SEARCH_PATH)).isEqualTo(2);
+            } finally {
+                recordingClient.shutdown();
+            }
+        }
+    }
+
+    private AladinApiClient clientFor(AladinStubServer server) {
+        AladinApiClient aladinApiClient = new AladinApiClient(new RestTemplate(), mock(AladinResponseCache.class));
+        ReflectionTestUtils.setField(aladinApiClient, "aladinApiKey", "test");
+        ReflectionTestUtils.setField(aladinApiClient, "aladinBaseUrl", server.baseUrl());
+        ReflectionTestUtils.setField(aladinApiClient, "searchTimeoutMs", 2000L);
+        return aladinApiClient;
+    }
+}
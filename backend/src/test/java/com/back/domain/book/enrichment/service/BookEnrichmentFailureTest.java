@@ -0,0 +1,187 @@
+package com.back.domain.book.enrichment.service;
+
+import com.back.domain.book.author.entity.Author;
+import com.back.domain.book.book.entity.Book;
+import com.back.domain.book.book.repository.BookRepository;
+import com.back.domain.book.book.service.BookIngestService;
+import com.back.domain.book.client.aladin.AladinApiClient;
+import com.back.domain.book.client.aladin.dto.AladinBookDto;
+import com.back.domain.book.enrichment.entity.BookEnrichmentTask;
+import com.back.domain.book.enrichment.repository.BookEnrichmentTaskRepository;
+import com.back.domain.book.wrote.repository.WroteRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.StreamSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 상세 정보 반영이 실패하거나 작가를 찾지 못한 경우 - 리포지토리와 트랜잭션은 mock
+ */
+@ExtendWith(MockitoExtension.class)
+class BookEnrichmentFailureTest {
+
+    @Mock
+    private BookEnrichmentTaskRepository taskRepository;
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private WroteRepository wroteRepository;
+
+    @Mock
+    private AladinApiClient aladinApiClient;
+
+    @Mock
+    private BookIngestService bookIngestService;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
+    @InjectMocks
+    private BookEnrichmentService bookEnrichmentService;
+
+    private final Map<Integer, Author> authorsById = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(bookEnrichmentService, "enabled", true);
+        ReflectionTestUtils.setField(bookEnrichmentService, "workers", 1);
+        ReflectionTestUtils.setField(bookEnrichmentService, "ratePerSecond", 1000.0);
+        ReflectionTestUtils.setField(bookEnrichmentService, "batchSize", 20);
+        ReflectionTestUtils.setField(bookEnrichmentService, "lease", Duration.ofMinutes(5));
+        ReflectionTestUtils.setField(bookEnrichmentService, "baseBackoff", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(bookEnrichmentService, "maxBackoff", Duration.ofHours(6));
+        ReflectionTestUtils.setField(bookEnrichmentService, "maxAttempts", 6);
+        bookEnrichmentService.init();
+
+        // "문제작가" 가 섞이면 작가 저장이 실패하고, "없는작가" 는 찾지 못함
+        when(bookIngestService.findOrCreateAuthors(any())).thenAnswer(invocation -> {
+            Collection<String> names = invocation.getArgument(0);
+            if (names.contains("문제작가")) {
+                throw new IllegalStateException("작가 저장 실패");
+            }
+            Map<String, Author> found = new HashMap<>();
+            names.stream().filter(name -> !name.equals("없는작가")).forEach(name -> found.put(name, author(name)));
+            return found;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        bookEnrichmentService.shutdown();
+    }
+
+    @Test
+    @DisplayName("묶음 반영이 실패하면 항목별로 반영 - 실패한 항목만 재시도로 기록되고 나머지는 완료")
+    void applyFailure_isolatesBadTask() {
+        Book bad = book(1, "9791200000101");
+        Book good = book(2, "9791200000102");
+        BookEnrichmentTask badTask = task(11, bad);
+        BookEnrichmentTask goodTask = task(12, good);
+        due(List.of(badTask, goodTask), List.of(bad, good));
+        when(taskRepository.findById(11)).thenReturn(Optional.of(badTask));
+        when(aladinApiClient.getBookDetails("9791200000101")).thenReturn(detail("9791200000101", "문제작가"));
+        when(aladinApiClient.getBookDetails("9791200000102")).thenReturn(detail("9791200000102", "정상작가"));
+
+        bookEnrichmentService.processDueTasks(Runnable::run);
+
+        assertThat(badTask.getAttempts()).isEqualTo(1);
+        assertThat(badTask.getNextAttemptAt()).isNotNull();
+        assertThat(goodTask.getAttempts()).isZero();
+        verify(taskRepository).deleteAllInBatch(List.of(goodTask));
+        assertThat(good.getAuthors()).extracting(wrote -> wrote.getAuthor().getName()).containsExactly("정상작가");
+    }
+
+    @Test
+    @DisplayName("찾지 못한 작가는 건너뛰고, 작가가 하나도 없으면 재시도로 기록")
+    void missingAuthor_skipped() {
+        Book none = book(1, "9791200000111");
+        Book partial = book(2, "9791200000112");
+        BookEnrichmentTask noneTask = task(21, none);
+        BookEnrichmentTask partialTask = task(22, partial);
+        due(List.of(noneTask, partialTask), List.of(none, partial));
+        when(aladinApiClient.getBookDetails("9791200000111")).thenReturn(detail("9791200000111", "없는작가"));
+        when(aladinApiClient.getBookDetails("9791200000112")).thenReturn(detail("9791200000112", "없는작가", "정상작가"));
+
+        bookEnrichmentService.processDueTasks(Runnable::run);
+
+        assertThat(none.getAuthors()).isEmpty();
+        assertThat(noneTask.getAttempts()).isEqualTo(1);
+        assertThat(partial.getAuthors()).extracting(wrote -> wrote.getAuthor().getName()).containsExactly("정상작가");
+        verify(taskRepository).deleteAllInBatch(List.of(partialTask));
+        verify(taskRepository, never()).findById(anyInt());
+    }
+
+    // 처리할 차례인 항목과 그 책 - 아이디로 조회하면 목록에서 찾아 줌
+    private void due(List<BookEnrichmentTask> tasks, List<Book> books) {
+        when(taskRepository.findByNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(any(), any())).thenReturn(tasks);
+        when(taskRepository.lease(anyInt(), any(), any())).thenReturn(1);
+        when(taskRepository.findAllById(any())).thenAnswer(invocation -> tasks.stream()
+                .filter(task -> contains(invocation.getArgument(0), task.getId())).toList());
+        when(bookRepository.findAllById(any())).thenAnswer(invocation -> books.stream()
+                .filter(book -> contains(invocation.getArgument(0), book.getId())).toList());
+    }
+
+    private boolean contains(Iterable<Integer> ids, int id) {
+        return StreamSupport.stream(ids.spliterator(), false).anyMatch(candidate -> candidate == id);
+    }
+
+    private Author author(String name) {
+        return authorsById.values().stream()
+                .filter(author -> author.getName().equals(name))
+                .findFirst()
+                .orElseGet(() -> {
+                    Author author = new Author(name);
+                    ReflectionTestUtils.setField(author, "id", authorsById.size() + 1);
+                    authorsById.put(author.getId(), author);
+                    return author;
+                });
+    }
+
+    private Book book(int id, String isbn13) {
+        Book book = new Book("보완 실패 테스트 " + isbn13, "출판사", null);
+        ReflectionTestUtils.setField(book, "id", id);
+        book.setIsbn13(isbn13);
+        return book;
+    }
+
+    private BookEnrichmentTask task(int id, Book book) {
+        BookEnrichmentTask task = new BookEnrichmentTask(book.getIsbn13(), book.getId(), LocalDateTime.now());
+        ReflectionTestUtils.setField(task, "id", id);
+        return task;
+    }
+
+    private AladinBookDto detail(String isbn13, String... authors) {
+        return AladinBookDto.builder()
+                .isbn13(isbn13)
+                .totalPage(300)
+                .authors(List.of(authors))
+                .build();
+    }
+}
@@ -0,0 +1,209 @@
+package com.back.domain.book.enrichment.service;
+
+import com.back.domain.book.author.entity.Author;
+import com.back.domain.book.author.repository.AuthorRepository;
+import com.back.domain.book.book.entity.Book;
+import com.back.domain.book.book.repository.BookRepository;
+import com.back.domain.book.category.entity.Category;
+import com.back.domain.book.category.repository.CategoryRepository;
+import com.back.domain.book.client.aladin.AladinApiClient;
+import com.back.domain.book.client.aladin.dto.AladinBookDto;
+import com.back.domain.book.enrichment.entity.BookEnrichmentTask;
+import com.back.domain.book.enrichment.repository.BookEnrichmentTaskRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 상세 정보 보완 대기열 처리 - 알라딘 상세 조회는 mock, 묶음 처리는 테스트 스레드(테스트 트랜잭션 안)에서 실행
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+@Transactional
+class BookEnrichmentServiceTest {
+
+    @Autowired
+    private BookEnrichmentService bookEnrichmentService;
+
+    @Autowired
+    private BookEnrichmentTaskRepository taskRepository;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockitoBean
+    private AladinApiClient aladinApiClient;
+
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(bookEnrichmentService, "enabled", true);
+        category = categoryRepository.save(new Category("보완테스트분야"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(bookEnrichmentService, "enabled", false);
+    }
+
+    @Test
+    @DisplayName("상세 조회로 페이지 수와 작가가 채워지면 대기열에서 삭제")
+    void processDueTasks_completes() {
+        Book book = saveBook("9791200000001", 0);
+        bookEnrichmentService.enqueue(List.of(book));
+        given(aladinApiClient.getBookDetails("9791200000001"))
+                .willReturn(detail("9791200000001", 320, "보완작가A", "보완작가B"));
+
+        processDueTasks();
+
+        assertThat(taskOf("9791200000001")).isNull();
+        Book enriched = bookRepository.findByIsbn13("9791200000001").orElseThrow();
+        assertThat(enriched.getTotalPage()).isEqualTo(320);
+        assertThat(enriched.getAuthors()).extracting(wrote -> wrote.getAuthor().getName())
+                .containsExactlyInAnyOrder("보완작가A", "보완작가B");
+    }
+
+    @Test
+    @DisplayName("상세 조회가 계속 실패하면 재시도 간격을 두 배씩 늘리다가 max-attempts 에서 포기")
+    void processDueTasks_backoffUntilGiveUp() {
+        Book book = saveBook("9791200000002", 0);
+        bookEnrichmentService.enqueue(List.of(book));
+        int maxAttempts = (int) ReflectionTestUtils.getField(bookEnrichmentService, "maxAttempts");
+
+        for (int attempt = 1; attempt < maxAttempts; attempt++) {
+            LocalDateTime before = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+            processDueTasks();
+            LocalDateTime after = LocalDateTime.now();
+
+            BookEnrichmentTask task = taskOf("9791200000002");
+            Duration backoff = bookEnrichmentService.backoff(attempt);
+            assertThat(task.getAttempts()).isEqualTo(attempt);
+            assertThat(task.getNextAttemptAt()).isBetween(before.plus(backoff), after.plus(backoff));
+
+            // 다음 시도 시각을 앞당겨 바로 다시 처리되게 함
+            taskRepository.lease(task.getId(), task.getNextAttemptAt(), LocalDateTime.now().minusSeconds(1));
+            entityManager.clear();
+        }
+
+        processDueTasks();
+
+        BookEnrichmentTask gaveUp = taskOf("9791200000002");
+        assertThat(gaveUp.getAttempts()).isEqualTo(maxAttempts);
+        assertThat(gaveUp.getNextAttemptAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("재시도 간격은 max-backoff 를 넘지 않음")
+    void backoff_capped() {
+        Duration maxBackoff = (Duration) ReflectionTestUtils.getField(bookEnrichmentService, "maxBackoff");
+
+        assertThat(bookEnrichmentService.backoff(2)).isEqualTo(bookEnrichmentService.backoff(1).multipliedBy(2));
+        assertThat(bookEnrichmentService.backoff(30)).isEqualTo(maxBackoff);
+    }
+
+    @Test
+    @DisplayName("포기한 항목은 주기적인 전체 점검(sweep)에서 다시 등록되지 않음")
+    void sweep_skipsGivenUpTask() {
+        Book book = saveBook("9791200000003", 0);
+        bookEnrichmentService.enqueue(List.of(book));
+        int maxAttempts = (int) ReflectionTestUtils.getField(bookEnrichmentService, "maxAttempts");
+        BookEnrichmentTask task = taskOf("9791200000003");
+        ReflectionTestUtils.setField(task, "attempts", maxAttempts);
+        ReflectionTestUtils.setField(task, "nextAttemptAt", null);
+        entityManager.flush();
+
+        bookEnrichmentService.sweep();
+        processDueTasks();
+
+        assertThat(taskRepository.findAll()).filteredOn(t -> t.getIsbn13().equals("9791200000003"))
+                .singleElement()
+                .satisfies(t -> {
+                    assertThat(t.getAttempts()).isEqualTo(maxAttempts);
+                    assertThat(t.getNextAttemptAt()).isNull();
+                });
+    }
+
+    @Test
+    @DisplayName("여러 책의 작가를 한 번에 처리 - 기존 작가는 재사용하고 같은 이름은 한 번만 생성")
+    void processDueTasks_createsAuthorsOnce() {
+        Author existing = authorRepository.save(new Author("보완기존작가"));
+        Book first = saveBook("9791200000004", 200);
+        Book second = saveBook("9791200000005", 250);
+        bookEnrichmentService.enqueue(List.of(first, second));
+        given(aladinApiClient.getBookDetails("9791200000004"))
+                .willReturn(detail("9791200000004", 200, "보완공동작가", "보완기존작가"));
+        given(aladinApiClient.getBookDetails("9791200000005"))
+                .willReturn(detail("9791200000005", 250, "보완공동작가", "보완새작가"));
+
+        processDueTasks();
+
+        assertThat(authorRepository.findByNameIn(List.of("보완공동작가"))).hasSize(1);
+        assertThat(authorRepository.findByNameIn(List.of("보완새작가"))).hasSize(1);
+        assertThat(authorRepository.findByNameIn(List.of("보완기존작가")))
+                .extracting(Author::getId).containsExactly(existing.getId());
+
+        assertThat(bookRepository.findByIsbn13("9791200000004").orElseThrow().getAuthors())
+                .extracting(wrote -> wrote.getAuthor().getName())
+                .containsExactlyInAnyOrder("보완공동작가", "보완기존작가");
+        assertThat(bookRepository.findByIsbn13("9791200000005").orElseThrow().getAuthors())
+                .extracting(wrote -> wrote.getAuthor().getName())
+                .containsExactlyInAnyOrder("보완공동작가", "보완새작가");
+        assertThat(taskOf("9791200000004")).isNull();
+        assertThat(taskOf("9791200000005")).isNull();
+    }
+
+    // 묶음 처리를 테스트 스레드에서 실행한 뒤 영속성 컨텍스트를 비워 DB 상태를 다시 읽게 함
+    private void processDueTasks() {
+        bookEnrichmentService.processDueTasks(Runnable::run);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private BookEnrichmentTask taskOf(String isbn13) {
+        return taskRepository.findAll().stream()
+                .filter(task -> task.getIsbn13().equals(isbn13))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private Book saveBook(String isbn13, int totalPage) {
+        Book book = new Book("보완 테스트 " + isbn13, "출판사", category);
+        book.setIsbn13(isbn13);
+        book.setTotalPage(totalPage);
+        return bookRepository.save(book);
+    }
+
+    private AladinBookDto detail(String isbn13, int totalPage, String... authors) {
+        return AladinBookDto.builder()
+                .isbn13(isbn13)
+                .totalPage(totalPage)
+                .authors(List.of(authors))
+                .build();
+    }
+}
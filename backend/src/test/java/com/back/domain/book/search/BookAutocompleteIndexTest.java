@@ -0,0 +1,142 @@
+package com.back.domain.book.search;
+
+import com.back.domain.book.search.dto.BookAutocompleteDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BookAutocompleteIndexTest {
+
+    private BookAutocompleteIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new BookAutocompleteIndex();
+        index.indexBook(1, "자바의 정석");
+        index.indexAuthor(1, "남궁성");
+        index.indexBook(2, "자바 ORM 표준 JPA 프로그래밍");
+        index.indexAuthor(2, "김영한");
+        index.indexBook(3, "해리포터와 마법사의 돌");
+        index.indexAuthor(3, "J.K. 롤링");
+    }
+
+    @Test
+    @DisplayName("자모 분해 / 초성 변환")
+    void hangulJamo() {
+        assertThat(HangulJamo.decompose("자바의 정석")).isEqualTo("ㅈㅏㅂㅏㅇㅡㅣ ㅈㅓㅇㅅㅓㄱ");
+        assertThat(HangulJamo.decompose("닭")).isEqualTo("ㄷㅏㄹㄱ");
+        assertThat(HangulJamo.choseong("자바의 정석")).isEqualTo("ㅈㅂㅇㅈㅅ");
+        assertThat(HangulJamo.choseong("Clean Code 2판")).isEqualTo("cleancode2ㅍ");
+        assertThat(HangulJamo.isChoseongQuery("ㅈㅂ ㅇㅈㅅ")).isTrue();
+        assertThat(HangulJamo.isChoseongQuery("자ㅂ")).isFalse();
+    }
+
+    @Test
+    @DisplayName("초성만 입력해도 제목으로 찾음")
+    void suggest_choseong() {
+        assertThat(ids(index.suggest("ㅈㅂㅇㅈㅅ", 10))).containsExactly(1);
+        assertThat(ids(index.suggest("ㅈㅂ", 10))).containsExactlyInAnyOrder(1, 2);
+        assertThat(ids(index.suggest("ㄱㅇㅎ", 10))).containsExactly(2);
+    }
+
+    @Test
+    @DisplayName("입력 중인 음절(받침이 다음 글자 초성인 경우 포함)도 접두어로 매칭")
+    void suggest_partialSyllable() {
+        // "잡" 은 "자바" 를 입력하는 중간 상태
+        assertThat(ids(index.suggest("잡", 10))).containsExactlyInAnyOrder(1, 2);
+        assertThat(ids(index.suggest("자바의 저", 10))).containsExactly(1);
+        assertThat(ids(index.suggest("해리폴", 10))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("단어 시작 위치와 작가명으로도 찾고, 영문은 대소문자 무시")
+    void suggest_wordStartAndAuthor() {
+        assertThat(ids(index.suggest("마법", 10))).containsExactly(3);
+        assertThat(ids(index.suggest("jpa", 10))).containsExactly(2);
+        assertThat(ids(index.suggest("남궁", 10))).containsExactly(1);
+
+        BookAutocompleteDto dto = index.suggest("남궁", 10).get(0);
+        assertThat(dto.title()).isEqualTo("자바의 정석");
+        assertThat(dto.authors()).containsExactly("남궁성");
+    }
+
+    @Test
+    @DisplayName("인기도(북마크 수) 순으로 정렬되고 증감이 바로 반영됨")
+    void suggest_orderedByPopularity() {
+        index.adjustPopularity(1, 3);
+        index.adjustPopularity(2, 5);
+        assertThat(ids(index.suggest("자바", 10))).containsExactly(2, 1);
+
+        index.adjustPopularity(2, -4);
+        assertThat(ids(index.suggest("자바", 10))).containsExactly(1, 2);
+        assertThat(ids(index.suggest("자바", 1))).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("상위 목록에서 밀려난 책도 위의 책이 삭제되면 다시 노출")
+    void suggest_refillsAfterRemoval() {
+        for (int id = 10; id < 10 + BookAutocompleteIndex.TOP_K; id++) {
+            index.indexBook(id, "자바 입문 " + id);
+            index.adjustPopularity(id, 100);
+        }
+        assertThat(ids(index.suggest("자바", 10))).doesNotContain(1, 2);
+
+        index.removeBook(10);
+        index.adjustPopularity(11, -100);
+
+        assertThat(ids(index.suggest("자바", 10)))
+                .hasSize(BookAutocompleteIndex.TOP_K)
+                .doesNotContain(10)
+                .contains(11, 2);
+    }
+
+    @Test
+    @DisplayName("제목 변경 시 이전 제목 키는 제거")
+    void indexBook_retitle() {
+        index.indexBook(3, "코스모스");
+
+        assertThat(index.suggest("해리", 10)).isEmpty();
+        assertThat(ids(index.suggest("ㅋㅅㅁㅅ", 10))).containsExactly(3);
+    }
+
+    @Test
+    @DisplayName("두 번째 단어부터의 키는 짧게 잘려 있어도, 긴 입력은 원문으로 확인해서 찾음")
+    void suggest_longSuffixQuery() {
+        assertThat(ids(index.suggest("표준 JPA 프로그래밍", 10))).containsExactly(2);
+        assertThat(ids(index.suggest("표준 JPA 프로그램", 10))).containsExactly(2);
+        assertThat(index.suggest("표준 JPA 프로토콜", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("노드 수 상한에 닿으면 새 키는 있는 노드까지만 색인하고, 책을 지우면 노드도 정리")
+    void maxNodes() {
+        BookAutocompleteIndex capped = new BookAutocompleteIndex();
+        ReflectionTestUtils.setField(capped, "maxNodes", 30);
+
+        capped.indexBook(1, "자바의 정석");
+        capped.indexBook(2, "자바스크립트 완벽 가이드");
+        capped.indexBook(3, "자료구조와 알고리즘");
+
+        assertThat(capped.nodeCount()).isLessThanOrEqualTo(30);
+        assertThat(ids(capped.suggest("자", 10))).containsExactlyInAnyOrder(1, 2, 3);
+        assertThat(ids(capped.suggest("자바의", 10))).containsExactly(1);
+
+        // 잘려서 색인된 책도 인기도 변경이 반영됨
+        capped.adjustPopularity(3, 5);
+        assertThat(ids(capped.suggest("자", 10))).containsExactly(3, 2, 1);
+
+        capped.removeBook(1);
+        capped.removeBook(2);
+        capped.removeBook(3);
+        assertThat(capped.nodeCount()).isZero();
+    }
+
+    private List<Integer> ids(List<BookAutocompleteDto> suggestions) {
+        return suggestions.stream().map(BookAutocompleteDto::id).toList();
+    }
+}
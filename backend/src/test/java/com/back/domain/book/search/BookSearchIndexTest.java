@@ -0,0 +1,96 @@
+package com.back.domain.book.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BookSearchIndexTest {
+
+    private BookSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new BookSearchIndex();
+        index.indexBook(1, "자바의 정석");
+        index.indexAuthor(1, "남궁성");
+        index.indexBook(2, "이펙티브 자바");
+        index.indexAuthor(2, "Joshua Bloch");
+        index.indexBook(3, "해리포터와 마법사의 돌");
+        index.indexAuthor(3, "J.K. 롤링");
+        index.markReady();
+    }
+
+    @Test
+    @DisplayName("제목 부분 일치 - 2글자는 bigram, 3글자 이상은 trigram 으로 검색")
+    void search_title() {
+        assertThat(index.search("자바")).containsExactly(1, 2);
+        assertThat(index.search("자바의 정")).containsExactly(1);
+        assertThat(index.search("마법사")).containsExactly(3);
+    }
+
+    @Test
+    @DisplayName("작가명 검색 - 대소문자 무시")
+    void search_author() {
+        assertThat(index.search("joshua")).containsExactly(2);
+        assertThat(index.search("남궁성")).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("n-gram 은 모두 있지만 연속되지 않은 경우는 제외")
+    void search_verifiesSubstring() {
+        index.indexBook(4, "바의 자바의");
+
+        // "자바의" 의 trigram 은 4번 책에도 있지만 "자바의 정" 은 1번에만 있음
+        assertThat(index.search("자바의 정")).containsExactly(1);
+        assertThat(index.search("의 자바")).containsExactly(4);
+    }
+
+    @Test
+    @DisplayName("조합형(NFD) 한글 검색어도 완성형으로 정규화해서 검색")
+    void search_normalizesHangul() {
+        String decomposed = Normalizer.normalize("정석", Normalizer.Form.NFD);
+
+        assertThat(index.search(decomposed)).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("검색어가 1글자거나 색인이 준비되지 않았으면 null (DB 검색으로 대체)")
+    void search_notSupported() {
+        assertThat(index.search("자")).isNull();
+
+        BookSearchIndex notReady = new BookSearchIndex();
+        notReady.indexBook(1, "자바의 정석");
+        assertThat(notReady.search("자바")).isNull();
+    }
+
+    @Test
+    @DisplayName("제목 변경/작가 삭제/책 삭제가 색인에 반영됨")
+    void incrementalUpdate() {
+        index.indexBook(1, "자바 입문");
+        assertThat(index.search("정석")).isEmpty();
+        assertThat(index.search("입문")).containsExactly(1);
+
+        index.removeAuthor(2, "Joshua Bloch");
+        assertThat(index.search("bloch")).isEmpty();
+        assertThat(index.search("이펙티브")).containsExactly(2);
+
+        index.removeBook(3);
+        assertThat(index.search("해리포터")).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("제목과 작가명이 같은 n-gram 을 공유해도 한쪽만 지울 때 다른 쪽 검색은 유지")
+    void removeAuthor_keepsSharedGramsOfTitle() {
+        index.indexBook(5, "성장 일기");
+        index.indexAuthor(5, "성장");
+
+        index.removeAuthor(5, "성장");
+
+        assertThat(index.search("성장")).containsExactly(5);
+    }
+}
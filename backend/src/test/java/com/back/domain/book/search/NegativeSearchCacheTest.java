@@ -0,0 +1,113 @@
+package com.back.domain.book.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NegativeSearchCacheTest {
+
+    private NegativeSearchCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new NegativeSearchCache();
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "maxEntries", 3);
+        ReflectionTestUtils.setField(cache, "baseTtl", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(cache, "maxTtl", Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("결과 없음으로 기록한 검색어만 적중 (대소문자 무시)")
+    void recordAndCheck() {
+        cache.recordMiss("Asdfqwer");
+
+        assertThat(cache.isKnownMiss("asdfqwer")).isTrue();
+        assertThat(cache.isKnownMiss("자바")).isFalse();
+    }
+
+    @Test
+    @DisplayName("반복 실패 시 TTL 이 두 배씩 늘고 최대값에서 멈춤")
+    void exponentialTtl() {
+        assertThat(cache.ttlFor(1)).isEqualTo(Duration.ofMinutes(1).toMillis());
+        assertThat(cache.ttlFor(2)).isEqualTo(Duration.ofMinutes(2).toMillis());
+        assertThat(cache.ttlFor(4)).isEqualTo(Duration.ofMinutes(8).toMillis());
+        assertThat(cache.ttlFor(5)).isEqualTo(Duration.ofMinutes(10).toMillis());
+        assertThat(cache.ttlFor(100)).isEqualTo(Duration.ofMinutes(10).toMillis());
+    }
+
+    @Test
+    @DisplayName("용량을 넘으면 가장 오래 조회되지 않은 검색어부터 제거")
+    void lruEviction() {
+        cache.recordMiss("a1");
+        cache.recordMiss("a2");
+        cache.recordMiss("a3");
+        cache.isKnownMiss("a1");
+        cache.recordMiss("a4");
+
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(cache.isKnownMiss("a2")).isFalse();
+        assertThat(cache.isKnownMiss("a1")).isTrue();
+        assertThat(cache.isKnownMiss("a4")).isTrue();
+    }
+
+    @Test
+    @DisplayName("새 책 제목/작가명에 포함되는 검색어는 제거")
+    void invalidateMatching() {
+        cache.recordMiss("트렌드");
+        cache.recordMiss("없는책");
+
+        cache.invalidateMatching("트렌드 코리아 2026");
+
+        assertThat(cache.isKnownMiss("트렌드")).isFalse();
+        assertThat(cache.isKnownMiss("없는책")).isTrue();
+    }
+
+    @Test
+    @DisplayName("제목/작가명을 모아 한 번에 무효화 - 한 글자 검색어와 여러 묶음에 걸친 텍스트도 확인")
+    void invalidateMatchingAll() {
+        ReflectionTestUtils.setField(cache, "maxEntries", 100);
+        cache.recordMiss("트렌드");
+        cache.recordMiss("자");
+        cache.recordMiss("없는책");
+        cache.recordMiss("마지막작가");
+
+        List<String> texts = new ArrayList<>();
+        texts.add("트렌드 코리아 2026");
+        texts.add("자바의 정석");
+        for (int i = 0; i < 50; i++) {
+            texts.add("일괄 저장 제목 " + i);
+        }
+        texts.add("마지막작가");
+        cache.invalidateMatching(texts);
+
+        assertThat(cache.isKnownMiss("트렌드")).isFalse();
+        assertThat(cache.isKnownMiss("자")).isFalse();
+        assertThat(cache.isKnownMiss("마지막작가")).isFalse();
+        assertThat(cache.isKnownMiss("없는책")).isTrue();
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("용량 초과로 제거된 검색어를 다시 기록해도 무효화됨")
+    void invalidateAfterEviction() {
+        cache.recordMiss("a1");
+        cache.recordMiss("a2");
+        cache.recordMiss("a3");
+        cache.recordMiss("a4");
+        cache.recordMiss("a1");
+
+        cache.invalidateMatching("a1 a4");
+
+        assertThat(cache.isKnownMiss("a1")).isFalse();
+        assertThat(cache.isKnownMiss("a4")).isFalse();
+        assertThat(cache.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,36 @@
+package com.back.domain.bookmark.dto;
+
+import com.back.domain.bookmarks.constant.ReadState;
+import com.back.domain.bookmarks.dto.ReadStateMap;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadStateMapTest {
+
+    @Test
+    @DisplayName("순서와 관계없이 넣은 책 id 로 상태 조회, 없는 책은 null")
+    void get() {
+        ReadStateMap readStates = ReadStateMap.builder(2)
+                .put(30, ReadState.READ)
+                .put(5, ReadState.WISH)
+                .put(17, ReadState.READING)
+                .put(8, null)
+                .build();
+
+        assertThat(readStates.size()).isEqualTo(3);
+        assertThat(readStates.get(5)).isEqualTo(ReadState.WISH);
+        assertThat(readStates.get(17)).isEqualTo(ReadState.READING);
+        assertThat(readStates.get(30)).isEqualTo(ReadState.READ);
+        assertThat(readStates.get(8)).isNull();
+        assertThat(readStates.get(100)).isNull();
+    }
+
+    @Test
+    @DisplayName("빈 빌더는 EMPTY")
+    void empty() {
+        assertThat(ReadStateMap.builder(0).build()).isSameAs(ReadStateMap.EMPTY);
+        assertThat(ReadStateMap.EMPTY.get(1)).isNull();
+    }
+}
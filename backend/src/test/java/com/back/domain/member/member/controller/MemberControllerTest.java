@@ -1,11 +1,13 @@
 package com.back.domain.member.member.controller;
 
+import com.back.domain.member.member.dto.AuthTokensDto;
 import com.back.domain.member.member.dto.MemberJoinReqDto;
 import com.back.domain.member.member.dto.MemberLoginReqDto;
 import com.back.domain.member.member.entity.Member;
 import com.back.domain.member.member.repository.MemberRepository;
 import com.back.domain.member.member.service.MemberService;
 import com.back.global.rq.Rq;
+import com.back.global.security.LoginThrottle;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,13 +17,11 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
-import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import jakarta.servlet.http.Cookie;
-import java.util.Map;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.anyString;
@@ -50,6 +50,9 @@ class MemberControllerTest {
     @Mock
     private Rq rq;
 
+    @Mock
+    private LoginThrottle loginThrottle;
+
     private MockMvc mockMvc;
     private ObjectMapper objectMapper;
 
@@ -128,22 +131,16 @@ class MemberControllerTest {
     }
 
     @Test
-    @DisplayName("Access Token 재발급 성공") // 테스트 이름 변경
+    @DisplayName("Access Token 재발급 성공 - refresh 토큰도 새 토큰으로 교체")
     void t3() throws Exception {
         // Given
-        String email = "test@example.com";
         String existingRefreshToken = "existingMockRefreshToken"; // 기존 리프레시 토큰
         String newAccessToken = "newMockAccessToken"; // 새로 발급될 Access Token
-
-        Member existingMember = new Member("TestUser", email, "encodedPassword123");
-        ReflectionTestUtils.setField(existingMember, "id", 1);
-        ReflectionTestUtils.setField(existingMember, "refreshToken", existingRefreshToken); // 기존 리프레시 토큰 설정
-
+        String newRefreshToken = "newMockRefreshToken"; // 교체될 Refresh Token
 
         when(memberService.isValidRefreshToken(existingRefreshToken)).thenReturn(true);
-        when(memberService.getRefreshTokenPayload(existingRefreshToken)).thenReturn(Map.of("id", 1, "email", email));
-        when(memberService.findByEmail(email)).thenReturn(Optional.of(existingMember));
-        when(memberService.geneAccessToken(existingMember)).thenReturn(newAccessToken);
+        when(memberService.reissue(existingRefreshToken))
+                .thenReturn(Optional.of(new AuthTokensDto(newAccessToken, newRefreshToken)));
 
         doNothing().when(rq).setCookie(anyString(), anyString());
 
@@ -158,14 +155,30 @@ class MemberControllerTest {
 
         // Verifications
         verify(memberService, times(1)).isValidRefreshToken(existingRefreshToken);
-        verify(memberService, times(1)).getRefreshTokenPayload(existingRefreshToken);
-        verify(memberService, times(1)).findByEmail(email);
-        verify(memberService, times(1)).geneAccessToken(existingMember);
-        verify(memberService, never()).geneRefreshToken(any(Member.class));
+        verify(memberService, times(1)).reissue(existingRefreshToken);
+        verify(memberService, never()).findByEmail(anyString());
         verify(memberRepository, never()).save(any(Member.class));
 
         verify(rq, times(1)).setCookie(eq("accessToken"), eq(newAccessToken));
-        verify(rq, never()).setCookie(eq("refreshToken"), anyString());
+        verify(rq, times(1)).setCookie(eq("refreshToken"), eq(newRefreshToken));
+    }
+
+    @Test
+    @DisplayName("Access Token 재발급 실패 - 저장소에 없거나 폐기된 Refresh Token")
+    void t3_1() throws Exception {
+        // Given
+        String revokedRefreshToken = "revokedMockRefreshToken";
+
+        when(memberService.isValidRefreshToken(revokedRefreshToken)).thenReturn(true);
+        when(memberService.reissue(revokedRefreshToken)).thenReturn(Optional.empty());
+
+        // When & Then
+        mockMvc.perform(post("/user/reissue")
+                        .cookie(new Cookie("refreshToken", revokedRefreshToken)))
+                .andExpect(jsonPath("$.resultCode").value("401"))
+                .andExpect(jsonPath("$.msg").value("서버에 저장된 토큰과 일치하지 않습니다."));
+
+        verify(rq, never()).setCookie(anyString(), anyString());
     }
 
     @Test
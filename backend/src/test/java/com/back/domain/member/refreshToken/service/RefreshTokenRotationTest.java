@@ -0,0 +1,120 @@
+package com.back.domain.member.refreshToken.service;
+
+import com.back.domain.member.member.service.AuthTokenService;
+import com.back.domain.member.refreshToken.entity.RefreshToken;
+import com.back.domain.member.refreshToken.repository.RefreshTokenRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 재발급 경합과 커밋 시점 - 트랜잭션 동기화를 직접 열어 커밋/롤백을 흉내 냄
+ */
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenRotationTest {
+
+    private static final String TOKEN = "old-refresh-token";
+    private static final String FAMILY = "family-1";
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private AuthTokenService authTokenService;
+
+    @InjectMocks
+    private RefreshTokenService refreshTokenService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(refreshTokenService, "refreshTokenExpSec", 3600);
+        ReflectionTestUtils.setField(refreshTokenService, "revokedCacheMaxEntries", 100);
+        TransactionSynchronizationManager.initSynchronization();
+
+        when(refreshTokenRepository.findByTokenHash(RefreshTokenService.hash(TOKEN)))
+                .thenReturn(Optional.of(new RefreshToken(RefreshTokenService.hash(TOKEN), 1, FAMILY,
+                        LocalDateTime.now().plusHours(1))));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    @DisplayName("조회 뒤 다른 요청이 먼저 재발급했으면 거절만 하고 family 는 폐기하지 않음")
+    void rotate_lostRace() {
+        when(authTokenService.payload(TOKEN)).thenReturn(Map.of("id", 1, "email", "rotate@test.com"));
+        when(refreshTokenRepository.revokeIfActive(anyInt())).thenReturn(0);
+
+        assertThat(refreshTokenService.rotate(TOKEN)).isEmpty();
+
+        verify(refreshTokenRepository, never()).revokeFamily(anyString());
+        verify(refreshTokenRepository, never()).save(any());
+        commit();
+        assertThat(revokedTokens()).isEmpty();
+        assertThat(revokedFamilies()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("폐기한 토큰은 커밋된 뒤에만 메모리에 기록")
+    void rotate_remembersAfterCommit() {
+        when(authTokenService.payload(TOKEN)).thenReturn(Map.of("id", 1, "email", "rotate@test.com"));
+        when(refreshTokenRepository.revokeIfActive(anyInt())).thenReturn(1);
+        when(authTokenService.genRefreshToken(1, "rotate@test.com")).thenReturn("new-refresh-token");
+
+        assertThat(refreshTokenService.rotate(TOKEN)).isPresent();
+        assertThat(revokedTokens()).isEmpty();
+
+        commit();
+        assertThat(revokedTokens()).containsEntry(RefreshTokenService.hash(TOKEN), FAMILY);
+    }
+
+    @Test
+    @DisplayName("롤백되면 폐기한 토큰과 family 를 메모리에 남기지 않음")
+    void revoke_rolledBack() {
+        refreshTokenService.revoke(TOKEN);
+
+        verify(refreshTokenRepository).revokeFamily(FAMILY);
+        rollback();
+        assertThat(revokedTokens()).isEmpty();
+        assertThat(revokedFamilies()).isEmpty();
+    }
+
+    private void commit() {
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    }
+
+    private void rollback() {
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, String> revokedTokens() {
+        return (Map<String, String>) ReflectionTestUtils.getField(refreshTokenService, "revokedTokens");
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Boolean> revokedFamilies() {
+        return (Map<String, Boolean>) ReflectionTestUtils.getField(refreshTokenService, "revokedFamilies");
+    }
+}
@@ -0,0 +1,103 @@
+package com.back.domain.member.refreshToken.service;
+
+import com.back.domain.member.member.entity.Member;
+import com.back.domain.member.member.service.MemberService;
+import com.back.domain.member.refreshToken.entity.RefreshToken;
+import com.back.domain.member.refreshToken.repository.RefreshTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@Transactional
+class RefreshTokenServiceTest {
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private MemberService memberService;
+
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        member = memberService.join("토큰유저", "refresh-token@test.com", "password");
+    }
+
+    @Test
+    @DisplayName("발급한 토큰은 원문 대신 해시로 저장")
+    void issue() {
+        String refreshToken = refreshTokenService.issue(member);
+
+        assertThat(refreshTokenRepository.findByTokenHash(refreshToken)).isEmpty();
+        RefreshToken stored = refreshTokenRepository.findByTokenHash(RefreshTokenService.hash(refreshToken)).orElseThrow();
+        assertThat(stored.getMemberId()).isEqualTo(member.getId());
+        assertThat(stored.isRevoked()).isFalse();
+    }
+
+    @Test
+    @DisplayName("재발급하면 같은 family 의 새 토큰이 발급되고 이전 토큰은 폐기")
+    void rotate() {
+        String refreshToken = refreshTokenService.issue(member);
+
+        RefreshTokenService.Rotated rotated = refreshTokenService.rotate(refreshToken).orElseThrow();
+
+        assertThat(rotated.memberId()).isEqualTo(member.getId());
+        assertThat(rotated.email()).isEqualTo(member.getEmail());
+        assertThat(rotated.refreshToken()).isNotEqualTo(refreshToken);
+
+        RefreshToken previous = refreshTokenRepository.findByTokenHash(RefreshTokenService.hash(refreshToken)).orElseThrow();
+        RefreshToken next = refreshTokenRepository.findByTokenHash(RefreshTokenService.hash(rotated.refreshToken())).orElseThrow();
+        assertThat(previous.isRevoked()).isTrue();
+        assertThat(next.isRevoked()).isFalse();
+        assertThat(next.getFamily()).isEqualTo(previous.getFamily());
+    }
+
+    @Test
+    @DisplayName("폐기된 토큰을 다시 쓰면 거절하고 family 전체를 폐기")
+    void reuseRevokesFamily() {
+        String refreshToken = refreshTokenService.issue(member);
+        String rotated = refreshTokenService.rotate(refreshToken).orElseThrow().refreshToken();
+
+        assertThat(refreshTokenService.rotate(refreshToken)).isEmpty();
+
+        // 재사용이 감지된 뒤에는 정상적으로 받은 최신 토큰도 쓸 수 없음
+        assertThat(refreshTokenService.rotate(rotated)).isEmpty();
+        assertThat(refreshTokenRepository.findByTokenHash(RefreshTokenService.hash(rotated)).orElseThrow().isRevoked()).isTrue();
+    }
+
+    @Test
+    @DisplayName("기기마다 따로 로그인하고, 로그아웃은 그 기기의 토큰만 폐기")
+    void multipleDevices() {
+        String laptop = refreshTokenService.issue(member);
+        String phone = refreshTokenService.issue(member);
+
+        refreshTokenService.revoke(laptop);
+
+        assertThat(refreshTokenService.rotate(laptop)).isEmpty();
+        assertThat(refreshTokenService.rotate(phone)).isPresent();
+    }
+
+    @Test
+    @DisplayName("회원 탈퇴하면 모든 토큰 삭제")
+    void deleteAll() {
+        String laptop = refreshTokenService.issue(member);
+        String phone = refreshTokenService.issue(member);
+
+        refreshTokenService.deleteAll(member.getId());
+
+        assertThat(refreshTokenRepository.findByTokenHash(RefreshTokenService.hash(laptop))).isEmpty();
+        assertThat(refreshTokenRepository.findByTokenHash(RefreshTokenService.hash(phone))).isEmpty();
+    }
+}
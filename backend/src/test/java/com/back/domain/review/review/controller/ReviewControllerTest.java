@@ -2,12 +2,14 @@ package com.back.domain.review.review.controller;
 
 import com.back.domain.book.book.entity.Book;
 import com.back.domain.book.book.repository.BookRepository;
+import com.back.domain.book.book.service.BookRatingService;
 import com.back.domain.member.member.entity.Member;
 import com.back.domain.member.member.service.AuthTokenService;
 import com.back.domain.member.member.service.MemberService;
 import com.back.domain.review.review.entity.Review;
 import com.back.domain.review.review.repository.ReviewRepository;
 import com.back.domain.review.review.service.ReviewService;
+import jakarta.persistence.EntityManager;
 import jakarta.servlet.http.Cookie;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -43,6 +45,12 @@ public class ReviewControllerTest {
     @Autowired
     private BookRepository bookRepository;
 
+    @Autowired
+    private BookRatingService bookRatingService;
+
+    @Autowired
+    private EntityManager entityManager;
+
     ResultActions addReview(int bookId, String accessToken) throws Exception {
         return mvc.perform(
                 post("/reviews/{book_id}", bookId)
@@ -198,4 +206,47 @@ public class ReviewControllerTest {
                 .andExpect(jsonPath("$.msg").value("Review not found"))
         ;
     }
+
+    @Test
+    @DisplayName("리뷰 작성/수정/삭제 시 책 평점 집계가 증분으로 갱신되고 재계산 결과와 일치")
+    void t5() throws Exception {
+        Member member = memberService.findByEmail("email1@a.a").get();
+        String accessToken = authTokenService.genAccessToken(member);
+        Book book = bookRepository.findAll().get(0);
+        long sumBefore = book.getRatingSum();
+        int countBefore = book.getRatingCount();
+        int rate5Before = book.getRate5Count();
+
+        addReview(book.getId(), accessToken);
+        assertThat(book.getRatingSum()).isEqualTo(sumBefore + 5);
+        assertThat(book.getRatingCount()).isEqualTo(countBefore + 1);
+        assertThat(book.getRate5Count()).isEqualTo(rate5Before + 1);
+
+        mvc.perform(
+                put("/reviews/{book_id}", book.getId())
+                        .contentType("application/json")
+                        .content("""
+{
+    "content": "다시 읽다보니 그렇게 좋지는 않네요.",
+    "rate": 4
+}
+""").cookie(new Cookie("accessToken", accessToken))
+        ).andExpect(status().isOk());
+        assertThat(book.getRatingSum()).isEqualTo(sumBefore + 4);
+        assertThat(book.getRate5Count()).isEqualTo(rate5Before);
+        assertThat(book.getAvgRate()).isEqualTo((float) ((double) book.getRatingSum() / book.getRatingCount()));
+
+        // 재계산 결과도 같아야 함
+        bookRatingService.reconcile();
+        entityManager.refresh(book);
+        assertThat(book.getRatingSum()).isEqualTo(sumBefore + 4);
+        assertThat(book.getRatingCount()).isEqualTo(countBefore + 1);
+
+        mvc.perform(
+                delete("/reviews/{book_id}", book.getId())
+                        .cookie(new Cookie("accessToken", accessToken))
+        ).andExpect(status().isOk());
+        assertThat(book.getRatingSum()).isEqualTo(sumBefore);
+        assertThat(book.getRatingCount()).isEqualTo(countBefore);
+    }
 }
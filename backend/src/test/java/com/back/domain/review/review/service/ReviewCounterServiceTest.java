@@ -0,0 +1,126 @@
+package com.back.domain.review.review.service;
+
+import com.back.domain.review.review.entity.Review;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 카운터 증감분과 flush 가 겹칠 때 잃어버리거나 두 번 반영되는 양이 없는지 - DB 는 반영된 양을 더하기만 하는 mock
+ */
+class ReviewCounterServiceTest {
+
+    private final AtomicLong flushedLikes = new AtomicLong();
+    private final AtomicLong flushedDislikes = new AtomicLong();
+
+    private ReviewCounterService reviewCounterService;
+    private Review review;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws Exception {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        PreparedStatement ps = mock(PreparedStatement.class);
+        doAnswer(invocation -> {
+            int index = invocation.getArgument(0);
+            long amount = invocation.getArgument(1);
+            (index == 1 ? flushedLikes : flushedDislikes).addAndGet(amount);
+            return null;
+        }).when(ps).setLong(anyInt(), anyLong());
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenAnswer(invocation -> {
+                    Collection<Object> rows = invocation.getArgument(1);
+                    ParameterizedPreparedStatementSetter<Object> setter = invocation.getArgument(3);
+                    for (Object row : rows) {
+                        setter.setValues(ps, row);
+                    }
+                    return new int[0][0];
+                });
+
+        reviewCounterService = new ReviewCounterService(jdbcTemplate,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)));
+        review = mock(Review.class);
+        when(review.getId()).thenReturn(1);
+    }
+
+    @Test
+    @DisplayName("flush 가 반영한 양만큼만 메모리에서 빠지고, 0 이 된 항목은 flush 에서 제거")
+    void flush() {
+        reviewCounterService.addLike(1, 3);
+        reviewCounterService.addDislike(1, 1);
+
+        reviewCounterService.flush();
+
+        assertThat(flushedLikes).hasValue(3);
+        assertThat(flushedDislikes).hasValue(1);
+        assertThat(reviewCounterService.likeCount(review)).isZero();
+        assertThat(reviewCounterService.dislikeCount(review)).isZero();
+    }
+
+    @Test
+    @DisplayName("한 리뷰에 추천이 몰리는 중에 flush 가 계속 돌아도 합계가 맞음")
+    void concurrentAddsAndFlushes() throws Exception {
+        int threads = 8;
+        int addsPerThread = 20_000;
+        ExecutorService pool = Executors.newFixedThreadPool(threads + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean adding = new AtomicBoolean(true);
+        try {
+            List<Future<?>> adders = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                adders.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < addsPerThread; i++) {
+                        reviewCounterService.addLike(1, 1);
+                        // 증감이 0 으로 돌아가는 순간을 만들어 항목 제거와 겹치게 함
+                        reviewCounterService.addDislike(1, 1);
+                        reviewCounterService.addDislike(1, -1);
+                    }
+                    return null;
+                }));
+            }
+            Future<?> flusher = pool.submit(() -> {
+                start.await();
+                while (adding.get()) {
+                    reviewCounterService.flush();
+                }
+                return null;
+            });
+
+            start.countDown();
+            for (Future<?> adder : adders) {
+                adder.get(30, TimeUnit.SECONDS);
+            }
+            adding.set(false);
+            flusher.get(30, TimeUnit.SECONDS);
+        } finally {
+            pool.shutdownNow();
+        }
+        reviewCounterService.flush();
+
+        assertThat(flushedLikes).hasValue((long) threads * addsPerThread);
+        assertThat(flushedDislikes).hasValue(0);
+        assertThat(reviewCounterService.likeCount(review)).isZero();
+        assertThat(reviewCounterService.dislikeCount(review)).isZero();
+    }
+}
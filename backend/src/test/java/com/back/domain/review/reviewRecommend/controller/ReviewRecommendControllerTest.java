@@ -9,6 +9,7 @@ import com.back.domain.member.member.service.MemberService;
 import com.back.domain.review.review.controller.ReviewController;
 import com.back.domain.review.review.entity.Review;
 import com.back.domain.review.review.repository.ReviewRepository;
+import com.back.domain.review.review.service.ReviewCounterService;
 import com.back.domain.review.review.service.ReviewService;
 import com.back.domain.review.reviewRecommend.repository.ReviewRecommendRepository;
 import jakarta.servlet.http.Cookie;
@@ -62,6 +63,9 @@ public class ReviewRecommendControllerTest {
     @Autowired
     private ReviewRepository reviewRepository;
 
+    @Autowired
+    private ReviewCounterService reviewCounterService;
+
     List<String> makeAccessTokens(int count){
         return memberRepository.findAll().stream()
                 .limit(count)
@@ -170,8 +174,8 @@ public class ReviewRecommendControllerTest {
                 .andExpect(jsonPath("$.resultCode").value("201-1"))
                 .andExpect(jsonPath("$.msg").value("Review recommended successfully"))
         ;
-        assertThat(review.getLikeCount()).isEqualTo(2);
-        assertThat(review.getDislikeCount()).isEqualTo(2);
+        assertThat(reviewCounterService.likeCount(review)).isEqualTo(2);
+        assertThat(reviewCounterService.dislikeCount(review)).isEqualTo(2);
     }
 
     @Test
@@ -238,8 +242,8 @@ public class ReviewRecommendControllerTest {
             updateRecommendReview(review.getId(), isRecommend, accessTokens.get(i)).andDo(print());
         }
 
-        assertThat(review.getLikeCount()).isEqualTo(accessTokens.size() / 2);
-        assertThat(review.getDislikeCount()).isEqualTo(accessTokens.size() / 2);
+        assertThat(reviewCounterService.likeCount(review)).isEqualTo(accessTokens.size() / 2);
+        assertThat(reviewCounterService.dislikeCount(review)).isEqualTo(accessTokens.size() / 2);
     }
 
     @Test
@@ -419,7 +423,7 @@ public class ReviewRecommendControllerTest {
         long count = reviewRecommendRepository.count();
         assertThat(count).isEqualTo(memberCount);
         review = reviewRepository.findById(review.getId()).get();
-        assertThat(review.getLikeCount()).isEqualTo(memberCount);
+        assertThat(reviewCounterService.likeCount(review)).isEqualTo(memberCount);
     }
 
     @Test
@@ -482,7 +486,7 @@ public class ReviewRecommendControllerTest {
         long count = reviewRecommendRepository.count();
         assertThat(count).isEqualTo(memberCount);
         review = reviewRepository.findById(review.getId()).get();
-        assertThat(review.getDislikeCount()).isEqualTo(memberCount);
+        assertThat(reviewCounterService.dislikeCount(review)).isEqualTo(memberCount);
     }
 
     @Test
@@ -544,6 +548,60 @@ public class ReviewRecommendControllerTest {
         long count = reviewRecommendRepository.count();
         assertThat(count).isEqualTo(0);
         review = reviewRepository.findById(review.getId()).get();
+        assertThat(reviewCounterService.likeCount(review)).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("리뷰 추천 수 - 반영 전에는 메모리 증감분을 합쳐서 보이고, flush 후에는 DB 값으로 유지")
+    void t16() throws Exception{
+        List<String> accessTokens = makeAccessTokens(3);
+        Book book = bookRepository.findAll().get(0);
+        createReview(book.getId(), "이 책 정말 좋았어요!", 5, accessTokens.get(0));
+        Review review = reviewService.findLatest().orElseThrow(()-> new RuntimeException("리뷰가 없습니다."));
+
+        createRecommendReview(review.getId(), true, accessTokens.get(0));
+        createRecommendReview(review.getId(), true, accessTokens.get(1));
+        createRecommendReview(review.getId(), false, accessTokens.get(2));
+
+        // 추천 시 review 행은 변경되지 않음
         assertThat(review.getLikeCount()).isEqualTo(0);
+        assertThat(reviewCounterService.likeCount(review)).isEqualTo(2);
+        assertThat(reviewCounterService.dislikeCount(review)).isEqualTo(1);
+
+        reviewCounterService.flush();
+        em.clear();
+
+        review = reviewRepository.findById(review.getId()).get();
+        assertThat(review.getLikeCount()).isEqualTo(2);
+        assertThat(review.getDislikeCount()).isEqualTo(1);
+        assertThat(reviewCounterService.likeCount(review)).isEqualTo(2);
+        assertThat(reviewCounterService.dislikeCount(review)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("리뷰 목록 - 로그인한 회원의 추천/비추천 여부가 리뷰마다 표시됨")
+    void t17() throws Exception{
+        List<String> accessTokens = makeAccessTokens(3);
+        Book book = bookRepository.findAll().get(0);
+        createReview(book.getId(), "첫 번째 리뷰", 5, accessTokens.get(0));
+        Review first = reviewService.findLatest().orElseThrow(()-> new RuntimeException("리뷰가 없습니다."));
+        createReview(book.getId(), "두 번째 리뷰", 3, accessTokens.get(1));
+        Review second = reviewService.findLatest().orElseThrow(()-> new RuntimeException("리뷰가 없습니다."));
+        createReview(book.getId(), "세 번째 리뷰", 1, accessTokens.get(2));
+
+        createRecommendReview(first.getId(), true, accessTokens.get(2));
+        createRecommendReview(second.getId(), false, accessTokens.get(2));
+
+        mvc.perform(
+                        get("/reviews/{book_id}/list", book.getId())
+                                .cookie(new Cookie("accessToken", accessTokens.get(2)))
+                ).andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.data.length()").value(3))
+                .andExpect(jsonPath("$.data.data[2].id").value(first.getId()))
+                .andExpect(jsonPath("$.data.data[2].isRecommended").value(true))
+                .andExpect(jsonPath("$.data.data[1].id").value(second.getId()))
+                .andExpect(jsonPath("$.data.data[1].isRecommended").value(false))
+                .andExpect(jsonPath("$.data.data[0].isRecommended").doesNotExist());
     }
 }
@@ -0,0 +1,75 @@
+package com.back.global.concurrent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AtomicTokenBucketTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    @DisplayName("처음에는 capacity 만큼 바로 꺼낼 수 있고, 이후에는 채워질 때까지 남은 시간")
+    void burstUpToCapacity() {
+        AtomicTokenBucket bucket = new AtomicTokenBucket(2, 3, now::get);
+
+        assertThat(bucket.tryAcquire(1)).isZero();
+        assertThat(bucket.tryAcquire(2)).isZero();
+        assertThat(bucket.tryAcquire(1)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+        assertThat(bucket.tryAcquire(2)).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 초당 비율로 채워지고 capacity 를 넘지 않음")
+    void refillsAtRate() {
+        AtomicTokenBucket bucket = new AtomicTokenBucket(2, 3, now::get);
+        bucket.tryAcquire(3);
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        assertThat(bucket.tryAcquire(1)).isZero();
+        assertThat(bucket.tryAcquire(1)).isPositive();
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        assertThat(bucket.tryAcquire(3)).isZero();
+        assertThat(bucket.tryAcquire(1)).isPositive();
+    }
+
+    @Test
+    @DisplayName("가득 찬 채로 idle 시간이 지나야 제거 대상")
+    void idle() {
+        AtomicTokenBucket bucket = new AtomicTokenBucket(2, 3, now::get);
+        bucket.tryAcquire(3);
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertThat(bucket.isIdle(TimeUnit.SECONDS.toNanos(1))).isFalse();
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1500));
+        assertThat(bucket.isIdle(TimeUnit.SECONDS.toNanos(1))).isTrue();
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 꺼내도 capacity 를 넘게 꺼내지 않음")
+    void concurrentAcquire() {
+        AtomicTokenBucket bucket = new AtomicTokenBucket(2, 100, now::get);
+        AtomicInteger acquired = new AtomicInteger();
+
+        CompletableFuture.allOf(IntStream.range(0, 8)
+                .mapToObj(i -> CompletableFuture.runAsync(() -> {
+                    for (int j = 0; j < 50; j++) {
+                        if (bucket.tryAcquire(1) == 0) {
+                            acquired.incrementAndGet();
+                        }
+                    }
+                }))
+                .toArray(CompletableFuture[]::new)).join();
+
+        assertThat(acquired.get()).isEqualTo(100);
+    }
+}
@@ -0,0 +1,50 @@
+package com.back.global.concurrent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    @DisplayName("처음에는 capacity 만큼 바로 꺼낼 수 있고 이후에는 거절")
+    void burstUpToCapacity() {
+        TokenBucket bucket = new TokenBucket(2, 3, now::get);
+
+        assertThat(bucket.tryAcquire(1)).isTrue();
+        assertThat(bucket.tryAcquire(2)).isTrue();
+        assertThat(bucket.tryAcquire(1)).isFalse();
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 초당 비율로 채워지고 capacity 를 넘지 않음")
+    void refillsAtRate() {
+        TokenBucket bucket = new TokenBucket(2, 3, now::get);
+        bucket.tryAcquire(3);
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        assertThat(bucket.tryAcquire(1)).isTrue();
+        assertThat(bucket.tryAcquire(1)).isFalse();
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        assertThat(bucket.tryAcquire(3)).isTrue();
+        assertThat(bucket.tryAcquire(1)).isFalse();
+    }
+
+    @Test
+    @DisplayName("모자란 토큰이 채워질 때까지 남은 시간")
+    void nanosUntilAvailable() {
+        TokenBucket bucket = new TokenBucket(2, 3, now::get);
+        assertThat(bucket.nanosUntilAvailable(1)).isZero();
+
+        bucket.tryAcquire(3);
+        assertThat(bucket.nanosUntilAvailable(1)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+        assertThat(bucket.nanosUntilAvailable(2)).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+    }
+}
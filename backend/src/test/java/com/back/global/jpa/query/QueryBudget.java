@@ -0,0 +1,30 @@
+package com.back.global.jpa.query;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 테스트에서 요청 하나가 실행해도 되는 SQL 수 상한
+ * 테스트 중 MockMvc 로 보낸 요청마다 QueryCountFilter 가 센 SQL 수를 확인해서, 넘으면 테스트 실패.
+ * 테스트 데이터 준비 등 요청 밖에서 실행한 SQL 은 세지 않는다.
+ *
+ * 예) @QueryBudget(value = 4, maxRepeated = 1) - SQL 4개 이하, 같은 모양의 SQL 반복 없음
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(QueryBudgetExtension.class)
+public @interface QueryBudget {
+    /**
+     * 요청 하나의 최대 SQL 수
+     */
+    int value();
+
+    /**
+     * 같은 모양의 SQL 을 요청 하나에서 실행해도 되는 최대 횟수 (N+1 검출)
+     */
+    int maxRepeated() default Integer.MAX_VALUE;
+}
@@ -0,0 +1,56 @@
+package com.back.global.jpa.query;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @QueryBudget 처리 - 테스트 메서드를 QueryCounter 범위로 감싸고, 그 안에서 끝난 요청별 범위를 예산과 비교
+ */
+class QueryBudgetExtension implements BeforeEachCallback, AfterEachCallback {
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(QueryBudgetExtension.class);
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        context.getStore(NAMESPACE).put(context.getUniqueId(), QueryCounter.start(context.getDisplayName()));
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        QueryCounter root = context.getStore(NAMESPACE).remove(context.getUniqueId(), QueryCounter.class);
+        if (root == null) {
+            return;
+        }
+        root.close();
+
+        QueryBudget budget = AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), QueryBudget.class)
+                .or(() -> AnnotationSupport.findAnnotation(context.getRequiredTestClass(), QueryBudget.class))
+                .orElseThrow();
+
+        List<QueryCounter> requests = root.completed();
+        if (requests.isEmpty()) {
+            throw new AssertionError("측정된 요청이 없습니다 - MockMvc 요청이 QueryCountFilter 를 거치는지 확인하세요.");
+        }
+
+        List<String> violations = new ArrayList<>();
+        for (QueryCounter request : requests) {
+            if (request.count() > budget.value()) {
+                violations.add("%s: SQL %d회 실행 (예산 %d회)".formatted(request.name(), request.count(), budget.value()));
+            }
+            if (budget.maxRepeated() == Integer.MAX_VALUE) {
+                continue;
+            }
+            Map<String, Integer> repeated = request.repeated(budget.maxRepeated() + 1);
+            repeated.forEach((shape, times) -> violations.add("%s: 같은 SQL %d회 실행 (최대 %d회) - %s"
+                    .formatted(request.name(), times, budget.maxRepeated(), shape)));
+        }
+        if (!violations.isEmpty()) {
+            throw new AssertionError("쿼리 예산 초과\n" + String.join("\n", violations));
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.back.global.jpa.query;
+
+import com.back.domain.book.author.entity.Author;
+import com.back.domain.book.author.repository.AuthorRepository;
+import com.back.domain.book.book.entity.Book;
+import com.back.domain.book.book.repository.BookRepository;
+import com.back.domain.book.category.entity.Category;
+import com.back.domain.book.category.repository.CategoryRepository;
+import com.back.domain.book.wrote.entity.Wrote;
+import com.back.domain.book.wrote.repository.WroteRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class QueryCountFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @Autowired
+    private WroteRepository wroteRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Book book;
+
+    @BeforeEach
+    void setUp() {
+        Category category = categoryRepository.save(new Category("쿼리예산분야"));
+        for (int i = 0; i < 12; i++) {
+            Author author = authorRepository.save(new Author("쿼리예산작가" + i));
+            book = new Book("쿼리 예산 책 " + i, "출판사", category);
+            book.setIsbn13("97911000010%02d".formatted(i));
+            book.setTotalPage(100);
+            book = bookRepository.save(book);
+            wroteRepository.save(new Wrote(author, book));
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @QueryBudget(value = 3, maxRepeated = 1)
+    @DisplayName("책 목록은 책 수와 관계없이 id/상세/count 3개 SQL 로 조회 (작가/카테고리 N+1 없음)")
+    void booksListWithinBudget() throws Exception {
+        mockMvc.perform(get("/books").param("size", "12"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("요청마다 엔드포인트 패턴 이름으로 SQL 수를 세고 메트릭으로 기록")
+    void countsPerEndpoint() throws Exception {
+        QueryCounter test = QueryCounter.start("test");
+        try {
+            mockMvc.perform(get("/books/{id}", book.getId()))
+                    .andExpect(status().isOk());
+        } finally {
+            test.close();
+        }
+
+        assertThat(test.completed()).hasSize(1);
+        QueryCounter request = test.completed().get(0);
+        assertThat(request.name()).isEqualTo("GET /books/{id}");
+        assertThat(request.count()).isPositive();
+
+        DistributionSummary summary = meterRegistry.find("http.server.requests.queries")
+                .tags("method", "GET", "uri", "/books/{id}")
+                .summary();
+        assertThat(summary).isNotNull();
+        assertThat(summary.count()).isPositive();
+    }
+}
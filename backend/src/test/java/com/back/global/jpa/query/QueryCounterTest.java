@@ -0,0 +1,68 @@
+package com.back.global.jpa.query;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryCounterTest {
+
+    @Test
+    @DisplayName("주석, 공백, IN 목록 길이가 달라도 같은 SQL 모양")
+    void shape() {
+        String first = QueryCounter.shape("/* select b from Book b */ select b1_0.id\n    from book b1_0 where b1_0.id in (?, ?, ?)");
+        String second = QueryCounter.shape("select b1_0.id from book b1_0 where b1_0.id in (?,?)");
+
+        assertThat(first).isEqualTo("select b1_0.id from book b1_0 where b1_0.id in (?, ...)");
+        assertThat(second).isEqualTo(first);
+        assertThat(QueryCounter.shape("select * from member where id=?")).isEqualTo("select * from member where id=?");
+    }
+
+    @Test
+    @DisplayName("같은 모양이 threshold 번 이상 실행되면 repeated 로 반환")
+    void repeated() {
+        try (QueryCounter counter = QueryCounter.start("test")) {
+            QueryCounter.record("select * from author where id=?");
+            QueryCounter.record("select * from author  where id=?");
+            QueryCounter.record("select * from author where id=?");
+            QueryCounter.record("select * from book where id=?");
+
+            assertThat(counter.count()).isEqualTo(4);
+            assertThat(counter.repeated(3)).isEqualTo(Map.of("select * from author where id=?", 3));
+            assertThat(counter.repeated(4)).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("중첩 범위는 자기 SQL 만 세고, 닫히면 상위 범위의 completed 에 남음")
+    void nested() {
+        QueryCounter outer = QueryCounter.start("outer");
+        QueryCounter.record("insert into book values (?)");
+
+        QueryCounter inner = QueryCounter.start("inner");
+        QueryCounter.record("select * from book");
+        QueryCounter.record("select * from book");
+        inner.rename("GET /books");
+        inner.close();
+
+        QueryCounter.record("delete from book");
+        outer.close();
+
+        assertThat(outer.count()).isEqualTo(2);
+        assertThat(outer.completed()).containsExactly(inner);
+        assertThat(inner.name()).isEqualTo("GET /books");
+        assertThat(inner.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("측정 범위 밖의 SQL 은 무시")
+    void outsideScope() {
+        QueryCounter.record("select 1");
+
+        try (QueryCounter counter = QueryCounter.start("test")) {
+            assertThat(counter.count()).isZero();
+        }
+    }
+}
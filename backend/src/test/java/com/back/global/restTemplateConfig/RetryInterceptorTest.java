@@ -0,0 +1,96 @@
+package com.back.global.restTemplateConfig;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RetryInterceptorTest {
+
+    private HttpServer server;
+    private SimpleMeterRegistry meterRegistry;
+    private RestTemplate restTemplate;
+    private String baseUrl;
+
+    // 앞의 몇 번은 실패 응답
+    private final AtomicInteger calls = new AtomicInteger();
+    private volatile int failures;
+    private volatile int failureStatus;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/ItemSearch.aspx", exchange -> {
+            int call = calls.incrementAndGet();
+            int status = call <= failures ? failureStatus : 200;
+            byte[] body = "{\"item\":[]}".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+
+        meterRegistry = new SimpleMeterRegistry();
+        restTemplate = new RestTemplate();
+        restTemplate.getInterceptors().add(new RetryInterceptor("aladin.api", 3, 10, meterRegistry));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("5xx 응답은 재시도해서 성공하면 정상 응답 반환")
+    void retryOnServerError() {
+        failures = 2;
+        failureStatus = 503;
+
+        String response = restTemplate.getForObject(baseUrl + "/ItemSearch.aspx?Query=test", String.class);
+
+        assertThat(response).isEqualTo("{\"item\":[]}");
+        assertThat(calls.get()).isEqualTo(3);
+        assertThat(meterRegistry.counter("aladin.api.retries").count()).isEqualTo(2);
+        assertThat(meterRegistry.get("aladin.api.requests")
+                .tag("endpoint", "ItemSearch.aspx")
+                .tag("outcome", "200")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("4xx 응답은 재시도하지 않음")
+    void noRetryOnClientError() {
+        failures = 1;
+        failureStatus = 400;
+
+        assertThatThrownBy(() -> restTemplate.getForObject(baseUrl + "/ItemSearch.aspx", String.class))
+                .isInstanceOf(HttpClientErrorException.class);
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("backoff 는 delay * 2^(n-1) 의 절반~전체 범위")
+    void backoffRange() {
+        RetryInterceptor interceptor = new RetryInterceptor("test", 3, 100, meterRegistry);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(interceptor.backoff(1)).isBetween(50L, 100L);
+            assertThat(interceptor.backoff(3)).isBetween(200L, 400L);
+        }
+    }
+}
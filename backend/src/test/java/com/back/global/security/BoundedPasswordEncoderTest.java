@@ -0,0 +1,123 @@
+package com.back.global.security;
+
+import com.back.global.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch started = new CountDownLatch(1);
+    private BoundedPasswordEncoder encoder;
+
+    // release 될 때까지 해시가 끝나지 않는 PasswordEncoder
+    private final PasswordEncoder blocking = new PasswordEncoder() {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "hashed:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    };
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        encoder.close();
+    }
+
+    @Test
+    @DisplayName("전용 스레드에서 해시하고 실행 시간을 기록")
+    void delegates() {
+        release.countDown();
+        encoder = new BoundedPasswordEncoder(blocking, 1, 1, Duration.ofSeconds(5), meterRegistry);
+
+        assertThat(encoder.encode("pw")).isEqualTo("hashed:pw");
+        assertThat(encoder.matches("pw", "hashed:pw")).isTrue();
+        assertThat(encoder.matches("pw", "hashed:other")).isFalse();
+        assertThat(meterRegistry.get("security.password.hashing").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("실행 중인 해시와 대기열이 모두 차면 기다리지 않고 429")
+    void rejectsWhenQueueFull() throws Exception {
+        encoder = new BoundedPasswordEncoder(blocking, 1, 1, Duration.ofSeconds(5), meterRegistry);
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("b"));
+        waitForQueue(1);
+
+        assertThatThrownBy(() -> encoder.encode("c"))
+                .isInstanceOf(TooManyRequestsException.class)
+                .hasMessageContaining("429-1");
+        assertThat(meterRegistry.get("security.password.hashing.rejected").tag("reason", "queue-full").counter().count())
+                .isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hashed:a");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hashed:b");
+    }
+
+    @Test
+    @DisplayName("앞에 기다리는 해시 때문에 timeout 안에 끝날 수 없으면 줄을 서지 않고 바로 429")
+    void rejectsWhenQueueTooDeep() throws Exception {
+        encoder = new BoundedPasswordEncoder(blocking, 1, 4, Duration.ofSeconds(5), meterRegistry);
+        // 평균 해시 시간 10초 - 실행 중인 해시가 하나만 있어도 다음 요청은 5초 안에 끝날 수 없음
+        meterRegistry.get("security.password.hashing").timer().record(Duration.ofSeconds(10));
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> encoder.encode("b"))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThat(meterRegistry.get("security.password.hashing.rejected").tag("reason", "queue-depth").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("security.password.hashing.queue").gauge().value()).isZero();
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hashed:a");
+    }
+
+    @Test
+    @DisplayName("timeout 안에 끝나지 않으면 429")
+    void rejectsOnTimeout() {
+        encoder = new BoundedPasswordEncoder(blocking, 1, 1, Duration.ofMillis(50), meterRegistry);
+
+        assertThatThrownBy(() -> encoder.encode("slow"))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThat(meterRegistry.get("security.password.hashing.rejected").tag("reason", "timeout").counter().count())
+                .isEqualTo(1);
+    }
+
+    private void waitForQueue(int size) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("security.password.hashing.queue").gauge().value() < size) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("대기열에 작업이 들어가지 않음");
+            }
+            Thread.sleep(5);
+        }
+    }
+}
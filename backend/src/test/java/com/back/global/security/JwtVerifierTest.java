@@ -0,0 +1,78 @@
+package com.back.global.security;
+
+import com.back.global.standard.util.Ut;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtVerifierTest {
+
+    private static final String SECRET =
+            "abcdefghijklmnopqrstuvwxyz0123456789abcdefghijklmnopqrstuvwxyz0123456789abcdefghijklmnopqrstuvwxyz0123456789";
+
+    private final JwtVerifier jwtVerifier = new JwtVerifier(SECRET, 100);
+
+    @Test
+    @DisplayName("유효한 토큰이면 claim 반환")
+    void verify() {
+        String token = Ut.jwt.toString(SECRET, 1200, Map.of("id", 1, "email", "jwt@test.com"));
+
+        Map<String, Object> claims = jwtVerifier.verify(token);
+
+        assertThat(claims).isNotNull();
+        assertThat(claims.get("id")).isEqualTo(1);
+        assertThat(claims.get("email")).isEqualTo("jwt@test.com");
+    }
+
+    @Test
+    @DisplayName("서명이 틀리거나 다른 키로 만든 토큰, 빈 값이면 null")
+    void invalid() {
+        String token = Ut.jwt.toString(SECRET, 1200, Map.of("id", 1, "email", "jwt@test.com"));
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+        String otherKey = Ut.jwt.toString(SECRET.toUpperCase(), 1200, Map.of("id", 1, "email", "jwt@test.com"));
+
+        assertThat(jwtVerifier.verify(tampered)).isNull();
+        assertThat(jwtVerifier.verify(otherKey)).isNull();
+        assertThat(jwtVerifier.verify("not-a-jwt")).isNull();
+        assertThat(jwtVerifier.verify(null)).isNull();
+        assertThat(jwtVerifier.verify("")).isNull();
+    }
+
+    @Test
+    @DisplayName("같은 토큰은 다시 검증하지 않고 보관한 claim 반환")
+    void cached() {
+        String token = Ut.jwt.toString(SECRET, 1200, Map.of("id", 2, "email", "cache@test.com"));
+
+        Map<String, Object> first = jwtVerifier.verify(token);
+        Map<String, Object> second = jwtVerifier.verify(token);
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("보관한 토큰도 exp 가 지나면 null")
+    void expired() {
+        String token = Ut.jwt.toString(SECRET, 60, Map.of("id", 3, "email", "exp@test.com"));
+        assertThat(jwtVerifier.verify(token)).isNotNull();
+
+        long now = System.currentTimeMillis();
+        jwtVerifier.clock = () -> now + 61_000;
+
+        assertThat(jwtVerifier.verify(token)).isNull();
+    }
+
+    @Test
+    @DisplayName("캐시를 끄면 매번 검증")
+    void cacheDisabled() {
+        JwtVerifier uncached = new JwtVerifier(SECRET, 0);
+        String token = Ut.jwt.toString(SECRET, 1200, Map.of("id", 4, "email", "nocache@test.com"));
+
+        Map<String, Object> first = uncached.verify(token);
+        Map<String, Object> second = uncached.verify(token);
+
+        assertThat(second).isEqualTo(first).isNotSameAs(first);
+    }
+}
@@ -0,0 +1,69 @@
+package com.back.global.security;
+
+import com.back.global.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginThrottleTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private LoginThrottle loginThrottle;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        loginThrottle = new LoginThrottle(meterRegistry);
+        ReflectionTestUtils.setField(loginThrottle, "enabled", true);
+        ReflectionTestUtils.setField(loginThrottle, "ipPermitsPerSecond", 0.01);
+        ReflectionTestUtils.setField(loginThrottle, "ipBurst", 5);
+        ReflectionTestUtils.setField(loginThrottle, "emailPermitsPerSecond", 0.01);
+        ReflectionTestUtils.setField(loginThrottle, "emailBurst", 2);
+        ReflectionTestUtils.setField(loginThrottle, "maxKeys", 100);
+    }
+
+    @Test
+    @DisplayName("같은 이메일로 burst 를 넘게 시도하면 429 와 Retry-After (대소문자 무시)")
+    void emailLimit() {
+        loginThrottle.check("10.0.0.1", "user@test.com");
+        loginThrottle.check("10.0.0.2", "USER@test.com");
+
+        assertThatThrownBy(() -> loginThrottle.check("10.0.0.3", "user@test.com"))
+                .isInstanceOfSatisfying(TooManyRequestsException.class,
+                        e -> assertThat(e.getRetryAfterSeconds()).isPositive());
+        assertThat(meterRegistry.get("security.login.throttled").tag("key", "email").counter().count()).isEqualTo(1);
+
+        // 다른 이메일은 영향 없음
+        assertThatCode(() -> loginThrottle.check("10.0.0.3", "other@test.com")).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("같은 IP 에서 여러 이메일로 burst 를 넘게 시도하면 429")
+    void ipLimit() {
+        for (int i = 0; i < 5; i++) {
+            loginThrottle.check("10.0.0.9", "user" + i + "@test.com");
+        }
+
+        assertThatThrownBy(() -> loginThrottle.check("10.0.0.9", "user5@test.com"))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThat(meterRegistry.get("security.login.throttled").tag("key", "ip").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("끄면 제한하지 않음")
+    void disabled() {
+        ReflectionTestUtils.setField(loginThrottle, "enabled", false);
+
+        assertThatCode(() -> {
+            for (int i = 0; i < 10; i++) {
+                loginThrottle.check("10.0.0.1", "user@test.com");
+            }
+        }).doesNotThrowAnyException();
+    }
+}
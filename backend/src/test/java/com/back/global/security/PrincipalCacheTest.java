@@ -0,0 +1,101 @@
+package com.back.global.security;
+
+import com.back.domain.member.member.entity.Member;
+import com.back.domain.member.member.repository.MemberRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PrincipalCacheTest {
+
+    private MemberRepository memberRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private PrincipalCache principalCache;
+    private long now;
+
+    @BeforeEach
+    void setUp() {
+        memberRepository = mock(MemberRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        principalCache = new PrincipalCache(memberRepository, meterRegistry);
+        ReflectionTestUtils.setField(principalCache, "enabled", true);
+        ReflectionTestUtils.setField(principalCache, "ttl", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(principalCache, "maxEntries", 100);
+        principalCache.nanoClock = () -> now;
+        principalCache.registerMetrics();
+
+        when(memberRepository.findByEmail("cache@test.com"))
+                .thenReturn(Optional.of(Member.detached(7, "캐시회원", "cache@test.com", "encoded")));
+    }
+
+    @Test
+    @DisplayName("ttl 안에서는 DB 조회 없이 캐시 값으로 매번 새 회원 객체를 반환")
+    void hit() {
+        Member first = principalCache.get(7, "cache@test.com").orElseThrow();
+        Member second = principalCache.get(7, "cache@test.com").orElseThrow();
+
+        verify(memberRepository, times(1)).findByEmail("cache@test.com");
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getId()).isEqualTo(7);
+        assertThat(second.getName()).isEqualTo("캐시회원");
+        assertThat(second.getPassword()).isEqualTo("encoded");
+        assertThat(counter("hit")).isEqualTo(1);
+        assertThat(counter("miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("ttl 이 지나면 다시 조회")
+    void expired() {
+        principalCache.get(7, "cache@test.com");
+        now += TimeUnit.SECONDS.toNanos(31);
+        principalCache.get(7, "cache@test.com");
+
+        verify(memberRepository, times(2)).findByEmail("cache@test.com");
+    }
+
+    @Test
+    @DisplayName("무효화하면 다음 요청에서 다시 조회")
+    void invalidate() {
+        principalCache.get(7, "cache@test.com");
+        principalCache.invalidate(7);
+        principalCache.get(7, "cache@test.com");
+
+        verify(memberRepository, times(2)).findByEmail("cache@test.com");
+    }
+
+    @Test
+    @DisplayName("토큰의 id 와 이메일의 회원이 다르면 인증 실패")
+    void idMismatch() {
+        assertThat(principalCache.get(8, "cache@test.com")).isEmpty();
+        assertThat(principalCache.get(8, "cache@test.com")).isEmpty();
+
+        verify(memberRepository, times(2)).findByEmail("cache@test.com");
+    }
+
+    @Test
+    @DisplayName("캐시를 끄면 매번 조회")
+    void disabled() {
+        ReflectionTestUtils.setField(principalCache, "enabled", false);
+
+        principalCache.get(7, "cache@test.com");
+        principalCache.get(7, "cache@test.com");
+
+        verify(memberRepository, times(2)).findByEmail("cache@test.com");
+    }
+
+    private double counter(String result) {
+        return meterRegistry.get("security.principal.cache.requests").tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,108 @@
+package com.back.global.security;
+
+import com.back.domain.member.member.entity.Member;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RateLimitFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimitFilter rateLimitFilter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        rateLimitFilter = new RateLimitFilter(meterRegistry);
+        ReflectionTestUtils.setField(rateLimitFilter, "enabled", true);
+        // 테스트 중에는 사실상 채워지지 않음
+        ReflectionTestUtils.setField(rateLimitFilter, "permitsPerSecond", 0.001);
+        ReflectionTestUtils.setField(rateLimitFilter, "burst", 10);
+        ReflectionTestUtils.setField(rateLimitFilter, "routeCosts", List.of("GET /books/search=5", "/books/isbn/*=3"));
+        ReflectionTestUtils.setField(rateLimitFilter, "idleTimeout", Duration.ofMinutes(10));
+        ReflectionTestUtils.setField(rateLimitFilter, "maxKeys", 100);
+        rateLimitFilter.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("경로별 비용만큼 차감하고, 한도를 넘으면 429 와 Retry-After")
+    void costPerRoute() throws Exception {
+        assertThat(request("GET", "/books/search", "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(request("GET", "/books/isbn/9791100000001", "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(request("GET", "/books/1", "10.0.0.1").getStatus()).isEqualTo(200);
+
+        // 남은 토큰 1 - 검색(5)은 거절, 비용 1인 조회는 통과
+        MockHttpServletResponse rejected = request("GET", "/books/search", "10.0.0.1");
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(Long.parseLong(rejected.getHeader("Retry-After"))).isPositive();
+        assertThat(rejected.getContentAsString()).contains("429-1");
+        assertThat(meterRegistry.get("security.rate-limit.rejected")
+                .tag("key", "ip").tag("route", "/books/search").counter().count()).isEqualTo(1);
+
+        assertThat(request("GET", "/books/1", "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(request("GET", "/books/1", "10.0.0.1").getStatus()).isEqualTo(429);
+
+        // 다른 IP 는 영향 없음
+        assertThat(request("GET", "/books/search", "10.0.0.2").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("로그인한 회원은 IP 가 바뀌어도 회원 id 로 제한")
+    void memberKey() throws Exception {
+        Member member = Member.detached(7, "회원", "member@test.com", "password");
+        SecurityUser user = new SecurityUser(member);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+
+        assertThat(request("GET", "/books/search", "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(request("GET", "/books/search", "10.0.0.2").getStatus()).isEqualTo(200);
+        assertThat(request("GET", "/books/search", "10.0.0.3").getStatus()).isEqualTo(429);
+        assertThat(meterRegistry.get("security.rate-limit.rejected").tag("key", "member").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("burst 보다 큰 비용은 설정 오류")
+    void costAboveBurst() {
+        ReflectionTestUtils.setField(rateLimitFilter, "routeCosts", List.of("GET /books/search=11"));
+
+        assertThatThrownBy(() -> rateLimitFilter.init()).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("끄면 제한하지 않음")
+    void disabled() throws Exception {
+        ReflectionTestUtils.setField(rateLimitFilter, "enabled", false);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(request("GET", "/books/search", "10.0.0.1").getStatus()).isEqualTo(200);
+        }
+    }
+
+    private MockHttpServletResponse request(String method, String uri, String ip) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr(ip);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        rateLimitFilter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
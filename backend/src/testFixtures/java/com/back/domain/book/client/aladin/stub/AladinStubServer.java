@@ -0,0 +1,421 @@
+package com.back.domain.book.client.aladin.stub;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 알라딘 API 대역 서버 (ItemSearch.aspx / ItemLookUp.aspx)
+ * 기록된 응답(fixture)을 돌려주며 응답 지연, 오류 비율, 페이지 수 누락 비율을 설정할 수 있다.
+ * aladin.api.base-url 을 baseUrl() 로 지정하면 AladinApiClient 가 실제 API 대신 이 서버를 호출한다.
+ *
+ * fixture 위치 (디렉터리를 지정하면 먼저 찾고, 없으면 클래스패스 aladin/fixtures/ 아래)
+ * - 검색: search/{SearchTarget}/{정규화한 검색어를 ASCII 로 바꾼 이름}.json
+ * - ISBN 조회: lookup/{ISBN13}.json
+ *
+ * fixture 가 없는 요청은 기록 모드면 실제 API 로 보내 응답을 fixture 로 저장하고,
+ * 생성 모드면 검색어/ISBN 으로 정해지는 가짜 결과를, 둘 다 아니면 빈 결과를 돌려준다.
+ */
+public class AladinStubServer implements AutoCloseable {
+    public static final String SEARCH_PATH = "ItemSearch.aspx";
+    public static final String LOOKUP_PATH = "ItemLookUp.aspx";
+
+    private static final String CLASSPATH_FIXTURES = "aladin/fixtures/";
+    private static final String EMPTY_RESPONSE = "{\"version\":\"20131101\",\"totalResults\":0,\"startIndex\":1,\"itemsPerPage\":0,\"item\":[]}";
+    private static final String ERROR_RESPONSE = "{\"errorCode\":10,\"errorMessage\":\"일일 호출 한도를 초과했습니다. (stub)\"}";
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient upstreamClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final Path fixtureDir;
+    private final Map<String, AtomicInteger> requestCounts = new ConcurrentHashMap<>();
+    private final Random random = new Random(42);
+
+    private volatile Duration minLatency = Duration.ZERO;
+    private volatile Duration maxLatency = Duration.ZERO;
+    private volatile double errorRate;
+    private volatile double pageGapRate;
+    private volatile boolean synthesizeMissing;
+    private volatile String recordFrom;
+
+    private AladinStubServer(int port, Path fixtureDir) throws IOException {
+        this.fixtureDir = fixtureDir;
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(executor);
+    }
+
+    /**
+     * 클래스패스 fixture 만 사용하는 서버를 빈 포트로 시작
+     */
+    public static AladinStubServer start() throws IOException {
+        return start(0, null);
+    }
+
+    public static AladinStubServer start(int port, Path fixtureDir) throws IOException {
+        AladinStubServer stub = new AladinStubServer(port, fixtureDir);
+        stub.server.start();
+        return stub;
+    }
+
+    /**
+     * aladin.api.base-url 에 넣을 주소
+     */
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    /**
+     * 응답마다 min~max 사이의 지연
+     */
+    public AladinStubServer latency(Duration min, Duration max) {
+        this.minLatency = min;
+        this.maxLatency = max.compareTo(min) < 0 ? min : max;
+        return this;
+    }
+
+    /**
+     * 이 비율만큼 알라딘 형식의 오류 응답 (200 + errorCode)
+     */
+    public AladinStubServer errorRate(double errorRate) {
+        this.errorRate = errorRate;
+        return this;
+    }
+
+    /**
+     * 검색 결과 중 이 비율만큼 페이지 수를 지움 (상세 정보 보완 대상이 됨)
+     * 같은 ISBN 은 항상 같은 결과가 나오도록 ISBN 해시로 정한다.
+     */
+    public AladinStubServer pageGapRate(double pageGapRate) {
+        this.pageGapRate = pageGapRate;
+        return this;
+    }
+
+    /**
+     * fixture 가 없으면 검색어/ISBN 으로 정해지는 가짜 결과 생성
+     */
+    public AladinStubServer synthesizeMissing(boolean synthesizeMissing) {
+        this.synthesizeMissing = synthesizeMissing;
+        return this;
+    }
+
+    /**
+     * 기록 모드 - fixture 가 없으면 이 주소(예: http://www.aladin.co.kr/ttb/api)로 보내고 정상 응답을 fixture 디렉터리에 저장
+     */
+    public AladinStubServer recordFrom(String upstreamBaseUrl) {
+        if (upstreamBaseUrl != null && fixtureDir == null) {
+            throw new IllegalStateException("기록 모드에는 fixture 디렉터리가 필요합니다.");
+        }
+        this.recordFrom = upstreamBaseUrl;
+        return this;
+    }
+
+    public int requestCount(String path) {
+        AtomicInteger count = requestCounts.get(path);
+        return count == null ? 0 : count.get();
+    }
+
+    public void resetCounts() {
+        requestCounts.clear();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = exchange.getRequestURI().getPath();
+            String endpoint = path.endsWith(SEARCH_PATH) ? SEARCH_PATH : path.endsWith(LOOKUP_PATH) ? LOOKUP_PATH : null;
+            if (endpoint == null) {
+                respond(exchange, 404, "{}");
+                return;
+            }
+            requestCounts.computeIfAbsent(endpoint, key -> new AtomicInteger()).incrementAndGet();
+
+            delay();
+            if (errorRate > 0 && nextDouble() < errorRate) {
+                respond(exchange, 200, ERROR_RESPONSE);
+                return;
+            }
+
+            String rawQuery = exchange.getRequestURI().getRawQuery();
+            Map<String, String> params = queryParams(rawQuery);
+            String body;
+            try {
+                body = SEARCH_PATH.equals(endpoint) ? search(params, rawQuery) : lookup(params, rawQuery);
+            } catch (IOException | RuntimeException e) {
+                // 기록 모드의 실제 API 호출 실패 또는 잘못된 fixture
+                respond(exchange, 502, "{\"errorMessage\":\"" + e.getClass().getSimpleName() + "\"}");
+                return;
+            }
+            respond(exchange, 200, body);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private String search(Map<String, String> params, String rawQuery) throws IOException, InterruptedException {
+        String target = params.getOrDefault("SearchTarget", "Book");
+        String query = normalize(params.getOrDefault("Query", ""));
+        int maxResults = parseInt(params.get("MaxResults"), 10);
+        String fixture = "search/" + target + "/" + fileName(query) + ".json";
+
+        String body = loadOrFetch(fixture, SEARCH_PATH, rawQuery);
+        if (body == null) {
+            body = synthesizeMissing ? synthesizeSearch(target, query, maxResults) : EMPTY_RESPONSE;
+        }
+        return shape(body, maxResults);
+    }
+
+    private String lookup(Map<String, String> params, String rawQuery) throws IOException, InterruptedException {
+        String isbn = params.getOrDefault("ItemId", "");
+        String body = loadOrFetch("lookup/" + fileName(isbn) + ".json", LOOKUP_PATH, rawQuery);
+        if (body == null) {
+            body = synthesizeMissing ? synthesizeLookup(isbn) : EMPTY_RESPONSE;
+        }
+        return body;
+    }
+
+    private String loadOrFetch(String fixture, String endpoint, String rawQuery) throws IOException, InterruptedException {
+        if (fixtureDir != null) {
+            Path file = fixtureDir.resolve(fixture);
+            if (Files.exists(file)) {
+                return Files.readString(file);
+            }
+        }
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream(CLASSPATH_FIXTURES + fixture)) {
+            if (in != null) {
+                return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            }
+        }
+        return recordFrom != null ? record(fixture, endpoint, rawQuery) : null;
+    }
+
+    private String record(String fixture, String endpoint, String rawQuery) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(recordFrom + "/" + endpoint + "?" + rawQuery))
+                .timeout(Duration.ofSeconds(15))
+                .GET()
+                .build();
+        String body = upstreamClient.send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8)).body();
+
+        // 오류 응답은 저장하지 않음 (다음 요청에서 다시 기록)
+        if (body != null && !body.contains("\"errorCode\"")) {
+            Path file = fixtureDir.resolve(fixture);
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, prettyPrint(body));
+        }
+        return body;
+    }
+
+    /**
+     * MaxResults 만큼 자르고 페이지 수 누락 적용
+     */
+    private String shape(String body, int maxResults) throws IOException {
+        JsonNode root = objectMapper.readTree(body);
+        if (!(root.get("item") instanceof ArrayNode items)) {
+            return body;
+        }
+        while (items.size() > maxResults) {
+            items.remove(items.size() - 1);
+        }
+        if (pageGapRate > 0) {
+            for (JsonNode item : items) {
+                if (item instanceof ObjectNode itemNode && hasPageGap(item.path("isbn13").asText())) {
+                    itemNode.remove("itemPage");
+                    if (itemNode.get("subInfo") instanceof ObjectNode subInfo) {
+                        subInfo.remove("itemPage");
+                    }
+                }
+            }
+        }
+        return objectMapper.writeValueAsString(root);
+    }
+
+    private boolean hasPageGap(String isbn) {
+        return Math.floorMod(isbn.hashCode(), 10_000) < pageGapRate * 10_000;
+    }
+
+    private String synthesizeSearch(String target, String query, int maxResults) throws IOException {
+        ObjectNode root = response();
+        ArrayNode items = root.putArray("item");
+        String title = query.isEmpty() ? "stub" : query;
+        for (int i = 0; i < maxResults; i++) {
+            items.add(item(isbnFor(target + "|" + query + "|" + i), title + " " + (i + 1), target));
+        }
+        root.put("totalResults", maxResults).put("itemsPerPage", maxResults).put("query", query);
+        return objectMapper.writeValueAsString(root);
+    }
+
+    private String synthesizeLookup(String isbn) throws IOException {
+        ObjectNode root = response();
+        root.putArray("item").add(item(isbn, "stub 도서 " + isbn, "Book"));
+        root.put("totalResults", 1).put("itemsPerPage", 1);
+        return objectMapper.writeValueAsString(root);
+    }
+
+    private ObjectNode response() {
+        ObjectNode root = objectMapper.createObjectNode();
+        root.put("version", "20131101").put("startIndex", 1);
+        return root;
+    }
+
+    private ObjectNode item(String isbn, String title, String target) {
+        int seed = Math.floorMod(isbn.hashCode(), 1_000);
+        boolean foreign = "Foreign".equalsIgnoreCase(target);
+        String author = "stub 작가" + (seed % 50);
+
+        ObjectNode item = objectMapper.createObjectNode();
+        item.put("title", title)
+                .put("link", "http://www.aladin.co.kr/shop/wproduct.aspx?ItemId=" + seed)
+                .put("author", author + " (지은이)")
+                .put("pubDate", String.format("%d-%02d-%02d", 2000 + seed % 25, 1 + seed % 12, 1 + seed % 28))
+                .put("description", "알라딘 stub 서버가 만든 도서입니다.")
+                .put("isbn", isbn.length() == 13 ? isbn.substring(3) : isbn)
+                .put("isbn13", isbn)
+                .put("priceSales", 10_000 + seed * 10)
+                .put("mallType", foreign ? "FOREIGN" : "BOOK")
+                .put("cover", "https://image.aladin.co.kr/product/stub/" + isbn + ".jpg")
+                .put("categoryName", foreign ? "외국도서>컴퓨터>프로그래밍" : "국내도서>소설/시/희곡>한국소설")
+                .put("publisher", "stub 출판사" + (seed % 20));
+        ObjectNode subInfo = item.putObject("subInfo");
+        subInfo.put("itemPage", 100 + seed);
+        subInfo.putArray("authors").addObject()
+                .put("authorName", author)
+                .put("authorType", "author")
+                .put("authorTypeDesc", "지은이");
+        return item;
+    }
+
+    // 입력별로 항상 같은 979 로 시작하는 13자리 ISBN
+    private String isbnFor(String key) {
+        long hash = Integer.toUnsignedLong(key.hashCode()) * 31 + key.length();
+        return "979" + String.format("%010d", hash % 10_000_000_000L);
+    }
+
+    private void delay() throws InterruptedException {
+        long min = minLatency.toMillis();
+        long max = maxLatency.toMillis();
+        long millis = max > min ? min + (long) (nextDouble() * (max - min)) : min;
+        if (millis > 0) {
+            Thread.sleep(millis);
+        }
+    }
+
+    private double nextDouble() {
+        synchronized (random) {
+            return random.nextDouble();
+        }
+    }
+
+    private String prettyPrint(String body) {
+        try {
+            return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(objectMapper.readTree(body));
+        } catch (IOException e) {
+            return body;
+        }
+    }
+
+    private void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json;charset=UTF-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static Map<String, String> queryParams(String rawQuery) {
+        Map<String, String> params = new HashMap<>();
+        if (rawQuery == null) {
+            return params;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                params.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return params;
+    }
+
+    // AladinApiClient 캐시 키와 같은 정규화 (대소문자/공백)
+    private static String normalize(String query) {
+        return query.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    // 파일 시스템 인코딩에 상관없이 찾을 수 있도록 ASCII 로 (URL 인코딩의 % 는 _ 로, 예: 자바 -> _EC_9E_90_EB_B0_94)
+    static String fileName(String value) {
+        return value.isEmpty() ? "_" : URLEncoder.encode(value, StandardCharsets.UTF_8).replace('%', '_');
+    }
+
+    private static int parseInt(String value, int defaultValue) {
+        try {
+            return value == null ? defaultValue : Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    /**
+     * 단독 실행 - 애플리케이션은 --aladin.api.base-url=http://127.0.0.1:{port} 로 연결
+     * 예) ./gradlew aladinStub -PstubArgs="--port=8089 --latency-ms=50-150 --error-rate=0.01 --page-gap-rate=0.3 --synthesize"
+     * 기록) ./gradlew aladinStub -PstubArgs="--fixtures=src/testFixtures/resources/aladin/fixtures --record-from=http://www.aladin.co.kr/ttb/api"
+     */
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String option = arg.startsWith("--") ? arg.substring(2) : arg;
+            int eq = option.indexOf('=');
+            options.put(eq < 0 ? option : option.substring(0, eq), eq < 0 ? "true" : option.substring(eq + 1));
+        }
+
+        Path fixtureDir = options.containsKey("fixtures") ? Path.of(options.get("fixtures")) : null;
+        AladinStubServer stub = start(parseInt(options.get("port"), 8089), fixtureDir);
+        if (options.containsKey("latency-ms")) {
+            String[] range = options.get("latency-ms").split("-");
+            stub.latency(Duration.ofMillis(Long.parseLong(range[0])),
+                    Duration.ofMillis(Long.parseLong(range[range.length - 1])));
+        }
+        stub.errorRate(Double.parseDouble(options.getOrDefault("error-rate", "0")))
+                .pageGapRate(Double.parseDouble(options.getOrDefault("page-gap-rate", "0")))
+                .synthesizeMissing(options.containsKey("synthesize"))
+                .recordFrom(options.get("record-from"));
+
+        Runtime.getRuntime().addShutdownHook(new Thread(stub::close));
+        System.out.println("알라딘 stub 서버 시작: " + stub.baseUrl());
+        Thread.currentThread().join();
+    }
+}